@@ -0,0 +1,101 @@
+package com.todokanban.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin JSON client for the kanban API that times every call into {@link LoadMetrics}.
+ *
+ * <p>Calls never throw: transport failures and non-2xx responses are recorded as
+ * errors and return {@code null}. Mutations carry an {@code Idempotency-Key}, as the
+ * web client's do.</p>
+ */
+final class KanbanClient implements AutoCloseable {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUrl;
+    private final LoadMetrics metrics;
+    private final JsonMapper json = JsonMapper.builder().build();
+    private final HttpClient http;
+
+    KanbanClient(URI baseUrl, LoadMetrics metrics) {
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Sends a request and records its latency under {@code method:route}.
+     *
+     * @param route          path template used as the metric name
+     * @param path           concrete path
+     * @param body           request body (serialized as JSON), or {@code null}
+     * @param intendedStart  {@link System#nanoTime()} the request was due; latency is
+     *                       measured from here, so queueing in the generator counts
+     * @return the parsed response body, or {@code null} on failure or an empty body
+     */
+    JsonNode call(String method, String route, String path, Map<String, ?> body,
+                  String token, long intendedStart) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/json");
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .method(method, HttpRequest.BodyPublishers.ofString(json.writeValueAsString(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        String endpoint = method + ":" + route;
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            boolean ok = response.statusCode() / 100 == 2;
+            metrics.record(endpoint, System.nanoTime() - intendedStart, ok);
+            return ok && !response.body().isEmpty() ? json.readTree(response.body()) : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            metrics.record(endpoint, System.nanoTime() - intendedStart, false);
+            return null;
+        }
+    }
+
+    /** Untimed probe: {@code true} once the backend accepts {@code token}. */
+    boolean accepts(String token) {
+        HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/v1/workspaces"))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        http.close();
+    }
+}
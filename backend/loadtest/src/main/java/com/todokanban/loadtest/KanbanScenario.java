@@ -0,0 +1,197 @@
+package com.todokanban.loadtest;
+
+import com.todokanban.loadtest.LoadTestConfig.Action;
+import tools.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The scripted kanban traffic: a setup that creates a workspace with boards, columns
+ * and cards, then a weighted mix of steady-state actions against those boards –
+ * full board reads, change-feed polls, new cards and drag-and-drop moves.
+ *
+ * <p>Each board tracks which card ids sit in which column. A move takes its card out
+ * of the source column's queue first, so two concurrent moves never pick the same card
+ * and the script produces no conflicts of its own.</p>
+ *
+ * <p>With {@code --api=reactive} board reads and moves go to the R2DBC-backed
+ * {@code /api/v1/reactive} routes (the backend needs {@code kanban.reactive.enabled=true});
+ * the route is part of the metric name, so two runs compare side by side.</p>
+ */
+final class KanbanScenario {
+
+    static final String WORKSPACES = "/api/v1/workspaces";
+    static final String BOARDS     = "/api/v1/boards";
+    static final String BOARD      = "/api/v1/boards/{boardId}";
+    static final String COLUMNS    = "/api/v1/boards/{boardId}/columns";
+    static final String CARDS      = "/api/v1/boards/{boardId}/columns/{columnId}/cards";
+    static final String MOVE       = "/api/v1/boards/{boardId}/cards/{cardId}/move";
+    static final String CHANGES    = "/api/v1/boards/{boardId}/changes";
+
+    static final String REACTIVE_BOARD = "/api/v1/reactive/boards/{boardId}";
+    static final String REACTIVE_MOVE  = "/api/v1/reactive/boards/{boardId}/cards/{cardId}/move";
+
+    private static final List<String> COLUMN_NAMES = List.of("To Do", "In Progress", "Review", "Done");
+
+    private record BoardState(String id, List<String> columns, List<Queue<String>> cards, AtomicLong version) {}
+
+    private final KanbanClient client;
+    private final LoadTestConfig config;
+    private final Action[] weightedActions;
+    /** Board read and card move routes of the configured {@link LoadTestConfig.Api}. */
+    private final String boardRoute;
+    private final String moveRoute;
+    private final List<BoardState> boards = new ArrayList<>();
+
+    KanbanScenario(KanbanClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+        List<Action> weighted = new ArrayList<>();
+        config.mix().forEach((action, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(action);
+            }
+        });
+        this.weightedActions = weighted.toArray(Action[]::new);
+        boolean reactive = config.api() == LoadTestConfig.Api.REACTIVE;
+        this.boardRoute = reactive ? REACTIVE_BOARD : BOARD;
+        this.moveRoute = reactive ? REACTIVE_MOVE : MOVE;
+    }
+
+    /** Creates the workspace and boards the steady-state actions work on. */
+    void setup(String token) throws Exception {
+        JsonNode workspace = client.call("POST", WORKSPACES, WORKSPACES,
+                Map.of("name", "Load test " + UUID.randomUUID(), "description", "Created by the load generator"),
+                token, System.nanoTime());
+        if (workspace == null) {
+            throw new IllegalStateException("Could not create the load-test workspace");
+        }
+        String workspaceId = workspace.get("id").asString();
+
+        try (ExecutorService setup = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<BoardState>> created = new ArrayList<>();
+            for (int b = 0; b < config.boards(); b++) {
+                int number = b;
+                created.add(setup.submit(() -> createBoard(workspaceId, number, token)));
+            }
+            for (Future<BoardState> board : created) {
+                if (board.get() != null) {
+                    boards.add(board.get());
+                }
+            }
+        }
+        if (boards.isEmpty()) {
+            throw new IllegalStateException("Setup created no usable board");
+        }
+    }
+
+    /** Runs one action of the configured mix on a random board. */
+    void runRandomAction(String token, long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BoardState board = boards.get(random.nextInt(boards.size()));
+        switch (weightedActions[random.nextInt(weightedActions.length)]) {
+            case GET -> getBoard(board, token, intendedStart);
+            case CHANGES -> pollChanges(board, token, intendedStart);
+            case ADD -> addCard(board, random.nextInt(board.columns().size()), token, intendedStart);
+            case MOVE -> moveCard(board, token, intendedStart);
+        }
+    }
+
+    // ── Actions ───────────────────────────────────────────────────────────────
+
+    private BoardState createBoard(String workspaceId, int number, String token) {
+        JsonNode board = client.call("POST", BOARDS, BOARDS,
+                Map.of("workspaceId", workspaceId, "name", "Board " + number, "description", "Load test board"),
+                token, System.nanoTime());
+        if (board == null) {
+            return null;
+        }
+        String boardId = board.get("id").asString();
+        String columnsPath = COLUMNS.replace("{boardId}", boardId);
+        for (int position = 0; position < COLUMN_NAMES.size(); position++) {
+            board = client.call("POST", COLUMNS, columnsPath,
+                    Map.of("name", COLUMN_NAMES.get(position), "position", position), token, System.nanoTime());
+            if (board == null) {
+                return null;
+            }
+        }
+
+        List<String> columns = new ArrayList<>();
+        List<Queue<String>> cards = new ArrayList<>();
+        for (JsonNode column : board.get("columns")) {
+            columns.add(column.get("id").asString());
+            cards.add(new ConcurrentLinkedQueue<>());
+        }
+        BoardState state = new BoardState(boardId, columns, cards, new AtomicLong(board.get("version").asLong()));
+        for (int c = 0; c < config.cardsPerBoard(); c++) {
+            addCard(state, c % columns.size(), token, System.nanoTime());
+        }
+        return state;
+    }
+
+    private void getBoard(BoardState board, String token, long intendedStart) {
+        observe(board, client.call("GET", boardRoute, boardRoute.replace("{boardId}", board.id()), null, token, intendedStart));
+    }
+
+    private void pollChanges(BoardState board, String token, long intendedStart) {
+        String path = CHANGES.replace("{boardId}", board.id()) + "?since=" + board.version().get();
+        observe(board, client.call("GET", CHANGES, path, null, token, intendedStart));
+    }
+
+    private void addCard(BoardState board, int column, String token, long intendedStart) {
+        String title = "Card " + UUID.randomUUID();
+        String path = CARDS.replace("{boardId}", board.id()).replace("{columnId}", board.columns().get(column));
+        JsonNode response = client.call("POST", CARDS, path,
+                Map.of("title", title, "description", "Created by the load generator"), token, intendedStart);
+        if (response == null) {
+            return;
+        }
+        observe(board, response);
+        for (JsonNode card : response.get("columns").get(column).get("cards")) {
+            if (title.equals(card.get("title").asString())) {
+                board.cards().get(column).add(card.get("id").asString());
+                return;
+            }
+        }
+    }
+
+    private void moveCard(BoardState board, String token, long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int columns = board.columns().size();
+        int offset = random.nextInt(columns);
+        for (int i = 0; i < columns; i++) {
+            int source = (offset + i) % columns;
+            String cardId = board.cards().get(source).poll();
+            if (cardId == null) {
+                continue;
+            }
+            int target = (source + 1 + random.nextInt(columns - 1)) % columns;
+            String path = moveRoute.replace("{boardId}", board.id()).replace("{cardId}", cardId);
+            JsonNode response = client.call("PATCH", moveRoute, path, Map.of(
+                    "sourceColumnId", board.columns().get(source),
+                    "targetColumnId", board.columns().get(target)), token, intendedStart);
+            board.cards().get(response != null ? target : source).add(cardId);
+            observe(board, response);
+            return;
+        }
+        // Every column is empty: create the card a later move can pick up
+        addCard(board, offset, token, intendedStart);
+    }
+
+    /** Keeps the change-feed cursor at the newest version seen in any response. */
+    private static void observe(BoardState board, JsonNode response) {
+        if (response != null && response.has("version")) {
+            board.version().accumulateAndGet(response.get("version").asLong(), Math::max);
+        }
+    }
+}
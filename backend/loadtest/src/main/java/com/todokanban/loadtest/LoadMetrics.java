@@ -0,0 +1,155 @@
+package com.todokanban.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency recording in microseconds.
+ *
+ * <p>Every endpoint of the current phase has a {@link Recorder}. Once a second the
+ * interval histograms are written to an HdrHistogram interval log, tagged
+ * {@code <phase>/<METHOD>:<route>}, and added to the phase totals printed by
+ * {@link #summary()}. Phases that are not measured (warm-up) are recorded and dropped.</p>
+ */
+final class LoadMetrics implements AutoCloseable {
+
+    private static final long LOG_INTERVAL_MILLIS = 1000;
+
+    private static final class Endpoint {
+        final String tag;
+        final boolean measured;
+        final Recorder recorder = new Recorder(3);
+        final Histogram total = new Histogram(3);
+        final LongAdder errors = new LongAdder();
+        Histogram interval;
+
+        Endpoint(String tag, boolean measured) {
+            this.tag = tag;
+            this.measured = measured;
+        }
+    }
+
+    private record Phase(String name, boolean measured, long startMillis) {}
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Long> phaseMillis = new LinkedHashMap<>();
+    private final HistogramLogWriter log;
+    private final PrintStream logStream;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "load-metrics");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Phase phase;
+    private long lastFlushMillis;
+
+    LoadMetrics(Path logFile) {
+        try {
+            logStream = new PrintStream(logFile.toFile());
+        } catch (FileNotFoundException e) {
+            throw new UncheckedIOException(e);
+        }
+        long now = System.currentTimeMillis();
+        log = new HistogramLogWriter(logStream);
+        log.outputComment("todo-kanban load test, latency in microseconds, tag = <phase>/<METHOD>:<route>");
+        log.outputLogFormatVersion();
+        log.outputStartTime(now);
+        log.setBaseTime(now);
+        log.outputLegend();
+        lastFlushMillis = now;
+        phase = new Phase("idle", false, now);
+        ticker.scheduleAtFixedRate(this::flush, LOG_INTERVAL_MILLIS, LOG_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /** Ends the current phase (flushing its last interval) and starts the next one. */
+    synchronized void beginPhase(String name, boolean measured) {
+        flush();
+        endPhase();
+        phase = new Phase(name, measured, System.currentTimeMillis());
+    }
+
+    /**
+     * Records one request.
+     *
+     * @param endpoint {@code METHOD:route}, e.g. {@code GET:/api/v1/boards/{boardId}}
+     * @param nanos    latency; under the open model measured from the intended start
+     * @param ok       {@code false} for transport errors and non-2xx responses
+     */
+    void record(String endpoint, long nanos, boolean ok) {
+        Phase current = phase;
+        Endpoint e = endpoints.computeIfAbsent(current.name() + "/" + endpoint,
+                tag -> new Endpoint(tag, current.measured()));
+        e.recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (!ok && e.measured) {
+            e.errors.increment();
+        }
+    }
+
+    /** Per-endpoint table: count, throughput over the phase, p50/p95/p99/max, errors. */
+    synchronized String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append("%-62s %8s %9s %9s %9s %9s %9s %7s%n".formatted(
+                "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors"));
+        List<Endpoint> sorted = new ArrayList<>(endpoints.values());
+        sorted.sort((a, b) -> a.tag.compareTo(b.tag));
+        for (Endpoint e : sorted) {
+            Histogram h = e.total;
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            long millis = phaseMillis.getOrDefault(e.tag.substring(0, e.tag.indexOf('/')), 1L);
+            out.append("%-62s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7d%n".formatted(
+                    e.tag, h.getTotalCount(), h.getTotalCount() * 1000.0 / Math.max(1, millis),
+                    h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(95) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0, h.getMaxValue() / 1000.0, e.errors.sum()));
+        }
+        return out.toString();
+    }
+
+    @Override
+    public synchronized void close() {
+        ticker.shutdownNow();
+        flush();
+        endPhase();
+        logStream.close();
+    }
+
+    private void endPhase() {
+        Phase ended = phase;
+        if (ended.measured()) {
+            phaseMillis.merge(ended.name(), System.currentTimeMillis() - ended.startMillis(), Long::sum);
+        }
+    }
+
+    private synchronized void flush() {
+        long now = System.currentTimeMillis();
+        for (Endpoint e : endpoints.values()) {
+            e.interval = e.recorder.getIntervalHistogram(e.interval);
+            if (!e.measured || e.interval.getTotalCount() == 0) {
+                continue;
+            }
+            e.interval.setStartTimeStamp(lastFlushMillis);
+            e.interval.setEndTimeStamp(now);
+            e.interval.setTag(e.tag);
+            log.outputIntervalHistogram(e.interval);
+            e.total.add(e.interval);
+        }
+        lastFlushMillis = now;
+    }
+}
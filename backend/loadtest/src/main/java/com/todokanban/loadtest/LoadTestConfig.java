@@ -0,0 +1,106 @@
+package com.todokanban.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of one load-test run, parsed from {@code --name=value} arguments.
+ *
+ * @param baseUrl       backend root, e.g. {@code http://localhost:8080}
+ * @param issuer        issuer URI the stand-in serves; the backend's
+ *                      {@code KEYCLOAK_ISSUER_URI} must be identical
+ * @param model         open (fixed arrival rate) or closed (fixed user count)
+ * @param rate          open model: actions started per second
+ * @param users         closed model: concurrent virtual users; open model: distinct JWT subjects
+ * @param thinkTime     closed model: mean pause between a user's actions
+ * @param duration      measured run time
+ * @param warmup        run time before measuring starts
+ * @param boards        boards created during setup
+ * @param cardsPerBoard cards created per board during setup
+ * @param mix           relative weight of each action
+ * @param api           endpoints the board reads and card moves go to
+ * @param out           directory for the histogram logs
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        URI issuer,
+        Model model,
+        int rate,
+        int users,
+        Duration thinkTime,
+        Duration duration,
+        Duration warmup,
+        int boards,
+        int cardsPerBoard,
+        Map<Action, Integer> mix,
+        Api api,
+        Path out
+) {
+
+    enum Model { OPEN, CLOSED }
+
+    /** Steady-state actions; setup requests (workspace, boards, columns) are not part of the mix. */
+    enum Action { GET, CHANGES, ADD, MOVE }
+
+    /** {@code servlet}: the controllers; {@code reactive}: the {@code /api/v1/reactive} routes (R2DBC). */
+    enum Api { SERVLET, REACTIVE }
+
+    LoadTestConfig {
+        if (rate <= 0 || users <= 0 || boards <= 0 || cardsPerBoard < 0) {
+            throw new IllegalArgumentException("rate, users and boards must be positive, cards-per-board non-negative");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix needs at least one positive weight");
+        }
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got '%s'".formatted(arg));
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                URI.create(take(options, "base-url", "http://localhost:8080")),
+                URI.create(take(options, "issuer", "http://localhost:9400/realms/loadtest")),
+                Model.valueOf(take(options, "model", "closed").toUpperCase()),
+                Integer.parseInt(take(options, "rate", "100")),
+                Integer.parseInt(take(options, "users", "20")),
+                Duration.parse(take(options, "think-time", "PT0.5S")),
+                Duration.parse(take(options, "duration", "PT1M")),
+                Duration.parse(take(options, "warmup", "PT10S")),
+                Integer.parseInt(take(options, "boards", "20")),
+                Integer.parseInt(take(options, "cards-per-board", "10")),
+                parseMix(take(options, "mix", "get:40,changes:30,add:15,move:15")),
+                Api.valueOf(take(options, "api", "servlet").toUpperCase()),
+                Path.of(take(options, "out", "build/loadtest")));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown option(s): " + options.keySet());
+        }
+        return config;
+    }
+
+    private static String take(Map<String, String> options, String name, String fallback) {
+        String value = options.remove(name);
+        return value != null ? value : fallback;
+    }
+
+    private static Map<Action, Integer> parseMix(String spec) {
+        Map<Action, Integer> mix = new EnumMap<>(Action.class);
+        for (String part : spec.split(",")) {
+            String[] weight = part.split(":");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Expected action:weight in --mix, got '%s'".formatted(part));
+            }
+            mix.put(Action.valueOf(weight[0].strip().toUpperCase()), Integer.parseInt(weight[1].strip()));
+        }
+        return mix;
+    }
+}
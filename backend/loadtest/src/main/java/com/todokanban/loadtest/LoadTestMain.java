@@ -0,0 +1,147 @@
+package com.todokanban.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator entry point: {@code ./gradlew :loadtest:run --args="--name=value ..."}.
+ *
+ * <p>Phases: wait until the backend accepts tokens from the local issuer, setup
+ * (measured), warm-up (discarded), run (measured). Two load models:</p>
+ * <ul>
+ *   <li><b>closed</b> – {@code users} virtual users, each running one action after the
+ *       other with an exponentially distributed think time. Throughput follows latency.</li>
+ *   <li><b>open</b> – actions start at a fixed {@code rate}, whether or not earlier ones
+ *       have finished. Latency is measured from the scheduled start, so a stalled server
+ *       shows up in the percentiles instead of silently lowering the request rate.</li>
+ * </ul>
+ */
+public final class LoadTestMain {
+
+    private static final Duration AUTH_TIMEOUT = Duration.ofSeconds(90);
+    /** Open model: actions allowed in flight before new arrivals are dropped. */
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        Files.createDirectories(config.out());
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path logFile = config.out().resolve("loadtest-%s-%s.hlog".formatted(
+                config.model().name().toLowerCase(), stamp));
+
+        try (LocalJwtIssuer issuer = new LocalJwtIssuer(config.issuer());
+             LoadMetrics metrics = new LoadMetrics(logFile);
+             KanbanClient client = new KanbanClient(config.baseUrl(), metrics)) {
+
+            System.out.printf("JWT issuer stand-in at %s – start the backend with KEYCLOAK_ISSUER_URI=%s%n",
+                    issuer.issuer(), issuer.issuer());
+            List<String> tokens = new ArrayList<>();
+            for (int u = 0; u < config.users(); u++) {
+                tokens.add(issuer.token("loadtest-user-" + u));
+            }
+            awaitAuthentication(client, tokens.get(0));
+
+            KanbanScenario scenario = new KanbanScenario(client, config);
+            metrics.beginPhase("setup", true);
+            scenario.setup(tokens.get(0));
+
+            metrics.beginPhase("warmup", false);
+            long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+            long runEnd = warmupEnd + config.duration().toNanos();
+            Thread phaseSwitch = Thread.ofVirtual().start(() -> {
+                LockSupport.parkNanos(warmupEnd - System.nanoTime());
+                metrics.beginPhase("run", true);
+            });
+
+            long dropped = switch (config.model()) {
+                case CLOSED -> runClosed(config, scenario, tokens, runEnd);
+                case OPEN -> runOpen(config, scenario, tokens, runEnd);
+            };
+            phaseSwitch.join();
+            metrics.beginPhase("done", false);
+
+            System.out.println();
+            System.out.print(metrics.summary());
+            if (dropped > 0) {
+                System.out.printf("%d arrival(s) dropped: more than %d actions were in flight%n",
+                        dropped, MAX_IN_FLIGHT);
+            }
+            System.out.printf("Histogram log: %s%n", logFile.toAbsolutePath());
+        }
+    }
+
+    private static void awaitAuthentication(KanbanClient client, String token) throws InterruptedException {
+        long deadline = System.nanoTime() + AUTH_TIMEOUT.toNanos();
+        while (!client.accepts(token)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(
+                        "The backend did not accept a token within %s – is it running with this issuer?"
+                                .formatted(AUTH_TIMEOUT));
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+    }
+
+    private static long runClosed(LoadTestConfig config, KanbanScenario scenario,
+                                  List<String> tokens, long runEnd) {
+        double meanThinkNanos = config.thinkTime().toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String token : tokens) {
+                users.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < runEnd) {
+                        scenario.runRandomAction(token, System.nanoTime());
+                        if (meanThinkNanos > 0) {
+                            LockSupport.parkNanos((long) (-meanThinkNanos * Math.log(1 - random.nextDouble())));
+                        }
+                    }
+                });
+            }
+        }
+        return 0;
+    }
+
+    private static long runOpen(LoadTestConfig config, KanbanScenario scenario,
+                                List<String> tokens, long runEnd) {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        LongAdder dropped = new LongAdder();
+        try (ExecutorService actions = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * periodNanos;
+                if (intendedStart >= runEnd) {
+                    break;
+                }
+                LockSupport.parkNanos(intendedStart - System.nanoTime());
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                String token = tokens.get((int) (i % tokens.size()));
+                actions.submit(() -> {
+                    try {
+                        scenario.runRandomAction(token, intendedStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return dropped.sum();
+    }
+}
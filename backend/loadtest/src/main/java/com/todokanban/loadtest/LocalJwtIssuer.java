@@ -0,0 +1,104 @@
+package com.todokanban.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Stand-in for Keycloak: serves OIDC discovery and a JWKS for a freshly generated RSA
+ * key, and mints RS256 access tokens signed with it.
+ *
+ * <p>The backend keeps {@code SecurityConfig} as is – it discovers this issuer through
+ * {@code .well-known/openid-configuration} exactly like the real one. Only the issuer
+ * URI differs, so start the backend with {@code KEYCLOAK_ISSUER_URI} set to
+ * {@link #issuer()}.</p>
+ */
+final class LocalJwtIssuer implements AutoCloseable {
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(4);
+
+    private final URI issuer;
+    private final RSAKey key;
+    private final RSASSASigner signer;
+    private final HttpServer server;
+
+    LocalJwtIssuer(URI issuer) {
+        this.issuer = URI.create(issuer.toString().replaceAll("/$", ""));
+        try {
+            this.key = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+            this.signer = new RSASSASigner(key);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not create the signing key", e);
+        }
+
+        String path = this.issuer.getPath();
+        String discovery = """
+                {"issuer":"%1$s","jwks_uri":"%1$s/protocol/openid-connect/certs",\
+                "id_token_signing_alg_values_supported":["RS256"]}""".formatted(this.issuer);
+        String jwks = new JWKSet(key.toPublicJWK()).toString();
+        try {
+            server = HttpServer.create(new InetSocketAddress(this.issuer.getPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext(path + "/.well-known/openid-configuration", exchange -> reply(exchange, discovery));
+        server.createContext(path + "/protocol/openid-connect/certs", exchange -> reply(exchange, jwks));
+        server.start();
+    }
+
+    URI issuer() {
+        return issuer;
+    }
+
+    /** Signs an access token for {@code subject}, valid for a few hours. */
+    String token(String subject) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer.toString())
+                .subject(subject)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+                .claim("preferred_username", subject)
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign a token", e);
+        }
+        return jwt.serialize();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static void reply(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
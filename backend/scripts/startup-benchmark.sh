@@ -0,0 +1,58 @@
+#!/usr/bin/env sh
+# Startup-time benchmark: time from JVM launch until /actuator/health answers 200,
+# for the plain jar, Spring AOT, and Spring AOT + CDS.
+#
+#   ./gradlew cdsArchive && scripts/startup-benchmark.sh [runs]
+#
+# Needs the database (and Keycloak issuer) the application is configured for, e.g.
+# `docker compose -f ../infrastructure/docker-compose.yml up -d postgres keycloak`.
+# Prints the median time-to-ready per mode in milliseconds.
+set -eu
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+APP_DIR=build/cds/application
+JAR=$(ls "$APP_DIR"/*.jar 2>/dev/null | head -n 1)
+JSA=build/cds/application.jsa
+
+if [ -z "$JAR" ] || [ ! -f "$JSA" ]; then
+    echo "Run ./gradlew cdsArchive first" >&2
+    exit 2
+fi
+
+now_ms() { date +%s%3N; }
+
+time_to_ready() {
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    java $1 -Dserver.port="$PORT" -jar "$JAR" >/dev/null 2>&1 &
+    pid=$!
+    until curl -fs -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited during startup ($1)" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(now_ms)
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo $((end - start))
+}
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'; }
+
+bench() {
+    name=$1 opts=$2 i=0
+    samples=""
+    while [ "$i" -lt "$RUNS" ]; do
+        samples="$samples$(time_to_ready "$opts")
+"
+        i=$((i + 1))
+    done
+    printf '%-10s %6s ms\n' "$name" "$(printf '%s' "$samples" | median)"
+}
+
+echo "time-to-ready, median of $RUNS runs"
+bench "baseline" "-Xshare:auto"
+bench "aot"      "-Dspring.aot.enabled=true"
+bench "aot+cds"  "-Dspring.aot.enabled=true -XX:SharedArchiveFile=$JSA"
@@ -0,0 +1,99 @@
+package com.todokanban.benchmark;
+
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.in.rest.dto.BoardResponse;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.BoardHttpMessageConverter;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode/decode cost of a full {@link BoardResponse} in each negotiable format
+ * (JSON, CBOR, Smile) for a small and a very large board.
+ *
+ * <p>{@code encode} measures today's DTO path ({@code RestMapper} + Jackson databind),
+ * {@code encodeDirect} the streaming {@link BoardHttpMessageConverter}; add
+ * {@code -prof gc} to compare allocation per operation.</p>
+ *
+ * <p>Payload size is printed once per trial, e.g.
+ * {@code [payload] cbor cards=50000 bytes=...}, next to the JMH timings.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=BoardPayloadBenchmark}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardPayloadBenchmark {
+
+    private static final int COLUMNS = 10;
+
+    @Param({"1000", "50000"})
+    int cards;
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    private ObjectMapper mapper;
+    private BoardHttpMessageConverter converter;
+    private Board board;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = switch (format) {
+            case "json"  -> JsonMapper.builder().build();
+            case "cbor"  -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        converter = switch (format) {
+            case "json"  -> BoardHttpMessageConverter.json();
+            case "cbor"  -> BoardHttpMessageConverter.cbor();
+            default      -> BoardHttpMessageConverter.smile();
+        };
+        board = board(cards);
+        encoded = mapper.writeValueAsBytes(RestMapper.toResponse(board));
+        System.out.printf("%n[payload] %s cards=%d bytes=%d%n", format, cards, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return mapper.writeValueAsBytes(RestMapper.toResponse(board));
+    }
+
+    @Benchmark
+    public byte[] encodeDirect() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length);
+        converter.writeTo(board, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public BoardResponse decode() {
+        return mapper.readValue(encoded, BoardResponse.class);
+    }
+
+    private static Board board(int cardCount) {
+        Instant now = Instant.now();
+        List<Column> columns = new ArrayList<>(COLUMNS);
+        for (int c = 0; c < COLUMNS; c++) {
+            List<Card> columnCards = new ArrayList<>();
+            for (int i = c; i < cardCount; i += COLUMNS) {
+                columnCards.add(Card.reconstitute(CardId.generate(), "Card " + i,
+                        "Description of card " + i, i / COLUMNS, now, now));
+            }
+            columns.add(Column.reconstitute(ColumnId.generate(), "Column " + c, c, columnCards, now, now));
+        }
+        return Board.reconstitute(BoardId.generate(), WorkspaceId.generate(),
+                "Benchmark board", "Synthetic board with " + cardCount + " cards", columns, now, now);
+    }
+}
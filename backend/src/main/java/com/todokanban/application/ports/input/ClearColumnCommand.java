@@ -0,0 +1,12 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnId;
+
+/** Command for removing every Card from a Column. */
+public record ClearColumnCommand(BoardId boardId, ColumnId columnId) {
+    public ClearColumnCommand {
+        if (boardId == null)  throw new IllegalArgumentException("BoardId must not be null");
+        if (columnId == null) throw new IllegalArgumentException("ColumnId must not be null");
+    }
+}
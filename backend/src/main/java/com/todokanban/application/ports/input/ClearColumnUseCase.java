@@ -0,0 +1,12 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.ColumnBulkResult;
+
+/** Input port for deleting every Card of a Column in one bulk operation. */
+public interface ClearColumnUseCase {
+    /**
+     * @throws java.util.NoSuchElementException if the board does not exist (→ 404)
+     * @throws IllegalArgumentException if the column is not on the board (→ 400)
+     */
+    ColumnBulkResult clearColumn(ClearColumnCommand command);
+}
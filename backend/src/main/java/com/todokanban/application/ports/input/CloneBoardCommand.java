@@ -0,0 +1,28 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.WorkspaceId;
+
+/**
+ * Command object for the {@link CloneBoardUseCase}.
+ *
+ * <p>Immutable Java 21 record validated at construction time.</p>
+ *
+ * @param sourceBoardId the board (or template) to copy
+ * @param workspaceId   target workspace; {@code null} keeps the source's
+ * @param name          name of the copy; {@code null} keeps the source's
+ * @param includeCards  whether cards are copied along with the columns
+ * @param template      whether the copy is saved as a template instead of a board
+ */
+public record CloneBoardCommand(BoardId sourceBoardId, WorkspaceId workspaceId, String name,
+                                boolean includeCards, boolean template) {
+
+    public CloneBoardCommand {
+        if (sourceBoardId == null) {
+            throw new IllegalArgumentException("Source BoardId must not be null");
+        }
+        if (name != null && name.isBlank()) {
+            throw new IllegalArgumentException("Board name must not be blank");
+        }
+    }
+}
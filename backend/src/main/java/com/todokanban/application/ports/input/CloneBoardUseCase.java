@@ -0,0 +1,13 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.Board;
+
+/** Input port for copying a Board (or instantiating a template) with its columns and cards. */
+public interface CloneBoardUseCase {
+    /**
+     * @return the new board
+     * @throws java.util.NoSuchElementException if the source board does not exist (→ 404)
+     * @throws IllegalArgumentException if the target workspace does not exist (→ 400)
+     */
+    Board cloneBoard(CloneBoardCommand command);
+}
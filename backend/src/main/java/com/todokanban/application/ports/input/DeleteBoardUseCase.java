@@ -0,0 +1,13 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardId;
+
+/** Input port for deleting a Board with all of its columns, cards and history. */
+public interface DeleteBoardUseCase {
+    /**
+     * Deletes the Board with the given id.
+     *
+     * @throws java.util.NoSuchElementException if not found (→ 404 via GlobalExceptionHandler)
+     */
+    void deleteBoard(BoardId boardId);
+}
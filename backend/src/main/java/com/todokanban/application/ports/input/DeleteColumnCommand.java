@@ -0,0 +1,12 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnId;
+
+/** Command for removing a Column, with all of its cards, from a Board. */
+public record DeleteColumnCommand(BoardId boardId, ColumnId columnId) {
+    public DeleteColumnCommand {
+        if (boardId == null)  throw new IllegalArgumentException("BoardId must not be null");
+        if (columnId == null) throw new IllegalArgumentException("ColumnId must not be null");
+    }
+}
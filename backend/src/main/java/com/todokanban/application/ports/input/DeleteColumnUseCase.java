@@ -0,0 +1,10 @@
+package com.todokanban.application.ports.input;
+
+/** Input port for deleting a Column and its cards in one bulk operation. */
+public interface DeleteColumnUseCase {
+    /**
+     * @throws java.util.NoSuchElementException if the board does not exist (→ 404)
+     * @throws IllegalArgumentException if the column is not on the board (→ 400)
+     */
+    void deleteColumn(DeleteColumnCommand command);
+}
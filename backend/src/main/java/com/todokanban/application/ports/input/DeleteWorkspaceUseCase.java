@@ -0,0 +1,13 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.WorkspaceId;
+
+/** Input port for deleting a Workspace with all of its boards, templates included. */
+public interface DeleteWorkspaceUseCase {
+    /**
+     * Deletes the Workspace with the given id.
+     *
+     * @throws java.util.NoSuchElementException if not found (→ 404 via GlobalExceptionHandler)
+     */
+    void deleteWorkspace(WorkspaceId workspaceId);
+}
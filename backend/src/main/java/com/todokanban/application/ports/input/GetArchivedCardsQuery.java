@@ -0,0 +1,31 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardId;
+
+/**
+ * Query object for the {@link GetArchivedCardsUseCase}.
+ *
+ * <p>Immutable Java 21 record validated at construction time.</p>
+ *
+ * @param boardId the board whose archive is listed
+ * @param search  optional full-text filter; blank means no filter
+ * @param limit   page size, 1–200
+ * @param offset  number of cards to skip, non-negative
+ */
+public record GetArchivedCardsQuery(BoardId boardId, String search, int limit, int offset) {
+
+    public static final int MAX_LIMIT = 200;
+
+    public GetArchivedCardsQuery {
+        if (boardId == null) {
+            throw new IllegalArgumentException("BoardId must not be null");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and %d".formatted(MAX_LIMIT));
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        search = search == null || search.isBlank() ? null : search.strip();
+    }
+}
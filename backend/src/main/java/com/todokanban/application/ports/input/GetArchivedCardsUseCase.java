@@ -0,0 +1,13 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.ArchivedCard;
+
+import java.util.List;
+
+/** Input port for listing and searching the archived cards of a Board. */
+public interface GetArchivedCardsUseCase {
+    /**
+     * @throws java.util.NoSuchElementException if the board does not exist (→ 404)
+     */
+    List<ArchivedCard> getArchivedCards(GetArchivedCardsQuery query);
+}
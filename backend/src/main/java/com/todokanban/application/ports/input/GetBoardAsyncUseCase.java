@@ -0,0 +1,16 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardId;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Non-blocking variant of {@link GetBoardUseCase}. */
+public interface GetBoardAsyncUseCase {
+    /**
+     * Returns the Board for the given id.
+     *
+     * @return completes exceptionally with {@link java.util.NoSuchElementException} if not found
+     */
+    CompletableFuture<Board> getBoard(BoardId boardId);
+}
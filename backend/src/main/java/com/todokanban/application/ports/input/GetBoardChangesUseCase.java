@@ -0,0 +1,15 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardChangeFeed;
+import com.todokanban.domain.model.BoardId;
+
+/** Input port for incremental sync: the changes of one Board since a known version. */
+public interface GetBoardChangesUseCase {
+    /**
+     * Returns the changes recorded after {@code since}.
+     *
+     * @throws IllegalArgumentException         if {@code since} is negative (→ 400)
+     * @throws java.util.NoSuchElementException if the board does not exist (→ 404)
+     */
+    BoardChangeFeed getChanges(BoardId boardId, long since);
+}
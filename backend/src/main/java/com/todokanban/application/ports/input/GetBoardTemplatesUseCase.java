@@ -0,0 +1,14 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardTemplate;
+import com.todokanban.domain.model.WorkspaceId;
+
+import java.util.List;
+
+/** Input port for listing the saved board templates of a Workspace. */
+public interface GetBoardTemplatesUseCase {
+    /**
+     * @throws java.util.NoSuchElementException if the workspace does not exist (→ 404)
+     */
+    List<BoardTemplate> getTemplates(WorkspaceId workspaceId);
+}
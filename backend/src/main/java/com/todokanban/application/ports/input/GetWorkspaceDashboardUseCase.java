@@ -0,0 +1,12 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.WorkspaceDashboard;
+import com.todokanban.domain.model.WorkspaceId;
+
+/** Input port for the per-column card counts of every board in a Workspace. */
+public interface GetWorkspaceDashboardUseCase {
+    /**
+     * @throws java.util.NoSuchElementException if the workspace does not exist (→ 404)
+     */
+    WorkspaceDashboard getDashboard(WorkspaceId workspaceId);
+}
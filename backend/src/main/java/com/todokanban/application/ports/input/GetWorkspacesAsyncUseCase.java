@@ -0,0 +1,11 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.Workspace;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/** Non-blocking variant of {@link GetWorkspacesUseCase}. */
+public interface GetWorkspacesAsyncUseCase {
+    CompletableFuture<List<Workspace>> getWorkspaces();
+}
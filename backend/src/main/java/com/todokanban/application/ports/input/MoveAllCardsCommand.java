@@ -0,0 +1,31 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnId;
+
+/**
+ * Command object for the {@link MoveAllCardsUseCase}.
+ *
+ * <p>Immutable Java 21 record validated at construction time.</p>
+ *
+ * @param boardId        the board that contains both columns
+ * @param sourceColumnId the column to empty
+ * @param targetColumnId the column the cards are appended to, in their current order
+ */
+public record MoveAllCardsCommand(BoardId boardId, ColumnId sourceColumnId, ColumnId targetColumnId) {
+
+    public MoveAllCardsCommand {
+        if (boardId == null) {
+            throw new IllegalArgumentException("BoardId must not be null");
+        }
+        if (sourceColumnId == null) {
+            throw new IllegalArgumentException("Source ColumnId must not be null");
+        }
+        if (targetColumnId == null) {
+            throw new IllegalArgumentException("Target ColumnId must not be null");
+        }
+        if (sourceColumnId.equals(targetColumnId)) {
+            throw new IllegalArgumentException("Source and target columns must be different");
+        }
+    }
+}
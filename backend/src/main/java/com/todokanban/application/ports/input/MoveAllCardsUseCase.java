@@ -0,0 +1,12 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.ColumnBulkResult;
+
+/** Input port for moving every Card of one Column to the end of another in one bulk operation. */
+public interface MoveAllCardsUseCase {
+    /**
+     * @throws java.util.NoSuchElementException if the board does not exist (→ 404)
+     * @throws IllegalArgumentException if either column is not on the board (→ 400)
+     */
+    ColumnBulkResult moveAllCards(MoveAllCardsCommand command);
+}
@@ -0,0 +1,17 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.Board;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Non-blocking variant of {@link MoveCardUseCase}. */
+public interface MoveCardAsyncUseCase {
+    /**
+     * Moves a card from one column to another within the same board.
+     *
+     * @return completes with the updated {@link Board}, or exceptionally with
+     *         {@link IllegalArgumentException} if the card or a column is not found and
+     *         {@link java.util.NoSuchElementException} if the board is not found
+     */
+    CompletableFuture<Board> moveCard(MoveCardCommand command);
+}
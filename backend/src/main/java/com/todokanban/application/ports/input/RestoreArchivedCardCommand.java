@@ -0,0 +1,26 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.CardId;
+import com.todokanban.domain.model.ColumnId;
+
+/**
+ * Command object for the {@link RestoreArchivedCardUseCase}.
+ *
+ * <p>Immutable Java 21 record validated at construction time.</p>
+ *
+ * @param boardId        the board the card was archived from
+ * @param cardId         the archived card
+ * @param targetColumnId the column to restore into, or {@code null} for the original column
+ */
+public record RestoreArchivedCardCommand(BoardId boardId, CardId cardId, ColumnId targetColumnId) {
+
+    public RestoreArchivedCardCommand {
+        if (boardId == null) {
+            throw new IllegalArgumentException("BoardId must not be null");
+        }
+        if (cardId == null) {
+            throw new IllegalArgumentException("CardId must not be null");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.todokanban.application.ports.input;
+
+import com.todokanban.domain.model.Board;
+
+/** Input port for moving an archived card back onto its Board. */
+public interface RestoreArchivedCardUseCase {
+    /**
+     * @return the updated board
+     * @throws java.util.NoSuchElementException if the card is not in the archive (→ 404)
+     * @throws IllegalArgumentException         if the target column does not exist (→ 400)
+     */
+    Board restoreCard(RestoreArchivedCardCommand command);
+}
@@ -0,0 +1,63 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.*;
+import com.todokanban.domain.model.ArchivedCard;
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.ColumnId;
+import com.todokanban.domain.ports.output.ArchivedCardRepository;
+import com.todokanban.domain.ports.output.BoardRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Application service for archived cards: listing/searching and restoring.
+ *
+ * <p>Restoring goes through the {@link Board} aggregate like any other card
+ * creation (load → act → save), then drops the archive row in the same transaction.</p>
+ */
+@Service
+@Transactional
+public class ArchivedCardService implements GetArchivedCardsUseCase, RestoreArchivedCardUseCase {
+
+    private final ArchivedCardRepository archivedCardRepository;
+    private final BoardRepository boardRepository;
+
+    public ArchivedCardService(ArchivedCardRepository archivedCardRepository,
+                               BoardRepository boardRepository) {
+        this.archivedCardRepository = archivedCardRepository;
+        this.boardRepository = boardRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArchivedCard> getArchivedCards(GetArchivedCardsQuery query) {
+        if (!boardRepository.existsById(query.boardId())) {
+            throw new NoSuchElementException("Board '%s' not found".formatted(query.boardId()));
+        }
+        return archivedCardRepository.findByBoardId(
+                query.boardId(), query.search(), query.limit(), query.offset());
+    }
+
+    @Override
+    public Board restoreCard(RestoreArchivedCardCommand command) {
+        ArchivedCard archived = archivedCardRepository.findById(command.boardId(), command.cardId())
+                .orElseThrow(() -> new NoSuchElementException(
+                        "Archived card '%s' not found in board '%s'"
+                                .formatted(command.cardId(), command.boardId())));
+        Board board = boardRepository.findById(command.boardId())
+                .orElseThrow(() -> new NoSuchElementException(
+                        "Board '%s' not found".formatted(command.boardId())));
+
+        ColumnId target = command.targetColumnId() != null ? command.targetColumnId() : archived.columnId();
+        boolean alreadyOnBoard = board.getColumns().stream().anyMatch(c -> c.containsCard(archived.id()));
+        if (!alreadyOnBoard) {
+            board.addCardToColumn(target, archived.toCard());
+            board = boardRepository.save(board);
+        }
+        archivedCardRepository.delete(command.boardId(), command.cardId());
+        return board;
+    }
+}
@@ -0,0 +1,56 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.GetBoardAsyncUseCase;
+import com.todokanban.application.ports.input.GetWorkspacesAsyncUseCase;
+import com.todokanban.application.ports.input.MoveCardAsyncUseCase;
+import com.todokanban.application.ports.input.MoveCardCommand;
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.Workspace;
+import com.todokanban.domain.ports.output.AsyncBoardRepository;
+import com.todokanban.domain.ports.output.AsyncWorkspaceRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking board reads and card moves over the async output ports.
+ *
+ * <p>No {@code @Transactional}: each repository call is its own transaction, run by
+ * the adapter without holding a thread. Business rules stay in the aggregate – the
+ * move is the same {@code Board#moveCard} call as in {@link MoveCardService}.</p>
+ */
+@Service
+@ConditionalOnProperty(name = "kanban.reactive.enabled", havingValue = "true")
+public class AsyncKanbanService implements GetBoardAsyncUseCase, MoveCardAsyncUseCase, GetWorkspacesAsyncUseCase {
+
+    private final AsyncBoardRepository boardRepository;
+    private final AsyncWorkspaceRepository workspaceRepository;
+
+    public AsyncKanbanService(AsyncBoardRepository boardRepository,
+                              AsyncWorkspaceRepository workspaceRepository) {
+        this.boardRepository = boardRepository;
+        this.workspaceRepository = workspaceRepository;
+    }
+
+    @Override
+    public CompletableFuture<Board> getBoard(BoardId boardId) {
+        return boardRepository.findById(boardId)
+                .thenApply(board -> board.orElseThrow(() -> new NoSuchElementException(
+                        "Board '%s' not found".formatted(boardId))));
+    }
+
+    @Override
+    public CompletableFuture<Board> moveCard(MoveCardCommand command) {
+        return boardRepository.update(command.boardId(), board ->
+                board.moveCard(command.cardId(), command.sourceColumnId(), command.targetColumnId()));
+    }
+
+    @Override
+    public CompletableFuture<List<Workspace>> getWorkspaces() {
+        return workspaceRepository.findAll();
+    }
+}
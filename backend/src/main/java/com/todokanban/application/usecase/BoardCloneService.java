@@ -0,0 +1,73 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.CloneBoardCommand;
+import com.todokanban.application.ports.input.CloneBoardUseCase;
+import com.todokanban.application.ports.input.GetBoardTemplatesUseCase;
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.BoardTemplate;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.BoardCloneRepository;
+import com.todokanban.domain.ports.output.BoardRepository;
+import com.todokanban.domain.ports.output.WorkspaceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Application service for board clones and templates.
+ *
+ * <p>The copy itself bypasses the {@link Board} aggregate: {@link BoardCloneRepository}
+ * duplicates rows in bulk. Only the finished copy is loaded, to return it.</p>
+ *
+ * <p>A clone runs at {@code REPEATABLE READ}: its statements copy the board, the columns
+ * and the cards one after another, and all of them must see the same snapshot of the
+ * source. At {@code READ COMMITTED} a column and card added in between would give a
+ * copied card no copied column, and the insert would fail its foreign key. The source
+ * is flushed first, so a board held in memory is copied with its latest writes.</p>
+ */
+@Service
+@Transactional
+public class BoardCloneService implements CloneBoardUseCase, GetBoardTemplatesUseCase {
+
+    private final BoardCloneRepository boardCloneRepository;
+    private final BoardRepository boardRepository;
+    private final WorkspaceRepository workspaceRepository;
+
+    public BoardCloneService(BoardCloneRepository boardCloneRepository,
+                             BoardRepository boardRepository,
+                             WorkspaceRepository workspaceRepository) {
+        this.boardCloneRepository = boardCloneRepository;
+        this.boardRepository = boardRepository;
+        this.workspaceRepository = workspaceRepository;
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public Board cloneBoard(CloneBoardCommand command) {
+        boardRepository.flushAndEvict(command.sourceBoardId());
+        if (command.workspaceId() != null && !workspaceRepository.existsById(command.workspaceId())) {
+            throw new IllegalArgumentException("Workspace '%s' not found".formatted(command.workspaceId()));
+        }
+        BoardId targetId = BoardId.generate();
+        if (!boardCloneRepository.cloneBoard(command.sourceBoardId(), targetId, command.workspaceId(),
+                command.name(), command.includeCards(), command.template())) {
+            throw new NoSuchElementException("Board '%s' not found".formatted(command.sourceBoardId()));
+        }
+        return boardRepository.findById(targetId)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Cloned board '%s' not found".formatted(targetId)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BoardTemplate> getTemplates(WorkspaceId workspaceId) {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new NoSuchElementException("Workspace '%s' not found".formatted(workspaceId));
+        }
+        return boardCloneRepository.findTemplates(workspaceId);
+    }
+}
@@ -0,0 +1,133 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.CompactBoard;
+import com.todokanban.domain.ports.output.ReadRouting;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight board loads: concurrent callers for the same board share one load.
+ *
+ * <p>When a popular board changes, every open client re-fetches it at once. The first
+ * caller (the leader) loads the board; callers arriving while that load is in flight
+ * wait for it instead of running their own. The leader keeps the aggregate it loaded,
+ * and every follower gets its own aggregate built from a {@link CompactBoard} snapshot
+ * of it, so no two callers share a mutable {@link Board}.</p>
+ *
+ * <p>A follower that has waited {@code coalesce-timeout} gives up and loads the board
+ * itself. A failed load fails its followers too. A committed {@link BoardChangedEvent}
+ * detaches the board's flight: callers arriving after the change start a fresh load
+ * rather than join one that may have read the previous state.</p>
+ *
+ * <p>Flights are keyed by board and by {@link ReadRouting}: a caller whose reads must
+ * go to the primary (they just wrote) never joins a load that may be reading a lagging
+ * replica, and the other way round.</p>
+ */
+@Component
+public class BoardLoadCoalescer {
+
+    private record Flight(BoardId boardId, boolean primary) {}
+
+    private final ConcurrentHashMap<Flight, CompletableFuture<Optional<CompactBoard>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final ReadRouting readRouting;
+
+    private final LongAdder loads     = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts  = new LongAdder();
+
+    /** Without read replicas every read goes to the primary, so all callers share flights. */
+    @Autowired
+    public BoardLoadCoalescer(@Value("${kanban.board-load.coalesce-timeout:PT2S}") Duration timeout,
+                              ObjectProvider<ReadRouting> readRouting) {
+        this(timeout, readRouting.getIfAvailable(() -> () -> true));
+    }
+
+    BoardLoadCoalescer(Duration timeout, ReadRouting readRouting) {
+        this.timeout = timeout;
+        this.readRouting = readRouting;
+    }
+
+    /**
+     * Loads {@code boardId} with {@code loader}, or waits for a load of it already in flight.
+     *
+     * @return the board, or empty if it does not exist; rethrows what the load threw
+     */
+    public Optional<Board> load(BoardId boardId, Supplier<Optional<Board>> loader) {
+        Flight key = new Flight(boardId, readRouting.requiresPrimary());
+        CompletableFuture<Optional<CompactBoard>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<CompactBoard>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, loader);
+        }
+        coalesced.increment();
+        try {
+            return existing.get(timeout.toMillis(), TimeUnit.MILLISECONDS).map(CompactBoard::toBoard);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Loading board '%s' failed".formatted(boardId), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for board '%s'".formatted(boardId), e);
+        }
+    }
+
+    private Optional<Board> lead(Flight key, CompletableFuture<Optional<CompactBoard>> flight,
+                                 Supplier<Optional<Board>> loader) {
+        loads.increment();
+        try {
+            Optional<Board> board = loader.get();
+            flight.complete(board.map(CompactBoard::of));
+            return board;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        inFlight.remove(new Flight(event.boardId(), true));
+        inFlight.remove(new Flight(event.boardId(), false));
+    }
+
+    /** Reads that led a load. */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    /** Reads that joined a load already in flight, including those that then timed out. */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /** Coalesced reads that gave up waiting and loaded the board themselves. */
+    public long timeoutCount() {
+        return timeouts.sum();
+    }
+}
@@ -0,0 +1,206 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.ports.output.BoardRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Serializes mutations per board and group-commits whatever is pending.
+ *
+ * <p>Every board with pending work has its own mailbox, drained by one virtual thread.
+ * Each drain takes up to {@code maxBatch} queued mutations. It loads the aggregate
+ * once, applies the mutations in arrival order, and saves in a single transaction.
+ * Mutations queued while a batch is being committed form the next batch. So under
+ * contention (a stand-up with everyone moving cards) N requests cost far fewer than
+ * N load/save round-trips. Boards never share a mailbox, so unrelated boards never
+ * wait on each other.</p>
+ *
+ * <p>Each caller gets its own outcome. A mutation that throws fails only its caller:
+ * the partially mutated aggregate is discarded, reloaded, and the earlier successful
+ * mutations of the batch are replayed. A failed load or save fails the whole batch.</p>
+ *
+ * <p>{@link #execute} waits at most {@code kanban.mutations.timeout} and then throws
+ * {@link MutationTimeoutException}. A mutation abandoned that way while still queued is
+ * skipped; one whose batch was already running may still be committed.</p>
+ */
+@Component
+public class BoardMutationExecutor implements DisposableBean {
+
+    private record Pending(Consumer<Board> mutation, CompletableFuture<Board> result) {}
+
+    private final BoardRepository boardRepository;
+    private final TransactionOperations transactionOperations;
+    private final ExecutorService executor;
+    private final int maxBatch;
+    private final Duration timeout;
+
+    /** Mailboxes only exist while a board has pending or in-flight work; guarded per key by the map. */
+    private final ConcurrentHashMap<BoardId, ArrayDeque<Pending>> mailboxes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BoardMutationExecutor(BoardRepository boardRepository,
+                                 TransactionOperations transactionOperations,
+                                 @Value("${kanban.mutations.max-batch-size:64}") int maxBatch,
+                                 @Value("${kanban.mutations.timeout:PT10S}") Duration timeout) {
+        this(boardRepository, transactionOperations,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("board-mutations-", 0).factory()),
+                maxBatch, timeout);
+    }
+
+    BoardMutationExecutor(BoardRepository boardRepository, TransactionOperations transactionOperations,
+                          ExecutorService executor, int maxBatch, Duration timeout) {
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("Mutation batch size must be at least 1");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Mutation timeout must be positive");
+        }
+        this.boardRepository = boardRepository;
+        this.transactionOperations = transactionOperations;
+        this.executor = executor;
+        this.maxBatch = maxBatch;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Queues {@code mutation} for {@code boardId}.
+     *
+     * @return completes with the saved board (including every mutation of the batch),
+     *         or exceptionally with what the mutation, the load or the save threw
+     */
+    public CompletableFuture<Board> submit(BoardId boardId, Consumer<Board> mutation) {
+        Pending pending = new Pending(mutation, new CompletableFuture<>());
+        boolean[] startDrain = {false};
+        mailboxes.compute(boardId, (id, queue) -> {
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                startDrain[0] = true;
+            }
+            queue.add(pending);
+            return queue;
+        });
+        if (startDrain[0]) {
+            executor.execute(() -> drain(boardId));
+        }
+        return pending.result();
+    }
+
+    /**
+     * {@link #submit} and wait; rethrows the mutation's own exception.
+     *
+     * @throws MutationTimeoutException if the outcome is not known within the timeout
+     */
+    public Board execute(BoardId boardId, Consumer<Board> mutation) {
+        CompletableFuture<Board> result = submit(boardId, mutation);
+        try {
+            return result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return abandon(boardId, result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return abandon(boardId, result);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /** Fails {@code result} so the drain skips it – unless the drain completed it first. */
+    private Board abandon(BoardId boardId, CompletableFuture<Board> result) {
+        MutationTimeoutException timedOut = new MutationTimeoutException(boardId, timeout);
+        if (result.completeExceptionally(timedOut)) {
+            throw timedOut;
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new CompletionException(cause);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    // ── Drain loop ────────────────────────────────────────────────────────────
+
+    private void drain(BoardId boardId) {
+        while (true) {
+            List<Pending> batch = new ArrayList<>();
+            // Removing the empty mailbox inside compute() is atomic with submit(),
+            // so a mutation is either in this batch or starts a fresh drain
+            mailboxes.computeIfPresent(boardId, (id, queue) -> {
+                while (batch.size() < maxBatch && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+                return batch.isEmpty() ? null : queue;
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+            commit(boardId, batch);
+        }
+    }
+
+    private void commit(BoardId boardId, List<Pending> batch) {
+        List<Pending> applied = new ArrayList<>(batch.size());
+        try {
+            Board saved = transactionOperations.execute(status -> {
+                Board board = load(boardId);
+                for (Pending pending : batch) {
+                    if (pending.result().isDone()) {
+                        // Abandoned by a caller that timed out
+                        continue;
+                    }
+                    try {
+                        pending.mutation().accept(board);
+                        applied.add(pending);
+                    } catch (RuntimeException e) {
+                        pending.result().completeExceptionally(e);
+                        // The failed mutation may have half-applied; rebuild from the good ones
+                        board = load(boardId);
+                        for (Pending ok : applied) {
+                            ok.mutation().accept(board);
+                        }
+                    }
+                }
+                return applied.isEmpty() ? board : boardRepository.save(board);
+            });
+            applied.forEach(pending -> pending.result().complete(saved));
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private Board load(BoardId boardId) {
+        return boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Board '%s' not found".formatted(boardId)));
+    }
+}
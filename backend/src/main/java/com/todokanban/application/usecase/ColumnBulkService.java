@@ -0,0 +1,76 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.*;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnBulkResult;
+import com.todokanban.domain.model.ColumnId;
+import com.todokanban.domain.ports.output.BoardRepository;
+import com.todokanban.domain.ports.output.ColumnBulkRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Application service for column-wide operations: delete a column, clear it, move all
+ * of its cards.
+ *
+ * <p>These bypass the {@link com.todokanban.domain.model.Board} aggregate. Loading
+ * and merging every card would make them cost O(cards) round-trips. Instead,
+ * {@link ColumnBulkRepository} runs one statement per step.</p>
+ *
+ * <p>Because the statements bypass {@link BoardRepository#save}, the board is first
+ * passed through {@link BoardRepository#flushAndEvict}: a write-behind store commits
+ * its unflushed writes before the statements run, rather than overwrite them later.</p>
+ */
+@Service
+@Transactional
+public class ColumnBulkService implements DeleteColumnUseCase, ClearColumnUseCase, MoveAllCardsUseCase {
+
+    private final BoardRepository boardRepository;
+    private final ColumnBulkRepository columnBulkRepository;
+
+    public ColumnBulkService(BoardRepository boardRepository,
+                             ColumnBulkRepository columnBulkRepository) {
+        this.boardRepository = boardRepository;
+        this.columnBulkRepository = columnBulkRepository;
+    }
+
+    @Override
+    public void deleteColumn(DeleteColumnCommand command) {
+        requireBoard(command.boardId());
+        orColumnNotFound(columnBulkRepository.deleteColumn(command.boardId(), command.columnId()),
+                command.boardId(), command.columnId());
+    }
+
+    @Override
+    public ColumnBulkResult clearColumn(ClearColumnCommand command) {
+        requireBoard(command.boardId());
+        return orColumnNotFound(columnBulkRepository.clearColumn(command.boardId(), command.columnId()),
+                command.boardId(), command.columnId());
+    }
+
+    @Override
+    public ColumnBulkResult moveAllCards(MoveAllCardsCommand command) {
+        requireBoard(command.boardId());
+        return columnBulkRepository
+                .moveAllCards(command.boardId(), command.sourceColumnId(), command.targetColumnId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Columns '%s' and '%s' must both belong to board '%s'"
+                                .formatted(command.sourceColumnId(), command.targetColumnId(), command.boardId())));
+    }
+
+    private void requireBoard(BoardId boardId) {
+        boardRepository.flushAndEvict(boardId);
+        if (!boardRepository.existsById(boardId)) {
+            throw new NoSuchElementException("Board '%s' not found".formatted(boardId));
+        }
+    }
+
+    private static ColumnBulkResult orColumnNotFound(Optional<ColumnBulkResult> result,
+                                                     BoardId boardId, ColumnId columnId) {
+        return result.orElseThrow(() -> new IllegalArgumentException(
+                "Column '%s' not found in board '%s'".formatted(columnId, boardId)));
+    }
+}
@@ -32,10 +32,10 @@ public class CreateBoardService implements CreateBoardUseCase {
 
     @Override
     public Board createBoard(CreateBoardCommand command) {
-        // Validate that the workspace exists
-        workspaceRepository.findById(command.workspaceId())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Workspace '%s' not found".formatted(command.workspaceId())));
+        // Validate that the workspace exists – an existence check, not a load
+        if (!workspaceRepository.existsById(command.workspaceId())) {
+            throw new IllegalArgumentException("Workspace '%s' not found".formatted(command.workspaceId()));
+        }
 
         // Delegate board construction to the domain factory
         Board board = Board.create(command.workspaceId(), command.name(), command.description());
@@ -0,0 +1,28 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.DeleteBoardUseCase;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.ports.output.BoardRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+@Service
+@Transactional
+public class DeleteBoardService implements DeleteBoardUseCase {
+
+    private final BoardRepository boardRepository;
+
+    public DeleteBoardService(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    @Override
+    public void deleteBoard(BoardId boardId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new NoSuchElementException("Board '%s' not found".formatted(boardId));
+        }
+        boardRepository.deleteById(boardId);
+    }
+}
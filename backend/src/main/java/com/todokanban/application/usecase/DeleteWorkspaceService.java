@@ -0,0 +1,28 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.DeleteWorkspaceUseCase;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.WorkspaceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+@Service
+@Transactional
+public class DeleteWorkspaceService implements DeleteWorkspaceUseCase {
+
+    private final WorkspaceRepository workspaceRepository;
+
+    public DeleteWorkspaceService(WorkspaceRepository workspaceRepository) {
+        this.workspaceRepository = workspaceRepository;
+    }
+
+    @Override
+    public void deleteWorkspace(WorkspaceId workspaceId) {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new NoSuchElementException("Workspace '%s' not found".formatted(workspaceId));
+        }
+        workspaceRepository.deleteById(workspaceId);
+    }
+}
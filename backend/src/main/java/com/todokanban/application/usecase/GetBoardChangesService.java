@@ -0,0 +1,35 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.GetBoardChangesUseCase;
+import com.todokanban.domain.model.BoardChangeFeed;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.ports.output.BoardChangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+@Service
+@Transactional(readOnly = true)
+public class GetBoardChangesService implements GetBoardChangesUseCase {
+
+    private final BoardChangeRepository boardChangeRepository;
+    private final int maxVersions;
+
+    public GetBoardChangesService(BoardChangeRepository boardChangeRepository,
+                                  @Value("${kanban.changes.max-versions-per-request:500}") int maxVersions) {
+        this.boardChangeRepository = boardChangeRepository;
+        this.maxVersions = maxVersions;
+    }
+
+    @Override
+    public BoardChangeFeed getChanges(BoardId boardId, long since) {
+        if (since < 0) {
+            throw new IllegalArgumentException("'since' must not be negative");
+        }
+        return boardChangeRepository.findSince(boardId, since, maxVersions)
+                .orElseThrow(() -> new NoSuchElementException(
+                        "Board '%s' not found".formatted(boardId)));
+    }
+}
@@ -14,14 +14,17 @@ import java.util.NoSuchElementException;
 public class GetBoardService implements GetBoardUseCase {
 
     private final BoardRepository boardRepository;
+    private final BoardLoadCoalescer boardLoadCoalescer;
 
-    public GetBoardService(BoardRepository boardRepository) {
+    public GetBoardService(BoardRepository boardRepository, BoardLoadCoalescer boardLoadCoalescer) {
         this.boardRepository = boardRepository;
+        this.boardLoadCoalescer = boardLoadCoalescer;
     }
 
     @Override
     public Board getBoard(BoardId boardId) {
-        return boardRepository.findById(boardId)
+        // Concurrent reads of the same board share one load
+        return boardLoadCoalescer.load(boardId, () -> boardRepository.findById(boardId))
                 .orElseThrow(() -> new NoSuchElementException(
                         "Board '%s' not found".formatted(boardId)));
     }
@@ -0,0 +1,33 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.application.ports.input.GetWorkspaceDashboardUseCase;
+import com.todokanban.domain.model.WorkspaceDashboard;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.WorkspaceDashboardRepository;
+import com.todokanban.domain.ports.output.WorkspaceRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+@Service
+@Transactional(readOnly = true)
+public class GetWorkspaceDashboardService implements GetWorkspaceDashboardUseCase {
+
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceDashboardRepository dashboardRepository;
+
+    public GetWorkspaceDashboardService(WorkspaceRepository workspaceRepository,
+                                        WorkspaceDashboardRepository dashboardRepository) {
+        this.workspaceRepository = workspaceRepository;
+        this.dashboardRepository = dashboardRepository;
+    }
+
+    @Override
+    public WorkspaceDashboard getDashboard(WorkspaceId workspaceId) {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new NoSuchElementException("Workspace '%s' not found".formatted(workspaceId));
+        }
+        return dashboardRepository.findByWorkspaceId(workspaceId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.domain.model.BoardId;
+
+import java.time.Duration;
+
+/**
+ * Thrown by {@link BoardMutationExecutor#execute} when a board's queue did not get to
+ * the caller's mutation in time. The input adapters answer it with "retry later"
+ * ({@code 503} / {@code UNAVAILABLE}).
+ */
+public class MutationTimeoutException extends RuntimeException {
+
+    public MutationTimeoutException(BoardId boardId, Duration timeout) {
+        super("Board '%s' is busy; the change was not applied within %s, please retry later"
+                .formatted(boardId, timeout));
+    }
+}
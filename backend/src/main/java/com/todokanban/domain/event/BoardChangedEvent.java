@@ -0,0 +1,30 @@
+package com.todokanban.domain.event;
+
+import com.todokanban.domain.model.BoardId;
+
+/**
+ * Domain event raised whenever a {@link com.todokanban.domain.model.Board} aggregate
+ * (including its columns and cards) is persisted or removed.
+ *
+ * <p>Consumers such as response caches use it to drop derived state.
+ * Pure Java 21 – no Spring annotations.</p>
+ *
+ * @param boardId the affected board
+ * @param deleted {@code true} if the board no longer exists
+ */
+public record BoardChangedEvent(BoardId boardId, boolean deleted) {
+
+    public BoardChangedEvent {
+        if (boardId == null) {
+            throw new IllegalArgumentException("BoardId must not be null");
+        }
+    }
+
+    public static BoardChangedEvent updated(BoardId boardId) {
+        return new BoardChangedEvent(boardId, false);
+    }
+
+    public static BoardChangedEvent deleted(BoardId boardId) {
+        return new BoardChangedEvent(boardId, true);
+    }
+}
@@ -0,0 +1,20 @@
+package com.todokanban.domain.event;
+
+import com.todokanban.domain.model.WorkspaceId;
+
+/**
+ * Domain event raised when a {@link com.todokanban.domain.model.Workspace} is removed.
+ *
+ * <p>Its boards raise their own {@link BoardChangedEvent}s; this event is for state
+ * kept about the workspace itself. Pure Java 21 – no Spring annotations.</p>
+ *
+ * @param workspaceId the removed workspace
+ */
+public record WorkspaceDeletedEvent(WorkspaceId workspaceId) {
+
+    public WorkspaceDeletedEvent {
+        if (workspaceId == null) {
+            throw new IllegalArgumentException("WorkspaceId must not be null");
+        }
+    }
+}
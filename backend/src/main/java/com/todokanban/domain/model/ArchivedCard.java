@@ -0,0 +1,28 @@
+package com.todokanban.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A card that has been moved out of its board into cold storage.
+ *
+ * <p>Archived cards are not part of the {@link Board} aggregate and are never loaded
+ * with it; they can be listed, searched and restored into a column.
+ * Pure Java 21 – no framework dependencies.</p>
+ *
+ * @param columnId the column the card was archived from (may no longer exist)
+ */
+public record ArchivedCard(CardId id, BoardId boardId, ColumnId columnId, String title,
+                           String description, Instant createdAt, Instant updatedAt,
+                           Instant archivedAt) {
+
+    public ArchivedCard {
+        if (id == null || boardId == null || columnId == null) {
+            throw new IllegalArgumentException("Archived card ids must not be null");
+        }
+    }
+
+    /** Rebuilds a live {@link Card}; the board assigns its position when it is added. */
+    public Card toCard() {
+        return Card.reconstitute(id, title, description, 0, createdAt, Instant.now());
+    }
+}
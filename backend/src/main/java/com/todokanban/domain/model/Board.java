@@ -25,6 +25,7 @@ public final class Board {
     private final List<Column> columns;
     private final Instant createdAt;
     private Instant updatedAt;
+    private long version;
 
     private Board(BoardId id, WorkspaceId workspaceId, String name, String description,
                   List<Column> columns, Instant createdAt) {
@@ -56,8 +57,18 @@ public final class Board {
     public static Board reconstitute(BoardId id, WorkspaceId workspaceId, String name,
                                      String description, List<Column> columns,
                                      Instant createdAt, Instant updatedAt) {
+        return reconstitute(id, workspaceId, name, description, columns, createdAt, updatedAt, 0);
+    }
+
+    /**
+     * Reconstitution factory including the board's change-sequence {@code version}.
+     */
+    public static Board reconstitute(BoardId id, WorkspaceId workspaceId, String name,
+                                     String description, List<Column> columns,
+                                     Instant createdAt, Instant updatedAt, long version) {
         Board board = new Board(id, workspaceId, name, description, columns, createdAt);
         board.updatedAt = updatedAt;
+        board.version = version;
         return board;
     }
 
@@ -95,7 +106,7 @@ public final class Board {
                         "Target column '%s' not found in board '%s'".formatted(targetColumnId, id)));
 
         // Position card at the end of the target column
-        card.updatePosition(target.getCards().size());
+        card.updatePosition(target.nextPosition());
         target.addCard(card);
 
         this.updatedAt = Instant.now();
@@ -126,7 +137,7 @@ public final class Board {
         Column column = findColumn(columnId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Column '%s' not found in board '%s'".formatted(columnId, id)));
-        card.updatePosition(column.getCards().size());
+        card.updatePosition(column.nextPosition());
         column.addCard(card);
         this.updatedAt = Instant.now();
     }
@@ -197,6 +208,12 @@ public final class Board {
     public Instant getCreatedAt()        { return createdAt; }
     public Instant getUpdatedAt()        { return updatedAt; }
 
+    /**
+     * Per-board change sequence as of the last load/save. Increases by one for every
+     * persisted change set; {@code 0} for a board that has never been saved.
+     */
+    public long getVersion()             { return version; }
+
     // ── Equality (by identity) ────────────────────────────────────────────────
 
     @Override
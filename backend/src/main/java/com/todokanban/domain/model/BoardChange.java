@@ -0,0 +1,35 @@
+package com.todokanban.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One entry of a board's change history: the state of a board, column or card
+ * right after it was created, updated, moved or deleted.
+ *
+ * <p>Entries carry full post-change state (not a diff), so applying them in
+ * {@code version} order is idempotent. Pure Java 21 – no framework dependencies.</p>
+ *
+ * @param version     the board change sequence this entry belongs to
+ * @param entity      what kind of element changed
+ * @param type        what happened to it
+ * @param entityId    id of the board, column or card
+ * @param columnId    owning column after the change (cards only, {@code null} otherwise)
+ * @param name        board/column name or card title; {@code null} for deletions
+ * @param description board/card description; {@code null} for columns and deletions
+ * @param position    column/card position; {@code null} for boards and deletions
+ * @param changedAt   when the change set was persisted
+ */
+public record BoardChange(long version, Entity entity, Type type, UUID entityId, UUID columnId,
+                          String name, String description, Integer position, Instant changedAt) {
+
+    public enum Entity { BOARD, COLUMN, CARD }
+
+    public enum Type { CREATED, UPDATED, MOVED, DELETED }
+
+    public BoardChange {
+        if (entity == null || type == null || entityId == null) {
+            throw new IllegalArgumentException("Change entity, type and id must not be null");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.todokanban.domain.model;
+
+import java.util.List;
+
+/**
+ * Changes of one board since a client-known version.
+ *
+ * <p>If {@code reloadRequired} is {@code true} the requested history is no longer
+ * available (compacted, or the client is ahead of the server) and the client must
+ * fetch the full board. Otherwise applying {@code changes} moves the client from
+ * {@code since} to {@code version}; when {@code hasMore} is set it should ask again
+ * with {@code since = version}.</p>
+ *
+ * <p>Pure Java 21 – no framework dependencies.</p>
+ */
+public record BoardChangeFeed(BoardId boardId, long since, long version,
+                              boolean reloadRequired, boolean hasMore, List<BoardChange> changes) {
+
+    public BoardChangeFeed {
+        if (boardId == null) {
+            throw new IllegalArgumentException("BoardId must not be null");
+        }
+        changes = List.copyOf(changes);
+    }
+
+    /** History since {@code since} is gone; the client must reload the full board at {@code version}. */
+    public static BoardChangeFeed reloadRequired(BoardId boardId, long since, long version) {
+        return new BoardChangeFeed(boardId, since, version, true, false, List.of());
+    }
+}
@@ -0,0 +1,20 @@
+package com.todokanban.domain.model;
+
+import java.time.Instant;
+
+/**
+ * A saved board template: a board kept only as a source for clones.
+ *
+ * <p>Templates are stored like boards, but they never appear in workspace board
+ * listings. New boards are created from them by cloning.
+ * Pure Java 21 – no framework dependencies.</p>
+ */
+public record BoardTemplate(BoardId id, WorkspaceId workspaceId, String name,
+                            String description, Instant createdAt) {
+
+    public BoardTemplate {
+        if (id == null || workspaceId == null) {
+            throw new IllegalArgumentException("Board template ids must not be null");
+        }
+    }
+}
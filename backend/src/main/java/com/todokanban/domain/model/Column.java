@@ -79,6 +79,14 @@ public final class Column {
         return findCard(cardId).isPresent();
     }
 
+    /**
+     * Position for a card appended at the end. Based on the highest position rather than
+     * the card count, because archiving leaves gaps in the sequence.
+     */
+    public int nextPosition() {
+        return cards.stream().mapToInt(Card::getPosition).max().orElse(-1) + 1;
+    }
+
     public void updateName(String newName) {
         if (newName == null || newName.isBlank()) {
             throw new IllegalArgumentException("Column name must not be blank");
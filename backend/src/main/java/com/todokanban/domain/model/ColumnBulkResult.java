@@ -0,0 +1,20 @@
+package com.todokanban.domain.model;
+
+/**
+ * Outcome of a bulk column operation (clear, move all cards).
+ *
+ * <p>Bulk operations do not record per-card history: {@code version} is the board's
+ * new version and the history before it is cut off, so change-feed clients reload
+ * the full board once.
+ * Pure Java 21 – no framework dependencies.</p>
+ *
+ * @param affectedCards number of cards deleted or moved
+ */
+public record ColumnBulkResult(BoardId boardId, long version, int affectedCards) {
+
+    public ColumnBulkResult {
+        if (boardId == null) {
+            throw new IllegalArgumentException("BoardId must not be null");
+        }
+    }
+}
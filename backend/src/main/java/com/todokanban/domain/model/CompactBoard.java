@@ -0,0 +1,317 @@
+package com.todokanban.domain.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable, read-only snapshot of a {@link Board} in a compact, array-backed layout.
+ *
+ * <p>Meant for boards that are held for a long time (caches, resident stores).
+ * Every column and card field lives in one parallel primitive array per field instead
+ * of an object graph:</p>
+ * <ul>
+ *   <li>IDs are two {@code long}s (most/least significant bits).</li>
+ *   <li>Timestamps are epoch microseconds, the precision Postgres stores.</li>
+ *   <li>Names, titles and descriptions are indexes into one deduplicated string
+ *       table ({@code -1} is {@code null}).</li>
+ *   <li>Cards of all columns share the card arrays. Column {@code c} owns the cards
+ *       {@code [cardStart[c], cardStart[c + 1])}.</li>
+ * </ul>
+ *
+ * <p>A card costs about 60 bytes plus its unique strings. The object form costs
+ * several hundred: a {@code Card}, a {@code CardId}, a {@code UUID}, two
+ * {@code Instant}s and an {@code ArrayList} slot.</p>
+ *
+ * <p>Convert with {@link #of(Board)} and {@link #toBoard()}. Serialize with
+ * {@link #writeTo(DataOutput)} and {@link #readFrom(DataInput)}.</p>
+ *
+ * <p>Pure Java 21 – no framework dependencies.</p>
+ */
+public final class CompactBoard {
+
+    private static final int NULL_STRING = -1;
+    private static final long NULL_INSTANT = Long.MIN_VALUE;
+
+    private final long idMsb, idLsb;
+    private final long workspaceMsb, workspaceLsb;
+    private final int name, description;
+    private final long createdAt, updatedAt;
+    private final long version;
+
+    private final long[] columnIdMsb, columnIdLsb;
+    private final int[] columnName, columnPosition;
+    private final long[] columnCreatedAt, columnUpdatedAt;
+    /** {@code columnCount + 1} entries; the last one is the card count. */
+    private final int[] cardStart;
+
+    private final long[] cardIdMsb, cardIdLsb;
+    private final int[] cardTitle, cardDescription, cardPosition;
+    private final long[] cardCreatedAt, cardUpdatedAt;
+
+    private final String[] strings;
+
+    private CompactBoard(long idMsb, long idLsb, long workspaceMsb, long workspaceLsb,
+                         int name, int description, long createdAt, long updatedAt, long version,
+                         long[] columnIdMsb, long[] columnIdLsb, int[] columnName, int[] columnPosition,
+                         long[] columnCreatedAt, long[] columnUpdatedAt, int[] cardStart,
+                         long[] cardIdMsb, long[] cardIdLsb, int[] cardTitle, int[] cardDescription,
+                         int[] cardPosition, long[] cardCreatedAt, long[] cardUpdatedAt, String[] strings) {
+        this.idMsb = idMsb;
+        this.idLsb = idLsb;
+        this.workspaceMsb = workspaceMsb;
+        this.workspaceLsb = workspaceLsb;
+        this.name = name;
+        this.description = description;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+        this.columnIdMsb = columnIdMsb;
+        this.columnIdLsb = columnIdLsb;
+        this.columnName = columnName;
+        this.columnPosition = columnPosition;
+        this.columnCreatedAt = columnCreatedAt;
+        this.columnUpdatedAt = columnUpdatedAt;
+        this.cardStart = cardStart;
+        this.cardIdMsb = cardIdMsb;
+        this.cardIdLsb = cardIdLsb;
+        this.cardTitle = cardTitle;
+        this.cardDescription = cardDescription;
+        this.cardPosition = cardPosition;
+        this.cardCreatedAt = cardCreatedAt;
+        this.cardUpdatedAt = cardUpdatedAt;
+        this.strings = strings;
+    }
+
+    /** Snapshots {@code board}; later changes to the aggregate are not reflected. */
+    public static CompactBoard of(Board board) {
+        List<Column> columns = board.getColumns();
+        int columnCount = columns.size();
+        int cardCount = columns.stream().mapToInt(c -> c.getCards().size()).sum();
+        StringTable strings = new StringTable();
+
+        long[] columnIdMsb = new long[columnCount], columnIdLsb = new long[columnCount];
+        int[] columnName = new int[columnCount], columnPosition = new int[columnCount];
+        long[] columnCreatedAt = new long[columnCount], columnUpdatedAt = new long[columnCount];
+        int[] cardStart = new int[columnCount + 1];
+
+        long[] cardIdMsb = new long[cardCount], cardIdLsb = new long[cardCount];
+        int[] cardTitle = new int[cardCount], cardDescription = new int[cardCount];
+        int[] cardPosition = new int[cardCount];
+        long[] cardCreatedAt = new long[cardCount], cardUpdatedAt = new long[cardCount];
+
+        int k = 0;
+        for (int c = 0; c < columnCount; c++) {
+            Column column = columns.get(c);
+            columnIdMsb[c] = column.getId().value().getMostSignificantBits();
+            columnIdLsb[c] = column.getId().value().getLeastSignificantBits();
+            columnName[c] = strings.index(column.getName());
+            columnPosition[c] = column.getPosition();
+            columnCreatedAt[c] = micros(column.getCreatedAt());
+            columnUpdatedAt[c] = micros(column.getUpdatedAt());
+            cardStart[c] = k;
+            for (Card card : column.getCards()) {
+                cardIdMsb[k] = card.getId().value().getMostSignificantBits();
+                cardIdLsb[k] = card.getId().value().getLeastSignificantBits();
+                cardTitle[k] = strings.index(card.getTitle());
+                cardDescription[k] = strings.index(card.getDescription());
+                cardPosition[k] = card.getPosition();
+                cardCreatedAt[k] = micros(card.getCreatedAt());
+                cardUpdatedAt[k] = micros(card.getUpdatedAt());
+                k++;
+            }
+        }
+        cardStart[columnCount] = k;
+
+        return new CompactBoard(
+                board.getId().value().getMostSignificantBits(), board.getId().value().getLeastSignificantBits(),
+                board.getWorkspaceId().value().getMostSignificantBits(),
+                board.getWorkspaceId().value().getLeastSignificantBits(),
+                strings.index(board.getName()), strings.index(board.getDescription()),
+                micros(board.getCreatedAt()), micros(board.getUpdatedAt()), board.getVersion(),
+                columnIdMsb, columnIdLsb, columnName, columnPosition, columnCreatedAt, columnUpdatedAt, cardStart,
+                cardIdMsb, cardIdLsb, cardTitle, cardDescription, cardPosition, cardCreatedAt, cardUpdatedAt,
+                strings.toArray());
+    }
+
+    /** Builds a new, independent {@link Board} aggregate from this snapshot. */
+    public Board toBoard() {
+        List<Column> columns = new ArrayList<>(columnCount());
+        for (int c = 0; c < columnCount(); c++) {
+            List<Card> cards = new ArrayList<>(cardStart[c + 1] - cardStart[c]);
+            for (int k = cardStart[c]; k < cardStart[c + 1]; k++) {
+                cards.add(Card.reconstitute(new CardId(new UUID(cardIdMsb[k], cardIdLsb[k])),
+                        string(cardTitle[k]), string(cardDescription[k]), cardPosition[k],
+                        instant(cardCreatedAt[k]), instant(cardUpdatedAt[k])));
+            }
+            columns.add(Column.reconstitute(new ColumnId(new UUID(columnIdMsb[c], columnIdLsb[c])),
+                    string(columnName[c]), columnPosition[c], cards,
+                    instant(columnCreatedAt[c]), instant(columnUpdatedAt[c])));
+        }
+        return Board.reconstitute(getId(), getWorkspaceId(), string(name), string(description), columns,
+                instant(createdAt), instant(updatedAt), version);
+    }
+
+    // ── Read access ───────────────────────────────────────────────────────────
+
+    public BoardId getId()              { return new BoardId(new UUID(idMsb, idLsb)); }
+    public WorkspaceId getWorkspaceId() { return new WorkspaceId(new UUID(workspaceMsb, workspaceLsb)); }
+    public String getName()             { return string(name); }
+    public long getVersion()            { return version; }
+    public int columnCount()            { return cardStart.length - 1; }
+    public int cardCount()              { return cardStart[cardStart.length - 1]; }
+
+    /** Number of cards in the column at {@code index} (board order). */
+    public int cardCount(int column) {
+        return cardStart[column + 1] - cardStart[column];
+    }
+
+    // ── Serialization ─────────────────────────────────────────────────────────
+
+    /** Writes the snapshot as-is: the string table once, then the arrays. */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(idMsb);
+        out.writeLong(idLsb);
+        out.writeLong(workspaceMsb);
+        out.writeLong(workspaceLsb);
+        out.writeInt(name);
+        out.writeInt(description);
+        out.writeLong(createdAt);
+        out.writeLong(updatedAt);
+        out.writeLong(version);
+
+        out.writeInt(strings.length);
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(columnCount());
+        writeLongs(out, columnIdMsb);
+        writeLongs(out, columnIdLsb);
+        writeInts(out, columnName);
+        writeInts(out, columnPosition);
+        writeLongs(out, columnCreatedAt);
+        writeLongs(out, columnUpdatedAt);
+        writeInts(out, cardStart);
+
+        out.writeInt(cardCount());
+        writeLongs(out, cardIdMsb);
+        writeLongs(out, cardIdLsb);
+        writeInts(out, cardTitle);
+        writeInts(out, cardDescription);
+        writeInts(out, cardPosition);
+        writeLongs(out, cardCreatedAt);
+        writeLongs(out, cardUpdatedAt);
+    }
+
+    /** Reads a snapshot written by {@link #writeTo(DataOutput)}. */
+    public static CompactBoard readFrom(DataInput in) throws IOException {
+        long idMsb = in.readLong(), idLsb = in.readLong();
+        long workspaceMsb = in.readLong(), workspaceLsb = in.readLong();
+        int name = in.readInt(), description = in.readInt();
+        long createdAt = in.readLong(), updatedAt = in.readLong();
+        long version = in.readLong();
+
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int columns = in.readInt();
+        long[] columnIdMsb = readLongs(in, columns), columnIdLsb = readLongs(in, columns);
+        int[] columnName = readInts(in, columns), columnPosition = readInts(in, columns);
+        long[] columnCreatedAt = readLongs(in, columns), columnUpdatedAt = readLongs(in, columns);
+        int[] cardStart = readInts(in, columns + 1);
+
+        int cards = in.readInt();
+        long[] cardIdMsb = readLongs(in, cards), cardIdLsb = readLongs(in, cards);
+        int[] cardTitle = readInts(in, cards), cardDescription = readInts(in, cards);
+        int[] cardPosition = readInts(in, cards);
+        long[] cardCreatedAt = readLongs(in, cards), cardUpdatedAt = readLongs(in, cards);
+
+        return new CompactBoard(idMsb, idLsb, workspaceMsb, workspaceLsb, name, description,
+                createdAt, updatedAt, version,
+                columnIdMsb, columnIdLsb, columnName, columnPosition, columnCreatedAt, columnUpdatedAt, cardStart,
+                cardIdMsb, cardIdLsb, cardTitle, cardDescription, cardPosition, cardCreatedAt, cardUpdatedAt,
+                strings);
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private String string(int index) {
+        return index == NULL_STRING ? null : strings[index];
+    }
+
+    private static long micros(Instant instant) {
+        if (instant == null) {
+            return NULL_INSTANT;
+        }
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant instant(long micros) {
+        if (micros == NULL_INSTANT) {
+            return null;
+        }
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static void writeLongs(DataOutput out, long[] values) throws IOException {
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static void writeInts(DataOutput out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static long[] readLongs(DataInput in, int count) throws IOException {
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
+
+    private static int[] readInts(DataInput in, int count) throws IOException {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    /** Assigns each distinct string one slot. */
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int index(String value) {
+            if (value == null) {
+                return NULL_STRING;
+            }
+            return indexes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        String[] toArray() {
+            return values.toArray(String[]::new);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.todokanban.domain.model;
+
+import java.util.List;
+
+/**
+ * Read model for the workspace dashboard: every board of a workspace with the
+ * number of cards in each of its columns.
+ *
+ * <p>Built from maintained counters, never by loading the {@link Board} aggregates.
+ * Pure Java 21 – no framework dependencies.</p>
+ */
+public record WorkspaceDashboard(WorkspaceId workspaceId, List<BoardSummary> boards) {
+
+    public WorkspaceDashboard {
+        if (workspaceId == null) {
+            throw new IllegalArgumentException("WorkspaceId must not be null");
+        }
+        boards = List.copyOf(boards);
+    }
+
+    /** One board and its columns in board order. */
+    public record BoardSummary(BoardId boardId, String name, List<ColumnCount> columns) {
+
+        public BoardSummary {
+            columns = List.copyOf(columns);
+        }
+
+        public long totalCards() {
+            return columns.stream().mapToLong(ColumnCount::cardCount).sum();
+        }
+    }
+
+    /** Number of cards currently in one column. */
+    public record ColumnCount(ColumnId columnId, String name, int position, long cardCount) {}
+}
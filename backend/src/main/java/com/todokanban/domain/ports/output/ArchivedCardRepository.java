@@ -0,0 +1,41 @@
+package com.todokanban.domain.ports.output;
+
+import com.todokanban.domain.model.ArchivedCard;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.CardId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port (secondary port) for archived cards.
+ *
+ * <p>Cards are moved into the archive by a background job in the infrastructure
+ * layer; the application only reads and restores them.
+ * Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface ArchivedCardRepository {
+
+    /**
+     * Lists archived cards of a board, most recently archived first.
+     *
+     * @param boardId the board identifier
+     * @param search  full-text filter on title and description, or {@code null} for all
+     * @param limit   maximum number of cards to return
+     * @param offset  number of cards to skip
+     * @return matching archived cards, possibly empty
+     */
+    List<ArchivedCard> findByBoardId(BoardId boardId, String search, int limit, int offset);
+
+    /**
+     * Finds one archived card of a board.
+     *
+     * @return the archived card, or empty if it is not in the archive
+     */
+    Optional<ArchivedCard> findById(BoardId boardId, CardId cardId);
+
+    /**
+     * Removes a card from the archive (after it has been restored).
+     */
+    void delete(BoardId boardId, CardId cardId);
+}
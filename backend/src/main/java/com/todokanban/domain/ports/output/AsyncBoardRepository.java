@@ -0,0 +1,39 @@
+package com.todokanban.domain.ports.output;
+
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardId;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking output port for Board persistence: the {@link BoardRepository} semantics
+ * with results delivered as {@link CompletableFuture}s, so no caller thread waits on I/O.
+ *
+ * <p>Writes are expressed as a mutation of the stored aggregate rather than a save of a
+ * caller-held copy: the implementation loads, mutates and persists under the board's
+ * lock, in one transaction.
+ * Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface AsyncBoardRepository {
+
+    /**
+     * Finds a board with its columns and cards.
+     *
+     * @param id the board identifier
+     * @return completes with the board, or empty if not found
+     */
+    CompletableFuture<Optional<Board>> findById(BoardId id);
+
+    /**
+     * Applies {@code mutation} to the stored board and persists the result.
+     *
+     * @param id       the board identifier
+     * @param mutation the change, run against the freshly loaded aggregate
+     * @return completes with the updated board (carrying its new version); completes
+     *         exceptionally with {@link java.util.NoSuchElementException} if the board does
+     *         not exist, or with the mutation's exception, in which case nothing is written
+     */
+    CompletableFuture<Board> update(BoardId id, Consumer<Board> mutation);
+}
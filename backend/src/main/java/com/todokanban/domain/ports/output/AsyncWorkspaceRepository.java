@@ -0,0 +1,32 @@
+package com.todokanban.domain.ports.output;
+
+import com.todokanban.domain.model.Workspace;
+import com.todokanban.domain.model.WorkspaceId;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking output port for Workspace reads: the {@link WorkspaceRepository} query
+ * semantics with results delivered as {@link CompletableFuture}s.
+ *
+ * <p>Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface AsyncWorkspaceRepository {
+
+    /**
+     * Finds a workspace by its unique identifier.
+     *
+     * @param id the workspace identifier
+     * @return completes with the workspace, or empty if not found
+     */
+    CompletableFuture<Optional<Workspace>> findById(WorkspaceId id);
+
+    /**
+     * Returns all workspaces in the system.
+     *
+     * @return completes with all workspaces, possibly none
+     */
+    CompletableFuture<List<Workspace>> findAll();
+}
@@ -0,0 +1,27 @@
+package com.todokanban.domain.ports.output;
+
+import com.todokanban.domain.model.BoardChangeFeed;
+import com.todokanban.domain.model.BoardId;
+
+import java.util.Optional;
+
+/**
+ * Output port (secondary port) for reading a board's change history.
+ *
+ * <p>Changes are written by the {@link BoardRepository} implementation as part of
+ * each save, so history and board state always commit together.
+ * Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface BoardChangeRepository {
+
+    /**
+     * Returns the changes recorded after version {@code since}, covering at most
+     * {@code maxVersions} versions.
+     *
+     * @param boardId     the board identifier
+     * @param since       the last version the client has applied
+     * @param maxVersions upper bound on the number of versions returned
+     * @return the feed, or empty if the board does not exist
+     */
+    Optional<BoardChangeFeed> findSince(BoardId boardId, long since, int maxVersions);
+}
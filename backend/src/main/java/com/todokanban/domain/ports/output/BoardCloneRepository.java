@@ -0,0 +1,40 @@
+package com.todokanban.domain.ports.output;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.BoardTemplate;
+import com.todokanban.domain.model.WorkspaceId;
+
+import java.util.List;
+
+/**
+ * Output port (secondary port) for copying whole boards and listing templates.
+ *
+ * <p>Copies are made in the persistence layer, without loading the {@link
+ * com.todokanban.domain.model.Board} aggregate, so their cost does not grow with
+ * per-card round-trips.
+ * Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface BoardCloneRepository {
+
+    /**
+     * Copies a board, its columns and optionally its cards under fresh identifiers.
+     *
+     * @param sourceId     the board to copy
+     * @param targetId     the identifier of the new board
+     * @param workspaceId  the workspace of the new board, or {@code null} for the source's
+     * @param name         the name of the new board, or {@code null} for the source's
+     * @param includeCards whether cards are copied as well
+     * @param template     whether the new board is saved as a template
+     * @return {@code false} if the source board does not exist
+     */
+    boolean cloneBoard(BoardId sourceId, BoardId targetId, WorkspaceId workspaceId, String name,
+                       boolean includeCards, boolean template);
+
+    /**
+     * Returns the templates of a workspace, oldest first.
+     *
+     * @param workspaceId the workspace identifier
+     * @return templates, possibly empty
+     */
+    List<BoardTemplate> findTemplates(WorkspaceId workspaceId);
+}
@@ -33,7 +33,7 @@ public interface BoardRepository {
     Optional<Board> findById(BoardId id);
 
     /**
-     * Returns all boards belonging to a given workspace.
+     * Returns all boards belonging to a given workspace. Board templates are not included.
      *
      * @param workspaceId the workspace identifier
      * @return list of boards, possibly empty
@@ -49,9 +49,21 @@ public interface BoardRepository {
     boolean existsById(BoardId id);
 
     /**
-     * Removes a board by its identifier.
+     * Removes a board by its identifier, together with its columns, cards and history,
+     * without loading the aggregate.
      *
      * @param id the board identifier
      */
     void deleteById(BoardId id);
+
+    /**
+     * Makes everything saved for a board durable in the database and forgets any copy
+     * held elsewhere. Writers that change a board's rows directly, bypassing
+     * {@link #save}, call this first, so that an older copy is neither served nor
+     * written back over their change. Stores that write through have nothing to do.
+     *
+     * @param id the board identifier
+     */
+    default void flushAndEvict(BoardId id) {
+    }
 }
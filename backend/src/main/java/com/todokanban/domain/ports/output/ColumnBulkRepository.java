@@ -0,0 +1,40 @@
+package com.todokanban.domain.ports.output;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnBulkResult;
+import com.todokanban.domain.model.ColumnId;
+
+import java.util.Optional;
+
+/**
+ * Output port (secondary port) for column-wide operations that run as bulk statements
+ * instead of through the {@link com.todokanban.domain.model.Board} aggregate.
+ *
+ * <p>Every operation advances the board's version and cuts off its change history at
+ * that version. An empty result means a column is not on the board; the caller's
+ * transaction must then roll back.
+ * Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface ColumnBulkRepository {
+
+    /**
+     * Deletes a column and its cards; later columns move up one position.
+     *
+     * @return the result, or empty if the column is not on the board
+     */
+    Optional<ColumnBulkResult> deleteColumn(BoardId boardId, ColumnId columnId);
+
+    /**
+     * Deletes every card of a column.
+     *
+     * @return the result, or empty if the column is not on the board
+     */
+    Optional<ColumnBulkResult> clearColumn(BoardId boardId, ColumnId columnId);
+
+    /**
+     * Appends every card of {@code sourceId} to {@code targetId}, keeping their order.
+     *
+     * @return the result, or empty if either column is not on the board
+     */
+    Optional<ColumnBulkResult> moveAllCards(BoardId boardId, ColumnId sourceId, ColumnId targetId);
+}
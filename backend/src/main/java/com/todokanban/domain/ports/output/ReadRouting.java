@@ -0,0 +1,19 @@
+package com.todokanban.domain.ports.output;
+
+/**
+ * Output port (secondary port) exposing where the current caller's reads are served.
+ *
+ * <p>With read replicas, a caller who has just written reads from the primary until
+ * their write has replicated. Work shared between callers (e.g. a coalesced load)
+ * must only be shared between callers routed the same way.
+ * Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface ReadRouting {
+
+    /**
+     * Whether the current caller's reads must be served by the primary database.
+     *
+     * @return {@code true} if a replica might not yet show the caller's own writes
+     */
+    boolean requiresPrimary();
+}
@@ -0,0 +1,22 @@
+package com.todokanban.domain.ports.output;
+
+import com.todokanban.domain.model.WorkspaceDashboard;
+import com.todokanban.domain.model.WorkspaceId;
+
+/**
+ * Output port (secondary port) for the workspace dashboard read model.
+ *
+ * <p>Implementations answer from per-column counters kept up to date on every card
+ * write, so the cost grows with the number of boards and columns, not cards.
+ * Pure Java 21 – no JPA or Spring annotations.</p>
+ */
+public interface WorkspaceDashboardRepository {
+
+    /**
+     * Returns card counts per column for every board of a workspace.
+     *
+     * @param workspaceId the workspace identifier
+     * @return the dashboard; no boards if the workspace has none
+     */
+    WorkspaceDashboard findByWorkspaceId(WorkspaceId workspaceId);
+}
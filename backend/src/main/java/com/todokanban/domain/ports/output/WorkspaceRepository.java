@@ -47,7 +47,8 @@ public interface WorkspaceRepository {
     boolean existsById(WorkspaceId id);
 
     /**
-     * Removes a workspace by its identifier.
+     * Removes a workspace by its identifier, together with all of its boards,
+     * without loading any aggregate.
      *
      * @param id the workspace identifier
      */
@@ -0,0 +1,163 @@
+package com.todokanban.infrastructure.adapter.in.grpc;
+
+import com.google.protobuf.Timestamp;
+import com.todokanban.application.ports.input.*;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateBoardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateColumnRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateWorkspaceRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.DeleteCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.MoveCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.UpdateCardRequest;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Static mapper between protobuf messages and application/domain objects – the gRPC
+ * counterpart of {@code RestMapper}. No Spring injection — pure utility class.
+ *
+ * <p>Proto3 has no null strings: an empty optional text field (a description) maps to
+ * {@code null}, and a {@code null} domain value is sent as the empty string. A malformed
+ * id is an {@link IllegalArgumentException}, i.e. {@code INVALID_ARGUMENT}.</p>
+ */
+public final class GrpcMapper {
+
+    private GrpcMapper() {}
+
+    // ── Message → Command ─────────────────────────────────────────────────────
+
+    public static CreateWorkspaceCommand toCommand(CreateWorkspaceRequest request) {
+        return new CreateWorkspaceCommand(request.getName(), optional(request.getDescription()));
+    }
+
+    public static CreateBoardCommand toCommand(CreateBoardRequest request) {
+        return new CreateBoardCommand(
+                new WorkspaceId(uuid(request.getWorkspaceId(), "workspace_id")),
+                request.getName(),
+                optional(request.getDescription()));
+    }
+
+    public static CreateColumnCommand toCommand(CreateColumnRequest request) {
+        return new CreateColumnCommand(
+                boardId(request.getBoardId()),
+                request.getName(),
+                request.getPosition());
+    }
+
+    public static CreateCardCommand toCommand(CreateCardRequest request) {
+        return new CreateCardCommand(
+                boardId(request.getBoardId()),
+                new ColumnId(uuid(request.getColumnId(), "column_id")),
+                request.getTitle(),
+                optional(request.getDescription()));
+    }
+
+    public static UpdateCardCommand toCommand(UpdateCardRequest request) {
+        return new UpdateCardCommand(
+                boardId(request.getBoardId()),
+                new ColumnId(uuid(request.getColumnId(), "column_id")),
+                new CardId(uuid(request.getCardId(), "card_id")),
+                request.getTitle(),
+                optional(request.getDescription()));
+    }
+
+    public static MoveCardCommand toCommand(MoveCardRequest request) {
+        return new MoveCardCommand(
+                boardId(request.getBoardId()),
+                new CardId(uuid(request.getCardId(), "card_id")),
+                new ColumnId(uuid(request.getSourceColumnId(), "source_column_id")),
+                new ColumnId(uuid(request.getTargetColumnId(), "target_column_id")));
+    }
+
+    public static DeleteCardCommand toCommand(DeleteCardRequest request) {
+        return new DeleteCardCommand(
+                boardId(request.getBoardId()),
+                new ColumnId(uuid(request.getColumnId(), "column_id")),
+                new CardId(uuid(request.getCardId(), "card_id")));
+    }
+
+    public static BoardId boardId(String value) {
+        return new BoardId(uuid(value, "board_id"));
+    }
+
+    // ── Domain → Message ──────────────────────────────────────────────────────
+
+    public static com.todokanban.infrastructure.adapter.in.grpc.proto.Workspace toMessage(Workspace workspace) {
+        return com.todokanban.infrastructure.adapter.in.grpc.proto.Workspace.newBuilder()
+                .setId(workspace.getId().value().toString())
+                .setName(workspace.getName())
+                .setDescription(text(workspace.getDescription()))
+                .setCreatedAt(timestamp(workspace.getCreatedAt()))
+                .setUpdatedAt(timestamp(workspace.getUpdatedAt()))
+                .build();
+    }
+
+    public static com.todokanban.infrastructure.adapter.in.grpc.proto.Board toMessage(Board board) {
+        var message = com.todokanban.infrastructure.adapter.in.grpc.proto.Board.newBuilder()
+                .setId(board.getId().value().toString())
+                .setWorkspaceId(board.getWorkspaceId().value().toString())
+                .setName(board.getName())
+                .setDescription(text(board.getDescription()))
+                .setCreatedAt(timestamp(board.getCreatedAt()))
+                .setUpdatedAt(timestamp(board.getUpdatedAt()))
+                .setVersion(board.getVersion());
+        for (Column column : board.getColumns()) {
+            message.addColumns(toMessage(column));
+        }
+        return message.build();
+    }
+
+    public static com.todokanban.infrastructure.adapter.in.grpc.proto.Column toMessage(Column column) {
+        var message = com.todokanban.infrastructure.adapter.in.grpc.proto.Column.newBuilder()
+                .setId(column.getId().value().toString())
+                .setName(column.getName())
+                .setPosition(column.getPosition())
+                .setCreatedAt(timestamp(column.getCreatedAt()))
+                .setUpdatedAt(timestamp(column.getUpdatedAt()));
+        for (Card card : column.getCards()) {
+            message.addCards(toMessage(card));
+        }
+        return message.build();
+    }
+
+    public static com.todokanban.infrastructure.adapter.in.grpc.proto.Card toMessage(Card card) {
+        return com.todokanban.infrastructure.adapter.in.grpc.proto.Card.newBuilder()
+                .setId(card.getId().value().toString())
+                .setTitle(card.getTitle())
+                .setDescription(text(card.getDescription()))
+                .setPosition(card.getPosition())
+                .setCreatedAt(timestamp(card.getCreatedAt()))
+                .setUpdatedAt(timestamp(card.getUpdatedAt()))
+                .build();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static UUID uuid(String value, String field) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("%s must be a UUID, got '%s'".formatted(field, value));
+        }
+    }
+
+    private static String optional(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String text(String value) {
+        return value != null ? value : "";
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        if (instant == null) {
+            return Timestamp.getDefaultInstance();
+        }
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+}
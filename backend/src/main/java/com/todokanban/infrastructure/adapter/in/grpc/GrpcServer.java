@@ -0,0 +1,90 @@
+package com.todokanban.infrastructure.adapter.in.grpc;
+
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server in the application's JVM, next to the servlet container, on its
+ * own port. Enabled with {@code kanban.grpc.enabled=true}.
+ *
+ * <p>Calls run on virtual threads: the use cases block on JDBC, and a virtual thread per
+ * call keeps slow calls from starving the transport's event loop or each other.</p>
+ *
+ * <p>Shutdown stops accepting calls, gives running ones {@code shutdown-grace} to finish
+ * (a command stream finishes the command it is applying), then cancels the rest.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.grpc.enabled", havingValue = "true")
+public class GrpcServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcServer.class);
+
+    private final Server server;
+    private final ExecutorService executor;
+    private final Duration shutdownGrace;
+    private volatile boolean running;
+
+    public GrpcServer(KanbanGrpcService service,
+                      JwtAuthenticationInterceptor authentication,
+                      @Value("${kanban.grpc.port:9090}") int port,
+                      @Value("${kanban.grpc.max-inbound-message-size:4MB}") DataSize maxInboundMessageSize,
+                      @Value("${kanban.grpc.max-concurrent-calls-per-connection:100}") int maxConcurrentCalls,
+                      @Value("${kanban.grpc.shutdown-grace:PT10S}") Duration shutdownGrace) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("grpc-", 0).factory());
+        this.shutdownGrace = shutdownGrace;
+        this.server = NettyServerBuilder.forPort(port)
+                .addService(ServerInterceptors.intercept(service, authentication))
+                .executor(executor)
+                .maxInboundMessageSize(Math.toIntExact(maxInboundMessageSize.toBytes()))
+                .maxConcurrentCallsPerConnection(maxConcurrentCalls)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the gRPC server", e);
+        }
+        running = true;
+        log.info("gRPC server listening on port {}", server.getPort());
+    }
+
+    @Override
+    public void stop() {
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("gRPC calls still running after {}, cancelling them", shutdownGrace);
+                server.shutdownNow().awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        } finally {
+            executor.shutdownNow();
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
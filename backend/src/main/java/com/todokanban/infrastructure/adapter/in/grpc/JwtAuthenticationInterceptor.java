@@ -0,0 +1,111 @@
+package com.todokanban.infrastructure.adapter.in.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Validates the {@code authorization: Bearer <jwt>} metadata of every gRPC call with
+ * the same {@link JwtDecoder} (signing keys, issuer, expiry) as the REST security chain.
+ *
+ * <p>Interceptors run once per call, so a client stream is authenticated once when it
+ * opens, however many messages follow. The token's subject is available to handlers
+ * as {@link #SUBJECT}. A missing or invalid token closes the call with
+ * {@code UNAUTHENTICATED} before the service sees it.</p>
+ *
+ * <p>Every listener callback of the call also runs with the token as the
+ * {@link SecurityContextHolder} authentication, as it would behind the REST security
+ * chain, and the context is cleared afterwards. Code that looks there for the caller –
+ * such as the read-your-writes routing of {@code ReplicaRoutingDataSource} – then
+ * treats gRPC and REST calls alike.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.grpc.enabled", havingValue = "true")
+public class JwtAuthenticationInterceptor implements ServerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationInterceptor.class);
+
+    static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /** The authenticated JWT subject of the current call. */
+    public static final Context.Key<String> SUBJECT = Context.key("kanban-subject");
+
+    private final JwtDecoder jwtDecoder;
+
+    public JwtAuthenticationInterceptor(JwtDecoder jwtDecoder) {
+        this.jwtDecoder = jwtDecoder;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                       ServerCallHandler<Q, R> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return reject(call, "Missing bearer token");
+        }
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(authorization.substring(BEARER_PREFIX.length()).strip());
+        } catch (JwtException e) {
+            log.debug("Rejected gRPC call {}: {}", call.getMethodDescriptor().getFullMethodName(), e.getMessage());
+            return reject(call, "Invalid bearer token");
+        }
+        Context context = Context.current().withValue(SUBJECT, jwt.getSubject());
+        return new AuthenticatedListener<>(Contexts.interceptCall(context, call, headers, next),
+                new JwtAuthenticationToken(jwt, List.of()));
+    }
+
+    /** Binds the call's authentication to the thread for the length of each callback. */
+    private static final class AuthenticatedListener<Q>
+            extends ForwardingServerCallListener.SimpleForwardingServerCallListener<Q> {
+
+        private final Authentication authentication;
+
+        AuthenticatedListener(ServerCall.Listener<Q> delegate, Authentication authentication) {
+            super(delegate);
+            this.authentication = authentication;
+        }
+
+        @Override public void onMessage(Q message) { run(() -> super.onMessage(message)); }
+        @Override public void onHalfClose()        { run(super::onHalfClose); }
+        @Override public void onCancel()           { run(super::onCancel); }
+        @Override public void onComplete()         { run(super::onComplete); }
+        @Override public void onReady()            { run(super::onReady); }
+
+        private void run(Runnable callback) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+            try {
+                callback.run();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+
+    private static <Q, R> ServerCall.Listener<Q> reject(ServerCall<Q, R> call, String description) {
+        call.close(Status.UNAUTHENTICATED.withDescription(description), new Metadata());
+        return new ServerCall.Listener<>() {};
+    }
+}
@@ -0,0 +1,254 @@
+package com.todokanban.infrastructure.adapter.in.grpc;
+
+import com.google.protobuf.Empty;
+import com.todokanban.application.ports.input.*;
+import com.todokanban.application.usecase.MutationTimeoutException;
+import com.todokanban.domain.model.Board;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.ApplyCommandsResponse;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CardCommand;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CommandFailure;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateBoardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateColumnRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CreateWorkspaceRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.DeleteCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.GetBoardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.GetWorkspacesRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.KanbanServiceGrpc;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.MoveCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.UpdateCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.WorkspaceList;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+/**
+ * gRPC input adapter: the {@code KanbanService} of {@code kanban/v1/kanban.proto}.
+ *
+ * <p>No business logic – like the REST controllers it maps messages with
+ * {@link GrpcMapper} and delegates to the use-case ports. Exceptions map to status
+ * codes the way {@code GlobalExceptionHandler} maps them to HTTP statuses.</p>
+ *
+ * <p>{@code ApplyCommands} uses manual inbound flow control: it requests one message,
+ * applies it, and only then requests the next. Commands on a board therefore apply in
+ * stream order, and an unread backlog stays in the client's HTTP/2 window rather than in
+ * server memory. Moves and updates still group-commit with concurrent writers of the
+ * same board in the {@code BoardMutationExecutor}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.grpc.enabled", havingValue = "true")
+public class KanbanGrpcService extends KanbanServiceGrpc.KanbanServiceImplBase {
+
+    private static final Logger log = LoggerFactory.getLogger(KanbanGrpcService.class);
+
+    /** Failures listed in an {@link ApplyCommandsResponse}; later ones are only counted. */
+    static final int MAX_REPORTED_FAILURES = 1000;
+
+    private final GetWorkspacesUseCase   getWorkspacesUseCase;
+    private final CreateWorkspaceUseCase createWorkspaceUseCase;
+    private final GetBoardUseCase        getBoardUseCase;
+    private final CreateBoardUseCase     createBoardUseCase;
+    private final CreateColumnUseCase    createColumnUseCase;
+    private final CreateCardUseCase      createCardUseCase;
+    private final UpdateCardUseCase      updateCardUseCase;
+    private final MoveCardUseCase        moveCardUseCase;
+    private final DeleteCardUseCase      deleteCardUseCase;
+
+    public KanbanGrpcService(GetWorkspacesUseCase getWorkspacesUseCase,
+                             CreateWorkspaceUseCase createWorkspaceUseCase,
+                             GetBoardUseCase getBoardUseCase,
+                             CreateBoardUseCase createBoardUseCase,
+                             CreateColumnUseCase createColumnUseCase,
+                             CreateCardUseCase createCardUseCase,
+                             UpdateCardUseCase updateCardUseCase,
+                             MoveCardUseCase moveCardUseCase,
+                             DeleteCardUseCase deleteCardUseCase) {
+        this.getWorkspacesUseCase   = getWorkspacesUseCase;
+        this.createWorkspaceUseCase = createWorkspaceUseCase;
+        this.getBoardUseCase        = getBoardUseCase;
+        this.createBoardUseCase     = createBoardUseCase;
+        this.createColumnUseCase    = createColumnUseCase;
+        this.createCardUseCase      = createCardUseCase;
+        this.updateCardUseCase      = updateCardUseCase;
+        this.moveCardUseCase        = moveCardUseCase;
+        this.deleteCardUseCase      = deleteCardUseCase;
+    }
+
+    // ── Unary ─────────────────────────────────────────────────────────────────
+
+    @Override
+    public void getWorkspaces(GetWorkspacesRequest request, StreamObserver<WorkspaceList> response) {
+        unary(response, () -> {
+            WorkspaceList.Builder list = WorkspaceList.newBuilder();
+            getWorkspacesUseCase.getWorkspaces().forEach(workspace -> list.addWorkspaces(GrpcMapper.toMessage(workspace)));
+            return list.build();
+        });
+    }
+
+    @Override
+    public void createWorkspace(CreateWorkspaceRequest request,
+                                StreamObserver<com.todokanban.infrastructure.adapter.in.grpc.proto.Workspace> response) {
+        unary(response, () -> GrpcMapper.toMessage(
+                createWorkspaceUseCase.createWorkspace(GrpcMapper.toCommand(request))));
+    }
+
+    @Override
+    public void getBoard(GetBoardRequest request,
+                         StreamObserver<com.todokanban.infrastructure.adapter.in.grpc.proto.Board> response) {
+        unary(response, () -> GrpcMapper.toMessage(
+                getBoardUseCase.getBoard(GrpcMapper.boardId(request.getBoardId()))));
+    }
+
+    @Override
+    public void createBoard(CreateBoardRequest request,
+                            StreamObserver<com.todokanban.infrastructure.adapter.in.grpc.proto.Board> response) {
+        unary(response, () -> GrpcMapper.toMessage(createBoardUseCase.createBoard(GrpcMapper.toCommand(request))));
+    }
+
+    @Override
+    public void createColumn(CreateColumnRequest request,
+                             StreamObserver<com.todokanban.infrastructure.adapter.in.grpc.proto.Board> response) {
+        unary(response, () -> GrpcMapper.toMessage(createColumnUseCase.createColumn(GrpcMapper.toCommand(request))));
+    }
+
+    @Override
+    public void createCard(CreateCardRequest request,
+                           StreamObserver<com.todokanban.infrastructure.adapter.in.grpc.proto.Board> response) {
+        unary(response, () -> GrpcMapper.toMessage(createCardUseCase.createCard(GrpcMapper.toCommand(request))));
+    }
+
+    @Override
+    public void updateCard(UpdateCardRequest request,
+                           StreamObserver<com.todokanban.infrastructure.adapter.in.grpc.proto.Board> response) {
+        unary(response, () -> GrpcMapper.toMessage(updateCardUseCase.updateCard(GrpcMapper.toCommand(request))));
+    }
+
+    @Override
+    public void moveCard(MoveCardRequest request,
+                         StreamObserver<com.todokanban.infrastructure.adapter.in.grpc.proto.Board> response) {
+        unary(response, () -> GrpcMapper.toMessage(moveCardUseCase.moveCard(GrpcMapper.toCommand(request))));
+    }
+
+    @Override
+    public void deleteCard(DeleteCardRequest request, StreamObserver<Empty> response) {
+        unary(response, () -> {
+            deleteCardUseCase.deleteCard(GrpcMapper.toCommand(request));
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    // ── Client streaming ──────────────────────────────────────────────────────
+
+    @Override
+    public StreamObserver<CardCommand> applyCommands(StreamObserver<ApplyCommandsResponse> response) {
+        ServerCallStreamObserver<ApplyCommandsResponse> call =
+                (ServerCallStreamObserver<ApplyCommandsResponse>) response;
+        call.disableAutoRequest();
+        call.request(1);
+        String subject = JwtAuthenticationInterceptor.SUBJECT.get();
+
+        return new StreamObserver<>() {
+            private final ApplyCommandsResponse.Builder result = ApplyCommandsResponse.newBuilder();
+            private long index;
+            private boolean failed;
+
+            @Override
+            public void onNext(CardCommand command) {
+                if (failed) {
+                    return;
+                }
+                try {
+                    Board board = apply(command);
+                    result.setApplied(result.getApplied() + 1)
+                            .putBoardVersions(board.getId().value().toString(), board.getVersion());
+                } catch (IllegalArgumentException | NoSuchElementException | MutationTimeoutException e) {
+                    result.setFailed(result.getFailed() + 1);
+                    if (result.getFailuresCount() < MAX_REPORTED_FAILURES) {
+                        result.addFailures(CommandFailure.newBuilder()
+                                .setIndex(index)
+                                .setCode(toStatus(e).getCode().name())
+                                .setMessage(String.valueOf(e.getMessage())));
+                    }
+                } catch (RuntimeException e) {
+                    failed = true;
+                    log.error("Command stream of '{}' aborted after {} applied command(s)",
+                            subject, result.getApplied(), e);
+                    response.onError(Status.INTERNAL
+                            .withDescription("Command %d failed unexpectedly; %d earlier command(s) were applied"
+                                    .formatted(index, result.getApplied()))
+                            .asRuntimeException());
+                    return;
+                }
+                index++;
+                call.request(1);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // Client cancelled or the transport failed: the commands applied so far stay applied
+                log.debug("Command stream of '{}' ended by the client after {} command(s): {}",
+                        subject, index, t.toString());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!failed) {
+                    response.onNext(result.build());
+                    response.onCompleted();
+                }
+            }
+        };
+    }
+
+    private Board apply(CardCommand command) {
+        return switch (command.getCommandCase()) {
+            case CREATE -> createCardUseCase.createCard(GrpcMapper.toCommand(command.getCreate()));
+            case UPDATE -> updateCardUseCase.updateCard(GrpcMapper.toCommand(command.getUpdate()));
+            case MOVE -> moveCardUseCase.moveCard(GrpcMapper.toCommand(command.getMove()));
+            case COMMAND_NOT_SET -> throw new IllegalArgumentException("Command must set create, update or move");
+        };
+    }
+
+    // ── Errors ────────────────────────────────────────────────────────────────
+
+    private static <T> void unary(StreamObserver<T> response, Supplier<T> call) {
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            response.onError(toStatus(e).asRuntimeException());
+            return;
+        }
+        response.onNext(result);
+        response.onCompleted();
+    }
+
+    /** Same mapping as {@code GlobalExceptionHandler}: 400 → INVALID_ARGUMENT, 404 → NOT_FOUND, else INTERNAL. */
+    static Status toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException status) {
+            return status.getStatus();
+        }
+        if (e instanceof IllegalArgumentException) {
+            log.warn("Bad request: {}", e.getMessage());
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        if (e instanceof NoSuchElementException) {
+            log.warn("Resource not found: {}", e.getMessage());
+            return Status.NOT_FOUND.withDescription(e.getMessage());
+        }
+        if (e instanceof MutationTimeoutException) {
+            log.warn("Mutation timed out: {}", e.getMessage());
+            return Status.UNAVAILABLE.withDescription(e.getMessage());
+        }
+        log.error("Unexpected error", e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred. Please try again later.");
+    }
+}
@@ -0,0 +1,71 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetArchivedCardsUseCase;
+import com.todokanban.application.ports.input.RestoreArchivedCardUseCase;
+import com.todokanban.domain.model.Board;
+import com.todokanban.infrastructure.adapter.in.rest.dto.ArchivedCardResponse;
+import com.todokanban.infrastructure.adapter.in.rest.dto.RestoreCardRequest;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST input adapter for archived cards.
+ *
+ * <pre>
+ * GET  /api/v1/boards/{boardId}/archived-cards?q=&amp;limit=&amp;offset=   → 200 OK + List&lt;ArchivedCardResponse&gt;
+ * POST /api/v1/boards/{boardId}/archived-cards/{cardId}/restore      → 200 OK + BoardResponse
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/v1/boards/{boardId}/archived-cards")
+public class ArchivedCardController {
+
+    private final GetArchivedCardsUseCase getArchivedCardsUseCase;
+    private final RestoreArchivedCardUseCase restoreArchivedCardUseCase;
+
+    public ArchivedCardController(GetArchivedCardsUseCase getArchivedCardsUseCase,
+                                  RestoreArchivedCardUseCase restoreArchivedCardUseCase) {
+        this.getArchivedCardsUseCase = getArchivedCardsUseCase;
+        this.restoreArchivedCardUseCase = restoreArchivedCardUseCase;
+    }
+
+    /**
+     * Lists a board's archived cards, most recently archived first.
+     *
+     * @param q optional full-text search on title and description
+     * @return 200 OK with one page of archived cards, or 404 if the board does not exist
+     */
+    @GetMapping
+    public ResponseEntity<List<ArchivedCardResponse>> getArchivedCards(
+            @PathVariable UUID boardId,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "0") int offset) {
+        List<ArchivedCardResponse> cards = getArchivedCardsUseCase
+                .getArchivedCards(RestMapper.toArchivedCardsQuery(boardId, q, limit, offset))
+                .stream()
+                .map(RestMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(cards);
+    }
+
+    /**
+     * Moves an archived card back onto the board, into its original column unless
+     * another one is given.
+     *
+     * @return 200 OK with the full updated board
+     */
+    @PostMapping("/{cardId}/restore")
+    public ResponseEntity<Board> restoreCard(
+            @PathVariable UUID boardId,
+            @PathVariable UUID cardId,
+            @RequestBody(required = false) RestoreCardRequest request) {
+        Board board = restoreArchivedCardUseCase
+                .restoreCard(RestMapper.toRestoreCommand(boardId, cardId, request));
+        return ResponseEntity.ok(board);
+    }
+}
@@ -0,0 +1,48 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetBoardChangesUseCase;
+import com.todokanban.domain.model.BoardChangeFeed;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.infrastructure.adapter.in.rest.dto.BoardChangesResponse;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST input adapter for incremental board sync.
+ *
+ * <pre>
+ * GET /api/v1/boards/{boardId}/changes?since={version}   → 200 OK + BoardChangesResponse
+ * </pre>
+ *
+ * <p>Clients keep the {@code version} of the board they last loaded and ask for
+ * what changed since. {@code reloadRequired: true} means the history is gone and the
+ * full board must be fetched again; {@code hasMore: true} means ask again with
+ * {@code since = version}.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/boards/{boardId}/changes")
+public class BoardChangeController {
+
+    private final GetBoardChangesUseCase getBoardChangesUseCase;
+
+    public BoardChangeController(GetBoardChangesUseCase getBoardChangesUseCase) {
+        this.getBoardChangesUseCase = getBoardChangesUseCase;
+    }
+
+    /**
+     * Lists the changes of a board after a given version.
+     *
+     * @param boardId the board identifier
+     * @param since   the last version the client has applied
+     * @return 200 OK with the changes, 400 for a negative version, or 404 if the board does not exist
+     */
+    @GetMapping
+    public ResponseEntity<BoardChangesResponse> getChanges(@PathVariable UUID boardId,
+                                                           @RequestParam long since) {
+        BoardChangeFeed feed = getBoardChangesUseCase.getChanges(new BoardId(boardId), since);
+        return ResponseEntity.ok(RestMapper.toResponse(feed));
+    }
+}
@@ -0,0 +1,71 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.CloneBoardUseCase;
+import com.todokanban.application.ports.input.GetBoardTemplatesUseCase;
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.infrastructure.adapter.in.rest.dto.BoardTemplateResponse;
+import com.todokanban.infrastructure.adapter.in.rest.dto.CloneBoardRequest;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST input adapter for board clones and templates.
+ *
+ * <pre>
+ * POST /api/v1/boards/{boardId}/clone                → 201 Created + BoardResponse
+ * GET  /api/v1/workspaces/{workspaceId}/templates    → 200 OK      + List&lt;BoardTemplateResponse&gt;
+ * </pre>
+ *
+ * <p>A template is saved by cloning a board with {@code "template": true}, and a new
+ * board is created from a template by cloning the template.</p>
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class BoardCloneController {
+
+    private final CloneBoardUseCase        cloneBoardUseCase;
+    private final GetBoardTemplatesUseCase getBoardTemplatesUseCase;
+
+    public BoardCloneController(CloneBoardUseCase cloneBoardUseCase,
+                                GetBoardTemplatesUseCase getBoardTemplatesUseCase) {
+        this.cloneBoardUseCase        = cloneBoardUseCase;
+        this.getBoardTemplatesUseCase = getBoardTemplatesUseCase;
+    }
+
+    /**
+     * Copies a board (or template) with its columns and, unless disabled, its cards.
+     *
+     * @return 201 Created with the new board, 404 if the source does not exist,
+     *         or 400 if the target workspace does not exist
+     */
+    @PostMapping("/boards/{boardId}/clone")
+    public ResponseEntity<Board> cloneBoard(
+            @PathVariable UUID boardId,
+            @RequestBody(required = false) CloneBoardRequest request) {
+        Board board = cloneBoardUseCase.cloneBoard(RestMapper.toCloneCommand(boardId, request));
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(board);
+    }
+
+    /**
+     * Lists the saved templates of a workspace.
+     *
+     * @return 200 OK with the templates (may be empty), or 404 if the workspace does not exist
+     */
+    @GetMapping("/workspaces/{workspaceId}/templates")
+    public ResponseEntity<List<BoardTemplateResponse>> getTemplates(@PathVariable UUID workspaceId) {
+        List<BoardTemplateResponse> templates = getBoardTemplatesUseCase
+                .getTemplates(new WorkspaceId(workspaceId))
+                .stream()
+                .map(RestMapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(templates);
+    }
+}
@@ -1,12 +1,12 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
 import com.todokanban.application.ports.input.CreateBoardUseCase;
+import com.todokanban.application.ports.input.DeleteBoardUseCase;
 import com.todokanban.application.ports.input.GetBoardUseCase;
 import com.todokanban.application.ports.input.MoveCardUseCase;
 import com.todokanban.domain.model.Board;
 import com.todokanban.domain.model.BoardId;
 import com.todokanban.infrastructure.adapter.in.rest.dto.BoardRequest;
-import com.todokanban.infrastructure.adapter.in.rest.dto.BoardResponse;
 import com.todokanban.infrastructure.adapter.in.rest.dto.MoveCardRequest;
 import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
 import org.springframework.http.HttpStatus;
@@ -19,12 +19,15 @@ import java.util.UUID;
  * REST input adapter for Board operations.
  *
  * <pre>
- * GET   /api/v1/boards/{boardId}                          → 200 OK      + BoardResponse
- * POST  /api/v1/boards                                    → 201 Created + BoardResponse
- * PATCH /api/v1/boards/{boardId}/cards/{cardId}/move      → 200 OK      + BoardResponse
+ * GET    /api/v1/boards/{boardId}                          → 200 OK      + BoardResponse
+ * POST   /api/v1/boards                                    → 201 Created + BoardResponse
+ * DELETE /api/v1/boards/{boardId}                          → 204 No Content
+ * PATCH  /api/v1/boards/{boardId}/cards/{cardId}/move      → 200 OK      + BoardResponse
  * </pre>
  *
- * <p>No business logic – delegates to use-case ports via {@link RestMapper}.</p>
+ * <p>No business logic – delegates to use-case ports via {@link RestMapper}.
+ * {@link Board} bodies are streamed in the {@code BoardResponse} shape by
+ * {@link com.todokanban.infrastructure.adapter.in.rest.mapper.BoardHttpMessageConverter}.</p>
  */
 @RestController
 @RequestMapping("/api/v1/boards")
@@ -33,13 +36,16 @@ public class BoardController {
     private final CreateBoardUseCase createBoardUseCase;
     private final GetBoardUseCase    getBoardUseCase;
     private final MoveCardUseCase    moveCardUseCase;
+    private final DeleteBoardUseCase deleteBoardUseCase;
 
     public BoardController(CreateBoardUseCase createBoardUseCase,
                            GetBoardUseCase getBoardUseCase,
-                           MoveCardUseCase moveCardUseCase) {
+                           MoveCardUseCase moveCardUseCase,
+                           DeleteBoardUseCase deleteBoardUseCase) {
         this.createBoardUseCase = createBoardUseCase;
         this.getBoardUseCase    = getBoardUseCase;
         this.moveCardUseCase    = moveCardUseCase;
+        this.deleteBoardUseCase = deleteBoardUseCase;
     }
 
     /**
@@ -49,9 +55,9 @@ public class BoardController {
      * @return 200 OK with the full board, or 404 if not found
      */
     @GetMapping("/{boardId}")
-    public ResponseEntity<BoardResponse> getBoard(@PathVariable UUID boardId) {
+    public ResponseEntity<Board> getBoard(@PathVariable UUID boardId) {
         Board board = getBoardUseCase.getBoard(new BoardId(boardId));
-        return ResponseEntity.ok(RestMapper.toResponse(board));
+        return ResponseEntity.ok(board);
     }
 
     /**
@@ -60,11 +66,22 @@ public class BoardController {
      * @return 201 Created with the full board representation
      */
     @PostMapping
-    public ResponseEntity<BoardResponse> createBoard(@RequestBody BoardRequest request) {
+    public ResponseEntity<Board> createBoard(@RequestBody BoardRequest request) {
         Board board = createBoardUseCase.createBoard(RestMapper.toCommand(request));
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(RestMapper.toResponse(board));
+                .body(board);
+    }
+
+    /**
+     * Deletes a board with all of its columns and cards.
+     *
+     * @return 204 No Content, or 404 if not found
+     */
+    @DeleteMapping("/{boardId}")
+    public ResponseEntity<Void> deleteBoard(@PathVariable UUID boardId) {
+        deleteBoardUseCase.deleteBoard(new BoardId(boardId));
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -73,12 +90,12 @@ public class BoardController {
      * @return 200 OK with the updated board representation
      */
     @PatchMapping("/{boardId}/cards/{cardId}/move")
-    public ResponseEntity<BoardResponse> moveCard(
+    public ResponseEntity<Board> moveCard(
             @PathVariable UUID boardId,
             @PathVariable UUID cardId,
             @RequestBody MoveCardRequest request) {
         Board board = moveCardUseCase.moveCard(
                 RestMapper.toCommand(boardId, cardId, request));
-        return ResponseEntity.ok(RestMapper.toResponse(board));
+        return ResponseEntity.ok(board);
     }
 }
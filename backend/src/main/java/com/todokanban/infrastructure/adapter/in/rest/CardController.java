@@ -4,7 +4,6 @@ import com.todokanban.application.ports.input.CreateCardUseCase;
 import com.todokanban.application.ports.input.DeleteCardUseCase;
 import com.todokanban.application.ports.input.UpdateCardUseCase;
 import com.todokanban.domain.model.Board;
-import com.todokanban.infrastructure.adapter.in.rest.dto.BoardResponse;
 import com.todokanban.infrastructure.adapter.in.rest.dto.CreateCardRequest;
 import com.todokanban.infrastructure.adapter.in.rest.dto.UpdateCardRequest;
 import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
@@ -45,7 +44,7 @@ public class CardController {
      * @return 201 Created with the full updated board
      */
     @PostMapping
-    public ResponseEntity<BoardResponse> createCard(
+    public ResponseEntity<Board> createCard(
             @PathVariable UUID boardId,
             @PathVariable UUID columnId,
             @RequestBody CreateCardRequest request) {
@@ -53,7 +52,7 @@ public class CardController {
                 .createCard(RestMapper.toCreateCardCommand(boardId, columnId, request));
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(RestMapper.toResponse(board));
+                .body(board);
     }
 
     /**
@@ -62,14 +61,14 @@ public class CardController {
      * @return 200 OK with the full updated board
      */
     @PatchMapping("/{cardId}")
-    public ResponseEntity<BoardResponse> updateCard(
+    public ResponseEntity<Board> updateCard(
             @PathVariable UUID boardId,
             @PathVariable UUID columnId,
             @PathVariable UUID cardId,
             @RequestBody UpdateCardRequest request) {
         Board board = updateCardUseCase
                 .updateCard(RestMapper.toUpdateCardCommand(boardId, columnId, cardId, request));
-        return ResponseEntity.ok(RestMapper.toResponse(board));
+        return ResponseEntity.ok(board);
     }
 
     /**
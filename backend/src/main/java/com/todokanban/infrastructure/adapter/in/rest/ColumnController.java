@@ -1,9 +1,13 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
+import com.todokanban.application.ports.input.ClearColumnUseCase;
 import com.todokanban.application.ports.input.CreateColumnUseCase;
+import com.todokanban.application.ports.input.DeleteColumnUseCase;
+import com.todokanban.application.ports.input.MoveAllCardsUseCase;
 import com.todokanban.domain.model.Board;
-import com.todokanban.infrastructure.adapter.in.rest.dto.BoardResponse;
+import com.todokanban.infrastructure.adapter.in.rest.dto.ColumnBulkResponse;
 import com.todokanban.infrastructure.adapter.in.rest.dto.CreateColumnRequest;
+import com.todokanban.infrastructure.adapter.in.rest.dto.MoveAllCardsRequest;
 import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,17 +19,32 @@ import java.util.UUID;
  * REST input adapter for Column operations.
  *
  * <pre>
- * POST /api/v1/boards/{boardId}/columns → 201 Created + BoardResponse (full board)
+ * POST   /api/v1/boards/{boardId}/columns                           → 201 Created + BoardResponse (full board)
+ * DELETE /api/v1/boards/{boardId}/columns/{columnId}                → 204 No Content
+ * DELETE /api/v1/boards/{boardId}/columns/{columnId}/cards          → 200 OK + ColumnBulkResponse
+ * POST   /api/v1/boards/{boardId}/columns/{columnId}/cards/move     → 200 OK + ColumnBulkResponse
  * </pre>
+ *
+ * <p>The delete, clear and move-all operations run as bulk statements; their cost does
+ * not depend on the number of cards sent over the wire or loaded into memory.</p>
  */
 @RestController
 @RequestMapping("/api/v1/boards/{boardId}/columns")
 public class ColumnController {
 
     private final CreateColumnUseCase createColumnUseCase;
+    private final DeleteColumnUseCase deleteColumnUseCase;
+    private final ClearColumnUseCase  clearColumnUseCase;
+    private final MoveAllCardsUseCase moveAllCardsUseCase;
 
-    public ColumnController(CreateColumnUseCase createColumnUseCase) {
+    public ColumnController(CreateColumnUseCase createColumnUseCase,
+                            DeleteColumnUseCase deleteColumnUseCase,
+                            ClearColumnUseCase clearColumnUseCase,
+                            MoveAllCardsUseCase moveAllCardsUseCase) {
         this.createColumnUseCase = createColumnUseCase;
+        this.deleteColumnUseCase = deleteColumnUseCase;
+        this.clearColumnUseCase  = clearColumnUseCase;
+        this.moveAllCardsUseCase = moveAllCardsUseCase;
     }
 
     /**
@@ -36,13 +55,53 @@ public class ColumnController {
      * @return 201 Created with the full updated board
      */
     @PostMapping
-    public ResponseEntity<BoardResponse> createColumn(
+    public ResponseEntity<Board> createColumn(
             @PathVariable UUID boardId,
             @RequestBody CreateColumnRequest request) {
         Board board = createColumnUseCase
                 .createColumn(RestMapper.toCommand(boardId, request));
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(RestMapper.toResponse(board));
+                .body(board);
+    }
+
+    /**
+     * Deletes a column with all of its cards; later columns move up one position.
+     *
+     * @return 204 No Content
+     */
+    @DeleteMapping("/{columnId}")
+    public ResponseEntity<Void> deleteColumn(
+            @PathVariable UUID boardId,
+            @PathVariable UUID columnId) {
+        deleteColumnUseCase.deleteColumn(RestMapper.toDeleteColumnCommand(boardId, columnId));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Deletes every card of a column.
+     *
+     * @return 200 OK with the number of deleted cards and the board's new version
+     */
+    @DeleteMapping("/{columnId}/cards")
+    public ResponseEntity<ColumnBulkResponse> clearColumn(
+            @PathVariable UUID boardId,
+            @PathVariable UUID columnId) {
+        return ResponseEntity.ok(RestMapper.toResponse(
+                clearColumnUseCase.clearColumn(RestMapper.toClearColumnCommand(boardId, columnId))));
+    }
+
+    /**
+     * Moves every card of a column to the end of another column, keeping their order.
+     *
+     * @return 200 OK with the number of moved cards and the board's new version
+     */
+    @PostMapping("/{columnId}/cards/move")
+    public ResponseEntity<ColumnBulkResponse> moveAllCards(
+            @PathVariable UUID boardId,
+            @PathVariable UUID columnId,
+            @RequestBody MoveAllCardsRequest request) {
+        return ResponseEntity.ok(RestMapper.toResponse(
+                moveAllCardsUseCase.moveAllCards(RestMapper.toCommand(boardId, columnId, request))));
     }
 }
@@ -0,0 +1,108 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetBoardAsyncUseCase;
+import com.todokanban.application.ports.input.GetWorkspacesAsyncUseCase;
+import com.todokanban.application.ports.input.MoveCardAsyncUseCase;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.infrastructure.adapter.in.rest.dto.MoveCardRequest;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Handler functions behind {@link ReactiveBoardRoutes}.
+ *
+ * <p>Each handler starts the use case and returns straight away with
+ * {@link ServerResponse#async}: the servlet thread goes back to the pool while the
+ * database call is in flight, and the response is written when the future completes.</p>
+ *
+ * <p>A failed future never reaches {@code @RestControllerAdvice}, so errors are mapped
+ * here, through the same {@link GlobalExceptionHandler} methods the controllers use –
+ * clients get identical problem documents from both stacks.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.reactive.enabled", havingValue = "true")
+public class ReactiveBoardHandler {
+
+    private final GetBoardAsyncUseCase getBoardUseCase;
+    private final MoveCardAsyncUseCase moveCardUseCase;
+    private final GetWorkspacesAsyncUseCase getWorkspacesUseCase;
+    private final GlobalExceptionHandler exceptionHandler;
+
+    public ReactiveBoardHandler(GetBoardAsyncUseCase getBoardUseCase,
+                                MoveCardAsyncUseCase moveCardUseCase,
+                                GetWorkspacesAsyncUseCase getWorkspacesUseCase,
+                                GlobalExceptionHandler exceptionHandler) {
+        this.getBoardUseCase      = getBoardUseCase;
+        this.moveCardUseCase      = moveCardUseCase;
+        this.getWorkspacesUseCase = getWorkspacesUseCase;
+        this.exceptionHandler     = exceptionHandler;
+    }
+
+    /** {@code GET /api/v1/reactive/boards/{boardId}} → 200 OK + BoardResponse */
+    public ServerResponse getBoard(ServerRequest request) {
+        return async(() -> getBoardUseCase.getBoard(new BoardId(pathId(request, "boardId")))
+                .thenApply(board -> ServerResponse.ok().body(board)));
+    }
+
+    /** {@code PATCH /api/v1/reactive/boards/{boardId}/cards/{cardId}/move} → 200 OK + BoardResponse */
+    public ServerResponse moveCard(ServerRequest request) {
+        return async(() -> moveCardUseCase.moveCard(RestMapper.toCommand(
+                        pathId(request, "boardId"), pathId(request, "cardId"),
+                        request.body(MoveCardRequest.class)))
+                .thenApply(board -> ServerResponse.ok().body(board)));
+    }
+
+    /** {@code GET /api/v1/reactive/workspaces} → 200 OK + List&lt;WorkspaceResponse&gt; */
+    public ServerResponse getWorkspaces(ServerRequest request) {
+        return async(() -> getWorkspacesUseCase.getWorkspaces()
+                .thenApply(workspaces -> ServerResponse.ok().body(
+                        workspaces.stream().map(RestMapper::toResponse).toList())));
+    }
+
+    /** Wraps the response future; failures – also those thrown before it exists – become problem documents. */
+    private ServerResponse async(Callable<CompletableFuture<ServerResponse>> handler) {
+        CompletableFuture<ServerResponse> response;
+        try {
+            response = handler.call();
+        } catch (Exception e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return ServerResponse.async(response.exceptionally(this::problem));
+    }
+
+    private ServerResponse problem(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        ProblemDetail problem;
+        if (cause instanceof IllegalArgumentException e) {
+            problem = exceptionHandler.handleIllegalArgument(e);
+        } else if (cause instanceof HttpMessageNotReadableException e) {
+            problem = exceptionHandler.handleNotReadable(e);
+        } else if (cause instanceof NoSuchElementException e) {
+            problem = exceptionHandler.handleNotFound(e);
+        } else {
+            problem = exceptionHandler.handleGeneral(
+                    cause instanceof Exception e ? e : new CompletionException(cause));
+        }
+        return ServerResponse.status(problem.getStatus())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problem);
+    }
+
+    private static UUID pathId(ServerRequest request, String name) {
+        return UUID.fromString(request.pathVariable(name));
+    }
+}
@@ -0,0 +1,39 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import static org.springframework.web.servlet.function.RouterFunctions.route;
+
+/**
+ * Non-blocking variants of the hottest board endpoints, served from the R2DBC adapters.
+ * Enabled with {@code kanban.reactive.enabled=true}.
+ *
+ * <pre>
+ * GET    /api/v1/reactive/boards/{boardId}                      → 200 OK + BoardResponse
+ * PATCH  /api/v1/reactive/boards/{boardId}/cards/{cardId}/move  → 200 OK + BoardResponse
+ * GET    /api/v1/reactive/workspaces                            → 200 OK + List&lt;WorkspaceResponse&gt;
+ * </pre>
+ *
+ * <p>Request and response bodies are the ones of {@link BoardController} and
+ * {@link WorkspaceController}, so a client switches stacks by changing the path prefix.
+ * Functional endpoints on the servlet stack rather than WebFlux: the application keeps
+ * one server, one security chain and one set of filters.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "kanban.reactive.enabled", havingValue = "true")
+public class ReactiveBoardRoutes {
+
+    @Bean
+    public RouterFunction<ServerResponse> reactiveBoardRouter(ReactiveBoardHandler handler) {
+        return route()
+                .path("/api/v1/reactive", api -> api
+                        .GET("/boards/{boardId}", handler::getBoard)
+                        .PATCH("/boards/{boardId}/cards/{cardId}/move", handler::moveCard)
+                        .GET("/workspaces", handler::getWorkspaces))
+                .build();
+    }
+}
@@ -1,8 +1,10 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
 import com.todokanban.application.ports.input.CreateWorkspaceUseCase;
+import com.todokanban.application.ports.input.DeleteWorkspaceUseCase;
 import com.todokanban.application.ports.input.GetWorkspacesUseCase;
 import com.todokanban.domain.model.Workspace;
+import com.todokanban.domain.model.WorkspaceId;
 import com.todokanban.infrastructure.adapter.in.rest.dto.WorkspaceRequest;
 import com.todokanban.infrastructure.adapter.in.rest.dto.WorkspaceResponse;
 import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
@@ -11,13 +13,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * REST input adapter for Workspace operations.
  *
  * <pre>
- * GET  /api/v1/workspaces  → 200 OK   + List&lt;WorkspaceResponse&gt;
- * POST /api/v1/workspaces  → 201 Created + WorkspaceResponse
+ * GET    /api/v1/workspaces                → 200 OK   + List&lt;WorkspaceResponse&gt;
+ * POST   /api/v1/workspaces                → 201 Created + WorkspaceResponse
+ * DELETE /api/v1/workspaces/{workspaceId}  → 204 No Content
  * </pre>
  */
 @RestController
@@ -26,11 +30,14 @@ public class WorkspaceController {
 
     private final CreateWorkspaceUseCase createWorkspaceUseCase;
     private final GetWorkspacesUseCase   getWorkspacesUseCase;
+    private final DeleteWorkspaceUseCase deleteWorkspaceUseCase;
 
     public WorkspaceController(CreateWorkspaceUseCase createWorkspaceUseCase,
-                               GetWorkspacesUseCase getWorkspacesUseCase) {
+                               GetWorkspacesUseCase getWorkspacesUseCase,
+                               DeleteWorkspaceUseCase deleteWorkspaceUseCase) {
         this.createWorkspaceUseCase = createWorkspaceUseCase;
         this.getWorkspacesUseCase   = getWorkspacesUseCase;
+        this.deleteWorkspaceUseCase = deleteWorkspaceUseCase;
     }
 
     /**
@@ -62,4 +69,16 @@ public class WorkspaceController {
                 .status(HttpStatus.CREATED)
                 .body(RestMapper.toResponse(workspace));
     }
+
+    /**
+     * Deletes a workspace with all of its boards.
+     *
+     * @param workspaceId the workspace identifier
+     * @return 204 No Content, or 404 if not found
+     */
+    @DeleteMapping("/{workspaceId}")
+    public ResponseEntity<Void> deleteWorkspace(@PathVariable UUID workspaceId) {
+        deleteWorkspaceUseCase.deleteWorkspace(new WorkspaceId(workspaceId));
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,40 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetWorkspaceDashboardUseCase;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.infrastructure.adapter.in.rest.dto.WorkspaceDashboardResponse;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.RestMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST input adapter for the workspace dashboard.
+ *
+ * <pre>
+ * GET /api/v1/workspaces/{workspaceId}/dashboard  → 200 OK + WorkspaceDashboardResponse
+ * </pre>
+ */
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceId}/dashboard")
+public class WorkspaceDashboardController {
+
+    private final GetWorkspaceDashboardUseCase getWorkspaceDashboardUseCase;
+
+    public WorkspaceDashboardController(GetWorkspaceDashboardUseCase getWorkspaceDashboardUseCase) {
+        this.getWorkspaceDashboardUseCase = getWorkspaceDashboardUseCase;
+    }
+
+    /**
+     * Card counts per column for every board of the workspace, answered from
+     * maintained counters in one query.
+     *
+     * @return 200 OK with the dashboard, or 404 if the workspace does not exist
+     */
+    @GetMapping
+    public ResponseEntity<WorkspaceDashboardResponse> getDashboard(@PathVariable UUID workspaceId) {
+        return ResponseEntity.ok(RestMapper.toResponse(
+                getWorkspaceDashboardUseCase.getDashboard(new WorkspaceId(workspaceId))));
+    }
+}
@@ -0,0 +1,349 @@
+package com.todokanban.infrastructure.adapter.in.rest.cache;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.infrastructure.adapter.out.coherence.CoherentCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Off-heap cache of fully serialized {@code GET /api/v1/boards/{boardId}} responses.
+ *
+ * <p>Entries are keyed by board id and the request's {@code Accept} header (JSON,
+ * CBOR and Smile representations are cached separately). Each representation keeps
+ * the identity bytes plus lazily built gzip/deflate variants, all in direct
+ * {@link ByteBuffer}s so large boards do not add to heap or GC pressure.</p>
+ *
+ * <p>Consistency: every board has a generation stamp (striped over an
+ * {@link AtomicLongArray}). {@link BoardChangedEvent} bumps it after commit and drops
+ * the board's entries; {@link #put} is rejected when the generation observed before
+ * loading the board has moved on, so a slow reader can never re-insert stale bytes.
+ * Changes made on other nodes arrive the same way through {@link CoherentCache}.</p>
+ *
+ * <p>Memory: total cached bytes are capped at {@code kanban.board-cache.max-size}
+ * with LRU eviction per board. Direct memory is released when the evicted buffers
+ * are collected, so {@code -XX:MaxDirectMemorySize} must leave headroom above the cap.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.board-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class BoardResponseCache implements MeterBinder, CoherentCache {
+
+    /** Content codings a cached representation can be served in. */
+    public enum Encoding {
+        IDENTITY(null), GZIP("gzip"), DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) { this.token = token; }
+
+        /** The {@code Content-Encoding} value, or {@code null} for identity. */
+        public String token() { return token; }
+
+        /** Picks gzip, then deflate, then identity from an {@code Accept-Encoding} header. */
+        public static Encoding negotiate(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isBlank()) {
+                return IDENTITY;
+            }
+            boolean gzip = false;
+            boolean deflate = false;
+            for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+                String[] tokens = part.trim().split(";");
+                if (isRejected(tokens)) {
+                    continue;
+                }
+                switch (tokens[0].trim()) {
+                    case "gzip", "x-gzip", "*" -> gzip = true;
+                    case "deflate" -> deflate = true;
+                    default -> { }
+                }
+            }
+            return gzip ? GZIP : deflate ? DEFLATE : IDENTITY;
+        }
+
+        private static boolean isRejected(String[] tokens) {
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A cached response ready to be written.
+     *
+     * @param body a read-only view positioned at the first byte; private to the caller
+     */
+    public record Hit(String contentType, Encoding encoding, ByteBuffer body) {}
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private static final class Representation {
+        final String contentType;
+        final EnumMap<Encoding, ByteBuffer> variants = new EnumMap<>(Encoding.class);
+
+        Representation(String contentType) { this.contentType = contentType; }
+    }
+
+    private static final class BoardEntry {
+        final Map<String, Representation> byAccept = new HashMap<>(4);
+        long bytes;
+    }
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final int minCompressBytes;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /** Access-ordered: iteration starts at the least recently used board. Guarded by {@code this}. */
+    private final LinkedHashMap<UUID, BoardEntry> boards = new LinkedHashMap<>(64, 0.75f, true);
+    private long usedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public BoardResponseCache(@Value("${kanban.board-cache.max-size:64MB}") DataSize maxSize,
+                              @Value("${kanban.board-cache.min-compress-size:1KB}") DataSize minCompressSize) {
+        this(maxSize.toBytes(), (int) minCompressSize.toBytes());
+    }
+
+    BoardResponseCache(long maxBytes, int minCompressBytes) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Board cache max-size must be positive");
+        }
+        this.maxBytes = maxBytes;
+        // A single board may not take more than an eighth of the cache
+        this.maxEntryBytes = Math.max(1, maxBytes / 8);
+        this.minCompressBytes = minCompressBytes;
+    }
+
+    /** Current generation of a board; capture it <em>before</em> loading the board. */
+    public long generation(UUID boardId) {
+        return generations.get(stripe(boardId));
+    }
+
+    /**
+     * Looks up a cached response. A missing compressed variant is built from the
+     * identity bytes (outside the lock) and cached for the next caller.
+     *
+     * @return the hit, or {@code null} if the representation is not cached
+     */
+    public Hit get(UUID boardId, String accept, Encoding encoding) {
+        long generation = generation(boardId);
+        Representation representation;
+        ByteBuffer identity;
+        synchronized (this) {
+            BoardEntry entry = boards.get(boardId);
+            representation = entry != null ? entry.byAccept.get(accept) : null;
+            if (representation == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            ByteBuffer variant = representation.variants.get(encoding);
+            if (variant != null) {
+                return new Hit(representation.contentType, encoding, variant.duplicate());
+            }
+            identity = representation.variants.get(Encoding.IDENTITY);
+        }
+
+        if (identity.remaining() < minCompressBytes) {
+            return new Hit(representation.contentType, Encoding.IDENTITY, identity.duplicate());
+        }
+        ByteBuffer compressed = toDirect(compress(identity.duplicate(), encoding));
+        synchronized (this) {
+            BoardEntry entry = boards.get(boardId);
+            if (generation(boardId) == generation && entry != null
+                    && entry.byAccept.get(accept) == representation
+                    && compressed.remaining() + entry.bytes <= maxEntryBytes
+                    && representation.variants.putIfAbsent(encoding, compressed) == null) {
+                entry.bytes += compressed.remaining();
+                usedBytes += compressed.remaining();
+                evictOverflow();
+            }
+        }
+        return new Hit(representation.contentType, encoding, compressed.duplicate());
+    }
+
+    /**
+     * Caches the identity bytes of a freshly rendered response.
+     *
+     * @param generation the value of {@link #generation(UUID)} observed before the board was loaded
+     * @return {@code false} if the board changed in the meantime or the body is too large
+     */
+    public boolean put(UUID boardId, long generation, String accept, String contentType, byte[] body) {
+        if (body.length > maxEntryBytes) {
+            return false;
+        }
+        ByteBuffer identity = toDirect(body);
+        synchronized (this) {
+            if (generation(boardId) != generation) {
+                return false;
+            }
+            BoardEntry entry = boards.computeIfAbsent(boardId, id -> new BoardEntry());
+            Representation previous = entry.byAccept.get(accept);
+            if (previous != null) {
+                long previousBytes = sizeOf(previous);
+                entry.bytes -= previousBytes;
+                usedBytes -= previousBytes;
+            }
+            Representation representation = new Representation(contentType);
+            representation.variants.put(Encoding.IDENTITY, identity);
+            entry.byAccept.put(accept, representation);
+            entry.bytes += body.length;
+            usedBytes += body.length;
+            evictOverflow();
+            return true;
+        }
+    }
+
+    /** Drops every cached representation of a board and fences off in-flight puts. */
+    public void invalidate(UUID boardId) {
+        generations.incrementAndGet(stripe(boardId));
+        synchronized (this) {
+            BoardEntry removed = boards.remove(boardId);
+            if (removed != null) {
+                usedBytes -= removed.bytes;
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.boardId().value());
+    }
+
+    @Override
+    public void evictBoard(UUID boardId, boolean deleted) {
+        invalidate(boardId);
+    }
+
+    /** Drops every cached board and fences off all in-flight puts. */
+    @Override
+    public void evictAll() {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        synchronized (this) {
+            boards.clear();
+            usedBytes = 0;
+        }
+    }
+
+    public synchronized long usedBytes() { return usedBytes; }
+    public synchronized int size()       { return boards.size(); }
+
+    // ── Internals ─────────────────────────────────────────────────────────────
+
+    private void evictOverflow() {
+        Iterator<BoardEntry> it = boards.values().iterator();
+        while (usedBytes > maxBytes && it.hasNext()) {
+            usedBytes -= it.next().bytes;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static long sizeOf(Representation representation) {
+        long bytes = 0;
+        for (ByteBuffer variant : representation.variants.values()) {
+            bytes += variant.remaining();
+        }
+        return bytes;
+    }
+
+    private static int stripe(UUID boardId) {
+        int h = boardId.hashCode();
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /** Compresses straight from the off-heap identity buffer (no heap copy of the input). */
+    static byte[] compress(ByteBuffer input, Encoding encoding) {
+        boolean gzip = encoding == Encoding.GZIP;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.remaining() / 4));
+        CRC32 crc = new CRC32();
+        int length = input.remaining();
+        if (gzip) {
+            crc.update(input.duplicate());
+            out.write(new byte[] {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff}, 0, 10);
+        }
+        // HTTP "deflate" is the zlib format; gzip wraps a raw deflate stream
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, gzip);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+        } finally {
+            deflater.end();
+        }
+        if (gzip) {
+            writeIntLe(out, (int) crc.getValue());
+            writeIntLe(out, length);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeIntLe(ByteArrayOutputStream out, int value) {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kanban.board-cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Board GETs served from the response cache")
+                .register(registry);
+        FunctionCounter.builder("kanban.board-cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Board GETs that had to be rendered")
+                .register(registry);
+        FunctionCounter.builder("kanban.board-cache.evictions", evictions, LongAdder::sum)
+                .description("Boards evicted to stay under the memory ceiling")
+                .register(registry);
+        Gauge.builder("kanban.board-cache.bytes", this, BoardResponseCache::usedBytes)
+                .description("Off-heap bytes held by the board response cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,101 @@
+package com.todokanban.infrastructure.adapter.in.rest.cache;
+
+import com.todokanban.infrastructure.config.ReplicaRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves {@code GET /api/v1/boards/{boardId}} from the {@link BoardResponseCache}.
+ *
+ * <p>Hits skip the use case, {@code RestMapper} and Jackson entirely: the cached
+ * (optionally pre-compressed) bytes are written from off-heap memory straight to the
+ * servlet output stream. Misses run the controller as usual and cache the rendered
+ * body for the next request.</p>
+ *
+ * <p>A miss reads the board from the primary ({@link ReplicaRoutingDataSource#readFromPrimary}).
+ * Entries live until the board's next write, so a body rendered from a lagging replica
+ * right after an eviction would keep serving the pre-write board to everyone.</p>
+ *
+ * <p>Runs after Spring Security, so only authenticated callers are served; every board
+ * reader sees the same representation, so entries are not scoped per user.</p>
+ */
+@Component
+@Order(BoardResponseCacheFilter.ORDER)
+@ConditionalOnProperty(name = "kanban.board-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class BoardResponseCacheFilter extends OncePerRequestFilter {
+
+    /** Runs after the concurrency limiter and idempotency filter. */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    private static final Pattern BOARD_PATH = Pattern.compile(
+            "^/api/v1/boards/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})$");
+
+    private final BoardResponseCache cache;
+
+    public BoardResponseCacheFilter(BoardResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !BOARD_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Matcher matcher = BOARD_PATH.matcher(request.getRequestURI());
+        if (!matcher.matches()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        UUID boardId = UUID.fromString(matcher.group(1));
+        String accept = Objects.requireNonNullElse(request.getHeader(HttpHeaders.ACCEPT), "");
+        response.addHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+
+        BoardResponseCache.Hit hit = cache.get(boardId, accept,
+                BoardResponseCache.Encoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING)));
+        if (hit != null) {
+            write(hit, response);
+            return;
+        }
+
+        long generation = cache.generation(boardId);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try (ReplicaRoutingDataSource.PrimaryScope primary = ReplicaRoutingDataSource.readFromPrimary()) {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpStatus.OK.value() && wrapper.getContentType() != null
+                    && !request.isAsyncStarted()) {
+                cache.put(boardId, generation, accept, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void write(BoardResponseCache.Hit hit, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(hit.contentType());
+        if (hit.encoding().token() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, hit.encoding().token());
+        }
+        response.setContentLength(hit.body().remaining());
+        response.getOutputStream().write(hit.body());
+    }
+}
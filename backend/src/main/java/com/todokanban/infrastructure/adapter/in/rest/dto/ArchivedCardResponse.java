@@ -0,0 +1,18 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response DTO for a {@link com.todokanban.domain.model.ArchivedCard}.
+ * Java 21 record – immutable and serialization-ready.
+ */
+public record ArchivedCardResponse(
+        UUID id,
+        UUID columnId,
+        String title,
+        String description,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant archivedAt
+) {}
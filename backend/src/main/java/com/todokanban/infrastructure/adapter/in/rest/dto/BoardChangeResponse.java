@@ -0,0 +1,20 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response DTO for a {@link com.todokanban.domain.model.BoardChange}.
+ * Java 21 record – immutable and serialization-ready.
+ */
+public record BoardChangeResponse(
+        long version,
+        String entity,
+        String type,
+        UUID id,
+        UUID columnId,
+        String name,
+        String description,
+        Integer position,
+        Instant changedAt
+) {}
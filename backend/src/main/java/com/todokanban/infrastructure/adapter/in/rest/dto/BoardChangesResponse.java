@@ -0,0 +1,17 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a {@link com.todokanban.domain.model.BoardChangeFeed}.
+ * Java 21 record – immutable and serialization-ready.
+ */
+public record BoardChangesResponse(
+        UUID boardId,
+        long since,
+        long version,
+        boolean reloadRequired,
+        boolean hasMore,
+        List<BoardChangeResponse> changes
+) {}
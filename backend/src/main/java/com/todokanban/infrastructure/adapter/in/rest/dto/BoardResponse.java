@@ -15,5 +15,6 @@ public record BoardResponse(
         String description,
         List<ColumnResponse> columns,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        long version
 ) {}
@@ -0,0 +1,16 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response DTO for a {@link com.todokanban.domain.model.BoardTemplate}.
+ * Java 21 record – immutable and serialization-ready.
+ */
+public record BoardTemplateResponse(
+        UUID id,
+        UUID workspaceId,
+        String name,
+        String description,
+        Instant createdAt
+) {}
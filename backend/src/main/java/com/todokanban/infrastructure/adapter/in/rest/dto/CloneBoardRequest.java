@@ -0,0 +1,20 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for cloning a board or instantiating a template.
+ *
+ * <p>POST /api/v1/boards/{boardId}/clone – every field is optional.</p>
+ *
+ * @param workspaceId  target workspace (defaults to the source's)
+ * @param name         name of the copy (defaults to the source's)
+ * @param includeCards copy the cards as well as the columns (defaults to {@code true})
+ * @param template     save the copy as a template (defaults to {@code false})
+ */
+public record CloneBoardRequest(
+        UUID workspaceId,
+        String name,
+        Boolean includeCards,
+        Boolean template
+) {}
@@ -0,0 +1,15 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for a {@link com.todokanban.domain.model.ColumnBulkResult}.
+ * Java 21 record – immutable and serialization-ready.
+ *
+ * @param version the board's new version; change-feed clients behind it reload the board
+ */
+public record ColumnBulkResponse(
+        UUID boardId,
+        long version,
+        int affectedCards
+) {}
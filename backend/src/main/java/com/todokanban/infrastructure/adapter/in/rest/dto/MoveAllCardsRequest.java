@@ -0,0 +1,14 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for moving every card of a column to another column.
+ *
+ * <p>POST /api/v1/boards/{boardId}/columns/{columnId}/cards/move</p>
+ *
+ * @param targetColumnId the column the cards are appended to
+ */
+public record MoveAllCardsRequest(
+        UUID targetColumnId
+) {}
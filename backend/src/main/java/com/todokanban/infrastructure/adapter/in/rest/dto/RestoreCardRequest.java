@@ -0,0 +1,14 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.util.UUID;
+
+/**
+ * Request DTO for restoring an archived card.
+ *
+ * <p>POST /api/v1/boards/{boardId}/archived-cards/{cardId}/restore</p>
+ *
+ * @param columnId the column to restore into (optional – defaults to the original column)
+ */
+public record RestoreCardRequest(
+        UUID columnId
+) {}
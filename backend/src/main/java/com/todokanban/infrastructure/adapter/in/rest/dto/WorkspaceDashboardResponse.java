@@ -0,0 +1,28 @@
+package com.todokanban.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a {@link com.todokanban.domain.model.WorkspaceDashboard}.
+ * Java 21 record – immutable and serialization-ready.
+ */
+public record WorkspaceDashboardResponse(
+        UUID workspaceId,
+        List<BoardSummary> boards
+) {
+
+    public record BoardSummary(
+            UUID id,
+            String name,
+            long totalCards,
+            List<ColumnCount> columns
+    ) {}
+
+    public record ColumnCount(
+            UUID id,
+            String name,
+            int position,
+            long cardCount
+    ) {}
+}
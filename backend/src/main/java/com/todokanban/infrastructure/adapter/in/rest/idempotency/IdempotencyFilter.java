@@ -0,0 +1,288 @@
+package com.todokanban.infrastructure.adapter.in.rest.idempotency;
+
+import com.todokanban.infrastructure.config.ProblemResponses;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Honors the {@code Idempotency-Key} request header on every mutating
+ * {@code /api/v1/**} endpoint ({@code BoardController}, {@code CardController},
+ * {@code ColumnController}, {@code WorkspaceController}).
+ *
+ * <p>Flow for a request carrying a key:</p>
+ * <ul>
+ *   <li>First request: executes normally; the response (status, content type, body)
+ *       is stored in the {@link IdempotencyStore} unless it is a 5xx, 408 or 429.</li>
+ *   <li>Concurrent duplicate: waits for the original to finish instead of executing
+ *       a second time, then replays its response.</li>
+ *   <li>Later duplicate: replays the stored response with {@code Idempotent-Replayed: true}.</li>
+ *   <li>Same key with a different request body: {@code 422 Unprocessable Entity}; the
+ *       key names one operation, not a slot the client may reuse.</li>
+ *   <li>Store full of requests still in flight: {@code 503 Service Unavailable} with
+ *       {@code Retry-After}, rather than forget a claim and risk a double execution.</li>
+ * </ul>
+ *
+ * <p>Keys are scoped by HTTP method, path and authenticated principal, so two users
+ * (or two endpoints) can never see each other's responses.</p>
+ *
+ * <p>Asynchronous handlers (the {@code /api/v1/reactive/**} routes) return from the
+ * first dispatch with nothing written yet. The claim is then carried over to the async
+ * dispatch, which stores the response once it has been produced.</p>
+ */
+@Component
+@Order(IdempotencyFilter.ORDER)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /** Runs after Spring Security (so the principal is known) and the concurrency limiter. */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 20;
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    /** Request attribute carrying the claim of a request that continues on an async dispatch. */
+    private static final String PENDING_ATTRIBUTE = IdempotencyFilter.class.getName() + ".PENDING";
+
+    private record Pending(String scopedKey, IdempotencyStore.Claim claim) {}
+
+    private final IdempotencyStore store;
+    private final Duration waitTimeout;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             @Value("${kanban.idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        this.store = store;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null
+                || !MUTATING_METHODS.contains(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/v1/");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            Pending pending = (Pending) request.getAttribute(PENDING_ATTRIBUTE);
+            ContentCachingResponseWrapper wrapper =
+                    WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+            if (pending == null || wrapper == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            request.removeAttribute(PENDING_ATTRIBUTE);
+            run(request, response, wrapper, chain, pending.scopedKey(), pending.claim());
+            return;
+        }
+
+        String key = request.getHeader(HEADER).strip();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            ProblemResponses.write(response, HttpStatus.BAD_REQUEST, "bad-request",
+                    "Idempotency-Key must be between 1 and %d characters".formatted(MAX_KEY_LENGTH));
+            return;
+        }
+
+        CachedBodyRequest cached = new CachedBodyRequest(request);
+        byte[] fingerprint = fingerprint(cached.body);
+        String scopedKey = scope(request, key);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(scopedKey, fingerprint);
+            if (claim == null) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                ProblemResponses.write(response, HttpStatus.SERVICE_UNAVAILABLE, "service-unavailable",
+                        "Too many requests with an Idempotency-Key are in progress, please retry later");
+                return;
+            }
+            if (claim.owner()) {
+                execute(cached, response, chain, scopedKey, claim);
+                return;
+            }
+            if (!MessageDigest.isEqual(fingerprint, claim.fingerprint())) {
+                ProblemResponses.write(response, HttpStatus.UNPROCESSABLE_ENTITY, "unprocessable-entity",
+                        "Idempotency-Key was already used with a different request body");
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            try {
+                if (remaining <= 0) {
+                    throw new TimeoutException();
+                }
+                replay(claim.response().get(remaining, TimeUnit.NANOSECONDS), response);
+                return;
+            } catch (ExecutionException e) {
+                // The original execution failed without storing a response – try to take over
+                log.debug("Original request for key '{}' failed, retrying claim", key);
+            } catch (TimeoutException e) {
+                ProblemResponses.write(response, HttpStatus.CONFLICT, "conflict",
+                        "A request with this Idempotency-Key is still being processed");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                ProblemResponses.write(response, HttpStatus.SERVICE_UNAVAILABLE, "service-unavailable",
+                        "Interrupted while waiting for the original request");
+                return;
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                         String scopedKey, IdempotencyStore.Claim claim) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        run(request, wrapper, wrapper, chain, scopedKey, claim);
+    }
+
+    /**
+     * Runs the chain and stores the response in {@code wrapper}, unless the handler went
+     * async – then the claim waits for the async dispatch.
+     */
+    private void run(HttpServletRequest request, HttpServletResponse response,
+                     ContentCachingResponseWrapper wrapper, FilterChain chain,
+                     String scopedKey, IdempotencyStore.Claim claim) throws ServletException, IOException {
+        boolean async = false;
+        boolean stored = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+            if (async) {
+                request.setAttribute(PENDING_ATTRIBUTE, new Pending(scopedKey, claim));
+                request.getAsyncContext().addListener(new ReleasingListener(store, scopedKey, claim));
+                return;
+            }
+            if (isReplayable(wrapper.getStatus())) {
+                store.complete(scopedKey, claim.response(), new IdempotencyStore.StoredResponse(
+                        wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!async) {
+                if (!stored) {
+                    store.release(scopedKey, claim.response());
+                }
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    private static void replay(IdempotencyStore.StoredResponse stored, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static boolean isReplayable(int status) {
+        return status < 500
+                && status != HttpStatus.REQUEST_TIMEOUT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static String scope(HttpServletRequest request, String key) {
+        Principal principal = request.getUserPrincipal();
+        String subject = principal != null ? principal.getName() : "anonymous";
+        return request.getMethod() + ' ' + request.getRequestURI() + '|' + subject + '|' + key;
+    }
+
+    private static byte[] fingerprint(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+        }
+    }
+
+    /** Reads the body once, for the fingerprint, and serves it again to the handler. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override public int read()                          { return in.read(); }
+                @Override public int read(byte[] b, int off, int len) { return in.read(b, off, len); }
+                @Override public boolean isFinished()                { return in.available() == 0; }
+                @Override public boolean isReady()                   { return true; }
+                @Override public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Non-blocking reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    /** Releases a claim whose async request ended (error, timeout) without storing a response. */
+    private record ReleasingListener(IdempotencyStore store, String scopedKey,
+                                     IdempotencyStore.Claim claim) implements AsyncListener {
+        @Override public void onComplete(AsyncEvent event)   { releaseIfPending(); }
+        @Override public void onTimeout(AsyncEvent event)    { releaseIfPending(); }
+        @Override public void onError(AsyncEvent event)      { releaseIfPending(); }
+        @Override public void onStartAsync(AsyncEvent event) { }
+
+        private void releaseIfPending() {
+            if (!claim.response().isDone()) {
+                store.release(scopedKey, claim.response());
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.todokanban.infrastructure.adapter.in.rest.idempotency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, TTL-evicted store of responses keyed by {@code Idempotency-Key}.
+ *
+ * <p>Each key maps to a {@link CompletableFuture} that is completed with the first
+ * response produced for that key. The first caller for a key becomes the
+ * <em>owner</em> and executes the request; every concurrent or later caller
+ * receives the same future and simply waits for it. Each key also remembers a
+ * fingerprint of the request that claimed it, so a reuse with another payload can
+ * be told apart from a retry.</p>
+ *
+ * <p>All entries share the same TTL, so insertion order equals expiry order and
+ * eviction only ever has to look at the head of the map. The store is bounded by
+ * {@code maxEntries} and by {@code maxBytes} of stored bodies; when either is reached
+ * the oldest completed entries are dropped, even if they have not expired. Entries
+ * still in flight are never dropped – that would let a duplicate execute the request a
+ * second time – so a store full of them refuses new keys instead. A body larger than
+ * {@code maxEntryBytes} is handed to the duplicates already waiting for it but not
+ * kept: a later retry executes again.</p>
+ */
+@Component
+public class IdempotencyStore {
+
+    /** A response captured from the first execution of an idempotent request. */
+    public record StoredResponse(int status, String contentType, byte[] body) {}
+
+    /**
+     * Result of {@link #claim(String, byte[])}.
+     *
+     * @param owner       {@code true} if the caller must execute the request and {@link #complete} it
+     * @param response    the future that carries (or will carry) the stored response
+     * @param fingerprint the fingerprint of the request that claimed the key
+     */
+    public record Claim(boolean owner, CompletableFuture<StoredResponse> response, byte[] fingerprint) {}
+
+    /** Guarded by the store's monitor. */
+    private static final class Entry {
+        final CompletableFuture<StoredResponse> response;
+        final byte[] fingerprint;
+        final long expiresAtNanos;
+        long bytes;
+
+        Entry(CompletableFuture<StoredResponse> response, byte[] fingerprint, long expiresAtNanos) {
+            this.response = response;
+            this.fingerprint = fingerprint;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final LongSupplier nanoClock;
+    private long bytes;
+
+    @Autowired
+    public IdempotencyStore(@Value("${kanban.idempotency.ttl:PT24H}") Duration ttl,
+                            @Value("${kanban.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${kanban.idempotency.max-bytes:64MB}") DataSize maxBytes,
+                            @Value("${kanban.idempotency.max-entry-size:1MB}") DataSize maxEntrySize) {
+        this(ttl, maxEntries, maxBytes.toBytes(), maxEntrySize.toBytes(), System::nanoTime);
+    }
+
+    IdempotencyStore(Duration ttl, int maxEntries, long maxBytes, long maxEntryBytes, LongSupplier nanoClock) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Idempotency TTL must be positive");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Idempotency max-entries must be at least 1");
+        }
+        if (maxEntryBytes < 0 || maxBytes < maxEntryBytes) {
+            throw new IllegalArgumentException("Idempotency limits must satisfy 0 <= max-entry-size <= max-bytes");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Claims a key. Returns an owner claim with a fresh future if the key is unknown
+     * (or expired), otherwise a non-owner claim sharing the existing future.
+     *
+     * @param fingerprint identifies the request payload; kept with a new key
+     * @return the claim, or {@code null} if the key is new and every slot holds a
+     *         request still in flight
+     */
+    public synchronized Claim claim(String key, byte[] fingerprint) {
+        long now = nanoClock.getAsLong();
+        evictExpired(now);
+
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            return new Claim(false, existing.response, existing.fingerprint);
+        }
+
+        if (entries.size() >= maxEntries) {
+            evictCompleted(entries.size() - maxEntries + 1, 0);
+            if (entries.size() >= maxEntries) {
+                return null;
+            }
+        }
+        CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+        entries.put(key, new Entry(response, fingerprint, now + ttlNanos));
+        return new Claim(true, response, fingerprint);
+    }
+
+    /**
+     * Stores the owner's response and hands it to every waiting duplicate. A body over
+     * {@code maxEntryBytes} is only handed over; the key is then forgotten.
+     */
+    public void complete(String key, CompletableFuture<StoredResponse> response, StoredResponse stored) {
+        synchronized (this) {
+            Entry current = entries.get(key);
+            if (current != null && current.response == response) {
+                long size = stored.body().length;
+                if (size > maxEntryBytes) {
+                    entries.remove(key);
+                } else {
+                    evictCompleted(0, bytes + size - maxBytes);
+                    current.bytes = size;
+                    bytes += size;
+                }
+            }
+        }
+        response.complete(stored);
+    }
+
+    /**
+     * Gives up ownership of a key without storing a response, e.g. after a 5xx.
+     * Waiters are woken with an exception so one of them can claim the key again.
+     */
+    public void release(String key, CompletableFuture<StoredResponse> response) {
+        synchronized (this) {
+            Entry current = entries.get(key);
+            if (current != null && current.response == response) {
+                remove(key);
+            }
+        }
+        response.completeExceptionally(
+                new IllegalStateException("Original request for this Idempotency-Key did not complete"));
+    }
+
+    /** Number of keys currently tracked (in flight or completed). */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Bytes of stored response bodies. */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.expiresAtNanos - now > 0) {
+                return;
+            }
+            bytes -= entry.bytes;
+            it.remove();
+        }
+    }
+
+    /**
+     * Drops the oldest entries that have a response until {@code count} are gone and at
+     * least {@code freeBytes} of bodies are released, or no completed entry is left.
+     * In-flight entries stay, so the budget can be exceeded by the bodies they are about
+     * to store.
+     */
+    private void evictCompleted(int count, long freeBytes) {
+        Iterator<Entry> it = entries.values().iterator();
+        while ((count > 0 || freeBytes > 0) && it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.response.isDone()) {
+                it.remove();
+                bytes -= entry.bytes;
+                freeBytes -= entry.bytes;
+                count--;
+            }
+        }
+    }
+
+    private void remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            bytes -= entry.bytes;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.todokanban.infrastructure.adapter.in.rest.mapper;
+
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.Card;
+import com.todokanban.domain.model.Column;
+import com.todokanban.infrastructure.adapter.in.rest.dto.BoardResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Write-only converter that streams a domain {@link Board} straight to a Jackson
+ * {@link JsonGenerator}, skipping the {@link BoardResponse} copy and Jackson's
+ * reflective record serialization.
+ *
+ * <p>The output is identical to what {@link RestMapper#toResponse(Board)} +
+ * Jackson produce: same property order (record component order), ISO-8601
+ * instants, {@code null} for missing descriptions. UUIDs are strings in JSON and
+ * 16-byte binary in CBOR/Smile, exactly like Jackson's {@code UUIDSerializer}.
+ * Field names are pre-encoded once as {@link SerializedString}s.</p>
+ *
+ * <p>One instance per format – see {@link #json()}, {@link #cbor()} and {@link #smile()}.</p>
+ */
+public class BoardHttpMessageConverter extends AbstractHttpMessageConverter<Board> {
+
+    private static final SerializableString ID           = new SerializedString("id");
+    private static final SerializableString WORKSPACE_ID = new SerializedString("workspaceId");
+    private static final SerializableString NAME         = new SerializedString("name");
+    private static final SerializableString TITLE        = new SerializedString("title");
+    private static final SerializableString DESCRIPTION  = new SerializedString("description");
+    private static final SerializableString POSITION     = new SerializedString("position");
+    private static final SerializableString COLUMNS      = new SerializedString("columns");
+    private static final SerializableString CARDS        = new SerializedString("cards");
+    private static final SerializableString CREATED_AT   = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT   = new SerializedString("updatedAt");
+    private static final SerializableString VERSION      = new SerializedString("version");
+
+    private final ObjectMapper mapper;
+
+    public BoardHttpMessageConverter(ObjectMapper mapper, MediaType... supportedMediaTypes) {
+        super(supportedMediaTypes);
+        this.mapper = mapper;
+    }
+
+    public static BoardHttpMessageConverter json() {
+        return new BoardHttpMessageConverter(JsonMapper.builder().build(),
+                MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    public static BoardHttpMessageConverter cbor() {
+        return new BoardHttpMessageConverter(CBORMapper.builder().build(), MediaType.APPLICATION_CBOR);
+    }
+
+    public static BoardHttpMessageConverter smile() {
+        return new BoardHttpMessageConverter(SmileMapper.builder().build(),
+                new MediaType("application", "x-jackson-smile"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Board.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Board readInternal(Class<? extends Board> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Board is a response-only type", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Board board, HttpOutputMessage outputMessage) throws IOException {
+        writeTo(board, outputMessage.getBody());
+    }
+
+    /** Serializes {@code board} to {@code out} in this converter's format; does not close {@code out}. */
+    public void writeTo(Board board, OutputStream out) {
+        try (JsonGenerator gen = mapper.createGenerator(StreamUtils.nonClosing(out))) {
+            write(board, gen);
+        }
+    }
+
+    // ── Streaming writer ──────────────────────────────────────────────────────
+
+    public static void write(Board board, JsonGenerator gen) {
+        gen.writeStartObject();
+        gen.writeName(ID);
+        writeUuid(gen, board.getId().value());
+        gen.writeName(WORKSPACE_ID);
+        writeUuid(gen, board.getWorkspaceId().value());
+        gen.writeName(NAME);
+        gen.writeString(board.getName());
+        gen.writeName(DESCRIPTION);
+        gen.writeString(board.getDescription());
+        gen.writeName(COLUMNS);
+        List<Column> columns = board.getColumns();
+        gen.writeStartArray(columns, columns.size());
+        for (Column column : columns) {
+            write(column, gen);
+        }
+        gen.writeEndArray();
+        writeTimestamps(gen, board.getCreatedAt(), board.getUpdatedAt());
+        gen.writeName(VERSION);
+        gen.writeNumber(board.getVersion());
+        gen.writeEndObject();
+    }
+
+    private static void write(Column column, JsonGenerator gen) {
+        gen.writeStartObject();
+        gen.writeName(ID);
+        writeUuid(gen, column.getId().value());
+        gen.writeName(NAME);
+        gen.writeString(column.getName());
+        gen.writeName(POSITION);
+        gen.writeNumber(column.getPosition());
+        gen.writeName(CARDS);
+        List<Card> cards = column.getCards();
+        gen.writeStartArray(cards, cards.size());
+        for (Card card : cards) {
+            write(card, gen);
+        }
+        gen.writeEndArray();
+        writeTimestamps(gen, column.getCreatedAt(), column.getUpdatedAt());
+        gen.writeEndObject();
+    }
+
+    private static void write(Card card, JsonGenerator gen) {
+        gen.writeStartObject();
+        gen.writeName(ID);
+        writeUuid(gen, card.getId().value());
+        gen.writeName(TITLE);
+        gen.writeString(card.getTitle());
+        gen.writeName(DESCRIPTION);
+        gen.writeString(card.getDescription());
+        gen.writeName(POSITION);
+        gen.writeNumber(card.getPosition());
+        writeTimestamps(gen, card.getCreatedAt(), card.getUpdatedAt());
+        gen.writeEndObject();
+    }
+
+    private static void writeTimestamps(JsonGenerator gen, Instant createdAt, Instant updatedAt) {
+        gen.writeName(CREATED_AT);
+        writeInstant(gen, createdAt);
+        gen.writeName(UPDATED_AT);
+        writeInstant(gen, updatedAt);
+    }
+
+    private static void writeInstant(JsonGenerator gen, Instant instant) {
+        if (instant == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_INSTANT.format(instant));
+        }
+    }
+
+    private static void writeUuid(JsonGenerator gen, UUID uuid) {
+        if (gen.canWriteBinaryNatively()) {
+            byte[] bytes = ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+            gen.writeBinary(bytes);
+        } else {
+            gen.writeString(uuid.toString());
+        }
+    }
+}
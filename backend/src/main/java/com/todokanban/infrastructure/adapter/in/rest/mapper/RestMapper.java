@@ -73,6 +73,46 @@ public final class RestMapper {
                 new CardId(cardId));
     }
 
+    public static GetArchivedCardsQuery toArchivedCardsQuery(UUID boardId, String search,
+                                                             int limit, int offset) {
+        return new GetArchivedCardsQuery(new BoardId(boardId), search, limit, offset);
+    }
+
+    public static RestoreArchivedCardCommand toRestoreCommand(UUID boardId, UUID cardId,
+                                                              RestoreCardRequest request) {
+        return new RestoreArchivedCardCommand(
+                new BoardId(boardId),
+                new CardId(cardId),
+                request != null && request.columnId() != null ? new ColumnId(request.columnId()) : null);
+    }
+
+    public static DeleteColumnCommand toDeleteColumnCommand(UUID boardId, UUID columnId) {
+        return new DeleteColumnCommand(new BoardId(boardId), new ColumnId(columnId));
+    }
+
+    public static ClearColumnCommand toClearColumnCommand(UUID boardId, UUID columnId) {
+        return new ClearColumnCommand(new BoardId(boardId), new ColumnId(columnId));
+    }
+
+    public static MoveAllCardsCommand toCommand(UUID boardId, UUID columnId, MoveAllCardsRequest request) {
+        return new MoveAllCardsCommand(
+                new BoardId(boardId),
+                new ColumnId(columnId),
+                new ColumnId(request.targetColumnId()));
+    }
+
+    public static CloneBoardCommand toCloneCommand(UUID boardId, CloneBoardRequest request) {
+        if (request == null) {
+            return new CloneBoardCommand(new BoardId(boardId), null, null, true, false);
+        }
+        return new CloneBoardCommand(
+                new BoardId(boardId),
+                request.workspaceId() != null ? new WorkspaceId(request.workspaceId()) : null,
+                request.name(),
+                !Boolean.FALSE.equals(request.includeCards()),
+                Boolean.TRUE.equals(request.template()));
+    }
+
     // ── Domain → Response DTO ─────────────────────────────────────────────────
 
     public static WorkspaceResponse toResponse(Workspace workspace) {
@@ -95,7 +135,8 @@ public final class RestMapper {
                 board.getDescription(),
                 columns,
                 board.getCreatedAt(),
-                board.getUpdatedAt());
+                board.getUpdatedAt(),
+                board.getVersion());
     }
 
     public static ColumnResponse toResponse(Column column) {
@@ -120,4 +161,74 @@ public final class RestMapper {
                 card.getCreatedAt(),
                 card.getUpdatedAt());
     }
+
+    public static BoardChangesResponse toResponse(BoardChangeFeed feed) {
+        List<BoardChangeResponse> changes = feed.changes().stream()
+                .map(RestMapper::toResponse)
+                .toList();
+        return new BoardChangesResponse(
+                feed.boardId().value(),
+                feed.since(),
+                feed.version(),
+                feed.reloadRequired(),
+                feed.hasMore(),
+                changes);
+    }
+
+    public static BoardChangeResponse toResponse(BoardChange change) {
+        return new BoardChangeResponse(
+                change.version(),
+                change.entity().name(),
+                change.type().name(),
+                change.entityId(),
+                change.columnId(),
+                change.name(),
+                change.description(),
+                change.position(),
+                change.changedAt());
+    }
+
+    public static ArchivedCardResponse toResponse(ArchivedCard card) {
+        return new ArchivedCardResponse(
+                card.id().value(),
+                card.columnId().value(),
+                card.title(),
+                card.description(),
+                card.createdAt(),
+                card.updatedAt(),
+                card.archivedAt());
+    }
+
+    public static ColumnBulkResponse toResponse(ColumnBulkResult result) {
+        return new ColumnBulkResponse(
+                result.boardId().value(),
+                result.version(),
+                result.affectedCards());
+    }
+
+    public static BoardTemplateResponse toResponse(BoardTemplate template) {
+        return new BoardTemplateResponse(
+                template.id().value(),
+                template.workspaceId().value(),
+                template.name(),
+                template.description(),
+                template.createdAt());
+    }
+
+    public static WorkspaceDashboardResponse toResponse(WorkspaceDashboard dashboard) {
+        List<WorkspaceDashboardResponse.BoardSummary> boards = dashboard.boards().stream()
+                .map(board -> new WorkspaceDashboardResponse.BoardSummary(
+                        board.boardId().value(),
+                        board.name(),
+                        board.totalCards(),
+                        board.columns().stream()
+                                .map(column -> new WorkspaceDashboardResponse.ColumnCount(
+                                        column.columnId().value(),
+                                        column.name(),
+                                        column.position(),
+                                        column.cardCount()))
+                                .toList()))
+                .toList();
+        return new WorkspaceDashboardResponse(dashboard.workspaceId().value(), boards);
+    }
 }
@@ -0,0 +1,23 @@
+package com.todokanban.infrastructure.adapter.out.coherence;
+
+import java.util.UUID;
+
+/**
+ * A node-local cache of board or workspace state that {@link PgCacheCoherence} keeps
+ * coherent with writes made on other nodes.
+ *
+ * <p>Local writes already reach the cache through {@code BoardChangedEvent} and
+ * {@code WorkspaceDeletedEvent} listeners; these callbacks carry the other nodes'
+ * changes. They run on the coherence listener thread, outside any transaction.</p>
+ */
+public interface CoherentCache {
+
+    /** Another node changed – or, with {@code deleted}, removed – a board. */
+    default void evictBoard(UUID boardId, boolean deleted) {}
+
+    /** Another node removed a workspace. */
+    default void evictWorkspace(UUID workspaceId) {}
+
+    /** Changes may have been missed (e.g. the listener reconnected): drop everything. */
+    void evictAll();
+}
@@ -0,0 +1,337 @@
+package com.todokanban.infrastructure.adapter.out.coherence;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.event.WorkspaceDeletedEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps node-local caches coherent across backend replicas through Postgres
+ * {@code LISTEN}/{@code NOTIFY}, without a separate message broker. Enabled with
+ * {@code kanban.cache-coherence.enabled=true}.
+ *
+ * <ul>
+ *   <li>Publishing: committed {@link BoardChangedEvent}s and {@link WorkspaceDeletedEvent}s
+ *       are queued and sent by one sender thread with {@code pg_notify}. Everything queued
+ *       within {@code batch-window} goes out together, de-duplicated, in as few
+ *       notifications as the 8000-byte payload limit allows.</li>
+ *   <li>Subscribing: a listener thread holds its own connection (outside the pool) with
+ *       {@code LISTEN} on the channel and hands other nodes' changes to every
+ *       {@link CoherentCache}. A node ignores its own notifications – its caches already
+ *       saw the local event.</li>
+ *   <li>Resync: notifications sent while a node was not listening are lost, so after every
+ *       (re)connect the node drops all its cached state. If publishing falls behind
+ *       ({@code max-pending}) or fails, the node asks every other node to do the same.</li>
+ * </ul>
+ *
+ * <p>The in-memory board store ({@code kanban.board-store.type=memory}) publishes saves
+ * before they are flushed, so other nodes may reload the previous state; that store
+ * remains a single-node option.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.cache-coherence.enabled", havingValue = "true")
+public class PgCacheCoherence implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PgCacheCoherence.class);
+
+    /** Postgres rejects payloads of 8000 bytes or more. */
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    static final char BOARD_CHANGED     = 'b';
+    static final char BOARD_DELETED     = 'd';
+    static final char WORKSPACE_DELETED = 'w';
+    static final String RESYNC          = "*";
+
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final List<CoherentCache> caches;
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final Duration batchWindow;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final BlockingQueue<String> outbox;
+    private final AtomicBoolean resyncOthers = new AtomicBoolean();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread sender;
+    private Thread listener;
+
+    public PgCacheCoherence(List<CoherentCache> caches,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${spring.datasource.url}") String url,
+                            @Value("${spring.datasource.username}") String username,
+                            @Value("${spring.datasource.password}") String password,
+                            @Value("${kanban.cache-coherence.channel:kanban_cache}") String channel,
+                            @Value("${kanban.cache-coherence.batch-window:PT0.01S}") Duration batchWindow,
+                            @Value("${kanban.cache-coherence.max-pending:100000}") int maxPending,
+                            @Value("${kanban.cache-coherence.poll-interval:PT5S}") Duration pollInterval,
+                            @Value("${kanban.cache-coherence.reconnect-delay:PT1S}") Duration reconnectDelay) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache coherence channel name '%s'".formatted(channel));
+        }
+        this.caches = caches;
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.batchWindow = batchWindow;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.outbox = new LinkedBlockingQueue<>(maxPending);
+    }
+
+    // ── Publishing ────────────────────────────────────────────────────────────
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        enqueue((event.deleted() ? BOARD_DELETED : BOARD_CHANGED) + event.boardId().value().toString());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkspaceDeleted(WorkspaceDeletedEvent event) {
+        enqueue(WORKSPACE_DELETED + event.workspaceId().value().toString());
+    }
+
+    private void enqueue(String entry) {
+        if (!outbox.offer(entry)) {
+            // Too far behind to name every change: have the other nodes drop everything
+            resyncOthers.set(true);
+        }
+    }
+
+    private void sendLoop() {
+        List<String> batch = new ArrayList<>();
+        while (running) {
+            try {
+                String first = outbox.poll(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null && !resyncOthers.get()) {
+                    continue;
+                }
+                if (first != null) {
+                    batch.add(first);
+                    // Let concurrent commits join the batch
+                    Thread.sleep(batchWindow);
+                }
+                outbox.drainTo(batch);
+                send(batch);
+            } catch (InterruptedException e) {
+                // Stopping: publish what is already queued, once
+                outbox.drainTo(batch);
+                sendQuietly(batch);
+                return;
+            } catch (DataAccessException e) {
+                resyncOthers.set(true);
+                log.warn("Could not publish {} cache invalidation(s), other nodes will resync: {}",
+                        batch.size(), e.getMessage());
+                if (!pause(reconnectDelay)) {
+                    return;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(Collection<String> entries) {
+        List<String> payloads = resyncOthers.getAndSet(false)
+                ? List.of(nodeId + '|' + RESYNC)
+                : encode(nodeId, new LinkedHashSet<>(entries));
+        for (String payload : payloads) {
+            jdbcTemplate.query(NOTIFY, rs -> { }, channel, payload);
+        }
+    }
+
+    private void sendQuietly(Collection<String> entries) {
+        if (entries.isEmpty() && !resyncOthers.get()) {
+            return;
+        }
+        try {
+            send(entries);
+        } catch (DataAccessException e) {
+            log.warn("Could not publish {} cache invalidation(s) on shutdown: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    /** Packs {@code entries} into {@code <node>|<entry> <entry> …} payloads under the size limit. */
+    static List<String> encode(String nodeId, Collection<String> entries) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId).append('|');
+        int header = payload.length();
+        for (String entry : entries) {
+            if (payload.length() > header) {
+                if (payload.length() + 1 + entry.length() > MAX_PAYLOAD_BYTES) {
+                    payloads.add(payload.toString());
+                    payload.setLength(header);
+                } else {
+                    payload.append(' ');
+                }
+            }
+            payload.append(entry);
+        }
+        if (payload.length() > header) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    // ── Subscribing ───────────────────────────────────────────────────────────
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                // Whatever was committed while this node was not listening is unknown
+                resync();
+                log.info("Listening for cache invalidations on channel '{}'", channel);
+
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(Math.toIntExact(pollInterval.toMillis()));
+                    if (notifications == null || notifications.length == 0) {
+                        // getNotifications does not notice a dead socket on its own
+                        if (!connection.isValid(Math.toIntExact(Math.max(1, pollInterval.toSeconds())))) {
+                            throw new SQLException("LISTEN connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache coherence listener lost its connection, reconnecting in {}: {}",
+                        reconnectDelay, e.getMessage());
+                if (!pause(reconnectDelay)) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("Cache coherence listener failed, reconnecting in {}", reconnectDelay, e);
+                if (!pause(reconnectDelay)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Applies one notification payload from any node to the local caches. */
+    void handle(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0) {
+            log.warn("Unreadable cache invalidation '{}', resyncing", payload);
+            resync();
+            return;
+        }
+        if (payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        String body = payload.substring(separator + 1);
+        if (body.equals(RESYNC)) {
+            resync();
+            return;
+        }
+        for (String entry : body.split(" ")) {
+            UUID id;
+            try {
+                id = UUID.fromString(entry.substring(1));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                log.warn("Unreadable cache invalidation '{}', resyncing", entry);
+                resync();
+                return;
+            }
+            switch (entry.charAt(0)) {
+                case BOARD_CHANGED     -> caches.forEach(cache -> cache.evictBoard(id, false));
+                case BOARD_DELETED     -> caches.forEach(cache -> cache.evictBoard(id, true));
+                case WORKSPACE_DELETED -> caches.forEach(cache -> cache.evictWorkspace(id));
+                default -> {
+                    log.warn("Unknown cache invalidation '{}', resyncing", entry);
+                    resync();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void resync() {
+        caches.forEach(CoherentCache::evictAll);
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    // ── Lifecycle ─────────────────────────────────────────────────────────────
+
+    @Override
+    public void start() {
+        running = true;
+        sender = Thread.ofPlatform().name("cache-coherence-sender").daemon().start(this::sendLoop);
+        listener = Thread.ofPlatform().name("cache-coherence-listener").daemon().start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        sender.interrupt();
+        listener.interrupt();
+        try {
+            sender.join(reconnectDelay.toMillis());
+            // The listener notices within one poll interval
+            listener.join(pollInterval.toMillis() + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static boolean pause(Duration delay) {
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
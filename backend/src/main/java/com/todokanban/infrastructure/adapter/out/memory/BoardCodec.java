@@ -0,0 +1,109 @@
+package com.todokanban.infrastructure.adapter.out.memory;
+
+import com.todokanban.domain.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary encoding of a board for the journal: a format byte followed by the
+ * {@link CompactBoard} serialization.
+ *
+ * <p>Format 1 (the field-by-field aggregate encoding) is still read, so journals
+ * written before the compact layout replay.</p>
+ *
+ * <p>Static utility – no Spring injection.</p>
+ */
+final class BoardCodec {
+
+    private static final byte FORMAT = 2;
+    private static final byte FORMAT_AGGREGATE = 1;
+
+    private BoardCodec() {}
+
+    static byte[] encode(CompactBoard board) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT);
+            board.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static CompactBoard decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte format = in.readByte();
+            return switch (format) {
+                case FORMAT -> CompactBoard.readFrom(in);
+                case FORMAT_AGGREGATE -> CompactBoard.of(readAggregate(in));
+                default -> throw new IllegalStateException("Unknown board encoding %d".formatted(format));
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Format 1: field by field, as written before {@link CompactBoard}. */
+    private static Board readAggregate(DataInputStream in) throws IOException {
+        BoardId id = new BoardId(readUuid(in));
+        WorkspaceId workspaceId = new WorkspaceId(readUuid(in));
+        String name = readString(in);
+        String description = readString(in);
+        Instant createdAt = readInstant(in);
+        Instant updatedAt = readInstant(in);
+        long version = in.readLong();
+
+        int columnCount = in.readInt();
+        List<Column> columns = new ArrayList<>(columnCount);
+        for (int c = 0; c < columnCount; c++) {
+            ColumnId columnId = new ColumnId(readUuid(in));
+            String columnName = readString(in);
+            int position = in.readInt();
+            Instant columnCreated = readInstant(in);
+            Instant columnUpdated = readInstant(in);
+
+            int cardCount = in.readInt();
+            List<Card> cards = new ArrayList<>(cardCount);
+            for (int k = 0; k < cardCount; k++) {
+                cards.add(Card.reconstitute(new CardId(readUuid(in)), readString(in), readString(in),
+                        in.readInt(), readInstant(in), readInstant(in)));
+            }
+            columns.add(Column.reconstitute(columnId, columnName, position, cards,
+                    columnCreated, columnUpdated));
+        }
+        return Board.reconstitute(id, workspaceId, name, description, columns,
+                createdAt, updatedAt, version);
+    }
+
+    // ── Primitives ────────────────────────────────────────────────────────────
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    /** Length-prefixed UTF-8; {@code -1} encodes {@code null}. */
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+}
@@ -0,0 +1,233 @@
+package com.todokanban.infrastructure.adapter.out.memory;
+
+import com.todokanban.domain.model.BoardId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, memory-mapped journal of board writes, split into numbered segment files.
+ *
+ * <p>Record layout: {@code [int length][int crc32c][byte type][long msb][long lsb][payload]},
+ * where {@code length} counts everything after the CRC. Segments are pre-sized and
+ * zero-filled, so a zero length marks the end of the written part; a torn or corrupt
+ * record (bad CRC) ends replay of its segment.</p>
+ *
+ * <p>Appends are serialized by the journal's monitor. Durability depends on {@link FsyncPolicy}:
+ * {@code ALWAYS} forces the written range before {@link #append} returns, {@code INTERVAL}
+ * leaves it to {@link #force()} calls on a schedule, {@code NEVER} to the OS.</p>
+ */
+final class BoardJournal implements AutoCloseable {
+
+    enum FsyncPolicy { ALWAYS, INTERVAL, NEVER }
+
+    static final byte SAVE = 1;
+    static final byte DELETE = 2;
+
+    /** A replayed record. */
+    record Entry(byte type, BoardId boardId, byte[] payload, long segment) {}
+
+    private static final Logger log = LoggerFactory.getLogger(BoardJournal.class);
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d{10})\\.log");
+    private static final int HEADER = 4 + 4 + 1 + 16;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final FsyncPolicy fsync;
+
+    private long activeSegment;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private boolean unforced;
+
+    BoardJournal(Path directory, long segmentSize, FsyncPolicy fsync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Long> existing = segments();
+        // Never append after a possibly torn tail: new writes always start a fresh segment
+        this.activeSegment = existing.isEmpty() ? 0 : existing.get(existing.size() - 1);
+    }
+
+    /** Replays every intact record, oldest first. Call once, before the first append. */
+    void replay(Consumer<Entry> consumer) {
+        for (long segment : segments()) {
+            try (FileChannel ch = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                ByteBuffer data = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                int records = 0;
+                while (data.remaining() >= HEADER) {
+                    int start = data.position();
+                    int length = data.getInt();
+                    int crc = data.getInt();
+                    if (length == 0) {
+                        break;
+                    }
+                    if (length < HEADER - 8 || length > data.remaining()) {
+                        log.warn("Journal segment {} ends with a torn record at offset {}", segment, start);
+                        break;
+                    }
+                    byte[] body = new byte[length];
+                    data.get(body);
+                    if (crc(body) != crc) {
+                        log.warn("Journal segment {} has a corrupt record at offset {}", segment, start);
+                        break;
+                    }
+                    ByteBuffer b = ByteBuffer.wrap(body);
+                    byte type = b.get();
+                    BoardId boardId = new BoardId(new UUID(b.getLong(), b.getLong()));
+                    byte[] payload = new byte[b.remaining()];
+                    b.get(payload);
+                    consumer.accept(new Entry(type, boardId, payload, segment));
+                    records++;
+                }
+                log.info("Replayed {} record(s) from journal segment {}", records, segment);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return the segment the record was written to
+     */
+    synchronized long append(byte type, BoardId boardId, byte[] payload) {
+        int length = 1 + 16 + payload.length;
+        byte[] body = ByteBuffer.allocate(length)
+                .put(type)
+                .putLong(boardId.value().getMostSignificantBits())
+                .putLong(boardId.value().getLeastSignificantBits())
+                .put(payload)
+                .array();
+
+        if (buffer == null || buffer.remaining() < 8 + length) {
+            roll(8L + length);
+        }
+        int start = buffer.position();
+        // Body first, header last: a crash mid-write leaves a zero length or a bad CRC
+        buffer.position(start + 8);
+        buffer.put(body);
+        buffer.putInt(start + 4, crc(body));
+        buffer.putInt(start, length);
+
+        if (fsync == FsyncPolicy.ALWAYS) {
+            buffer.force(start, 8 + length);
+        } else {
+            unforced = true;
+        }
+        return activeSegment;
+    }
+
+    /** Forces appended records to disk; cheap when nothing was written since the last call. */
+    synchronized void force() {
+        if (buffer != null && unforced) {
+            buffer.force();
+            unforced = false;
+        }
+    }
+
+    synchronized long activeSegment() {
+        return activeSegment;
+    }
+
+    /** Deletes every segment older than {@code segment}; the segment being appended to is kept. */
+    synchronized void deleteSegmentsBefore(long segment) {
+        // Before the first append, activeSegment is the newest replayed segment – not in use
+        long limit = Math.min(segment, buffer == null ? activeSegment + 1 : activeSegment);
+        for (long existing : segments()) {
+            if (existing < limit) {
+                try {
+                    Files.deleteIfExists(segmentPath(existing));
+                } catch (IOException e) {
+                    log.warn("Could not delete journal segment {}: {}", existing, e.toString());
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (buffer != null) {
+            buffer.force();
+        }
+        closeChannel();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private void roll(long minimumSize) {
+        if (buffer != null) {
+            buffer.force();
+        }
+        closeChannel();
+        activeSegment++;
+        try {
+            channel = FileChannel.open(segmentPath(activeSegment), StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentSize, minimumSize + 4));
+            unforced = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Could not close journal segment {}: {}", activeSegment, e.toString());
+            }
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    private List<Long> segments() {
+        List<Long> result = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher m = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (m.matches()) {
+                    result.add(Long.parseLong(m.group(1)));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        result.sort(null);
+        return result;
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve("journal-%010d.log".formatted(segment));
+    }
+
+    private static int crc(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+}
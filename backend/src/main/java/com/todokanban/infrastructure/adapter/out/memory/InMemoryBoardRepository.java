@@ -0,0 +1,530 @@
+package com.todokanban.infrastructure.adapter.out.memory;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.event.WorkspaceDeletedEvent;
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.CompactBoard;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.BoardRepository;
+import com.todokanban.infrastructure.adapter.out.coherence.CoherentCache;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardPersistenceAdapter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link BoardRepository} that keeps active boards resident in memory and writes
+ * them behind to Postgres. Enabled with {@code kanban.board-store.type=memory}.
+ *
+ * <ul>
+ *   <li>Resident boards are held as {@link CompactBoard} snapshots. Reads build a fresh
+ *       aggregate from the snapshot and never touch the database; a miss loads the board
+ *       through {@link BoardPersistenceAdapter} and makes it resident.</li>
+ *   <li>A save is appended to the {@link BoardJournal} before it becomes visible. Inside
+ *       a transaction this happens when the transaction commits.</li>
+ *   <li>A scheduled flusher writes dirty boards to Postgres in batches, one transaction
+ *       per batch. If a batch fails its boards are retried one per transaction, so one
+ *       bad board cannot hold back the rest. A board the database rejects for good is
+ *       quarantined: it keeps its writes and journal records and is not retried until
+ *       it is saved again or the node restarts ({@code kanban.board-store.quarantined}).
+ *       Journal segments no dirty board depends on are then deleted.</li>
+ *   <li>On startup the journal is replayed and every replayed board is dirty until flushed,
+ *       so a crash loses at most what the fsync policy had not yet forced.</li>
+ *   <li>Clean boards idle for {@code idle-timeout} are evicted back to DB-only.</li>
+ * </ul>
+ *
+ * <p>Deletes go straight to the database. A deleted workspace's resident boards are
+ * dropped, flushed or not. The change feed ({@code board_changes}) and board version
+ * advance when a board is flushed, not on every save.</p>
+ *
+ * <p>Writers that change rows directly (column bulk operations, the card archive job,
+ * reactive card moves) call {@link #flushAndEvict} first: the board's unflushed writes
+ * are committed in their own transaction and the resident copy is dropped, so it can
+ * neither be served nor written back over their change. Their
+ * {@link BoardChangedEvent} then evicts the copy any read loaded in the meantime.</p>
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "kanban.board-store.type", havingValue = "memory")
+public class InMemoryBoardRepository implements BoardRepository, CoherentCache, MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryBoardRepository.class);
+
+    /** A resident board. Fields are guarded by the instance monitor. */
+    private static final class Resident {
+        final WorkspaceId workspaceId;
+        CompactBoard state;
+        long writes;
+        long flushedWrites;
+        /** Loaded from or flushed to the database at least once. */
+        boolean persisted;
+        /** Deleted while resident; a flush already under way must not resurrect it. */
+        boolean deleted;
+        /** Rejected by the database; not flushed again until the next save. */
+        boolean quarantined;
+        long segment = Long.MAX_VALUE;
+        long lastAccessNanos;
+
+        Resident(WorkspaceId workspaceId, CompactBoard state, long now) {
+            this.workspaceId = workspaceId;
+            this.state = state;
+            this.lastAccessNanos = now;
+        }
+
+        boolean dirty() { return writes != flushedWrites; }
+    }
+
+    private final BoardPersistenceAdapter database;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardJournal journal;
+    private final BoardJournal.FsyncPolicy fsync;
+    private final int flushBatchSize;
+    private final long idleNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<BoardId, Resident> residents = new ConcurrentHashMap<>();
+    /** Set while the flusher commits, so its own change events do not evict what it just flushed. */
+    private final ThreadLocal<Boolean> flushing = ThreadLocal.withInitial(() -> false);
+
+    @Autowired
+    public InMemoryBoardRepository(
+            BoardPersistenceAdapter database,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${kanban.board-store.journal-dir}") Path journalDir,
+            @Value("${kanban.board-store.journal-segment-size:64MB}") DataSize segmentSize,
+            @Value("${kanban.board-store.journal-fsync:INTERVAL}") BoardJournal.FsyncPolicy fsync,
+            @Value("${kanban.board-store.flush-batch-size:100}") int flushBatchSize,
+            @Value("${kanban.board-store.idle-timeout:PT10M}") Duration idleTimeout) {
+        this(database, requiresNew(transactionManager), eventPublisher,
+                new BoardJournal(journalDir, segmentSize.toBytes(), fsync), fsync,
+                flushBatchSize, idleTimeout, System::nanoTime);
+    }
+
+    InMemoryBoardRepository(BoardPersistenceAdapter database, TransactionOperations transactionOperations,
+                            ApplicationEventPublisher eventPublisher, BoardJournal journal,
+                            BoardJournal.FsyncPolicy fsync, int flushBatchSize, Duration idleTimeout,
+                            LongSupplier nanoClock) {
+        if (flushBatchSize < 1) {
+            throw new IllegalArgumentException("Board store flush batch size must be at least 1");
+        }
+        this.database = database;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.journal = journal;
+        this.fsync = fsync;
+        this.flushBatchSize = flushBatchSize;
+        this.idleNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        recover();
+    }
+
+    // ── BoardRepository ───────────────────────────────────────────────────────
+
+    @Override
+    public Board save(Board board) {
+        CompactBoard state = CompactBoard.of(board);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(board.getId(), board.getWorkspaceId(), state);
+                }
+            });
+        } else {
+            apply(board.getId(), board.getWorkspaceId(), state);
+        }
+        eventPublisher.publishEvent(BoardChangedEvent.updated(board.getId()));
+        return state.toBoard();
+    }
+
+    @Override
+    public Optional<Board> findById(BoardId id) {
+        Resident resident = residents.get(id);
+        if (resident == null) {
+            Optional<Board> loaded = database.findById(id);
+            if (loaded.isEmpty()) {
+                return loaded;
+            }
+            Resident fresh = new Resident(loaded.get().getWorkspaceId(),
+                    CompactBoard.of(loaded.get()), nanoClock.getAsLong());
+            fresh.persisted = true;
+            resident = residents.putIfAbsent(id, fresh);
+            if (resident == null) {
+                return loaded;
+            }
+        }
+        synchronized (resident) {
+            resident.lastAccessNanos = nanoClock.getAsLong();
+            return Optional.of(resident.state.toBoard());
+        }
+    }
+
+    @Override
+    public List<Board> findByWorkspaceId(WorkspaceId workspaceId) {
+        Map<BoardId, Board> boards = new LinkedHashMap<>();
+        database.findByWorkspaceId(workspaceId).forEach(b -> boards.put(b.getId(), b));
+        // Resident state wins. Boards never flushed yet are only resident; anything else the
+        // database did not list (e.g. a template) stays out
+        residents.forEach((id, resident) -> {
+            if (resident.workspaceId.equals(workspaceId)) {
+                synchronized (resident) {
+                    if (boards.containsKey(id) || !resident.persisted) {
+                        boards.put(id, resident.state.toBoard());
+                    }
+                }
+            }
+        });
+        return new ArrayList<>(boards.values());
+    }
+
+    @Override
+    public boolean existsById(BoardId id) {
+        return residents.containsKey(id) || database.existsById(id);
+    }
+
+    @Override
+    public void deleteById(BoardId id) {
+        journal.append(BoardJournal.DELETE, id, new byte[0]);
+        Resident resident = residents.get(id);
+        if (resident != null) {
+            synchronized (resident) {
+                resident.deleted = true;
+                residents.remove(id, resident);
+            }
+        }
+        database.deleteById(id);
+    }
+
+    /**
+     * Commits the board's unflushed writes, if any, and drops the resident copy. A save
+     * racing with this keeps the board resident and dirty.
+     *
+     * @throws org.springframework.dao.DataAccessException if the writes could not be
+     *         committed; the board then stays resident and dirty
+     */
+    @Override
+    public void flushAndEvict(BoardId id) {
+        Resident resident = residents.get(id);
+        if (resident == null) {
+            return;
+        }
+        CompactBoard state;
+        long writes;
+        synchronized (resident) {
+            if (!resident.dirty()) {
+                residents.remove(id, resident);
+                return;
+            }
+            state = resident.state;
+            writes = resident.writes;
+        }
+        try {
+            write(List.of(state));
+        } catch (NonTransientDataAccessException rejected) {
+            quarantine(id, resident, rejected);
+            throw rejected;
+        }
+        flushed(id, resident, writes);
+        synchronized (resident) {
+            if (!resident.dirty()) {
+                residents.remove(id, resident);
+            }
+        }
+    }
+
+    // ── Write-behind, journal and eviction ────────────────────────────────────
+
+    /** Writes dirty boards to Postgres, {@code flush-batch-size} per transaction. */
+    @Scheduled(fixedDelayString = "${kanban.board-store.flush-interval:PT1S}")
+    public void flush() {
+        record Pending(BoardId id, Resident resident, CompactBoard state, long writes) {}
+
+        List<Pending> dirty = new ArrayList<>();
+        residents.forEach((id, resident) -> {
+            synchronized (resident) {
+                if (resident.dirty() && !resident.quarantined) {
+                    dirty.add(new Pending(id, resident, resident.state, resident.writes));
+                }
+            }
+        });
+
+        for (int from = 0; from < dirty.size(); from += flushBatchSize) {
+            List<Pending> batch = dirty.subList(from, Math.min(dirty.size(), from + flushBatchSize));
+            List<Pending> written = batch;
+            try {
+                write(batch.stream().map(Pending::state).toList());
+            } catch (RuntimeException e) {
+                log.warn("Write-behind of {} board(s) failed, retrying them one by one: {}",
+                        batch.size(), e.toString());
+                written = new ArrayList<>();
+                for (Pending p : batch) {
+                    try {
+                        write(List.of(p.state()));
+                        written.add(p);
+                    } catch (NonTransientDataAccessException rejected) {
+                        quarantine(p.id(), p.resident(), rejected);
+                    } catch (RuntimeException failed) {
+                        // Most likely the database is unreachable: retry on the next run
+                        log.warn("Write-behind of board '{}' failed, will retry: {}", p.id(), failed.toString());
+                        break;
+                    }
+                }
+            }
+            for (Pending p : written) {
+                flushed(p.id(), p.resident(), p.writes());
+            }
+        }
+        truncateJournal();
+    }
+
+    /** Records that {@code writes} reached the database. */
+    private void flushed(BoardId id, Resident resident, long writes) {
+        boolean deleted;
+        synchronized (resident) {
+            resident.flushedWrites = Math.max(resident.flushedWrites, writes);
+            resident.persisted = true;
+            deleted = resident.deleted;
+        }
+        if (deleted) {
+            // Deleted while we were writing it – do not let the flush resurrect it
+            database.deleteById(id);
+        }
+    }
+
+    private void write(List<CompactBoard> boards) {
+        flushing.set(true);
+        try {
+            transactionOperations.executeWithoutResult(status ->
+                    boards.forEach(board -> database.save(board.toBoard())));
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /** Forces the journal under the {@code INTERVAL} fsync policy. */
+    @Scheduled(fixedDelayString = "${kanban.board-store.journal-fsync-interval:PT0.1S}")
+    public void forceJournal() {
+        if (fsync == BoardJournal.FsyncPolicy.INTERVAL) {
+            journal.force();
+        }
+    }
+
+    /** Drops clean boards that have not been read or written for {@code idle-timeout}. */
+    @Scheduled(fixedDelayString = "${kanban.board-store.eviction-interval:PT1M}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        residents.forEach((id, resident) -> {
+            synchronized (resident) {
+                if (!resident.dirty() && now - resident.lastAccessNanos > idleNanos) {
+                    residents.remove(id, resident);
+                }
+            }
+        });
+    }
+
+    /**
+     * Evicts a clean resident board that someone else changed in the database. A board
+     * deleted in the database (e.g. with its workspace) is dropped even with unflushed
+     * writes, and journalled as deleted so that recovery does not bring it back.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (flushing.get()) {
+            return;
+        }
+        evict(event.boardId(), event.deleted());
+    }
+
+    /** A board changed on another node is handled like any other external change. */
+    @Override
+    public void evictBoard(UUID boardId, boolean deleted) {
+        evict(new BoardId(boardId), deleted);
+    }
+
+    /**
+     * Drops the resident boards of a deleted workspace, flushed or not: the database
+     * cascade removed the flushed ones, and the others could never be written.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkspaceDeleted(WorkspaceDeletedEvent event) {
+        evictWorkspace(event.workspaceId().value());
+    }
+
+    @Override
+    public void evictWorkspace(UUID workspaceId) {
+        WorkspaceId workspace = new WorkspaceId(workspaceId);
+        residents.forEach((id, resident) -> {
+            if (resident.workspaceId.equals(workspace)) {
+                evict(id, true);
+            }
+        });
+    }
+
+    /** Evicts every clean resident board; dirty ones keep their unflushed writes. */
+    @Override
+    public void evictAll() {
+        residents.forEach((id, resident) -> {
+            synchronized (resident) {
+                if (!resident.dirty()) {
+                    residents.remove(id, resident);
+                }
+            }
+        });
+    }
+
+    int residentCount() {
+        return residents.size();
+    }
+
+    /** Boards holding writes the database rejected. */
+    public long quarantinedCount() {
+        return residents.values().stream().filter(resident -> {
+            synchronized (resident) {
+                return resident.quarantined;
+            }
+        }).count();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kanban.board-store.quarantined", this, InMemoryBoardRepository::quarantinedCount)
+                .description("Resident boards whose unflushed writes the database rejected")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        journal.close();
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private void evict(BoardId id, boolean deleted) {
+        Resident resident = residents.get(id);
+        if (resident != null) {
+            synchronized (resident) {
+                if (deleted) {
+                    journal.append(BoardJournal.DELETE, id, new byte[0]);
+                    resident.deleted = true;
+                    residents.remove(id, resident);
+                } else if (!resident.dirty()) {
+                    residents.remove(id, resident);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops flushing a board the database rejects. Its writes stay resident and journalled
+     * – they were acknowledged – until the board is saved again, deleted, or the node
+     * restarts and retries them.
+     */
+    private void quarantine(BoardId id, Resident resident, NonTransientDataAccessException rejected) {
+        synchronized (resident) {
+            resident.quarantined = true;
+        }
+        log.error("Quarantined board '{}': the database rejects its unflushed writes, which are kept "
+                + "in memory and in the journal: {}", id, rejected.toString());
+    }
+
+    /**
+     * Journals and applies a save. Both happen under the resident's monitor, so that a
+     * concurrent journal truncation either sees the board dirty or runs before the append.
+     */
+    private void apply(BoardId id, WorkspaceId workspaceId, CompactBoard state) {
+        byte[] payload = BoardCodec.encode(state);
+        while (true) {
+            long now = nanoClock.getAsLong();
+            Resident resident = residents.computeIfAbsent(id, k -> new Resident(workspaceId, state, now));
+            synchronized (resident) {
+                if (residents.get(id) != resident) {
+                    // Evicted while we waited for the monitor: apply to the current resident
+                    continue;
+                }
+                long segment = journal.append(BoardJournal.SAVE, id, payload);
+                resident.state = state;
+                resident.writes++;
+                resident.quarantined = false;
+                resident.segment = Math.min(resident.segment, segment);
+                resident.lastAccessNanos = now;
+                return;
+            }
+        }
+    }
+
+    private void truncateJournal() {
+        // Appends after this point land in this segment or a later one
+        long oldestNeeded = journal.activeSegment();
+        for (Resident resident : residents.values()) {
+            synchronized (resident) {
+                if (resident.dirty()) {
+                    oldestNeeded = Math.min(oldestNeeded, resident.segment);
+                } else {
+                    resident.segment = Long.MAX_VALUE;
+                }
+            }
+        }
+        journal.deleteSegmentsBefore(oldestNeeded);
+    }
+
+    private static TransactionOperations requiresNew(PlatformTransactionManager transactionManager) {
+        // Flushes commit on their own, also when flushAndEvict runs inside a caller's transaction
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private void recover() {
+        long now = nanoClock.getAsLong();
+        journal.replay(entry -> {
+            if (entry.type() == BoardJournal.DELETE) {
+                residents.remove(entry.boardId());
+                return;
+            }
+            CompactBoard board = BoardCodec.decode(entry.payload());
+            Resident resident = residents.computeIfAbsent(entry.boardId(),
+                    k -> new Resident(board.getWorkspaceId(), board, now));
+            resident.state = board;
+            resident.writes++;
+            resident.segment = Math.min(resident.segment, entry.segment());
+        });
+        if (!residents.isEmpty()) {
+            log.info("Recovered {} board(s) from the journal; flushing them to the database", residents.size());
+        }
+    }
+}
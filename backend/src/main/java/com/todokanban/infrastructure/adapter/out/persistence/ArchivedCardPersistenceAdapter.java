@@ -0,0 +1,78 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.ArchivedCard;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.CardId;
+import com.todokanban.domain.model.ColumnId;
+import com.todokanban.domain.ports.output.ArchivedCardRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter that implements the {@link ArchivedCardRepository} port on top of the
+ * {@code cards_archive} table. Search uses the table's generated {@code tsvector}.
+ */
+@Repository
+public class ArchivedCardPersistenceAdapter implements ArchivedCardRepository {
+
+    private static final String COLUMNS =
+            "id, board_id, column_id, title, description, created_at, updated_at, archived_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArchivedCardPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ArchivedCard> findByBoardId(BoardId boardId, String search, int limit, int offset) {
+        if (search == null) {
+            return jdbcTemplate.query("""
+                    SELECT %s FROM cards_archive
+                     WHERE board_id = ?
+                     ORDER BY archived_at DESC, id
+                     LIMIT ? OFFSET ?
+                    """.formatted(COLUMNS),
+                    ArchivedCardPersistenceAdapter::map, boardId.value(), limit, offset);
+        }
+        return jdbcTemplate.query("""
+                SELECT %s FROM cards_archive
+                 WHERE board_id = ? AND search @@ plainto_tsquery('simple', ?)
+                 ORDER BY archived_at DESC, id
+                 LIMIT ? OFFSET ?
+                """.formatted(COLUMNS),
+                ArchivedCardPersistenceAdapter::map, boardId.value(), search, limit, offset);
+    }
+
+    @Override
+    public Optional<ArchivedCard> findById(BoardId boardId, CardId cardId) {
+        return jdbcTemplate.query(
+                "SELECT %s FROM cards_archive WHERE board_id = ? AND id = ?".formatted(COLUMNS),
+                ArchivedCardPersistenceAdapter::map, boardId.value(), cardId.value())
+                .stream().findFirst();
+    }
+
+    @Override
+    public void delete(BoardId boardId, CardId cardId) {
+        jdbcTemplate.update("DELETE FROM cards_archive WHERE board_id = ? AND id = ?",
+                boardId.value(), cardId.value());
+    }
+
+    private static ArchivedCard map(ResultSet rs, int rowNum) throws SQLException {
+        return new ArchivedCard(
+                new CardId(rs.getObject("id", UUID.class)),
+                new BoardId(rs.getObject("board_id", UUID.class)),
+                new ColumnId(rs.getObject("column_id", UUID.class)),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getTimestamp("created_at").toInstant(),
+                rs.getTimestamp("updated_at").toInstant(),
+                rs.getTimestamp("archived_at").toInstant());
+    }
+}
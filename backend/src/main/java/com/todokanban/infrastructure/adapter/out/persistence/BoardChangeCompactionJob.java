@@ -0,0 +1,43 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Periodically trims {@code board_changes} so history does not grow with the life of a board.
+ *
+ * <p>Clients whose {@code since} falls behind a board's compaction floor get
+ * {@code reloadRequired} from the changes endpoint and fetch the full board instead.</p>
+ */
+@Component
+public class BoardChangeCompactionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardChangeCompactionJob.class);
+
+    private final BoardChangeLog changeLog;
+    private final Duration retention;
+    private final long keepVersions;
+
+    public BoardChangeCompactionJob(BoardChangeLog changeLog,
+                                    @Value("${kanban.changes.retention:P7D}") Duration retention,
+                                    @Value("${kanban.changes.max-versions-per-board:10000}") long keepVersions) {
+        this.changeLog = changeLog;
+        this.retention = retention;
+        this.keepVersions = keepVersions;
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.changes.compaction-interval:PT10M}",
+               initialDelayString = "${kanban.changes.compaction-interval:PT10M}")
+    public void compact() {
+        int boards = changeLog.compact(Instant.now().minus(retention), keepVersions);
+        if (boards > 0) {
+            log.info("Compacted change history of {} board(s)", boards);
+        }
+    }
+}
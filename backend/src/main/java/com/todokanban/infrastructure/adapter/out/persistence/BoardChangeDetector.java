@@ -0,0 +1,123 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardChange;
+import com.todokanban.domain.model.Card;
+import com.todokanban.domain.model.Column;
+import com.todokanban.infrastructure.adapter.out.persistence.entity.BoardEntity;
+import com.todokanban.infrastructure.adapter.out.persistence.entity.CardEntity;
+import com.todokanban.infrastructure.adapter.out.persistence.entity.ColumnEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Computes the board/column/card changes between two states of a board.
+ *
+ * <p>Both sides are first reduced to a neutral {@link Snapshot} (from the managed
+ * {@link BoardEntity} before a save, and from the {@link Board} aggregate being saved),
+ * so the detector does not care where a state came from.</p>
+ *
+ * <p>Output order is the order a client must apply the changes in: board, created or
+ * updated columns, cards, then deleted columns.</p>
+ *
+ * <p>Static utility – no Spring injection.</p>
+ */
+public final class BoardChangeDetector {
+
+    private BoardChangeDetector() {}
+
+    /** Persisted state of one board element, as stored in {@code board_changes}. */
+    public record ElementState(BoardChange.Entity entity, UUID id, UUID columnId,
+                               String name, String description, Integer position) {}
+
+    /** All elements of a board keyed by id, in board → columns → cards order. */
+    public record Snapshot(Map<UUID, ElementState> elements) {
+        public static final Snapshot EMPTY = new Snapshot(Map.of());
+    }
+
+    /** A detected change; for deletions {@code state} is the last known state. */
+    public record DetectedChange(BoardChange.Type type, ElementState state) {}
+
+    public static Snapshot snapshot(BoardEntity board) {
+        Map<UUID, ElementState> elements = new LinkedHashMap<>();
+        elements.put(board.getId(), new ElementState(BoardChange.Entity.BOARD, board.getId(), null,
+                board.getName(), board.getDescription(), null));
+        for (ColumnEntity column : board.getColumns()) {
+            elements.put(column.getId(), new ElementState(BoardChange.Entity.COLUMN, column.getId(), null,
+                    column.getName(), null, column.getPosition()));
+        }
+        for (ColumnEntity column : board.getColumns()) {
+            for (CardEntity card : column.getCards()) {
+                elements.put(card.getId(), new ElementState(BoardChange.Entity.CARD, card.getId(), column.getId(),
+                        card.getTitle(), card.getDescription(), card.getPosition()));
+            }
+        }
+        return new Snapshot(elements);
+    }
+
+    public static Snapshot snapshot(Board board) {
+        Map<UUID, ElementState> elements = new LinkedHashMap<>();
+        UUID boardId = board.getId().value();
+        elements.put(boardId, new ElementState(BoardChange.Entity.BOARD, boardId, null,
+                board.getName(), board.getDescription(), null));
+        for (Column column : board.getColumns()) {
+            UUID columnId = column.getId().value();
+            elements.put(columnId, new ElementState(BoardChange.Entity.COLUMN, columnId, null,
+                    column.getName(), null, column.getPosition()));
+        }
+        for (Column column : board.getColumns()) {
+            UUID columnId = column.getId().value();
+            for (Card card : column.getCards()) {
+                UUID cardId = card.getId().value();
+                elements.put(cardId, new ElementState(BoardChange.Entity.CARD, cardId, columnId,
+                        card.getTitle(), card.getDescription(), card.getPosition()));
+            }
+        }
+        return new Snapshot(elements);
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}, in apply order.
+     */
+    public static List<DetectedChange> diff(Snapshot before, Snapshot after) {
+        List<DetectedChange> changes = new ArrayList<>();
+        List<DetectedChange> deletedColumns = new ArrayList<>();
+
+        for (ElementState current : after.elements().values()) {
+            ElementState previous = before.elements().get(current.id());
+            if (previous == null) {
+                changes.add(new DetectedChange(BoardChange.Type.CREATED, current));
+            } else if (current.entity() == BoardChange.Entity.CARD
+                    && !Objects.equals(previous.columnId(), current.columnId())) {
+                changes.add(new DetectedChange(BoardChange.Type.MOVED, current));
+            } else if (!sameContent(previous, current)) {
+                changes.add(new DetectedChange(BoardChange.Type.UPDATED, current));
+            }
+        }
+
+        for (ElementState previous : before.elements().values()) {
+            if (!after.elements().containsKey(previous.id())) {
+                DetectedChange deleted = new DetectedChange(BoardChange.Type.DELETED, previous);
+                if (previous.entity() == BoardChange.Entity.COLUMN) {
+                    deletedColumns.add(deleted);
+                } else {
+                    changes.add(deleted);
+                }
+            }
+        }
+        changes.addAll(deletedColumns);
+        return Collections.unmodifiableList(changes);
+    }
+
+    private static boolean sameContent(ElementState a, ElementState b) {
+        return Objects.equals(a.name(), b.name())
+                && Objects.equals(a.description(), b.description())
+                && Objects.equals(a.position(), b.position());
+    }
+}
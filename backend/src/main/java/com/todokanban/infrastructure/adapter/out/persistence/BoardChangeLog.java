@@ -0,0 +1,199 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.BoardChange;
+import com.todokanban.domain.model.BoardChangeFeed;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.ports.output.BoardChangeRepository;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector.DetectedChange;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector.ElementState;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for the per-board change sequence ({@code boards.change_seq}) and the
+ * {@code board_changes} history table.
+ *
+ * <p>{@link #append} is called by {@link BoardPersistenceAdapter} inside the save
+ * transaction, after the board has been flushed. The {@code UPDATE … RETURNING} on the
+ * board row both allocates the next version and serializes concurrent writers of the
+ * same board, so versions are gap-free and commit in order.</p>
+ *
+ * <p>Plain JDBC instead of JPA: the history is append-only, read in ranges and
+ * compacted in bulk – none of which benefits from entity state tracking.</p>
+ */
+@Repository
+public class BoardChangeLog implements BoardChangeRepository {
+
+    private static final String NEXT_VERSION =
+            "UPDATE boards SET change_seq = change_seq + 1 WHERE id = ? RETURNING change_seq";
+
+    /** Next version with no recorded changes: everything up to it is history clients cannot replay. */
+    private static final String NEXT_VERSION_WITHOUT_HISTORY = """
+            UPDATE boards
+               SET change_seq = change_seq + 1, change_floor = change_seq + 1
+             WHERE id = ?
+            RETURNING change_seq
+            """;
+
+    private static final String INSERT_CHANGE = """
+            INSERT INTO board_changes
+                (board_id, seq, ordinal, entity_type, entity_id, change_type,
+                 column_id, name, description, position, changed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_CHANGES = """
+            SELECT seq, entity_type, entity_id, change_type, column_id,
+                   name, description, position, changed_at
+              FROM board_changes
+             WHERE board_id = ? AND seq > ? AND seq <= ?
+             ORDER BY seq, ordinal
+            """;
+
+    /**
+     * Deletes history older than the retention or beyond the per-board version budget and
+     * raises each affected board's floor to the highest deleted version.
+     */
+    private static final String COMPACT = """
+            WITH doomed AS (
+                DELETE FROM board_changes c
+                 USING boards b
+                 WHERE c.board_id = b.id
+                   AND (c.changed_at < ? OR c.seq <= b.change_seq - ?)
+                RETURNING c.board_id, c.seq
+            )
+            UPDATE boards b
+               SET change_floor = GREATEST(b.change_floor, d.max_seq)
+              FROM (SELECT board_id, max(seq) AS max_seq FROM doomed GROUP BY board_id) d
+             WHERE b.id = d.board_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoardChangeLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records a change set under the board's next version.
+     *
+     * @return the new version, or the current one if {@code changes} is empty
+     */
+    public long append(BoardId boardId, List<DetectedChange> changes) {
+        UUID id = boardId.value();
+        if (changes.isEmpty()) {
+            return currentVersion(id);
+        }
+        Long version = jdbcTemplate.queryForObject(NEXT_VERSION, Long.class, id);
+        if (version == null) {
+            throw new IllegalStateException("Board '%s' vanished while recording changes".formatted(boardId));
+        }
+        Timestamp changedAt = Timestamp.from(Instant.now());
+
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DetectedChange change = changes.get(i);
+                ElementState state = change.state();
+                boolean deleted = change.type() == BoardChange.Type.DELETED;
+                ps.setObject(1, id);
+                ps.setLong(2, version);
+                ps.setInt(3, i);
+                ps.setString(4, state.entity().name());
+                ps.setObject(5, state.id());
+                ps.setString(6, change.type().name());
+                ps.setObject(7, state.columnId());
+                ps.setString(8, deleted ? null : state.name());
+                ps.setString(9, deleted ? null : state.description());
+                if (deleted || state.position() == null) {
+                    ps.setNull(10, Types.INTEGER);
+                } else {
+                    ps.setInt(10, state.position());
+                }
+                ps.setTimestamp(11, changedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+        return version;
+    }
+
+    /**
+     * Advances the board to its next version without recording what changed, for bulk
+     * statements that bypass change detection. Raises the floor to that version, so
+     * change-feed clients at any older version reload the full board.
+     *
+     * @return the new version, or empty if the board does not exist
+     */
+    public Optional<Long> advanceWithoutHistory(BoardId boardId) {
+        return jdbcTemplate.queryForList(NEXT_VERSION_WITHOUT_HISTORY, Long.class, boardId.value())
+                .stream().findFirst();
+    }
+
+    @Override
+    public Optional<BoardChangeFeed> findSince(BoardId boardId, long since, int maxVersions) {
+        List<long[]> heads = jdbcTemplate.query(
+                "SELECT change_seq, change_floor FROM boards WHERE id = ?",
+                (rs, i) -> new long[] {rs.getLong(1), rs.getLong(2)},
+                boardId.value());
+        if (heads.isEmpty()) {
+            return Optional.empty();
+        }
+        long current = heads.get(0)[0];
+        long floor = heads.get(0)[1];
+        if (since < floor || since > current) {
+            return Optional.of(BoardChangeFeed.reloadRequired(boardId, since, current));
+        }
+
+        long upTo = Math.min(current, since + maxVersions);
+        List<BoardChange> changes = upTo == since ? List.of()
+                : jdbcTemplate.query(SELECT_CHANGES, BoardChangeLog::mapChange, boardId.value(), since, upTo);
+        return Optional.of(new BoardChangeFeed(boardId, since, upTo, false, upTo < current, changes));
+    }
+
+    /**
+     * Compacts history of all boards.
+     *
+     * @param olderThan    rows persisted before this instant are removed
+     * @param keepVersions at most this many most recent versions are kept per board
+     * @return number of boards whose floor was raised
+     */
+    public int compact(Instant olderThan, long keepVersions) {
+        return jdbcTemplate.update(COMPACT, Timestamp.from(olderThan), keepVersions);
+    }
+
+    private long currentVersion(UUID boardId) {
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT change_seq FROM boards WHERE id = ?", Long.class, boardId);
+        return version != null ? version : 0;
+    }
+
+    private static BoardChange mapChange(ResultSet rs, int rowNum) throws SQLException {
+        int position = rs.getInt("position");
+        Integer nullablePosition = rs.wasNull() ? null : position;
+        return new BoardChange(
+                rs.getLong("seq"),
+                BoardChange.Entity.valueOf(rs.getString("entity_type")),
+                BoardChange.Type.valueOf(rs.getString("change_type")),
+                rs.getObject("entity_id", UUID.class),
+                rs.getObject("column_id", UUID.class),
+                rs.getString("name"),
+                rs.getString("description"),
+                nullablePosition,
+                rs.getTimestamp("changed_at").toInstant());
+    }
+}
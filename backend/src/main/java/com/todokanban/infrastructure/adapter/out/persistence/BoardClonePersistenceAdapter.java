@@ -0,0 +1,97 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.BoardTemplate;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.BoardCloneRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC adapter that implements the {@link BoardCloneRepository} port with three
+ * set-based {@code INSERT … SELECT} statements (board, columns, cards), whatever
+ * the size of the board.
+ *
+ * <p>New column and card ids are derived in SQL as {@code md5(target || old id)::uuid}.
+ * Within one clone this maps every old id to the same new id, so cards find their new
+ * column without a mapping table or a round-trip. The target board id acts as the
+ * salt, so repeated clones of one source never collide.</p>
+ *
+ * <p>The clone starts at version 0 with no change history. The V5 trigger counts the
+ * copied cards like any other insert.</p>
+ *
+ * <p>The three statements read the source separately, so callers must run them in one
+ * {@code REPEATABLE READ} transaction (see {@code BoardCloneService}). Locking the source
+ * row would not help: inserting a column or card only takes a key-share lock on its
+ * parent, which no row lock taken here conflicts with.</p>
+ */
+@Repository
+public class BoardClonePersistenceAdapter implements BoardCloneRepository {
+
+    private static final String CLONE_BOARD = """
+            INSERT INTO boards (id, workspace_id, name, description, template, created_at, updated_at)
+            SELECT ?, coalesce(?::uuid, b.workspace_id), coalesce(?::text, b.name), b.description, ?, now(), now()
+              FROM boards b
+             WHERE b.id = ?
+            """;
+
+    private static final String CLONE_COLUMNS = """
+            INSERT INTO columns (id, board_id, name, position, created_at, updated_at)
+            SELECT md5(?::text || col.id::text)::uuid, ?, col.name, col.position, now(), now()
+              FROM columns col
+             WHERE col.board_id = ?
+            """;
+
+    private static final String CLONE_CARDS = """
+            INSERT INTO cards (id, board_id, column_id, title, description, position, created_at, updated_at)
+            SELECT md5(?::text || c.id::text)::uuid, ?, md5(?::text || c.column_id::text)::uuid,
+                   c.title, c.description, c.position, now(), now()
+              FROM cards c
+              JOIN columns col ON col.id = c.column_id
+             WHERE col.board_id = ?
+            """;
+
+    private static final String TEMPLATES = """
+            SELECT id, workspace_id, name, description, created_at
+              FROM boards
+             WHERE workspace_id = ? AND template
+             ORDER BY created_at, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoardClonePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean cloneBoard(BoardId sourceId, BoardId targetId, WorkspaceId workspaceId, String name,
+                              boolean includeCards, boolean template) {
+        UUID source = sourceId.value();
+        UUID target = targetId.value();
+        int boards = jdbcTemplate.update(CLONE_BOARD,
+                target, workspaceId != null ? workspaceId.value() : null, name, template, source);
+        if (boards == 0) {
+            return false;
+        }
+        jdbcTemplate.update(CLONE_COLUMNS, target, target, source);
+        if (includeCards) {
+            jdbcTemplate.update(CLONE_CARDS, target, target, target, source);
+        }
+        return true;
+    }
+
+    @Override
+    public List<BoardTemplate> findTemplates(WorkspaceId workspaceId) {
+        return jdbcTemplate.query(TEMPLATES, (rs, i) -> new BoardTemplate(
+                        new BoardId(rs.getObject("id", UUID.class)),
+                        new WorkspaceId(rs.getObject("workspace_id", UUID.class)),
+                        rs.getString("name"),
+                        rs.getString("description"),
+                        rs.getTimestamp("created_at").toInstant()),
+                workspaceId.value());
+    }
+}
@@ -2,6 +2,9 @@ package com.todokanban.infrastructure.adapter.out.persistence;
 
 import com.todokanban.infrastructure.adapter.out.persistence.entity.BoardEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,10 +16,21 @@ import java.util.UUID;
 public interface BoardJpaRepository extends JpaRepository<BoardEntity, UUID> {
 
     /**
-     * Finds all boards belonging to a given workspace.
+     * Finds all boards belonging to a given workspace, templates excluded.
      *
      * @param workspaceId the UUID of the workspace
      * @return list of board entities, possibly empty
      */
-    List<BoardEntity> findByWorkspaceId(UUID workspaceId);
+    List<BoardEntity> findByWorkspaceIdAndTemplateFalse(UUID workspaceId);
+
+    /**
+     * Deletes a board row without loading it. Columns, cards, change history and
+     * archived cards go with it through their {@code ON DELETE CASCADE} foreign keys.
+     *
+     * @param id the UUID of the board
+     * @return the number of deleted boards (0 or 1)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM boards WHERE id = :id", nativeQuery = true)
+    int deleteCascading(@Param("id") UUID id);
 }
@@ -1,16 +1,24 @@
 package com.todokanban.infrastructure.adapter.out.persistence;
 
+import com.todokanban.domain.event.BoardChangedEvent;
 import com.todokanban.domain.model.Board;
 import com.todokanban.domain.model.BoardId;
 import com.todokanban.domain.model.WorkspaceId;
 import com.todokanban.domain.ports.output.BoardRepository;
 import com.todokanban.infrastructure.adapter.out.persistence.entity.BoardEntity;
+import com.todokanban.infrastructure.adapter.out.persistence.entity.CardEntity;
 import com.todokanban.infrastructure.adapter.out.persistence.entity.WorkspaceEntity;
 import com.todokanban.infrastructure.adapter.out.persistence.mapper.BoardMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Output adapter that implements the domain {@link BoardRepository} port
@@ -19,41 +27,80 @@ import java.util.Optional;
  * <p>This is the only class allowed to use Spring's {@code @Repository}
  * for the Board aggregate. It translates between domain model and
  * JPA entities via {@link BoardMapper}.</p>
+ *
+ * <p>Every save records the board/column/card changes under the board's next
+ * version in the {@link BoardChangeLog}, in the same transaction. Every save and
+ * delete publishes a {@link BoardChangedEvent}; listeners that hold derived state
+ * bind to the transaction's commit.</p>
+ *
+ * <p>The workspace is referenced through a lazy proxy, never loaded: callers check that
+ * it exists (see {@code CreateBoardService}) and the foreign key enforces it.</p>
+ *
+ * <p>Deletes are one native {@code DELETE} that relies on the schema's
+ * {@code ON DELETE CASCADE} foreign keys – {@code deleteById} on the JPA repository
+ * would load the whole entity graph and remove it row by row.</p>
+ *
+ * <p>{@code cards} is hash-partitioned by {@code board_id}. Single-board reads and
+ * saves enable {@link CardEntity#BOARD_FILTER} so the card subselect carries a
+ * {@code board_id} predicate and Postgres prunes to one partition. The filter stays off
+ * ({@code kanban.cards.partition-pruning=false}) until {@code CardPartitionMigrator}
+ * has backfilled {@code board_id} and swapped the tables – before that, legacy rows
+ * with a {@code NULL} board would be hidden.</p>
  */
 @Repository
 public class BoardPersistenceAdapter implements BoardRepository {
 
     private final BoardJpaRepository boardJpaRepository;
     private final WorkspaceJpaRepository workspaceJpaRepository;
+    private final BoardChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final boolean partitionPruning;
 
     public BoardPersistenceAdapter(BoardJpaRepository boardJpaRepository,
-                                   WorkspaceJpaRepository workspaceJpaRepository) {
+                                   WorkspaceJpaRepository workspaceJpaRepository,
+                                   BoardChangeLog changeLog,
+                                   ApplicationEventPublisher eventPublisher,
+                                   EntityManager entityManager,
+                                   @Value("${kanban.cards.partition-pruning:false}") boolean partitionPruning) {
         this.boardJpaRepository = boardJpaRepository;
         this.workspaceJpaRepository = workspaceJpaRepository;
+        this.changeLog = changeLog;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.partitionPruning = partitionPruning;
     }
 
     @Override
     public Board save(Board board) {
-        WorkspaceEntity workspaceEntity = workspaceJpaRepository
-                .findById(board.getWorkspaceId().value())
-                .orElseThrow(() -> new IllegalStateException(
-                        "Workspace '%s' not found during board persistence"
-                                .formatted(board.getWorkspaceId())));
+        // Uninitialized proxy: only its id is read, for the FK – no workspace SELECT
+        WorkspaceEntity workspaceEntity = workspaceJpaRepository.getReferenceById(board.getWorkspaceId().value());
 
-        BoardEntity entity = BoardMapper.toEntity(board, workspaceEntity);
-        BoardEntity saved = boardJpaRepository.save(entity);
-        return BoardMapper.toDomain(saved);
+        Board result = withBoardPartition(board.getId().value(), () -> {
+            // Snapshot the stored state first: merge() below mutates the managed entity in place
+            BoardChangeDetector.Snapshot before = boardJpaRepository.findById(board.getId().value())
+                    .map(BoardChangeDetector::snapshot)
+                    .orElse(BoardChangeDetector.Snapshot.EMPTY);
+
+            BoardEntity entity = BoardMapper.toEntity(board, workspaceEntity);
+            BoardEntity saved = boardJpaRepository.saveAndFlush(entity);
+            saved.setChangeSeq(changeLog.append(board.getId(),
+                    BoardChangeDetector.diff(before, BoardChangeDetector.snapshot(board))));
+            return BoardMapper.toDomain(saved);
+        });
+        eventPublisher.publishEvent(BoardChangedEvent.updated(board.getId()));
+        return result;
     }
 
     @Override
     public Optional<Board> findById(BoardId id) {
-        return boardJpaRepository.findById(id.value())
-                .map(BoardMapper::toDomain);
+        return withBoardPartition(id.value(), () -> boardJpaRepository.findById(id.value())
+                .map(BoardMapper::toDomain));
     }
 
     @Override
     public List<Board> findByWorkspaceId(WorkspaceId workspaceId) {
-        return boardJpaRepository.findByWorkspaceId(workspaceId.value())
+        return boardJpaRepository.findByWorkspaceIdAndTemplateFalse(workspaceId.value())
                 .stream()
                 .map(BoardMapper::toDomain)
                 .toList();
@@ -66,6 +113,24 @@ public class BoardPersistenceAdapter implements BoardRepository {
 
     @Override
     public void deleteById(BoardId id) {
-        boardJpaRepository.deleteById(id.value());
+        boardJpaRepository.deleteCascading(id.value());
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(id));
+    }
+
+    /**
+     * Runs {@code action} with card loads restricted to {@code boardId}'s partition.
+     * Only correct for work on that single board – never wrap multi-board queries.
+     */
+    private <T> T withBoardPartition(UUID boardId, Supplier<T> action) {
+        if (!partitionPruning) {
+            return action.get();
+        }
+        Session session = entityManager.unwrap(Session.class);
+        session.enableFilter(CardEntity.BOARD_FILTER).setParameter("boardId", boardId);
+        try {
+            return action.get();
+        } finally {
+            session.disableFilter(CardEntity.BOARD_FILTER);
+        }
     }
 }
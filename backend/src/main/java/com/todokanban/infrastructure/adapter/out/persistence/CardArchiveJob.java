@@ -0,0 +1,202 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.model.BoardChange;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.ports.output.BoardRepository;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector.DetectedChange;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector.ElementState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Background mover that archives old cards out of "done" columns into {@code cards_archive}.
+ *
+ * <p>Work is split into small batches, each in its own short transaction: one
+ * {@code DELETE … RETURNING} / {@code INSERT} statement moves at most {@code batch-size}
+ * cards, candidates are locked with {@code SKIP LOCKED} so rows that users are editing
+ * are simply left for the next run, and a {@code lock_timeout} keeps a batch from
+ * queueing behind a busy board. Each batch records {@code DELETED} changes in the
+ * board's change history and publishes {@link BoardChangedEvent}s like a normal save.</p>
+ *
+ * <p>The boards a batch will touch are looked up first and passed through
+ * {@link BoardRepository#flushAndEvict}, so that a board store holding unflushed writes
+ * commits them before the cards move instead of writing them back afterwards. The batch
+ * is then restricted to those boards.</p>
+ *
+ * <p>Disable with {@code kanban.archive.enabled=false}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class CardArchiveJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CardArchiveJob.class);
+
+    /** Boards owning the next {@code batch-size} candidates. */
+    private static final String CANDIDATE_BOARDS = """
+            SELECT DISTINCT board_id
+              FROM (SELECT col.board_id
+                      FROM cards c
+                      JOIN columns col ON col.id = c.column_id
+                     WHERE lower(col.name) IN (%s)
+                       AND c.updated_at < ?
+                     ORDER BY c.updated_at
+                     LIMIT ?) candidates
+            """;
+
+    private static final String ARCHIVE_BATCH = """
+            WITH candidates AS (
+                SELECT c.id
+                  FROM cards c
+                  JOIN columns col ON col.id = c.column_id
+                 WHERE lower(col.name) IN (%s)
+                   AND col.board_id IN (%s)
+                   AND c.updated_at < ?
+                 ORDER BY c.updated_at
+                 LIMIT ?
+                   FOR UPDATE OF c SKIP LOCKED
+            ), moved AS (
+                DELETE FROM cards c
+                 USING candidates k
+                 WHERE c.id = k.id
+                RETURNING c.id, c.column_id, c.title, c.description, c.position, c.created_at, c.updated_at
+            )
+            INSERT INTO cards_archive
+                (id, board_id, column_id, title, description, position, created_at, updated_at, archived_at)
+            SELECT m.id, col.board_id, m.column_id, m.title, m.description, m.position,
+                   m.created_at, m.updated_at, now()
+              FROM moved m
+              JOIN columns col ON col.id = m.column_id
+            ON CONFLICT (id) DO UPDATE
+               SET column_id   = EXCLUDED.column_id,
+                   title       = EXCLUDED.title,
+                   description = EXCLUDED.description,
+                   updated_at  = EXCLUDED.updated_at,
+                   archived_at = EXCLUDED.archived_at
+            RETURNING board_id, id, column_id
+            """;
+
+    private record ArchivedRow(UUID boardId, UUID cardId, UUID columnId) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final BoardRepository boardRepository;
+    private final BoardChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<String> doneColumnNames;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final String doneColumnPlaceholders;
+
+    public CardArchiveJob(JdbcTemplate jdbcTemplate,
+                          TransactionOperations transactionOperations,
+                          BoardRepository boardRepository,
+                          BoardChangeLog changeLog,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${kanban.archive.done-columns:Done}") List<String> doneColumnNames,
+                          @Value("${kanban.archive.min-age:P30D}") Duration minAge,
+                          @Value("${kanban.archive.batch-size:500}") int batchSize,
+                          @Value("${kanban.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        if (doneColumnNames.isEmpty()) {
+            throw new IllegalArgumentException("kanban.archive.done-columns must not be empty");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.boardRepository = boardRepository;
+        this.changeLog = changeLog;
+        this.eventPublisher = eventPublisher;
+        this.doneColumnNames = doneColumnNames.stream()
+                .map(name -> name.strip().toLowerCase(Locale.ROOT))
+                .toList();
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.doneColumnPlaceholders = placeholders(doneColumnNames.size());
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.archive.interval:PT15M}",
+               initialDelayString = "${kanban.archive.interval:PT15M}")
+    public void run() {
+        Instant cutoff = Instant.now().minus(minAge);
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int moved = archiveBatch(cutoff);
+                total += moved;
+                if (moved < batchSize) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            // Lock timeout or serialization failure on a busy board – the rest waits for the next run
+            log.warn("Card archiving stopped early after {} card(s): {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Archived {} card(s) older than {}", total, cutoff);
+        }
+    }
+
+    /** Moves one batch in its own transaction; returns the number of archived cards. */
+    int archiveBatch(Instant cutoff) {
+        List<Object> candidateArgs = new ArrayList<>(doneColumnNames);
+        candidateArgs.add(Timestamp.from(cutoff));
+        candidateArgs.add(batchSize);
+        List<UUID> boards = jdbcTemplate.queryForList(CANDIDATE_BOARDS.formatted(doneColumnPlaceholders),
+                UUID.class, candidateArgs.toArray());
+        if (boards.isEmpty()) {
+            return 0;
+        }
+        boards.forEach(boardId -> boardRepository.flushAndEvict(new BoardId(boardId)));
+
+        Integer moved = transactionOperations.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '2s'");
+
+            List<Object> args = new ArrayList<>(doneColumnNames);
+            args.addAll(boards);
+            args.add(Timestamp.from(cutoff));
+            args.add(batchSize);
+            List<ArchivedRow> rows = jdbcTemplate.query(
+                    ARCHIVE_BATCH.formatted(doneColumnPlaceholders, placeholders(boards.size())),
+                    (rs, i) -> new ArchivedRow(rs.getObject("board_id", UUID.class),
+                            rs.getObject("id", UUID.class), rs.getObject("column_id", UUID.class)),
+                    args.toArray());
+
+            Map<UUID, List<DetectedChange>> byBoard = new LinkedHashMap<>();
+            for (ArchivedRow row : rows) {
+                byBoard.computeIfAbsent(row.boardId(), id -> new ArrayList<>())
+                        .add(new DetectedChange(BoardChange.Type.DELETED, new ElementState(
+                                BoardChange.Entity.CARD, row.cardId(), row.columnId(), null, null, null)));
+            }
+            byBoard.forEach((boardId, changes) -> {
+                changeLog.append(new BoardId(boardId), changes);
+                eventPublisher.publishEvent(BoardChangedEvent.updated(new BoardId(boardId)));
+            });
+            return rows.size();
+        });
+        return moved != null ? moved : 0;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnBulkResult;
+import com.todokanban.domain.model.ColumnId;
+import com.todokanban.domain.ports.output.ColumnBulkRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC adapter that implements the {@link ColumnBulkRepository} port.
+ *
+ * <p>Each operation first advances the board version through {@link BoardChangeLog}.
+ * That row lock serializes it with every other writer of the board, exactly like a
+ * save. The work itself is one statement (plus the position shift after a column
+ * delete), whatever the number of cards. Card deletes cascade from {@code columns};
+ * the V5 trigger keeps the column counters right.</p>
+ *
+ * <p>Card statements also filter on {@code board_id}, so that a column id can only ever
+ * touch its own board's cards and Postgres prunes {@code cards} to one partition. Until
+ * {@code CardPartitionMigrator} has backfilled it, legacy cards may still have a
+ * {@code NULL} board and are matched by their column alone.</p>
+ *
+ * <p>No per-card history is recorded: the change floor is raised to the new version
+ * instead. A {@link BoardChangedEvent} drops cached representations after commit.</p>
+ */
+@Repository
+public class ColumnBulkPersistenceAdapter implements ColumnBulkRepository {
+
+    private static final String DELETE_COLUMN = """
+            DELETE FROM columns WHERE id = ? AND board_id = ? RETURNING position
+            """;
+
+    private static final String CLOSE_GAP = """
+            UPDATE columns
+               SET position = position - 1, updated_at = now()
+             WHERE board_id = ? AND position > ?
+            """;
+
+    private static final String CLEAR_COLUMN = """
+            DELETE FROM cards WHERE column_id = ? AND (board_id = ? OR board_id IS NULL)
+            """;
+
+    /** Appends the source cards after the target's last position, keeping their order. */
+    private static final String MOVE_ALL_CARDS = """
+            WITH base AS (
+                SELECT coalesce(max(position) + 1, 0) AS next_position
+                  FROM cards
+                 WHERE column_id = ? AND (board_id = ? OR board_id IS NULL)
+            ), moving AS (
+                SELECT id, row_number() OVER (ORDER BY position, id) - 1 AS offset_in_column
+                  FROM cards
+                 WHERE column_id = ? AND (board_id = ? OR board_id IS NULL)
+            )
+            UPDATE cards c
+               SET column_id  = ?,
+                   position   = base.next_position + moving.offset_in_column,
+                   updated_at = now()
+              FROM moving, base
+             WHERE c.id = moving.id AND (c.board_id = ? OR c.board_id IS NULL)
+            """;
+
+    private static final String COUNT_CARDS = """
+            SELECT count(*)::int FROM cards WHERE column_id = ? AND (board_id = ? OR board_id IS NULL)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardChangeLog changeLog;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ColumnBulkPersistenceAdapter(JdbcTemplate jdbcTemplate,
+                                        BoardChangeLog changeLog,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeLog = changeLog;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Optional<ColumnBulkResult> deleteColumn(BoardId boardId, ColumnId columnId) {
+        Optional<Long> version = changeLog.advanceWithoutHistory(boardId);
+        if (version.isEmpty()) {
+            return Optional.empty();
+        }
+        Integer cards = jdbcTemplate.queryForObject(
+                COUNT_CARDS, Integer.class, columnId.value(), boardId.value());
+        List<Integer> position = jdbcTemplate.queryForList(
+                DELETE_COLUMN, Integer.class, columnId.value(), boardId.value());
+        if (position.isEmpty()) {
+            return Optional.empty();
+        }
+        jdbcTemplate.update(CLOSE_GAP, boardId.value(), position.get(0));
+        return Optional.of(changed(boardId, version.get(), cards != null ? cards : 0));
+    }
+
+    @Override
+    public Optional<ColumnBulkResult> clearColumn(BoardId boardId, ColumnId columnId) {
+        Optional<Long> version = changeLog.advanceWithoutHistory(boardId);
+        if (version.isEmpty() || !onBoard(boardId, columnId.value())) {
+            return Optional.empty();
+        }
+        int cards = jdbcTemplate.update(CLEAR_COLUMN, columnId.value(), boardId.value());
+        return Optional.of(changed(boardId, version.get(), cards));
+    }
+
+    @Override
+    public Optional<ColumnBulkResult> moveAllCards(BoardId boardId, ColumnId sourceId, ColumnId targetId) {
+        Optional<Long> version = changeLog.advanceWithoutHistory(boardId);
+        if (version.isEmpty() || !onBoard(boardId, sourceId.value(), targetId.value())) {
+            return Optional.empty();
+        }
+        UUID board = boardId.value();
+        int cards = jdbcTemplate.update(MOVE_ALL_CARDS,
+                targetId.value(), board, sourceId.value(), board, targetId.value(), board);
+        return Optional.of(changed(boardId, version.get(), cards));
+    }
+
+    private boolean onBoard(BoardId boardId, UUID... columnIds) {
+        String placeholders = String.join(", ", Collections.nCopies(columnIds.length, "?"));
+        Object[] args = new Object[columnIds.length + 1];
+        args[0] = boardId.value();
+        System.arraycopy(columnIds, 0, args, 1, columnIds.length);
+        Integer found = jdbcTemplate.queryForObject(
+                "SELECT count(*)::int FROM columns WHERE board_id = ? AND id IN (%s)".formatted(placeholders),
+                Integer.class, args);
+        return found != null && found == columnIds.length;
+    }
+
+    private ColumnBulkResult changed(BoardId boardId, long version, int affectedCards) {
+        eventPublisher.publishEvent(BoardChangedEvent.updated(boardId));
+        return new ColumnBulkResult(boardId, version, affectedCards);
+    }
+}
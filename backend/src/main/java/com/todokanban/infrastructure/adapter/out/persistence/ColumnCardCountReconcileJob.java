@@ -0,0 +1,113 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically recounts {@code column_card_counts} from {@code cards} and fixes any
+ * counter that drifted (e.g. rows changed with the trigger disabled, or restored backups).
+ *
+ * <p>Boards are walked in keyset batches, each in its own short transaction. A batch
+ * first locks the existing counter rows of its boards and only then counts. A card
+ * writer that already bumped a counter has committed before the count runs. One that
+ * has not yet bumped it waits for the batch to commit and applies its change on top.
+ * So a recount never overwrites a concurrent change.</p>
+ */
+@Component
+public class ColumnCardCountReconcileJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnCardCountReconcileJob.class);
+
+    private static final String NEXT_BOARDS = """
+            SELECT id FROM boards WHERE id > ? ORDER BY id LIMIT ?
+            """;
+
+    private static final String LOCK_COUNTERS = """
+            SELECT cc.column_id
+              FROM column_card_counts cc
+              JOIN columns col ON col.id = cc.column_id
+             WHERE col.board_id = ANY (?)
+               FOR UPDATE OF cc
+            """;
+
+    private static final String RECOUNT = """
+            WITH actual AS (
+                SELECT col.id AS column_id, count(c.id)::int AS card_count
+                  FROM columns col
+                  LEFT JOIN cards c ON c.column_id = col.id
+                 WHERE col.board_id = ANY (?)
+                 GROUP BY col.id
+            )
+            INSERT INTO column_card_counts (column_id, card_count)
+            SELECT a.column_id, a.card_count
+              FROM actual a
+             WHERE a.card_count > 0
+                OR EXISTS (SELECT 1 FROM column_card_counts x WHERE x.column_id = a.column_id)
+            ON CONFLICT (column_id) DO UPDATE
+               SET card_count = EXCLUDED.card_count
+             WHERE column_card_counts.card_count <> EXCLUDED.card_count
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+
+    public ColumnCardCountReconcileJob(JdbcTemplate jdbcTemplate,
+                                       TransactionOperations transactionOperations,
+                                       @Value("${kanban.card-counts.reconcile-batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.card-counts.reconcile-interval:PT1H}",
+               initialDelayString = "${kanban.card-counts.reconcile-interval:PT1H}")
+    public void run() {
+        UUID after = new UUID(0, 0);
+        int corrected = 0;
+        try {
+            while (true) {
+                List<UUID> boards = jdbcTemplate.queryForList(NEXT_BOARDS, UUID.class, after, batchSize);
+                if (boards.isEmpty()) {
+                    break;
+                }
+                corrected += reconcile(boards);
+                after = boards.get(boards.size() - 1);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Column card count reconciliation stopped early: {}", e.getMessage());
+        }
+        if (corrected > 0) {
+            log.warn("Corrected {} drifted column card counter(s)", corrected);
+        }
+    }
+
+    /** Recounts the columns of {@code boards}; returns the number of counters written. */
+    int reconcile(List<UUID> boards) {
+        Integer written = transactionOperations.execute(status -> jdbcTemplate.execute(
+                (Connection connection) -> {
+                    Array ids = connection.createArrayOf("uuid", boards.toArray());
+                    try (PreparedStatement lock = connection.prepareStatement(LOCK_COUNTERS)) {
+                        lock.setArray(1, ids);
+                        lock.executeQuery().close();
+                    }
+                    try (PreparedStatement recount = connection.prepareStatement(RECOUNT)) {
+                        recount.setArray(1, ids);
+                        return recount.executeUpdate();
+                    }
+                }));
+        return written != null ? written : 0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnId;
+import com.todokanban.domain.model.WorkspaceDashboard;
+import com.todokanban.domain.model.WorkspaceDashboard.BoardSummary;
+import com.todokanban.domain.model.WorkspaceDashboard.ColumnCount;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.WorkspaceDashboardRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC adapter that implements the {@link WorkspaceDashboardRepository} port.
+ *
+ * <p>One query joins boards, columns and {@code column_card_counts} (maintained by the
+ * V5 trigger on {@code cards}); no card row is read. Columns that never held a card
+ * have no counter row and report zero.</p>
+ */
+@Repository
+public class WorkspaceDashboardPersistenceAdapter implements WorkspaceDashboardRepository {
+
+    private static final String DASHBOARD = """
+            SELECT b.id AS board_id, b.name AS board_name,
+                   col.id AS column_id, col.name AS column_name, col.position,
+                   coalesce(cc.card_count, 0) AS card_count
+              FROM boards b
+              LEFT JOIN columns col ON col.board_id = b.id
+              LEFT JOIN column_card_counts cc ON cc.column_id = col.id
+             WHERE b.workspace_id = ? AND NOT b.template
+             ORDER BY b.created_at, b.id, col.position, col.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WorkspaceDashboardPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public WorkspaceDashboard findByWorkspaceId(WorkspaceId workspaceId) {
+        Map<UUID, String> boardNames = new LinkedHashMap<>();
+        Map<UUID, List<ColumnCount>> columns = new LinkedHashMap<>();
+        jdbcTemplate.query(DASHBOARD, rs -> {
+            UUID boardId = rs.getObject("board_id", UUID.class);
+            boardNames.putIfAbsent(boardId, rs.getString("board_name"));
+            List<ColumnCount> boardColumns = columns.computeIfAbsent(boardId, id -> new ArrayList<>());
+            UUID columnId = rs.getObject("column_id", UUID.class);
+            if (columnId != null) {
+                boardColumns.add(new ColumnCount(new ColumnId(columnId), rs.getString("column_name"),
+                        rs.getInt("position"), rs.getLong("card_count")));
+            }
+        }, workspaceId.value());
+
+        List<BoardSummary> boards = new ArrayList<>(boardNames.size());
+        boardNames.forEach((id, name) -> boards.add(new BoardSummary(new BoardId(id), name, columns.get(id))));
+        return new WorkspaceDashboard(workspaceId, boards);
+    }
+}
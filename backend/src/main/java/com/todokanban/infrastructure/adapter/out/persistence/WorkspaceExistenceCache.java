@@ -0,0 +1,117 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.infrastructure.adapter.out.coherence.CoherentCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * In-memory set of workspace ids known to exist, so that workspace existence checks on
+ * the board write path do not cost a query each.
+ *
+ * <p>Only positive answers are cached – a workspace created by another instance is
+ * found by the fallback query on first use. {@link WorkspacePersistenceAdapter} keeps
+ * the set current: a created workspace is added once its transaction commits, a deleted
+ * one is removed at once and again after completion, which drops an entry re-added by a
+ * concurrent check that still saw the row before the delete committed.</p>
+ *
+ * <p>Deletes made by other instances arrive through {@link CoherentCache} when cache
+ * coherence is enabled. Entries also expire after {@code kanban.workspace-cache.ttl} to
+ * bound staleness without it, and the {@code boards.workspace_id} foreign key still
+ * rejects a board for a removed workspace.</p>
+ */
+@Component
+public class WorkspaceExistenceCache implements CoherentCache {
+
+    private final Map<UUID, Long> expiries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    public WorkspaceExistenceCache(@Value("${kanban.workspace-cache.ttl:PT5M}") Duration ttl,
+                                   @Value("${kanban.workspace-cache.max-entries:100000}") int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    WorkspaceExistenceCache(Duration ttl, int maxEntries, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Answers from the cache, or asks {@code loader} and remembers a positive answer.
+     *
+     * @param id     the workspace id
+     * @param loader the authoritative existence query
+     */
+    public boolean exists(UUID id, Predicate<UUID> loader) {
+        Long expiry = expiries.get(id);
+        long now = nanoClock.getAsLong();
+        if (expiry != null && expiry - now > 0) {
+            return true;
+        }
+        if (!loader.test(id)) {
+            expiries.remove(id);
+            return false;
+        }
+        put(id, now);
+        return true;
+    }
+
+    /** Records a workspace written in the current transaction, once it commits. */
+    public void created(UUID id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(id, nanoClock.getAsLong());
+                }
+            });
+        } else {
+            put(id, nanoClock.getAsLong());
+        }
+    }
+
+    /** Forgets a workspace deleted in the current transaction, now and after it completes. */
+    public void deleted(UUID id) {
+        expiries.remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    expiries.remove(id);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void evictWorkspace(UUID workspaceId) {
+        expiries.remove(workspaceId);
+    }
+
+    @Override
+    public void evictAll() {
+        expiries.clear();
+    }
+
+    private void put(UUID id, long now) {
+        if (expiries.size() >= maxEntries) {
+            expiries.values().removeIf(expiry -> expiry - now <= 0);
+            if (expiries.size() >= maxEntries) {
+                // Every entry is live: start over rather than track recency on each hit
+                expiries.clear();
+            }
+        }
+        expiries.put(id, now + ttlNanos);
+    }
+}
@@ -1,31 +1,71 @@
 package com.todokanban.infrastructure.adapter.out.persistence;
 
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.event.WorkspaceDeletedEvent;
+import com.todokanban.domain.model.BoardId;
 import com.todokanban.domain.model.Workspace;
 import com.todokanban.domain.model.WorkspaceId;
 import com.todokanban.domain.ports.output.WorkspaceRepository;
 import com.todokanban.infrastructure.adapter.out.persistence.mapper.WorkspaceMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Output adapter implementing the domain {@link WorkspaceRepository} port
  * using Spring Data JPA.
+ *
+ * <p>{@link #deleteById} is a single SQL statement: the workspace row is deleted and
+ * boards, columns, cards and board history follow through {@code ON DELETE CASCADE}.
+ * Every cascading foreign key is indexed on the referencing side – the
+ * {@code column_id} indexes of the partitioned {@code cards} table only since V7.</p>
+ *
+ * <p>It publishes a {@link BoardChangedEvent} for every removed board so that board
+ * caches drop them, then a {@link WorkspaceDeletedEvent}. The in-memory board store
+ * needs the latter: boards it has not flushed yet are not in the database, so the
+ * statement cannot name them, and it drops every resident board of the workspace.</p>
+ *
+ * <p>{@link #existsById} is answered by the {@link WorkspaceExistenceCache}, which
+ * {@link #save} and {@link #deleteById} keep up to date.</p>
  */
 @Repository
 public class WorkspacePersistenceAdapter implements WorkspaceRepository {
 
+    /**
+     * Deletes the workspace and returns the ids of its boards. The {@code SELECT} reads
+     * the statement's snapshot, so it still sees the boards the cascade removes.
+     */
+    private static final String DELETE_WORKSPACE = """
+            WITH deleted AS (
+                DELETE FROM workspaces WHERE id = ? RETURNING id
+            )
+            SELECT b.id FROM boards b JOIN deleted d ON b.workspace_id = d.id
+            """;
+
     private final WorkspaceJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkspaceExistenceCache existenceCache;
 
-    public WorkspacePersistenceAdapter(WorkspaceJpaRepository jpaRepository) {
+    public WorkspacePersistenceAdapter(WorkspaceJpaRepository jpaRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       ApplicationEventPublisher eventPublisher,
+                                       WorkspaceExistenceCache existenceCache) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.existenceCache = existenceCache;
     }
 
     @Override
     public Workspace save(Workspace workspace) {
         var entity = WorkspaceMapper.toEntity(workspace);
         var saved = jpaRepository.save(entity);
+        existenceCache.created(saved.getId());
         return WorkspaceMapper.toDomain(saved);
     }
 
@@ -44,11 +84,14 @@ public class WorkspacePersistenceAdapter implements WorkspaceRepository {
 
     @Override
     public boolean existsById(WorkspaceId id) {
-        return jpaRepository.existsById(id.value());
+        return existenceCache.exists(id.value(), jpaRepository::existsById);
     }
 
     @Override
     public void deleteById(WorkspaceId id) {
-        jpaRepository.deleteById(id.value());
+        existenceCache.deleted(id.value());
+        List<UUID> boardIds = jdbcTemplate.queryForList(DELETE_WORKSPACE, UUID.class, id.value());
+        boardIds.forEach(boardId -> eventPublisher.publishEvent(BoardChangedEvent.deleted(new BoardId(boardId))));
+        eventPublisher.publishEvent(new WorkspaceDeletedEvent(id));
     }
 }
@@ -34,6 +34,14 @@ public class BoardEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /** Set only by the set-based clone in {@code BoardClonePersistenceAdapter}; never written by Hibernate. */
+    @Column(name = "template", nullable = false, insertable = false, updatable = false)
+    private boolean template;
+
+    /** Maintained by {@code BoardChangeLog} with a native UPDATE; never written by Hibernate. */
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false)
+    private long changeSeq;
+
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true,
                fetch = FetchType.EAGER)
     @OrderBy("position ASC")
@@ -63,6 +71,9 @@ public class BoardEntity {
     public Instant getCreatedAt()             { return createdAt; }
     public Instant getUpdatedAt()             { return updatedAt; }
     public void setUpdatedAt(Instant u)       { this.updatedAt = u; }
+    public boolean isTemplate()               { return template; }
+    public long getChangeSeq()                { return changeSeq; }
+    public void setChangeSeq(long seq)        { this.changeSeq = seq; }
     public List<ColumnEntity> getColumns()    { return columns; }
     public void setColumns(List<ColumnEntity> c) { this.columns = c; }
 }
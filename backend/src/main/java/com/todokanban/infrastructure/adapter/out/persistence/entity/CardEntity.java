@@ -1,17 +1,29 @@
 package com.todokanban.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+
 import java.time.Instant;
 import java.util.UUID;
 
 /**
  * JPA entity for the {@code cards} table.
  * Infrastructure concern only – never exposed to the domain.
+ *
+ * <p>{@code board_id} is denormalized from the owning column: it is the hash partition
+ * key of the table (see {@code V4__cards_partitioned.sql}). The {@link #BOARD_FILTER}
+ * restricts card loads to one board so Postgres only touches that board's partition.</p>
  */
 @Entity
 @Table(name = "cards")
+@FilterDef(name = CardEntity.BOARD_FILTER, defaultCondition = "board_id = :boardId",
+           parameters = @ParamDef(name = "boardId", type = UUID.class))
 public class CardEntity {
 
+    /** Name of the Hibernate filter that prunes card queries to a single board partition. */
+    public static final String BOARD_FILTER = "cardsOfBoard";
+
     @Id
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
@@ -20,6 +32,9 @@ public class CardEntity {
     @JoinColumn(name = "column_id", nullable = false)
     private ColumnEntity column;
 
+    @Column(name = "board_id", nullable = false, updatable = false)
+    private UUID boardId;
+
     @Column(name = "title", nullable = false, length = 255)
     private String title;
 
@@ -37,10 +52,11 @@ public class CardEntity {
 
     protected CardEntity() {}
 
-    public CardEntity(UUID id, ColumnEntity column, String title, String description,
+    public CardEntity(UUID id, ColumnEntity column, UUID boardId, String title, String description,
                       int position, Instant createdAt, Instant updatedAt) {
         this.id = id;
         this.column = column;
+        this.boardId = boardId;
         this.title = title;
         this.description = description;
         this.position = position;
@@ -53,6 +69,7 @@ public class CardEntity {
     public UUID getId()                   { return id; }
     public ColumnEntity getColumn()       { return column; }
     public void setColumn(ColumnEntity c) { this.column = c; }
+    public UUID getBoardId()              { return boardId; }
     public String getTitle()              { return title; }
     public void setTitle(String t)        { this.title = t; }
     public String getDescription()        { return description; }
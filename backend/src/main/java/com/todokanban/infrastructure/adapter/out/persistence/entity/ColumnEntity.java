@@ -1,6 +1,10 @@
 package com.todokanban.infrastructure.adapter.out.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.annotations.Filter;
+
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +41,8 @@ public class ColumnEntity {
     @OneToMany(mappedBy = "column", cascade = CascadeType.ALL, orphanRemoval = true,
                fetch = FetchType.EAGER)
     @OrderBy("position ASC")
+    @Fetch(FetchMode.SUBSELECT)
+    @Filter(name = CardEntity.BOARD_FILTER)
     private List<CardEntity> cards = new ArrayList<>();
 
     protected ColumnEntity() {}
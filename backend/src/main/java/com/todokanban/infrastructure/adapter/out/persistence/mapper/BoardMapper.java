@@ -35,7 +35,8 @@ public final class BoardMapper {
                 entity.getDescription(),
                 columns,
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getChangeSeq()
         );
     }
 
@@ -69,10 +70,10 @@ public final class BoardMapper {
 
     /**
      * Converts a {@link Board} aggregate into a {@link BoardEntity} ready for persistence.
-     * The {@link WorkspaceEntity} must already exist in the persistence context.
+     * The {@link WorkspaceEntity} may be an uninitialized reference; only its id is used.
      *
      * @param board           the domain aggregate
-     * @param workspaceEntity the managed workspace entity (FK reference)
+     * @param workspaceEntity the workspace entity or reference (FK)
      */
     public static BoardEntity toEntity(Board board, WorkspaceEntity workspaceEntity) {
         BoardEntity boardEntity = new BoardEntity(
@@ -83,6 +84,7 @@ public final class BoardMapper {
                 board.getCreatedAt(),
                 board.getUpdatedAt()
         );
+        boardEntity.setChangeSeq(board.getVersion());
 
         List<ColumnEntity> columnEntities = board.getColumns().stream()
                 .map(col -> toEntity(col, boardEntity))
@@ -114,6 +116,7 @@ public final class BoardMapper {
         return new CardEntity(
                 card.getId().value(),
                 columnEntity,
+                columnEntity.getBoard().getId(),
                 card.getTitle(),
                 card.getDescription(),
                 card.getPosition(),
@@ -0,0 +1,256 @@
+package com.todokanban.infrastructure.adapter.out.persistence.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Online migration of {@code cards} to the hash-partitioned layout prepared by
+ * {@code V4__cards_partitioned.sql}. Runs against a live database while the
+ * application keeps serving traffic.
+ *
+ * <p>Steps, run in order ({@code ./gradlew migrateCardPartitions -Pstep=<step>}):</p>
+ * <ul>
+ *   <li>{@code backfill} – sets {@code board_id} on legacy rows in small keyset batches,
+ *       each in its own short transaction. The V4 sync trigger copies every touched row
+ *       into {@code cards_partitioned}; rows written by the application are copied by
+ *       the same trigger, so nothing is missed while the backfill runs.</li>
+ *   <li>{@code verify} – compares both tables and reports rows missing on either side.</li>
+ *   <li>{@code cutover} – in one short transaction: drops the triggers and renames
+ *       {@code cards → cards_legacy} and {@code cards_partitioned → cards}, then
+ *       recreates the board-fill and column-counter triggers on the new table.
+ *       Afterwards enable {@code kanban.cards.partition-pruning}.</li>
+ *   <li>{@code drop-legacy} – drops {@code cards_legacy} once the new table is trusted.</li>
+ * </ul>
+ *
+ * <p>Connection settings come from {@code SPRING_DATASOURCE_URL}, {@code _USERNAME} and
+ * {@code _PASSWORD}, with the same defaults as {@code application.properties}.
+ * Plain JDBC – no Spring context is started.</p>
+ */
+public final class CardPartitionMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(CardPartitionMigrator.class);
+
+    private static final int PARTITIONS = 16;
+    private static final UUID MIN_UUID = new UUID(0, 0);
+
+    private static final String BACKFILL_BATCH = """
+            WITH batch AS (
+                SELECT id
+                  FROM cards
+                 WHERE board_id IS NULL
+                   AND id > ?
+                 ORDER BY id
+                 LIMIT ?
+                   FOR UPDATE SKIP LOCKED
+            ), filled AS (
+                UPDATE cards c
+                   SET board_id = col.board_id
+                  FROM batch b, columns col
+                 WHERE c.id = b.id
+                   AND col.id = c.column_id
+                RETURNING c.id
+            )
+            SELECT (SELECT count(*) FROM filled),
+                   (SELECT id FROM batch ORDER BY id DESC LIMIT 1)
+            """;
+
+    private static final String MISSING_IN_PARTITIONED = """
+            SELECT count(*) FROM cards c
+             WHERE NOT EXISTS (SELECT 1 FROM cards_partitioned p
+                                WHERE p.board_id = c.board_id AND p.id = c.id)
+            """;
+
+    private static final String MISSING_IN_LEGACY = """
+            SELECT count(*) FROM cards_partitioned p
+             WHERE NOT EXISTS (SELECT 1 FROM cards c WHERE c.id = p.id)
+            """;
+
+    private final Connection connection;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    CardPartitionMigrator(Connection connection, int batchSize, long pauseMillis) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch size must be at least 1");
+        }
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("usage: CardPartitionMigrator <backfill|verify|cutover|drop-legacy>"
+                    + " [batchSize=5000] [pauseMillis=50]");
+            System.exit(2);
+        }
+        int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        long pauseMillis = args.length > 2 ? Long.parseLong(args[2]) : 50;
+
+        try (Connection connection = DriverManager.getConnection(
+                env("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/kanban_db"),
+                env("SPRING_DATASOURCE_USERNAME", "kanban_user"),
+                env("SPRING_DATASOURCE_PASSWORD", "kanban_password"))) {
+            CardPartitionMigrator migrator = new CardPartitionMigrator(connection, batchSize, pauseMillis);
+            switch (args[0]) {
+                case "backfill"    -> migrator.backfill();
+                case "verify"      -> {
+                    if (!migrator.verify()) {
+                        System.exit(1);
+                    }
+                }
+                case "cutover"     -> migrator.cutover();
+                case "drop-legacy" -> migrator.dropLegacy();
+                default -> throw new IllegalArgumentException("Unknown step '%s'".formatted(args[0]));
+            }
+        }
+    }
+
+    // ── Steps ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Fills {@code board_id} until no legacy row lacks it. Rows locked by the application
+     * are skipped and picked up by the next pass.
+     */
+    void backfill() throws SQLException, InterruptedException {
+        connection.setAutoCommit(true);
+        execute("SET lock_timeout = '2s'");
+
+        long total = 0;
+        int pass = 0;
+        while (remaining() > 0) {
+            if (pass++ > 0) {
+                // Only rows locked by the application are left – give them time to commit
+                Thread.sleep(Math.max(pauseMillis, 1000));
+            }
+            UUID after = MIN_UUID;
+            while (true) {
+                BatchResult batch = backfillBatch(after);
+                if (batch.rows() == 0) {
+                    break;
+                }
+                total += batch.rows();
+                after = batch.lastId();
+                log.info("Backfill pass {}: {} cards done", pass, total);
+                if (pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        }
+        log.info("Backfill complete: {} cards in {} pass(es)", total, pass);
+    }
+
+    /** Returns {@code true} when both tables hold exactly the same cards. */
+    boolean verify() throws SQLException {
+        long unfilled = remaining();
+        long missingNew = count(MISSING_IN_PARTITIONED);
+        long missingOld = count(MISSING_IN_LEGACY);
+        log.info("Verify: {} without board_id, {} missing in cards_partitioned, {} only in cards_partitioned",
+                unfilled, missingNew, missingOld);
+        return unfilled == 0 && missingNew == 0 && missingOld == 0;
+    }
+
+    /**
+     * Swaps the tables. Holds an exclusive lock on {@code cards} only for the renames;
+     * gives up (and changes nothing) if the lock is not granted within 5 seconds or if
+     * the backfill is incomplete.
+     */
+    void cutover() throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            execute("SET LOCAL lock_timeout = '5s'");
+            execute("LOCK TABLE cards, cards_partitioned IN ACCESS EXCLUSIVE MODE");
+            if (remaining() > 0) {
+                throw new IllegalStateException("Backfill incomplete – run the backfill step first");
+            }
+            execute("DROP TRIGGER cards_sync_partitioned ON cards");
+            execute("DROP TRIGGER cards_fill_board_id ON cards");
+            execute("DROP TRIGGER IF EXISTS cards_count_per_column ON cards");
+            execute("ALTER TABLE cards RENAME TO cards_legacy");
+            execute("ALTER INDEX idx_cards_column_id RENAME TO idx_cards_legacy_column_id");
+            execute("ALTER INDEX IF EXISTS idx_cards_column_updated_at RENAME TO idx_cards_legacy_column_updated_at");
+            execute("ALTER TABLE cards_partitioned RENAME TO cards");
+            for (int i = 0; i < PARTITIONS; i++) {
+                execute("ALTER TABLE cards_partitioned_p%02d RENAME TO cards_p%02d".formatted(i, i));
+            }
+            execute("ALTER INDEX idx_cards_partitioned_id RENAME TO idx_cards_id");
+            execute("ALTER INDEX idx_cards_partitioned_column_id RENAME TO idx_cards_board_column_id");
+            // V7: column_id lookups (FK cascade, archive scan, bulk column operations)
+            execute("ALTER INDEX idx_cards_partitioned_column_fk RENAME TO idx_cards_column_id");
+            execute("ALTER INDEX idx_cards_partitioned_column_updated_at RENAME TO idx_cards_column_updated_at");
+            // Raw SQL inserts that omit board_id keep working on the new table
+            execute("""
+                    CREATE TRIGGER cards_fill_board_id
+                        BEFORE INSERT ON cards
+                        FOR EACH ROW EXECUTE FUNCTION cards_fill_board_id()
+                    """);
+            // The V5 column counters follow the live table
+            execute("""
+                    CREATE TRIGGER cards_count_per_column
+                        AFTER INSERT OR DELETE OR UPDATE OF column_id ON cards
+                        FOR EACH ROW EXECUTE FUNCTION column_card_counts_apply()
+                    """);
+            connection.commit();
+            log.info("Cutover complete – cards is now hash-partitioned; "
+                    + "set kanban.cards.partition-pruning=true");
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    void dropLegacy() throws SQLException {
+        connection.setAutoCommit(true);
+        execute("DROP TABLE IF EXISTS cards_legacy");
+        execute("DROP FUNCTION IF EXISTS cards_sync_partitioned()");
+        log.info("Dropped cards_legacy");
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private record BatchResult(int rows, UUID lastId) {}
+
+    private BatchResult backfillBatch(UUID after) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(BACKFILL_BATCH)) {
+            ps.setObject(1, after);
+            ps.setInt(2, batchSize);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                // Keyset position comes from Postgres: its uuid order differs from UUID.compareTo
+                UUID last = rs.getObject(2, UUID.class);
+                return new BatchResult(rs.getInt(1), last != null ? last : after);
+            }
+        }
+    }
+
+    /** Uses the partial index {@code idx_cards_board_id_missing}, so it stays cheap. */
+    private long remaining() throws SQLException {
+        return count("SELECT count(*) FROM cards WHERE board_id IS NULL");
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute(sql);
+        }
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : fallback;
+    }
+}
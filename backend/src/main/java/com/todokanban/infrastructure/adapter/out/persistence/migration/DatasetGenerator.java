@@ -0,0 +1,382 @@
+package com.todokanban.infrastructure.adapter.out.persistence.migration;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a synthetic workspace → board → column → card dataset for benchmarks, through
+ * the Postgres {@code COPY} protocol on several connections in parallel.
+ *
+ * <p>{@code ./gradlew generateDataset -Pworkspaces=10000 -PcardsPerBoard=100} – see
+ * {@link Options} for every setting. Rows have the {@code V1__create_kanban_schema.sql}
+ * shapes plus {@code cards.board_id} (V4); later columns keep their defaults.</p>
+ *
+ * <ul>
+ *   <li>Each stream claims whole workspaces and writes them in transactions of about
+ *       {@code batchCards} cards: one {@code COPY} per table, parents first, so the
+ *       foreign keys hold inside the transaction.</li>
+ *   <li>Card counts per board follow a Pareto distribution with mean
+ *       {@code cardsPerBoard}; {@code skew=0} gives every board the same count. Data is
+ *       derived from {@code seed} per workspace, so a run is reproducible whatever the
+ *       number of streams.</li>
+ *   <li>By default every trigger fires as for application writes (board-fill, partition
+ *       sync, column counters, foreign keys). {@code fast=true} sets
+ *       {@code session_replication_role = replica} (superuser, or a role granted that
+ *       setting) to skip them, writes {@code cards_partitioned} directly while the
+ *       partition cutover is pending, and recounts {@code column_card_counts} at the end.</li>
+ * </ul>
+ *
+ * <p>Connection settings come from {@code SPRING_DATASOURCE_URL}, {@code _USERNAME} and
+ * {@code _PASSWORD}, with the same defaults as {@code application.properties}.
+ * Plain JDBC – no Spring context is started.</p>
+ */
+public final class DatasetGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    /** Cap on a single board under skew, as a multiple of {@code cardsPerBoard}. */
+    private static final int MAX_SKEW_FACTOR = 100;
+    private static final long YEAR_SECONDS = 365L * 24 * 3600;
+
+    private static final String COPY_WORKSPACES =
+            "COPY workspaces (id, name, description, created_at, updated_at) FROM STDIN";
+    private static final String COPY_BOARDS =
+            "COPY boards (id, workspace_id, name, description, created_at, updated_at) FROM STDIN";
+    private static final String COPY_COLUMNS =
+            "COPY columns (id, board_id, name, position, created_at, updated_at) FROM STDIN";
+    private static final String CARD_COLUMNS =
+            " (id, board_id, column_id, title, description, position, created_at, updated_at) FROM STDIN";
+
+    private static final String RECOUNT_COLUMNS = """
+            INSERT INTO column_card_counts (column_id, card_count)
+            SELECT c.column_id, count(*)
+              FROM cards c
+             GROUP BY c.column_id
+            ON CONFLICT (column_id) DO UPDATE SET card_count = EXCLUDED.card_count
+            """;
+
+    private static final String[] COLUMN_NAMES = {"Backlog", "To Do", "In Progress", "Review", "Done", "Archive"};
+    private static final String[] VERBS = {"Fix", "Add", "Refactor", "Review", "Document", "Test", "Deploy", "Design"};
+    private static final String[] NOUNS = {"login flow", "board view", "card drag-and-drop", "search", "API rate limit",
+            "onboarding email", "export to CSV", "dark mode", "audit log", "billing page", "mobile layout"};
+
+    /**
+     * Generator settings, from {@code --name=value} arguments.
+     *
+     * @param workspaces         workspaces to create
+     * @param boardsPerWorkspace boards in every workspace
+     * @param columnsPerBoard    columns on every board
+     * @param cardsPerBoard      mean number of cards per board
+     * @param skew               0 for equal boards; higher values give fewer, larger boards
+     * @param streams            parallel connections
+     * @param batchCards         cards per transaction (approximate – whole workspaces are kept together)
+     * @param seed               random seed
+     * @param fast               skip triggers during the load (see class comment)
+     */
+    record Options(int workspaces, int boardsPerWorkspace, int columnsPerBoard, int cardsPerBoard,
+                   double skew, int streams, int batchCards, long seed, boolean fast) {
+
+        Options {
+            if (workspaces < 1 || boardsPerWorkspace < 1 || columnsPerBoard < 1 || streams < 1 || batchCards < 1) {
+                throw new IllegalArgumentException(
+                        "workspaces, boardsPerWorkspace, columnsPerBoard, streams and batchCards must be at least 1");
+            }
+            if (cardsPerBoard < 0 || skew < 0) {
+                throw new IllegalArgumentException("cardsPerBoard and skew must not be negative");
+            }
+        }
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (!arg.startsWith("--") || eq < 0) {
+                    throw new IllegalArgumentException("Expected --name=value, got '%s'".formatted(arg));
+                }
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+            Options options = new Options(
+                    Integer.parseInt(values.getOrDefault("workspaces", "100")),
+                    Integer.parseInt(values.getOrDefault("boardsPerWorkspace", "10")),
+                    Integer.parseInt(values.getOrDefault("columnsPerBoard", "4")),
+                    Integer.parseInt(values.getOrDefault("cardsPerBoard", "100")),
+                    Double.parseDouble(values.getOrDefault("skew", "1.0")),
+                    Integer.parseInt(values.getOrDefault("streams",
+                            String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                    Integer.parseInt(values.getOrDefault("batchCards", "50000")),
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    Boolean.parseBoolean(values.getOrDefault("fast", "false")));
+            values.keySet().removeAll(List.of("workspaces", "boardsPerWorkspace", "columnsPerBoard",
+                    "cardsPerBoard", "skew", "streams", "batchCards", "seed", "fast"));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown option(s): " + values.keySet());
+            }
+            return options;
+        }
+    }
+
+    /** Opens one connection per stream. */
+    @FunctionalInterface
+    interface Connector {
+        Connection open() throws SQLException;
+    }
+
+    /** Rows of one transaction, already in {@code COPY} text format. */
+    private static final class Chunk {
+        final StringBuilder workspaces = new StringBuilder();
+        final StringBuilder boards = new StringBuilder();
+        final StringBuilder columns = new StringBuilder();
+        final StringBuilder cards = new StringBuilder();
+        long workspaceRows, boardRows, columnRows, cardRows;
+    }
+
+    private final Options options;
+    private final Connector connector;
+    private final long now = Instant.now().getEpochSecond();
+    private final AtomicLong boardsWritten = new AtomicLong();
+    private final AtomicLong cardsWritten = new AtomicLong();
+
+    DatasetGenerator(Options options, Connector connector) {
+        this.options = options;
+        this.connector = connector;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String url = env("SPRING_DATASOURCE_URL", "jdbc:postgresql://localhost:5432/kanban_db");
+        String user = env("SPRING_DATASOURCE_USERNAME", "kanban_user");
+        String password = env("SPRING_DATASOURCE_PASSWORD", "kanban_password");
+        new DatasetGenerator(options, () -> DriverManager.getConnection(url, user, password)).generate();
+    }
+
+    /** Loads the whole dataset; throws the first stream failure. */
+    void generate() throws Exception {
+        boolean partitionCopyPending;
+        try (Connection connection = connector.open()) {
+            // Before the partition cutover, cards_partitioned is only filled by the sync trigger
+            partitionCopyPending = options.fast() && queryBoolean(connection,
+                    "SELECT to_regclass('cards_partitioned') IS NOT NULL");
+        }
+
+        long started = System.nanoTime();
+        AtomicInteger nextWorkspace = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(options.streams());
+        try {
+            List<Future<Void>> streams = new ArrayList<>();
+            for (int s = 0; s < options.streams(); s++) {
+                streams.add(pool.submit(() -> {
+                    try (Connection connection = connector.open()) {
+                        load(connection, nextWorkspace, partitionCopyPending);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> stream : streams) {
+                try {
+                    stream.get();
+                } catch (ExecutionException e) {
+                    pool.shutdownNow();
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        try (Connection connection = connector.open(); Statement statement = connection.createStatement()) {
+            if (options.fast()) {
+                log.info("Recounting column_card_counts");
+                statement.execute(RECOUNT_COLUMNS);
+            }
+            statement.execute("ANALYZE workspaces, boards, columns, cards");
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Loaded {} workspaces, {} boards and {} cards in {} s ({} cards/s)",
+                options.workspaces(), boardsWritten.get(), cardsWritten.get(),
+                Math.round(seconds), Math.round(cardsWritten.get() / seconds));
+    }
+
+    // ── Streams ───────────────────────────────────────────────────────────────
+
+    private void load(Connection connection, AtomicInteger nextWorkspace, boolean partitionCopyPending)
+            throws SQLException, IOException {
+        connection.setAutoCommit(false);
+        if (options.fast()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET session_replication_role = replica");
+            }
+        }
+        CopyManager copy = connection.unwrap(PGConnection.class).getCopyAPI();
+
+        Chunk chunk = new Chunk();
+        int workspace;
+        while ((workspace = nextWorkspace.getAndIncrement()) < options.workspaces()) {
+            generateWorkspace(workspace, chunk);
+            if (chunk.cardRows >= options.batchCards()) {
+                write(connection, copy, chunk, partitionCopyPending);
+                chunk = new Chunk();
+            }
+        }
+        if (chunk.workspaceRows > 0) {
+            write(connection, copy, chunk, partitionCopyPending);
+        }
+    }
+
+    private void write(Connection connection, CopyManager copy, Chunk chunk, boolean partitionCopyPending)
+            throws SQLException, IOException {
+        copyIn(copy, COPY_WORKSPACES, chunk.workspaces);
+        copyIn(copy, COPY_BOARDS, chunk.boards);
+        copyIn(copy, COPY_COLUMNS, chunk.columns);
+        copyIn(copy, "COPY cards" + CARD_COLUMNS, chunk.cards);
+        if (partitionCopyPending) {
+            copyIn(copy, "COPY cards_partitioned" + CARD_COLUMNS, chunk.cards);
+        }
+        connection.commit();
+
+        long boards = boardsWritten.addAndGet(chunk.boardRows);
+        long cards = cardsWritten.addAndGet(chunk.cardRows);
+        log.info("{} boards / {} cards written", boards, cards);
+    }
+
+    private static void copyIn(CopyManager copy, String sql, StringBuilder rows) throws SQLException, IOException {
+        if (!rows.isEmpty()) {
+            copy.copyIn(sql, new ByteArrayInputStream(rows.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    // ── Data ──────────────────────────────────────────────────────────────────
+
+    private void generateWorkspace(int index, Chunk chunk) {
+        SplittableRandom random = new SplittableRandom(options.seed() ^ (index * 0x9E3779B97F4A7C15L));
+        UUID workspaceId = uuid(random);
+        long created = now - random.nextLong(YEAR_SECONDS);
+        row(chunk.workspaces, workspaceId, "Workspace " + index, "Synthetic workspace",
+                instant(created), instant(updatedAfter(random, created)));
+        chunk.workspaceRows++;
+
+        for (int b = 0; b < options.boardsPerWorkspace(); b++) {
+            UUID boardId = uuid(random);
+            long boardCreated = updatedAfter(random, created);
+            row(chunk.boards, boardId, workspaceId, "Board " + index + "-" + b, null,
+                    instant(boardCreated), instant(updatedAfter(random, boardCreated)));
+            chunk.boardRows++;
+
+            UUID[] columnIds = new UUID[options.columnsPerBoard()];
+            for (int c = 0; c < columnIds.length; c++) {
+                columnIds[c] = uuid(random);
+                row(chunk.columns, columnIds[c], boardId, COLUMN_NAMES[c % COLUMN_NAMES.length], c,
+                        instant(boardCreated), instant(boardCreated));
+            }
+            chunk.columnRows += columnIds.length;
+
+            int cards = cardsForBoard(random);
+            int[] positions = new int[columnIds.length];
+            for (int k = 0; k < cards; k++) {
+                int column = random.nextInt(columnIds.length);
+                long cardCreated = updatedAfter(random, boardCreated);
+                String description = random.nextInt(10) < 4 ? null
+                        : "Generated card %d on board %d-%d".formatted(k, index, b);
+                row(chunk.cards, uuid(random), boardId, columnIds[column],
+                        VERBS[random.nextInt(VERBS.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " #" + k,
+                        description, positions[column]++,
+                        instant(cardCreated), instant(updatedAfter(random, cardCreated)));
+            }
+            chunk.cardRows += cards;
+        }
+    }
+
+    /** Pareto-distributed with mean {@code cardsPerBoard}; shape {@code 1 + 1/skew}. */
+    private int cardsForBoard(SplittableRandom random) {
+        if (options.skew() == 0 || options.cardsPerBoard() == 0) {
+            return options.cardsPerBoard();
+        }
+        double alpha = 1 + 1 / options.skew();
+        double scale = options.cardsPerBoard() * (alpha - 1) / alpha;
+        double sample = scale / Math.pow(1 - random.nextDouble(), 1 / alpha);
+        return (int) Math.min(sample, (double) options.cardsPerBoard() * MAX_SKEW_FACTOR);
+    }
+
+    private long updatedAfter(SplittableRandom random, long epochSecond) {
+        return epochSecond + random.nextLong(Math.max(1, now - epochSecond));
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        // Random (version 4, IETF variant) bits from the seeded generator
+        long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static String instant(long epochSecond) {
+        return Instant.ofEpochSecond(epochSecond).toString();
+    }
+
+    /** Appends one row in COPY text format; {@code null} becomes {@code \N}. */
+    private static void row(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append('\t');
+            }
+            Object value = values[i];
+            if (value == null) {
+                out.append("\\N");
+            } else if (value instanceof String text) {
+                escape(out, text);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append('\n');
+    }
+
+    private static void escape(StringBuilder out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '\\' -> out.append("\\\\");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                default -> out.append(ch);
+            }
+        }
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : fallback;
+    }
+}
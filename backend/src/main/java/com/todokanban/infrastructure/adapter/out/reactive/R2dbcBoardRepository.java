@@ -0,0 +1,307 @@
+package com.todokanban.infrastructure.adapter.out.reactive;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.model.Board;
+import com.todokanban.domain.model.BoardChange;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.Card;
+import com.todokanban.domain.model.CardId;
+import com.todokanban.domain.model.Column;
+import com.todokanban.domain.model.ColumnId;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.AsyncBoardRepository;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector.DetectedChange;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector.ElementState;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * R2DBC adapter for the {@link AsyncBoardRepository} port. Enabled with
+ * {@code kanban.reactive.enabled=true}, next to – not instead of – the JPA adapter.
+ *
+ * <p>A board is read with one statement: the board row outer-joined to its columns and
+ * their cards, so the result is a consistent snapshot without a transaction. Cards are
+ * joined through {@code columns}, which also finds legacy rows whose {@code board_id}
+ * was never backfilled; that means no partition pruning on {@code cards_partitioned}.</p>
+ *
+ * <p>{@link #update} writes the same way {@code BoardPersistenceAdapter} does, one
+ * transaction per call: the board row is locked ({@code FOR UPDATE OF b}), the mutation
+ * runs on the loaded aggregate, {@link BoardChangeDetector} works out what changed and
+ * only those rows are written. The change set is recorded in {@code board_changes} under
+ * the board's next version, and a {@link BoardChangedEvent} is published after commit
+ * so caches drop the board.</p>
+ *
+ * <p>The adapter refuses to start with {@code kanban.board-store.type=memory}. A board
+ * resident and dirty in the memory store is ahead of Postgres: reads here would miss its
+ * writes, and its next flush would overwrite the writes made here.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "kanban.reactive.enabled", havingValue = "true")
+public class R2dbcBoardRepository implements AsyncBoardRepository {
+
+    private static final String SELECT_BOARD = """
+            SELECT b.workspace_id, b.name, b.description, b.created_at, b.updated_at, b.change_seq,
+                   col.id AS column_id, col.name AS column_name, col.position AS column_position,
+                   col.created_at AS column_created_at, col.updated_at AS column_updated_at,
+                   c.id AS card_id, c.title AS card_title, c.description AS card_description,
+                   c.position AS card_position, c.created_at AS card_created_at,
+                   c.updated_at AS card_updated_at
+              FROM boards b
+              LEFT JOIN columns col ON col.board_id = b.id
+              LEFT JOIN cards c ON c.column_id = col.id
+             WHERE b.id = :id
+             ORDER BY col.position, col.id, c.position, c.id
+            """;
+
+    private static final String LOCK_CLAUSE = "FOR UPDATE OF b";
+
+    private static final String NEXT_VERSION = """
+            UPDATE boards
+               SET change_seq = change_seq + 1, name = :name, description = :description, updated_at = now()
+             WHERE id = :id
+            RETURNING change_seq
+            """;
+
+    private static final String INSERT_CHANGE = """
+            INSERT INTO board_changes
+                (board_id, seq, ordinal, entity_type, entity_id, change_type,
+                 column_id, name, description, position, changed_at)
+            VALUES (:boardId, :seq, :ordinal, :entityType, :entityId, :changeType,
+                    :columnId, :name, :description, :position, :changedAt)
+            """;
+
+    private static final String INSERT_COLUMN = """
+            INSERT INTO columns (id, board_id, name, position, created_at, updated_at)
+            VALUES (:id, :boardId, :name, :position, now(), now())
+            """;
+
+    private static final String UPDATE_COLUMN = """
+            UPDATE columns SET name = :name, position = :position, updated_at = now()
+             WHERE id = :id AND board_id = :boardId
+            """;
+
+    private static final String DELETE_COLUMN = "DELETE FROM columns WHERE id = :id AND board_id = :boardId";
+
+    private static final String INSERT_CARD = """
+            INSERT INTO cards (id, board_id, column_id, title, description, position, created_at, updated_at)
+            VALUES (:id, :boardId, :columnId, :name, :description, :position, now(), now())
+            """;
+
+    private static final String UPDATE_CARD = """
+            UPDATE cards
+               SET column_id = :columnId, title = :name, description = :description,
+                   position = :position, updated_at = now()
+             WHERE id = :id
+            """;
+
+    private static final String DELETE_CARD = "DELETE FROM cards WHERE id = :id";
+
+    /** One row of {@link #SELECT_BOARD}; the column and card fields are null for empty joins. */
+    private record BoardRow(UUID workspaceId, String name, String description,
+                            Instant createdAt, Instant updatedAt, long version,
+                            UUID columnId, String columnName, Integer columnPosition,
+                            Instant columnCreatedAt, Instant columnUpdatedAt,
+                            UUID cardId, String cardTitle, String cardDescription, Integer cardPosition,
+                            Instant cardCreatedAt, Instant cardUpdatedAt) {}
+
+    private final ReactiveDatabase database;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public R2dbcBoardRepository(ReactiveDatabase database, ApplicationEventPublisher eventPublisher,
+                                @Value("${kanban.board-store.type:jpa}") String boardStore) {
+        if ("memory".equals(boardStore)) {
+            throw new IllegalStateException(
+                    "kanban.reactive.enabled=true cannot be combined with kanban.board-store.type=memory");
+        }
+        this.database = database;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Board>> findById(BoardId id) {
+        return load(id, false)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Board> update(BoardId id, Consumer<Board> mutation) {
+        Mono<Board> updated = load(id, true)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException(
+                        "Board '%s' not found".formatted(id))))
+                .flatMap(board -> {
+                    BoardChangeDetector.Snapshot before = BoardChangeDetector.snapshot(board);
+                    mutation.accept(board);
+                    List<DetectedChange> changes = BoardChangeDetector.diff(before, BoardChangeDetector.snapshot(board));
+                    if (changes.isEmpty()) {
+                        return Mono.just(board);
+                    }
+                    return Flux.fromIterable(changes)
+                            .concatMap(change -> write(id.value(), change))
+                            .then(append(board, changes))
+                            .map(version -> Board.reconstitute(board.getId(), board.getWorkspaceId(),
+                                    board.getName(), board.getDescription(), board.getColumns(),
+                                    board.getCreatedAt(), board.getUpdatedAt(), version));
+                });
+        return database.transactions().transactional(updated)
+                .doOnNext(board -> eventPublisher.publishEvent(BoardChangedEvent.updated(id)))
+                .toFuture();
+    }
+
+    // ── Reads ─────────────────────────────────────────────────────────────────
+
+    private Mono<Board> load(BoardId id, boolean forUpdate) {
+        return database.client().sql(forUpdate ? SELECT_BOARD + LOCK_CLAUSE : SELECT_BOARD)
+                .bind("id", id.value())
+                .map(R2dbcBoardRepository::mapRow)
+                .all()
+                .collectList()
+                .flatMap(rows -> Mono.justOrEmpty(toBoard(id, rows)));
+    }
+
+    private static BoardRow mapRow(Readable row) {
+        return new BoardRow(
+                row.get("workspace_id", UUID.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                instant(row, "created_at"),
+                instant(row, "updated_at"),
+                row.get("change_seq", Long.class),
+                row.get("column_id", UUID.class),
+                row.get("column_name", String.class),
+                row.get("column_position", Integer.class),
+                instant(row, "column_created_at"),
+                instant(row, "column_updated_at"),
+                row.get("card_id", UUID.class),
+                row.get("card_title", String.class),
+                row.get("card_description", String.class),
+                row.get("card_position", Integer.class),
+                instant(row, "card_created_at"),
+                instant(row, "card_updated_at"));
+    }
+
+    private static Optional<Board> toBoard(BoardId id, List<BoardRow> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Map<UUID, BoardRow> columnRows = new LinkedHashMap<>();
+        Map<UUID, List<Card>> cards = new LinkedHashMap<>();
+        for (BoardRow row : rows) {
+            if (row.columnId() == null) {
+                continue;
+            }
+            columnRows.putIfAbsent(row.columnId(), row);
+            List<Card> columnCards = cards.computeIfAbsent(row.columnId(), columnId -> new ArrayList<>());
+            if (row.cardId() != null) {
+                columnCards.add(Card.reconstitute(new CardId(row.cardId()), row.cardTitle(),
+                        row.cardDescription(), row.cardPosition(), row.cardCreatedAt(), row.cardUpdatedAt()));
+            }
+        }
+        List<Column> columns = new ArrayList<>(columnRows.size());
+        for (BoardRow row : columnRows.values()) {
+            columns.add(Column.reconstitute(new ColumnId(row.columnId()), row.columnName(), row.columnPosition(),
+                    cards.get(row.columnId()), row.columnCreatedAt(), row.columnUpdatedAt()));
+        }
+        BoardRow board = rows.get(0);
+        return Optional.of(Board.reconstitute(id, new WorkspaceId(board.workspaceId()), board.name(),
+                board.description(), columns, board.createdAt(), board.updatedAt(), board.version()));
+    }
+
+    private static Instant instant(Readable row, String name) {
+        OffsetDateTime value = row.get(name, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+
+    // ── Writes ────────────────────────────────────────────────────────────────
+
+    /** Writes one detected change; board-level fields are written by {@link #append}. */
+    private Mono<Long> write(UUID boardId, DetectedChange change) {
+        ElementState state = change.state();
+        DatabaseClient client = database.client();
+        GenericExecuteSpec spec = switch (state.entity()) {
+            case BOARD -> null;
+            case COLUMN -> switch (change.type()) {
+                case CREATED -> client.sql(INSERT_COLUMN).bind("boardId", boardId)
+                        .bind("name", state.name()).bind("position", state.position());
+                case UPDATED, MOVED -> client.sql(UPDATE_COLUMN).bind("boardId", boardId)
+                        .bind("name", state.name()).bind("position", state.position());
+                case DELETED -> client.sql(DELETE_COLUMN).bind("boardId", boardId);
+            };
+            case CARD -> switch (change.type()) {
+                case CREATED -> bindNullable(client.sql(INSERT_CARD).bind("boardId", boardId)
+                        .bind("columnId", state.columnId()).bind("name", state.name())
+                        .bind("position", state.position()), "description", state.description(), String.class);
+                case UPDATED, MOVED -> bindNullable(client.sql(UPDATE_CARD)
+                        .bind("columnId", state.columnId()).bind("name", state.name())
+                        .bind("position", state.position()), "description", state.description(), String.class);
+                case DELETED -> client.sql(DELETE_CARD);
+            };
+        };
+        return spec == null ? Mono.empty() : spec.bind("id", state.id()).fetch().rowsUpdated();
+    }
+
+    /** Advances the board's version and records {@code changes} under it. */
+    private Mono<Long> append(Board board, List<DetectedChange> changes) {
+        UUID boardId = board.getId().value();
+        GenericExecuteSpec next = database.client().sql(NEXT_VERSION)
+                .bind("id", boardId)
+                .bind("name", board.getName());
+        return bindNullable(next, "description", board.getDescription(), String.class)
+                .map(row -> row.get("change_seq", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "Board '%s' vanished while recording changes".formatted(board.getId()))))
+                .flatMap(version -> {
+                    OffsetDateTime changedAt = OffsetDateTime.now();
+                    return Flux.range(0, changes.size())
+                            .concatMap(ordinal -> insertChange(boardId, version, ordinal,
+                                    changes.get(ordinal), changedAt))
+                            .then(Mono.just(version));
+                });
+    }
+
+    private Mono<Long> insertChange(UUID boardId, long version, int ordinal,
+                                    DetectedChange change, OffsetDateTime changedAt) {
+        ElementState state = change.state();
+        boolean deleted = change.type() == BoardChange.Type.DELETED;
+        GenericExecuteSpec spec = database.client().sql(INSERT_CHANGE)
+                .bind("boardId", boardId)
+                .bind("seq", version)
+                .bind("ordinal", ordinal)
+                .bind("entityType", state.entity().name())
+                .bind("entityId", state.id())
+                .bind("changeType", change.type().name())
+                .bind("changedAt", changedAt);
+        spec = bindNullable(spec, "columnId", state.columnId(), UUID.class);
+        spec = bindNullable(spec, "name", deleted ? null : state.name(), String.class);
+        spec = bindNullable(spec, "description", deleted ? null : state.description(), String.class);
+        spec = bindNullable(spec, "position", deleted ? null : state.position(), Integer.class);
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static GenericExecuteSpec bindNullable(GenericExecuteSpec spec, String name,
+                                                   Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+}
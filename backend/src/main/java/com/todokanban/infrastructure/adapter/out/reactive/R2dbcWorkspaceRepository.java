@@ -0,0 +1,64 @@
+package com.todokanban.infrastructure.adapter.out.reactive;
+
+import com.todokanban.domain.model.Workspace;
+import com.todokanban.domain.model.WorkspaceId;
+import com.todokanban.domain.ports.output.AsyncWorkspaceRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * R2DBC adapter for the {@link AsyncWorkspaceRepository} port. Enabled with
+ * {@code kanban.reactive.enabled=true}.
+ *
+ * <p>Like {@code WorkspaceMapper}, workspaces come back without their boards.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "kanban.reactive.enabled", havingValue = "true")
+public class R2dbcWorkspaceRepository implements AsyncWorkspaceRepository {
+
+    private static final String SELECT_WORKSPACES =
+            "SELECT id, name, description, created_at, updated_at FROM workspaces";
+
+    private final ReactiveDatabase database;
+
+    public R2dbcWorkspaceRepository(ReactiveDatabase database) {
+        this.database = database;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Workspace>> findById(WorkspaceId id) {
+        return database.client().sql(SELECT_WORKSPACES + " WHERE id = :id")
+                .bind("id", id.value())
+                .map(R2dbcWorkspaceRepository::mapRow)
+                .one()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<Workspace>> findAll() {
+        return database.client().sql(SELECT_WORKSPACES)
+                .map(R2dbcWorkspaceRepository::mapRow)
+                .all()
+                .collectList()
+                .toFuture();
+    }
+
+    private static Workspace mapRow(Readable row) {
+        return Workspace.reconstitute(
+                new WorkspaceId(row.get("id", UUID.class)),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                List.of(),
+                row.get("created_at", OffsetDateTime.class).toInstant(),
+                row.get("updated_at", OffsetDateTime.class).toInstant());
+    }
+}
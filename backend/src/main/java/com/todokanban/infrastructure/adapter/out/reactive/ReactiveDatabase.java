@@ -0,0 +1,67 @@
+package com.todokanban.infrastructure.adapter.out.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
+
+/**
+ * The R2DBC connection pool behind the reactive adapters, with the
+ * {@link DatabaseClient} and {@link TransactionalOperator} bound to it.
+ *
+ * <p>Neither the pool nor its transaction manager is exposed as a bean: a
+ * {@code ConnectionFactory} bean makes Boot's JDBC {@code DataSource} auto-configuration
+ * back off, and a second {@code TransactionManager} would make every
+ * {@code @Transactional} in the JPA services ambiguous. The reactive adapters share this
+ * holder instead, and the JDBC stack stays exactly as it is.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "kanban.reactive.enabled", havingValue = "true")
+public class ReactiveDatabase implements DisposableBean {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+    private final TransactionalOperator transactions;
+
+    public ReactiveDatabase(@Value("${kanban.reactive.url}") String url,
+                            @Value("${kanban.reactive.username}") String username,
+                            @Value("${kanban.reactive.password}") String password,
+                            @Value("${kanban.reactive.pool-max-size:20}") int poolMaxSize,
+                            @Value("${kanban.reactive.pool-max-idle-time:PT10M}") Duration maxIdleTime) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("kanban-r2dbc")
+                .initialSize(Math.min(2, poolMaxSize))
+                .maxSize(poolMaxSize)
+                .maxIdleTime(maxIdleTime)
+                .build());
+        this.client = DatabaseClient.create(pool);
+        this.transactions = TransactionalOperator.create(new R2dbcTransactionManager(pool));
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    /** Runs a publisher in one transaction on one pooled connection. */
+    public TransactionalOperator transactions() {
+        return transactions;
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,225 @@
+package com.todokanban.infrastructure.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Gradient-style adaptive concurrency limit with per-subject fair admission.
+ *
+ * <p>The limit follows observed latency: every sampling window the average RTT of the
+ * window ("short RTT") is compared against a slowly moving baseline ("long RTT").
+ * While latency stays near the baseline the limit grows by roughly {@code sqrt(limit)};
+ * when latency climbs (queueing in the DB pool, GC, …) the gradient drops below 1
+ * and the limit shrinks proportionally. Growth is skipped while the server is
+ * application-limited (in-flight never reached half the limit).</p>
+ *
+ * <p>Fairness: once in-flight requests pass {@code fairnessThreshold × limit}, a subject
+ * (JWT {@code sub}) may only hold its fair share, {@code limit / activeSubjects}, so a
+ * single heavy user cannot take every slot.</p>
+ *
+ * <p>Hot-path accounting is lock-free: admission is a CAS on an {@link AtomicInteger},
+ * latency samples go to {@link LongAdder}s, and the limit is recomputed by whichever
+ * thread wins a CAS on the window start. Per-subject counts change only through atomic
+ * {@link ConcurrentHashMap} updates, and a subject's entry is removed by the release
+ * that takes it to zero, so the map holds exactly the subjects with a slot.</p>
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    /** Tolerated ratio between short and long RTT before the limit starts shrinking. */
+    private static final double RTT_TOLERANCE = 1.5;
+    /** Weight of each window in the long-RTT baseline. */
+    private static final double LONG_RTT_DECAY = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final double fairnessThreshold;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** Slots held per subject; subjects holding none have no entry. */
+    private final ConcurrentHashMap<String, Integer> perSubject = new ConcurrentHashMap<>();
+
+    private final AtomicLong windowStart;
+    private final LongAdder windowRttSum = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+
+    private final LongAdder limitRejections = new LongAdder();
+    private final LongAdder fairnessRejections = new LongAdder();
+
+    private volatile int limit;
+    private volatile double estimatedLimit;
+    private volatile double longRttNanos;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(
+            @Value("${kanban.concurrency.initial-limit:50}") int initialLimit,
+            @Value("${kanban.concurrency.min-limit:10}") int minLimit,
+            @Value("${kanban.concurrency.max-limit:400}") int maxLimit,
+            @Value("${kanban.concurrency.window:PT1S}") Duration window,
+            @Value("${kanban.concurrency.fairness-threshold:0.5}") double fairnessThreshold) {
+        this(initialLimit, minLimit, maxLimit, 0.2, window, 10, fairnessThreshold, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing,
+                               Duration window, int minWindowSamples, double fairnessThreshold,
+                               LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.windowNanos = window.toNanos();
+        this.minWindowSamples = minWindowSamples;
+        this.fairnessThreshold = fairnessThreshold;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /** A granted slot. Must be released exactly once. */
+    public final class Permit {
+        private final String subject;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(String subject, long startNanos) {
+            this.subject = subject;
+            this.startNanos = startNanos;
+        }
+
+        /** Frees the slot and feeds the observed latency into the limit estimate. */
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            perSubject.computeIfPresent(subject, (k, held) -> held == 1 ? null : held - 1);
+            inFlight.decrementAndGet();
+            sample(nanoClock.getAsLong() - startNanos);
+        }
+    }
+
+    /**
+     * Tries to admit a request for {@code subject}.
+     *
+     * @return a permit, or {@code null} if the request must be shed
+     */
+    public Permit tryAcquire(String subject) {
+        int currentLimit = limit;
+
+        if (inFlight.get() >= currentLimit * fairnessThreshold) {
+            int held = perSubject.getOrDefault(subject, 0);
+            int active = perSubject.size() + (held == 0 ? 1 : 0);
+            int fairShare = Math.max(1, currentLimit / Math.max(1, active));
+            if (held >= fairShare) {
+                fairnessRejections.increment();
+                return null;
+            }
+        }
+
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= currentLimit) {
+                limitRejections.increment();
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+        perSubject.merge(subject, 1, Integer::sum);
+        return new Permit(subject, nanoClock.getAsLong());
+    }
+
+    public int getLimit()     { return limit; }
+    public int getInFlight()  { return inFlight.get(); }
+
+    /** Suggested {@code Retry-After} in whole seconds, derived from the latency baseline. */
+    public long retryAfterSeconds() {
+        double baseline = longRttNanos;
+        return Math.max(1, Math.round(baseline * 2 / 1_000_000_000d));
+    }
+
+    private void sample(long rttNanos) {
+        windowRttSum.add(rttNanos);
+        windowSamples.increment();
+
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowNanos
+                && windowSamples.sum() >= minWindowSamples
+                && windowStart.compareAndSet(start, now)) {
+            updateLimit();
+        }
+    }
+
+    /** Called by exactly one thread per window (the CAS winner). */
+    private void updateLimit() {
+        long samples = windowSamples.sumThenReset();
+        long rttSum = windowRttSum.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(0);
+        if (samples == 0) {
+            return;
+        }
+
+        double shortRtt = (double) rttSum / samples;
+        double longRtt = longRttNanos == 0 ? shortRtt
+                : longRttNanos * (1 - LONG_RTT_DECAY) + shortRtt * LONG_RTT_DECAY;
+        // Latency dropped well below the baseline (e.g. after an incident): catch up quickly
+        if (longRtt / shortRtt > 2) {
+            longRtt = (longRtt + shortRtt) / 2;
+        }
+        longRttNanos = longRtt;
+
+        double current = estimatedLimit;
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        if (maxInFlight < current / 2) {
+            // Application-limited: no evidence the server could take more, only allow shrinking
+            target = Math.min(target, current);
+        }
+
+        double next = current * (1 - smoothing) + target * smoothing;
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        estimatedLimit = next;
+        limit = (int) next;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kanban.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("kanban.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently holding a concurrency slot")
+                .register(registry);
+        FunctionCounter.builder("kanban.concurrency.rejected", limitRejections, LongAdder::sum)
+                .tag("reason", "limit")
+                .description("Requests shed because the global limit was reached")
+                .register(registry);
+        FunctionCounter.builder("kanban.concurrency.rejected", fairnessRejections, LongAdder::sum)
+                .tag("reason", "fairness")
+                .description("Requests shed because the subject exceeded its fair share")
+                .register(registry);
+    }
+}
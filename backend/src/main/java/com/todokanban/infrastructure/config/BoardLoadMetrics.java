@@ -0,0 +1,36 @@
+package com.todokanban.infrastructure.config;
+
+import com.todokanban.application.usecase.BoardLoadCoalescer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the {@link BoardLoadCoalescer} counters to Micrometer, keeping metrics
+ * out of the application layer.
+ */
+@Component
+public class BoardLoadMetrics implements MeterBinder {
+
+    private final BoardLoadCoalescer coalescer;
+
+    public BoardLoadMetrics(BoardLoadCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kanban.board-load.requests", coalescer, BoardLoadCoalescer::loadCount)
+                .tag("result", "loaded")
+                .description("Board reads that led a load")
+                .register(registry);
+        FunctionCounter.builder("kanban.board-load.requests", coalescer, BoardLoadCoalescer::coalescedCount)
+                .tag("result", "coalesced")
+                .description("Board reads that joined a load already in flight")
+                .register(registry);
+        FunctionCounter.builder("kanban.board-load.timeouts", coalescer, BoardLoadCoalescer::timeoutCount)
+                .description("Coalesced board reads that gave up waiting and loaded the board themselves")
+                .register(registry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.todokanban.infrastructure.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+
+/**
+ * Servlet filter that puts the {@link AdaptiveConcurrencyLimiter} in front of the API.
+ *
+ * <p>Runs right after the Spring Security filter chain configured in {@link SecurityConfig},
+ * so the authenticated JWT subject is available for per-user fairness, but before any
+ * other application filter or controller work. Shed requests get
+ * {@code 429 Too Many Requests} with a {@code Retry-After} header and a problem body.</p>
+ *
+ * <p>Disable with {@code kanban.concurrency.enabled=false}.</p>
+ */
+@Component
+@Order(ConcurrencyLimitFilter.ORDER)
+@ConditionalOnProperty(name = "kanban.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 30;
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(subject(request));
+        if (permit == null) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(limiter.retryAfterSeconds()));
+            ProblemResponses.write(response, HttpStatus.TOO_MANY_REQUESTS, "too-many-requests",
+                    "Server is at capacity, please retry later");
+            return;
+        }
+
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Keep the slot until the async response completes (reactive endpoints)
+                request.getAsyncContext().addListener(new ReleasingListener(permit));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                permit.release();
+            }
+        }
+    }
+
+    private static String subject(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? principal.getName() : "anonymous:" + request.getRemoteAddr();
+    }
+
+    private record ReleasingListener(AdaptiveConcurrencyLimiter.Permit permit) implements AsyncListener {
+        @Override public void onComplete(AsyncEvent event)   { permit.release(); }
+        @Override public void onTimeout(AsyncEvent event)    { permit.release(); }
+        @Override public void onError(AsyncEvent event)      { permit.release(); }
+        @Override public void onStartAsync(AsyncEvent event) { }
+    }
+}
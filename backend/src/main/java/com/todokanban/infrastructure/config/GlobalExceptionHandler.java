@@ -1,9 +1,12 @@
 package com.todokanban.infrastructure.config;
 
+import com.todokanban.application.usecase.MutationTimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -22,6 +25,7 @@ import java.util.NoSuchElementException;
  * <ul>
  *   <li>{@link IllegalArgumentException} → 400 Bad Request</li>
  *   <li>{@link NoSuchElementException} → 404 Not Found</li>
+ *   <li>{@link MutationTimeoutException} → 503 Service Unavailable</li>
  *   <li>{@link Exception} → 500 Internal Server Error</li>
  * </ul>
  */
@@ -80,6 +84,23 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    /**
+     * Handles a board whose mutation queue did not reach the request in time.
+     * Returns {@code 503 Service Unavailable} with {@code Retry-After}.
+     */
+    @ExceptionHandler(MutationTimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleMutationTimeout(MutationTimeoutException ex) {
+        log.warn("Mutation timed out: {}", ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        problem.setTitle("Service Unavailable");
+        problem.setType(URI.create("https://api.todokanban.com/errors/service-unavailable"));
+        problem.setProperty("timestamp", Instant.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(problem);
+    }
+
     /**
      * Catch-all handler for unexpected errors.
      * Returns {@code 500 Internal Server Error} without leaking internal details.
@@ -0,0 +1,223 @@
+package com.todokanban.infrastructure.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.JSONObjectUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * JWK source for the resource server that never blocks startup or request threads
+ * on Keycloak.
+ *
+ * <ul>
+ *   <li>Startup: keys come from a JWKS snapshot on local disk; the issuer is not
+ *       contacted. Without a snapshot, tokens are rejected until the first refresh.</li>
+ *   <li>Discovery: the {@code jwks_uri} is read from the issuer's
+ *       {@code .well-known/openid-configuration} lazily, on the first refresh.</li>
+ *   <li>Refresh: runs in the background – on a schedule, and when a token carries a
+ *       {@code kid} that is not in the current set (key rotation). Refreshes are
+ *       single-flight: concurrent triggers share one fetch, and unknown-{@code kid}
+ *       triggers are rate-limited by {@code min-refresh-interval}.</li>
+ *   <li>Every successful fetch rewrites the snapshot atomically (public keys only).</li>
+ * </ul>
+ *
+ * <p>A request with an unknown {@code kid} is answered from the current key set, i.e.
+ * rejected with 401; the client's retry succeeds once the refresh lands.</p>
+ */
+@Component
+public class PersistentJwkSource implements JWKSource<SecurityContext> {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistentJwkSource.class);
+
+    private final String issuer;
+    private final Path snapshotFile;
+    private final Duration fetchTimeout;
+    private final long minRefreshNanos;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final HttpClient http;
+
+    private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+    private final AtomicLong lastTriggerNanos;
+
+    private volatile JWKSet keys = new JWKSet();
+    private volatile URI jwksUri;
+
+    @Autowired
+    public PersistentJwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuer,
+            @Value("${kanban.security.jwks.snapshot-file:${java.io.tmpdir}/kanban-jwks.json}") Path snapshotFile,
+            @Value("${kanban.security.jwks.fetch-timeout:PT5S}") Duration fetchTimeout,
+            @Value("${kanban.security.jwks.min-refresh-interval:PT30S}") Duration minRefreshInterval) {
+        this(issuer, snapshotFile, fetchTimeout, minRefreshInterval,
+                task -> Thread.ofVirtual().name("jwks-refresh").start(task), System::nanoTime);
+    }
+
+    PersistentJwkSource(String issuer, Path snapshotFile, Duration fetchTimeout,
+                        Duration minRefreshInterval, Executor executor, LongSupplier nanoClock) {
+        this.issuer = issuer.endsWith("/") ? issuer.substring(0, issuer.length() - 1) : issuer;
+        this.snapshotFile = snapshotFile;
+        this.fetchTimeout = fetchTimeout;
+        this.minRefreshNanos = minRefreshInterval.toNanos();
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+        this.http = HttpClient.newBuilder().connectTimeout(fetchTimeout).build();
+        this.lastTriggerNanos = new AtomicLong(nanoClock.getAsLong() - minRefreshNanos);
+        loadSnapshot();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) {
+        List<JWK> matches = selector.select(keys);
+        if (matches.isEmpty()) {
+            refreshIfDue();
+        }
+        return matches;
+    }
+
+    /** Keys currently used for verification. */
+    public JWKSet getKeys() {
+        return keys;
+    }
+
+    /** Periodic refresh; also the first contact with the issuer after startup. */
+    @Scheduled(fixedDelayString = "${kanban.security.jwks.refresh-interval:PT10M}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Starts a background refresh, or joins the one already running.
+     *
+     * @return completes when the shared fetch finishes (exceptionally if it failed)
+     */
+    public CompletableFuture<Void> refresh() {
+        while (true) {
+            CompletableFuture<Void> current = inFlight.get();
+            if (current != null) {
+                return current;
+            }
+            CompletableFuture<Void> next = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, next)) {
+                lastTriggerNanos.set(nanoClock.getAsLong());
+                executor.execute(() -> runRefresh(next));
+                return next;
+            }
+        }
+    }
+
+    private void refreshIfDue() {
+        long last = lastTriggerNanos.get();
+        if (nanoClock.getAsLong() - last >= minRefreshNanos) {
+            refresh();
+        }
+    }
+
+    private void runRefresh(CompletableFuture<Void> result) {
+        try {
+            JWKSet fetched = fetch();
+            keys = fetched;
+            saveSnapshot(fetched);
+            inFlight.compareAndSet(result, null);
+            result.complete(null);
+        } catch (Exception e) {
+            log.warn("JWKS refresh from {} failed, keeping {} cached key(s): {}",
+                    issuer, keys.getKeys().size(), e.toString());
+            inFlight.compareAndSet(result, null);
+            result.completeExceptionally(e);
+        }
+    }
+
+    // ── Issuer access ─────────────────────────────────────────────────────────
+
+    private JWKSet fetch() throws IOException, InterruptedException, ParseException {
+        URI uri = jwksUri;
+        if (uri == null) {
+            uri = discoverJwksUri();
+            jwksUri = uri;
+        }
+        return JWKSet.parse(get(uri));
+    }
+
+    private URI discoverJwksUri() throws IOException, InterruptedException, ParseException {
+        Map<String, Object> metadata = JSONObjectUtils.parse(
+                get(URI.create(issuer + "/.well-known/openid-configuration")));
+        Object advertised = metadata.get("issuer");
+        if (advertised == null || !issuer.equals(advertised.toString().replaceAll("/$", ""))) {
+            throw new IllegalStateException(
+                    "Issuer metadata names '%s', expected '%s'".formatted(advertised, issuer));
+        }
+        Object jwks = metadata.get("jwks_uri");
+        if (jwks == null) {
+            throw new IllegalStateException("Issuer metadata has no jwks_uri");
+        }
+        return URI.create(jwks.toString());
+    }
+
+    private String get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(fetchTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET %s returned %d".formatted(uri, response.statusCode()));
+        }
+        return response.body();
+    }
+
+    // ── Snapshot ──────────────────────────────────────────────────────────────
+
+    private void loadSnapshot() {
+        if (!Files.isRegularFile(snapshotFile)) {
+            log.info("No JWKS snapshot at {}; tokens are rejected until the first refresh", snapshotFile);
+            return;
+        }
+        try {
+            keys = JWKSet.parse(Files.readString(snapshotFile, StandardCharsets.UTF_8));
+            log.info("Loaded {} key(s) from JWKS snapshot {}", keys.getKeys().size(), snapshotFile);
+        } catch (IOException | ParseException e) {
+            log.warn("Ignoring unreadable JWKS snapshot {}: {}", snapshotFile, e.toString());
+        }
+    }
+
+    private void saveSnapshot(JWKSet set) {
+        try {
+            Path dir = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, snapshotFile.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, set.toString(true), StandardCharsets.UTF_8);
+            Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write JWKS snapshot {}: {}", snapshotFile, e.toString());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.todokanban.infrastructure.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Writes RFC 9457 problem documents straight to a servlet response.
+ *
+ * <p>Servlet filters run outside the {@code DispatcherServlet}, so they cannot rely on
+ * {@link GlobalExceptionHandler}. This utility produces the same JSON shape
+ * (type, title, status, detail, timestamp) so clients see one error format.</p>
+ *
+ * <p>Static utility – no Spring injection.</p>
+ */
+public final class ProblemResponses {
+
+    private static final String TYPE_PREFIX = "https://api.todokanban.com/errors/";
+
+    private ProblemResponses() {}
+
+    /**
+     * Writes a problem document and sets the status and content type.
+     *
+     * @param response the servlet response (must not be committed)
+     * @param status   the HTTP status to send
+     * @param typeSlug the last path segment of the problem type URI, e.g. {@code "conflict"}
+     * @param detail   a human-readable explanation
+     */
+    public static void write(HttpServletResponse response, HttpStatus status,
+                             String typeSlug, String detail) throws IOException {
+        String body = """
+                {"type":"%s","title":"%s","status":%d,"detail":"%s","timestamp":"%s"}"""
+                .formatted(TYPE_PREFIX + typeSlug, status.getReasonPhrase(), status.value(),
+                        escape(detail), Instant.now());
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private static String escape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"'  -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u%04x".formatted((int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
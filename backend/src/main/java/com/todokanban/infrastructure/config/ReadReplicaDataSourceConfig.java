@@ -0,0 +1,73 @@
+package com.todokanban.infrastructure.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces Boot's single {@code DataSource} with primary + read-replica pools when
+ * {@code kanban.datasource.replica-urls} is set.
+ *
+ * <p>Read-only transactions ({@code GetBoardService}, {@code GetWorkspacesService}, …)
+ * go to a replica through {@link ReplicaRoutingDataSource}; writes, Flyway and
+ * non-transactional access use the primary. Replicas share the primary's credentials
+ * and pool size.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "kanban.datasource.replica-urls")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Value("${spring.datasource.url}") String primaryUrl,
+            @Value("${kanban.datasource.replica-urls}") List<String> replicaUrls,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${kanban.datasource.replica-max-lag:PT5S}") Duration maxLag,
+            @Value("${kanban.datasource.read-your-writes-window:PT5S}") Duration readYourWritesWindow) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(pool("replica-" + i, replicaUrls.get(i).strip(), username, password, poolSize, true));
+        }
+        return new ReplicaRoutingDataSource(
+                pool("primary", primaryUrl, username, password, poolSize, false),
+                replicas, maxLag, readYourWritesWindow);
+    }
+
+    /** The application-wide {@code DataSource}: routes on the first statement, not on checkout. */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routing) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing);
+        // Known pool defaults, so the proxy never opens a connection just to read them
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         int poolSize, boolean readOnly) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        config.setReadOnly(readOnly);
+        // Replicas may be down at startup; the health check decides when they are used
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,55 @@
+package com.todokanban.infrastructure.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * Marks the caller as a recent writer in {@link ReplicaRoutingDataSource} after every
+ * successful mutating {@code /api/} request, so their next reads go to the primary.
+ *
+ * <p>Complements the transaction-level mark: card and move mutations are committed by
+ * the board mutation executor on its own threads, where no user is authenticated.</p>
+ */
+@Component
+@Order(ReadYourWritesFilter.ORDER)
+@ConditionalOnProperty(name = "kanban.datasource.replica-urls")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** Runs after Spring Security, so the principal is known. */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 40;
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ReplicaRoutingDataSource routing;
+
+    public ReadYourWritesFilter(ReplicaRoutingDataSource routing) {
+        this.routing = routing;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !MUTATING_METHODS.contains(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        chain.doFilter(request, response);
+        Principal principal = request.getUserPrincipal();
+        if (principal != null && response.getStatus() < 400) {
+            routing.markWrite(principal.getName());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.todokanban.infrastructure.config;
+
+import com.todokanban.domain.ports.output.ReadRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * <p>A transaction is routed to a replica only when all of these hold:</p>
+ * <ul>
+ *   <li>it is {@code @Transactional(readOnly = true)};</li>
+ *   <li>it does not run inside {@link #readFromPrimary()} – reads whose result is kept
+ *       (e.g. to fill a response cache) must not store a lagging replica's view;</li>
+ *   <li>the current user has not committed a write on this instance within the
+ *       read-your-writes window (their own change may not have replicated yet);</li>
+ *   <li>some replica passed its last health check with a replay lag under {@code maxLag}.</li>
+ * </ul>
+ * <p>Otherwise it goes to the primary. Replicas are used round-robin.</p>
+ *
+ * <p>Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the JPA transaction manager asks for a connection before the read-only flag is bound
+ * to the thread, and the proxy defers the real lookup to the first statement.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements ReadRouting, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    /**
+     * Replay lag of a replica; {@link Duration#ZERO} when it is fully caught up.
+     * A Postgres standby reports it; a server that is not in recovery counts as caught up.
+     */
+    @FunctionalInterface
+    public interface LagProbe {
+        Duration lag(DataSource replica) throws SQLException;
+    }
+
+    static final LagProbe POSTGRES_LAG = replica -> {
+        try (Connection connection = replica.getConnection();
+             Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("""
+                     SELECT CASE
+                              WHEN NOT pg_is_in_recovery() THEN 0
+                              WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                              ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                            END
+                     """)) {
+            rs.next();
+            return Duration.ofMillis(rs.getLong(1));
+        }
+    };
+
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean available;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long stickyNanos;
+    private final LagProbe lagProbe;
+    private final LongSupplier nanoClock;
+
+    /** Set inside {@link #readFromPrimary()}. */
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    /** Ends a {@link #readFromPrimary()} scope. */
+    public interface PrimaryScope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    Duration maxLag, Duration readYourWritesWindow) {
+        this(primary, replicas, maxLag, readYourWritesWindow, POSTGRES_LAG, System::nanoTime);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                             Duration readYourWritesWindow, LagProbe lagProbe, LongSupplier nanoClock) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + i, replicas.get(i)));
+        }
+        this.maxLagMillis = maxLag.toMillis();
+        this.stickyNanos = readYourWritesWindow.toNanos();
+        this.lagProbe = lagProbe;
+        this.nanoClock = nanoClock;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        this.replicas.forEach(r -> targets.put(r.name, r.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String subject = currentSubject();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite(subject);
+            return PRIMARY;
+        }
+        if (FORCE_PRIMARY.get() || (subject != null && isSticky(subject))) {
+            return PRIMARY;
+        }
+        Replica replica = pickReplica();
+        return replica != null ? replica.name : PRIMARY;
+    }
+
+    /**
+     * Probes every replica and updates its availability. Also forgets read-your-writes
+     * marks that have expired.
+     */
+    @Scheduled(fixedDelayString = "${kanban.datasource.replica-check-interval:PT2S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.available;
+            try {
+                long lagMillis = lagProbe.lag(replica.dataSource).toMillis();
+                replica.available = lagMillis <= maxLagMillis;
+                if (wasAvailable && !replica.available) {
+                    log.warn("{} is {} ms behind (max {} ms), reading from primary", replica.name, lagMillis, maxLagMillis);
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.available = false;
+                if (wasAvailable) {
+                    log.warn("{} failed its health check, reading from primary: {}", replica.name, e.toString());
+                }
+            }
+            if (!wasAvailable && replica.available) {
+                log.info("{} is available for reads", replica.name);
+            }
+        }
+        long now = nanoClock.getAsLong();
+        lastWriteNanos.values().removeIf(written -> now - written > stickyNanos);
+    }
+
+    /**
+     * Marks {@code subject} as a recent writer now. Used by {@link ReadYourWritesFilter} for
+     * writes committed on another thread (e.g. by the board mutation executor), where the
+     * transaction carries no authenticated user.
+     */
+    public void markWrite(String subject) {
+        lastWriteNanos.put(subject, nanoClock.getAsLong());
+    }
+
+    /**
+     * Routes every transaction this thread starts to the primary until the returned scope
+     * is closed. Works whether or not replicas are configured.
+     */
+    public static PrimaryScope readFromPrimary() {
+        boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(true);
+        return () -> FORCE_PRIMARY.set(previous);
+    }
+
+    /**
+     * Inside {@link #readFromPrimary()}, or the current subject wrote within the
+     * read-your-writes window.
+     */
+    @Override
+    public boolean requiresPrimary() {
+        if (FORCE_PRIMARY.get()) {
+            return true;
+        }
+        String subject = currentSubject();
+        return subject != null && isSticky(subject);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        close(primary);
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+    }
+
+    // ── Helpers ───────────────────────────────────────────────────────────────
+
+    private Replica pickReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.available) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private boolean isSticky(String subject) {
+        Long written = lastWriteNanos.get(subject);
+        return written != null && nanoClock.getAsLong() - written <= stickyNanos;
+    }
+
+    /**
+     * Marks the subject as a recent writer once its read-write transaction commits –
+     * replication lag counts from there. Non-transactional access is not a write mark.
+     */
+    private void recordWrite(String subject) {
+        if (subject == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWrite(subject);
+            }
+        });
+    }
+
+    private static String currentSubject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
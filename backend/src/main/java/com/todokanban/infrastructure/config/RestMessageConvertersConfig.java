@@ -0,0 +1,37 @@
+package com.todokanban.infrastructure.config;
+
+import com.todokanban.infrastructure.adapter.in.rest.mapper.BoardHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the binary Jackson formats next to JSON for every REST endpoint.
+ *
+ * <p>Clients that send {@code Accept: application/cbor} or
+ * {@code Accept: application/x-jackson-smile} get the same response model
+ * (UUIDs, ISO timestamps, nested columns/cards) in a compact binary encoding;
+ * request bodies in those formats are accepted via {@code Content-Type}.</p>
+ *
+ * <p>The converters are set in the builder's dedicated CBOR/Smile slots rather than
+ * as custom converters, so they keep their place <em>after</em> JSON and JSON stays
+ * the default for {@code Accept: *}{@code /*} and requests without an {@code Accept} header.</p>
+ *
+ * <p>Endpoints returning a domain {@code Board} are served by the streaming
+ * {@link BoardHttpMessageConverter}s, registered first (JSON, CBOR, Smile) so they win
+ * over the generic Jackson converters for that type only.</p>
+ */
+@Configuration
+public class RestMessageConvertersConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.addCustomConverter(BoardHttpMessageConverter.json())
+               .addCustomConverter(BoardHttpMessageConverter.cbor())
+               .addCustomConverter(BoardHttpMessageConverter.smile())
+               .withCborConverter(new JacksonCborHttpMessageConverter())
+               .withSmileConverter(new JacksonSmileHttpMessageConverter());
+    }
+}
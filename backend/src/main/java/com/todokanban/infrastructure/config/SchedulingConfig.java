@@ -0,0 +1,12 @@
+package com.todokanban.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (history compaction, maintenance).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
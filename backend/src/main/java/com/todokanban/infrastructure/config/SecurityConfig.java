@@ -1,13 +1,23 @@
 package com.todokanban.infrastructure.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.Set;
+
 /**
  * Spring Security 7 configuration for the Kanban API.
  *
@@ -20,8 +30,11 @@ import org.springframework.security.web.SecurityFilterChain;
  *   <li>CSRF disabled: not necessary for stateless REST APIs.</li>
  *   <li>No session: each request is independently authenticated via JWT.</li>
  *   <li>Actuator health endpoint permitted without auth for readiness probes.</li>
- *   <li>JWKS URI is auto-discovered from the issuer-uri configured in
- *       {@code application.properties}.</li>
+ *   <li>Signing keys come from {@link PersistentJwkSource}: a JWKS snapshot on disk,
+ *       refreshed in the background, so neither startup nor requests wait for Keycloak.
+ *       Its JWKS URI is discovered lazily from the configured issuer-uri.</li>
+ *   <li>Load shedding happens in {@link ConcurrencyLimitFilter}, which runs right after
+ *       this chain so it can use the authenticated subject for fairness.</li>
  * </ul>
  */
 @Configuration
@@ -48,8 +61,27 @@ public class SecurityConfig {
 
             // Validate JWTs from Keycloak (issuer-uri configured in application.properties)
             .oauth2ResourceServer(oauth2 ->
-                    oauth2.jwt(jwt -> {}));  // JWKS auto-discovered via issuer-uri
+                    oauth2.jwt(jwt -> {}));  // uses the JwtDecoder bean below
 
         return http.build();
     }
+
+    /**
+     * JWT decoder over {@link PersistentJwkSource}. Replaces Boot's issuer-uri decoder,
+     * which discovers the issuer before it can validate anything.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(PersistentJwkSource jwkSource,
+                                 @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuer) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(Set.of(
+                JWSAlgorithm.RS256, JWSAlgorithm.RS384, JWSAlgorithm.RS512,
+                JWSAlgorithm.PS256, JWSAlgorithm.ES256, JWSAlgorithm.ES384), jwkSource));
+        // Claims are checked by Spring's validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> {});
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
 }
@@ -0,0 +1,32 @@
+-- ============================================================
+--  V2 – Per-board change sequence and change history
+--  Backs GET /api/v1/boards/{id}/changes?since=<version>
+-- ============================================================
+
+-- ── Boards: current version and compaction floor ─────────
+-- change_seq   : incremented once per persisted change set
+-- change_floor : history up to and including this version has been compacted;
+--                clients behind it must reload the full board
+ALTER TABLE boards ADD COLUMN IF NOT EXISTS change_seq   BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boards ADD COLUMN IF NOT EXISTS change_floor BIGINT NOT NULL DEFAULT 0;
+
+-- ── Change history ────────────────────────────────────────
+-- One row per changed board/column/card per version, holding post-change state.
+-- ordinal keeps the apply order inside a version (columns before their cards).
+CREATE TABLE IF NOT EXISTS board_changes (
+    board_id    UUID         NOT NULL REFERENCES boards (id) ON DELETE CASCADE,
+    seq         BIGINT       NOT NULL,
+    ordinal     INT          NOT NULL,
+    entity_type VARCHAR(16)  NOT NULL,
+    entity_id   UUID         NOT NULL,
+    change_type VARCHAR(16)  NOT NULL,
+    column_id   UUID,
+    name        VARCHAR(255),
+    description TEXT,
+    position    INT,
+    changed_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    PRIMARY KEY (board_id, seq, ordinal)
+);
+
+-- Compaction scans by age
+CREATE INDEX IF NOT EXISTS idx_board_changes_changed_at ON board_changes (changed_at);
@@ -0,0 +1,30 @@
+-- ============================================================
+--  V3 – Cold storage for archived cards
+--  Filled by CardArchiveJob; never read by normal board loads.
+-- ============================================================
+
+-- ── Archived cards ────────────────────────────────────────
+-- column_id has no FK on purpose: the column may be deleted while its
+-- cards stay in the archive (restore then targets another column).
+CREATE TABLE IF NOT EXISTS cards_archive (
+    id          UUID         PRIMARY KEY,
+    board_id    UUID         NOT NULL REFERENCES boards (id) ON DELETE CASCADE,
+    column_id   UUID         NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    position    INT          NOT NULL DEFAULT 0,
+    created_at  TIMESTAMPTZ  NOT NULL,
+    updated_at  TIMESTAMPTZ  NOT NULL,
+    archived_at TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    search      TSVECTOR     GENERATED ALWAYS AS (
+                    to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, ''))
+                ) STORED
+);
+
+-- Per-board listing, newest first
+CREATE INDEX IF NOT EXISTS idx_cards_archive_board_archived_at ON cards_archive (board_id, archived_at DESC);
+-- Full-text search on title/description
+CREATE INDEX IF NOT EXISTS idx_cards_archive_search ON cards_archive USING GIN (search);
+
+-- ── Cards: archive candidate scan ─────────────────────────
+CREATE INDEX IF NOT EXISTS idx_cards_column_updated_at ON cards (column_id, updated_at);
@@ -0,0 +1,95 @@
+-- ============================================================
+--  V4 – Hash-partitioned cards table (phase 1 of 2)
+--
+--  This migration only prepares the new layout; it is cheap and safe to run
+--  on a live database:
+--    1. cards.board_id is added (nullable, no table rewrite) and filled for new
+--       and updated rows by a trigger.
+--    2. cards_partitioned is created, hash-partitioned by board_id.
+--    3. A trigger mirrors every write on cards into cards_partitioned.
+--
+--  Existing rows are copied and the tables swapped by the online tool
+--  CardPartitionMigrator (./gradlew migrateCardPartitions -Pstep=...):
+--    backfill → verify → cutover → drop-legacy
+-- ============================================================
+
+-- ── Cards: denormalized board_id ─────────────────────────
+ALTER TABLE cards ADD COLUMN IF NOT EXISTS board_id UUID;
+
+-- Drives the keyset backfill and the "nothing left" check at cutover;
+-- empty (and free) once the backfill is done.
+CREATE INDEX IF NOT EXISTS idx_cards_board_id_missing ON cards (id) WHERE board_id IS NULL;
+
+CREATE OR REPLACE FUNCTION cards_fill_board_id() RETURNS trigger AS $$
+BEGIN
+    IF NEW.board_id IS NULL THEN
+        SELECT col.board_id INTO NEW.board_id FROM columns col WHERE col.id = NEW.column_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS cards_fill_board_id ON cards;
+CREATE TRIGGER cards_fill_board_id
+    BEFORE INSERT OR UPDATE ON cards
+    FOR EACH ROW EXECUTE FUNCTION cards_fill_board_id();
+
+-- ── Partitioned cards ─────────────────────────────────────
+-- Primary key must contain the partition key; id alone is indexed separately
+-- for lookups that do not know the board.
+CREATE TABLE IF NOT EXISTS cards_partitioned (
+    id          UUID         NOT NULL,
+    board_id    UUID         NOT NULL REFERENCES boards (id) ON DELETE CASCADE,
+    column_id   UUID         NOT NULL REFERENCES columns (id) ON DELETE CASCADE,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    position    INT          NOT NULL DEFAULT 0,
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    updated_at  TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    PRIMARY KEY (board_id, id)
+) PARTITION BY HASH (board_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS cards_partitioned_p%s PARTITION OF cards_partitioned
+                 FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+            lpad(i::text, 2, '0'), i);
+    END LOOP;
+END;
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_cards_partitioned_id ON cards_partitioned (id);
+CREATE INDEX IF NOT EXISTS idx_cards_partitioned_column_id ON cards_partitioned (board_id, column_id);
+
+-- ── Dual write: cards → cards_partitioned ─────────────────
+CREATE OR REPLACE FUNCTION cards_sync_partitioned() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        IF OLD.board_id IS NOT NULL THEN
+            DELETE FROM cards_partitioned WHERE board_id = OLD.board_id AND id = OLD.id;
+        END IF;
+        RETURN OLD;
+    END IF;
+    IF NEW.board_id IS NOT NULL THEN
+        INSERT INTO cards_partitioned
+            (id, board_id, column_id, title, description, position, created_at, updated_at)
+        VALUES
+            (NEW.id, NEW.board_id, NEW.column_id, NEW.title, NEW.description, NEW.position,
+             NEW.created_at, NEW.updated_at)
+        ON CONFLICT (board_id, id) DO UPDATE
+           SET column_id   = EXCLUDED.column_id,
+               title       = EXCLUDED.title,
+               description = EXCLUDED.description,
+               position    = EXCLUDED.position,
+               updated_at  = EXCLUDED.updated_at;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS cards_sync_partitioned ON cards;
+CREATE TRIGGER cards_sync_partitioned
+    AFTER INSERT OR UPDATE OR DELETE ON cards
+    FOR EACH ROW EXECUTE FUNCTION cards_sync_partitioned();
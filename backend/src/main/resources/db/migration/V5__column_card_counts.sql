@@ -0,0 +1,44 @@
+-- ============================================================
+--  V5 – Per-column card counters for the workspace dashboard
+--
+--  column_card_counts holds one row per column that has ever held a card.
+--  A row trigger on cards keeps it in step in the writing transaction, so
+--  every writer (JPA saves, the archive job, raw SQL) is covered.
+--  ColumnCardCountReconcileJob corrects any drift periodically.
+-- ============================================================
+
+-- ── Counters ──────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS column_card_counts (
+    column_id  UUID PRIMARY KEY REFERENCES columns (id) ON DELETE CASCADE,
+    card_count INT  NOT NULL DEFAULT 0
+);
+
+-- Increments upsert the row; decrements only update it, so cascading
+-- deletes of a column never try to recreate the counter being removed.
+CREATE OR REPLACE FUNCTION column_card_counts_apply() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' AND OLD.column_id IS NOT DISTINCT FROM NEW.column_id THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        UPDATE column_card_counts SET card_count = card_count - 1 WHERE column_id = OLD.column_id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO column_card_counts (column_id, card_count) VALUES (NEW.column_id, 1)
+        ON CONFLICT (column_id) DO UPDATE SET card_count = column_card_counts.card_count + 1;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS cards_count_per_column ON cards;
+CREATE TRIGGER cards_count_per_column
+    AFTER INSERT OR DELETE OR UPDATE OF column_id ON cards
+    FOR EACH ROW EXECUTE FUNCTION column_card_counts_apply();
+
+-- ── Initial counts ────────────────────────────────────────
+INSERT INTO column_card_counts (column_id, card_count)
+SELECT c.column_id, count(*)
+  FROM cards c
+ GROUP BY c.column_id
+ON CONFLICT (column_id) DO UPDATE SET card_count = EXCLUDED.card_count;
@@ -0,0 +1,10 @@
+-- ============================================================
+--  V6 – Board templates
+--  A template is a board that is only used as a clone source: it is kept
+--  out of workspace board listings and the dashboard.
+-- ============================================================
+
+-- ── Boards: template flag ─────────────────────────────────
+ALTER TABLE boards ADD COLUMN IF NOT EXISTS template BOOLEAN NOT NULL DEFAULT false;
+
+CREATE INDEX IF NOT EXISTS idx_boards_workspace_templates ON boards (workspace_id) WHERE template;
@@ -0,0 +1,30 @@
+-- ============================================================
+--  V7 – Column indexes for the partitioned cards table
+--  cards_partitioned (V4) was only indexed by (board_id, ...), so after the
+--  cutover the column_id ON DELETE CASCADE, the archive job's column_id /
+--  updated_at scan, the counter reconcile and column bulk operations had to
+--  visit every partition. These mirror V1's idx_cards_column_id and V3's
+--  idx_cards_column_updated_at on the legacy table.
+-- ============================================================
+
+DO $$
+BEGIN
+    IF to_regclass('cards_partitioned') IS NOT NULL THEN
+        -- Before the cutover: CardPartitionMigrator renames these with the table
+        CREATE INDEX IF NOT EXISTS idx_cards_partitioned_column_fk
+            ON cards_partitioned (column_id);
+        CREATE INDEX IF NOT EXISTS idx_cards_partitioned_column_updated_at
+            ON cards_partitioned (column_id, updated_at);
+    ELSE
+        -- The cutover already ran: cards is the partitioned table, and the V3 index
+        -- name may still belong to cards_legacy
+        IF to_regclass('cards_legacy') IS NOT NULL
+           AND (SELECT indrelid FROM pg_index
+                 WHERE indexrelid = to_regclass('idx_cards_column_updated_at')) = 'cards_legacy'::regclass THEN
+            ALTER INDEX idx_cards_column_updated_at RENAME TO idx_cards_legacy_column_updated_at;
+        END IF;
+        CREATE INDEX IF NOT EXISTS idx_cards_column_id ON cards (column_id);
+        CREATE INDEX IF NOT EXISTS idx_cards_column_updated_at ON cards (column_id, updated_at);
+    END IF;
+END;
+$$;
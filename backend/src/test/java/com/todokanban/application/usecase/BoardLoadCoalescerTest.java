@@ -0,0 +1,165 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BoardLoadCoalescer}. Pure JUnit 5 – loads are held back on a
+ * latch so that other callers arrive while they are in flight.
+ */
+@DisplayName("BoardLoadCoalescer")
+class BoardLoadCoalescerTest {
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    /** What {@code ReadRouting} answers for the calling thread. */
+    private final AtomicBoolean primary = new AtomicBoolean();
+
+    private BoardLoadCoalescer coalescer;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new BoardLoadCoalescer(Duration.ofSeconds(5), primary::get);
+        board = Board.create(WorkspaceId.generate(), "Stand-up", null);
+        board.addColumn(Column.create("To Do", 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        threads.shutdownNow();
+    }
+
+    /** A load that signals {@link #loading} and blocks until {@link #release}. */
+    private Supplier<Optional<Board>> heldLoad(Supplier<Optional<Board>> result) {
+        return () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private Future<Optional<Board>> loadAsync(Supplier<Optional<Board>> loader) {
+        return threads.submit(() -> coalescer.load(board.getId(), loader));
+    }
+
+    /** Starts a leader and waits until its load is in flight. */
+    private Future<Optional<Board>> startLeader(Supplier<Optional<Board>> result) throws InterruptedException {
+        Future<Optional<Board>> leader = loadAsync(heldLoad(result));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        return leader;
+    }
+
+    private void awaitFollowers(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.coalescedCount() < count) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join the flight");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent callers share one load and each gets its own aggregate")
+    void concurrentCallers_shareOneLoad() throws Exception {
+        Future<Optional<Board>> leader = startLeader(() -> Optional.of(board));
+        Future<Optional<Board>> follower = loadAsync(heldLoad(() -> Optional.of(board)));
+        awaitFollowers(1);
+        release.countDown();
+
+        Board led = leader.get(5, TimeUnit.SECONDS).orElseThrow();
+        Board followed = follower.get(5, TimeUnit.SECONDS).orElseThrow();
+        assertEquals(1, loads.get());
+        assertNotSame(led, followed);
+        assertEquals(board.getId(), followed.getId());
+        assertEquals(board.getColumns().get(0).getId(), followed.getColumns().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("missing board → every caller gets empty")
+    void missingBoard_sharedAsEmpty() throws Exception {
+        Future<Optional<Board>> leader = startLeader(Optional::empty);
+        Future<Optional<Board>> follower = loadAsync(heldLoad(Optional::empty));
+        awaitFollowers(1);
+        release.countDown();
+
+        assertTrue(leader.get(5, TimeUnit.SECONDS).isEmpty());
+        assertTrue(follower.get(5, TimeUnit.SECONDS).isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("failed load fails its followers with the same exception")
+    void failedLoad_failsFollowers() throws Exception {
+        Future<Optional<Board>> leader = startLeader(() -> { throw new IllegalStateException("db down"); });
+        Future<Optional<Board>> follower = loadAsync(() -> { throw new AssertionError("must not load"); });
+        awaitFollowers(1);
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("follower that times out loads the board itself")
+    void timeout_fallsBackToOwnLoad() throws Exception {
+        coalescer = new BoardLoadCoalescer(Duration.ofMillis(50), primary::get);
+        startLeader(() -> Optional.of(board));
+
+        Optional<Board> result = coalescer.load(board.getId(), () -> Optional.of(board));
+
+        assertSame(board, result.orElseThrow());
+        assertEquals(1, coalescer.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("board change detaches the flight → later callers load again")
+    void boardChanged_startsFreshLoad() throws Exception {
+        startLeader(() -> Optional.of(board));
+
+        coalescer.onBoardChanged(BoardChangedEvent.updated(board.getId()));
+        Optional<Board> result = coalescer.load(board.getId(), () -> Optional.of(board));
+
+        assertSame(board, result.orElseThrow());
+        assertEquals(0, coalescer.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("caller that must read the primary does not join a replica-routed flight")
+    void primaryReader_doesNotJoinReplicaFlight() throws Exception {
+        startLeader(() -> Optional.of(board));
+
+        primary.set(true);
+        Optional<Board> result = coalescer.load(board.getId(), () -> Optional.of(board));
+
+        assertSame(board, result.orElseThrow());
+        assertEquals(0, coalescer.coalescedCount());
+        assertEquals(2, coalescer.loadCount());
+    }
+}
@@ -0,0 +1,237 @@
+package com.todokanban.application.usecase;
+
+import com.todokanban.domain.model.*;
+import com.todokanban.domain.ports.output.BoardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BoardMutationExecutor}. Pure JUnit 5 – an in-memory
+ * {@link BoardRepository} whose loads can be held back to build up a queue.
+ */
+@DisplayName("BoardMutationExecutor")
+class BoardMutationExecutorTest {
+
+    private final InMemoryBoards boards = new InMemoryBoards();
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private BoardMutationExecutor executor;
+
+    private Board board;
+    private ColumnId todo;
+    private ColumnId done;
+
+    @BeforeEach
+    void setUp() {
+        executor = new BoardMutationExecutor(boards, TransactionOperations.withoutTransaction(), threads, 64,
+                Duration.ofSeconds(5));
+        board = newBoard();
+        todo = board.getColumns().get(0).getId();
+        done = board.getColumns().get(1).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    private Board newBoard() {
+        Board created = Board.create(WorkspaceId.generate(), "Stand-up", null);
+        created.addColumn(Column.create("To Do", 0));
+        created.addColumn(Column.create("Done", 1));
+        boards.save(created);
+        return created;
+    }
+
+    private CompletableFuture<Board> addCard(BoardId boardId, ColumnId columnId, String title) {
+        return executor.submit(boardId, b -> b.addCardToColumn(columnId, Card.create(title, null, 0)));
+    }
+
+    private static int cardCount(Board b) {
+        return b.getColumns().stream().mapToInt(c -> c.getCards().size()).sum();
+    }
+
+    @Test
+    @DisplayName("mutations queued behind a running batch are committed together")
+    void pendingMutations_areGroupCommitted() throws Exception {
+        CountDownLatch gate = boards.holdLoads(board.getId());
+        List<CompletableFuture<Board>> results = new ArrayList<>();
+        results.add(addCard(board.getId(), todo, "first"));
+        boards.awaitLoadStarted();
+        for (int i = 0; i < 5; i++) {
+            results.add(addCard(board.getId(), todo, "queued " + i));
+        }
+        gate.countDown();
+
+        for (CompletableFuture<Board> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(2, boards.saves.get(), "one save for the first mutation, one for the five queued");
+        assertEquals(6, cardCount(boards.stored(board.getId())));
+    }
+
+    @Test
+    @DisplayName("a failing mutation fails only its caller and leaves no partial change")
+    void failingMutation_isIsolated() throws Exception {
+        Card card = Card.create("move me", null, 0);
+        executor.execute(board.getId(), b -> b.addCardToColumn(todo, card));
+
+        CountDownLatch gate = boards.holdLoads(board.getId());
+        CompletableFuture<Board> first = addCard(board.getId(), done, "first");
+        boards.awaitLoadStarted();
+        CompletableFuture<Board> before = addCard(board.getId(), done, "before");
+        // Removes the card from To Do, then fails on the unknown target column
+        CompletableFuture<Board> broken = executor.submit(board.getId(),
+                b -> b.moveCard(card.getId(), todo, ColumnId.generate()));
+        CompletableFuture<Board> after = addCard(board.getId(), done, "after");
+        gate.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        Board saved = after.get(5, TimeUnit.SECONDS);
+        assertSame(saved, before.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+
+        Column todoColumn = saved.findColumn(todo).orElseThrow();
+        assertTrue(todoColumn.containsCard(card.getId()), "half-applied move was discarded");
+        assertEquals(3, saved.findColumn(done).orElseThrow().getCards().size());
+    }
+
+    @Test
+    @DisplayName("execute() rethrows the mutation's exception and a missing board fails the caller")
+    void execute_rethrows() {
+        assertThrows(IllegalArgumentException.class, () ->
+                executor.execute(board.getId(), b -> b.removeCardFromColumn(todo, CardId.generate())));
+        assertThrows(IllegalArgumentException.class, () ->
+                executor.execute(BoardId.generate(), b -> {}));
+    }
+
+    @Test
+    @DisplayName("execute() times out with MutationTimeoutException and the queued mutation is skipped")
+    void execute_timesOut_skipsAbandonedMutation() throws Exception {
+        BoardMutationExecutor impatient = new BoardMutationExecutor(boards,
+                TransactionOperations.withoutTransaction(), threads, 64, Duration.ofMillis(50));
+        CountDownLatch gate = boards.holdLoads(board.getId());
+        CompletableFuture<Board> first = impatient.submit(board.getId(),
+                b -> b.addCardToColumn(todo, Card.create("first", null, 0)));
+        boards.awaitLoadStarted();
+
+        assertThrows(MutationTimeoutException.class, () -> impatient.execute(board.getId(),
+                b -> b.addCardToColumn(todo, Card.create("abandoned", null, 0))));
+        gate.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("first"), impatient.submit(board.getId(), b -> {}).get(5, TimeUnit.SECONDS)
+                .findColumn(todo).orElseThrow().getCards().stream().map(Card::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("a slow board does not hold up mutations on other boards")
+    void boards_doNotWaitOnEachOther() throws Exception {
+        Board other = newBoard();
+        CountDownLatch gate = boards.holdLoads(board.getId());
+        CompletableFuture<Board> slow = addCard(board.getId(), todo, "slow");
+        boards.awaitLoadStarted();
+
+        Board fast = addCard(other.getId(), other.getColumns().get(0).getId(), "fast").get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, cardCount(fast));
+        assertFalse(slow.isDone());
+        gate.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+    }
+
+    // ── In-memory repository ──────────────────────────────────────────────────
+
+    /** Stores deep copies, so every load hands out an independent aggregate. */
+    private static final class InMemoryBoards implements BoardRepository {
+
+        final AtomicInteger saves = new AtomicInteger();
+        private final Map<BoardId, Board> stored = new ConcurrentHashMap<>();
+        private final Map<BoardId, CountDownLatch> gates = new ConcurrentHashMap<>();
+        private volatile CountDownLatch loadStarted = new CountDownLatch(1);
+
+        CountDownLatch holdLoads(BoardId id) {
+            CountDownLatch gate = new CountDownLatch(1);
+            loadStarted = new CountDownLatch(1);
+            gates.put(id, gate);
+            return gate;
+        }
+
+        void awaitLoadStarted() throws InterruptedException {
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+        }
+
+        Board stored(BoardId id) {
+            return stored.get(id);
+        }
+
+        @Override
+        public Board save(Board board) {
+            saves.incrementAndGet();
+            stored.put(board.getId(), copy(board, board.getVersion() + 1));
+            return copy(stored.get(board.getId()), board.getVersion() + 1);
+        }
+
+        @Override
+        public Optional<Board> findById(BoardId id) {
+            CountDownLatch gate = gates.remove(id);
+            if (gate != null) {
+                loadStarted.countDown();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Optional.ofNullable(stored.get(id)).map(b -> copy(b, b.getVersion()));
+        }
+
+        @Override
+        public List<Board> findByWorkspaceId(WorkspaceId workspaceId) {
+            return List.of();
+        }
+
+        @Override
+        public boolean existsById(BoardId id) {
+            return stored.containsKey(id);
+        }
+
+        @Override
+        public void deleteById(BoardId id) {
+            stored.remove(id);
+        }
+
+        private static Board copy(Board board, long version) {
+            List<Column> columns = board.getColumns().stream()
+                    .map(col -> Column.reconstitute(col.getId(), col.getName(), col.getPosition(),
+                            col.getCards().stream()
+                                    .map(card -> Card.reconstitute(card.getId(), card.getTitle(),
+                                            card.getDescription(), card.getPosition(),
+                                            card.getCreatedAt(), card.getUpdatedAt()))
+                                    .toList(),
+                            col.getCreatedAt(), col.getUpdatedAt()))
+                    .toList();
+            return Board.reconstitute(board.getId(), board.getWorkspaceId(), board.getName(),
+                    board.getDescription(), columns, board.getCreatedAt(), board.getUpdatedAt(), version);
+        }
+    }
+}
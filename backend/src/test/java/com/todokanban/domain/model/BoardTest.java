@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -116,6 +118,24 @@ class BoardTest {
         }
     }
 
+    @Nested
+    @DisplayName("addCardToColumn()")
+    class AddCardTests {
+
+        @Test
+        @DisplayName("new card goes after the highest position even when positions have gaps")
+        void addCard_afterGap_positionedAtEnd() {
+            // e.g. cards 0..4 were archived, only position 5 is left
+            doneColumn.addCard(Card.reconstitute(CardId.generate(), "Old", null, 5,
+                    Instant.now(), Instant.now()));
+            Card added = Card.create("New", null, 0);
+
+            board.addCardToColumn(doneColumn.getId(), added);
+
+            assertEquals(6, added.getPosition());
+        }
+    }
+
     @Nested
     @DisplayName("Board creation")
     class BoardCreationTests {
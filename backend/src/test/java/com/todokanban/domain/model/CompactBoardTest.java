@@ -0,0 +1,128 @@
+package com.todokanban.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CompactBoard}. Pure JUnit 5 – no Spring context needed.
+ */
+@DisplayName("CompactBoard")
+class CompactBoardTest {
+
+    private static final Instant CREATED = Instant.parse("2025-03-01T09:15:30.123456Z");
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        Column todo = Column.reconstitute(ColumnId.generate(), "To Do", 0, List.of(
+                Card.reconstitute(CardId.generate(), "Write tests", null, 0, CREATED, CREATED),
+                Card.reconstitute(CardId.generate(), "Review", "same text", 1, CREATED, CREATED.plusSeconds(60))),
+                CREATED, CREATED);
+        Column empty = Column.reconstitute(ColumnId.generate(), "Doing", 1, List.of(), CREATED, CREATED);
+        Column done = Column.reconstitute(ColumnId.generate(), "Done", 2, List.of(
+                Card.reconstitute(CardId.generate(), "Review", "same text", 0, CREATED, CREATED)),
+                CREATED, CREATED);
+        board = Board.reconstitute(BoardId.generate(), WorkspaceId.generate(), "Sprint", null,
+                List.of(todo, empty, done), CREATED, CREATED, 42);
+    }
+
+    private static void assertSameBoard(Board expected, Board actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getWorkspaceId(), actual.getWorkspaceId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getColumns().size(), actual.getColumns().size());
+        for (int c = 0; c < expected.getColumns().size(); c++) {
+            Column e = expected.getColumns().get(c);
+            Column a = actual.getColumns().get(c);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getPosition(), a.getPosition());
+            assertEquals(e.getCreatedAt(), a.getCreatedAt());
+            assertEquals(e.getCards().size(), a.getCards().size());
+            for (int k = 0; k < e.getCards().size(); k++) {
+                Card ec = e.getCards().get(k);
+                Card ac = a.getCards().get(k);
+                assertEquals(ec.getId(), ac.getId());
+                assertEquals(ec.getTitle(), ac.getTitle());
+                assertEquals(ec.getDescription(), ac.getDescription());
+                assertEquals(ec.getPosition(), ac.getPosition());
+                assertEquals(ec.getCreatedAt(), ac.getCreatedAt());
+                assertEquals(ec.getUpdatedAt(), ac.getUpdatedAt());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("round-trips a board, including empty columns and null descriptions")
+    void toBoard_roundTrips() {
+        CompactBoard compact = CompactBoard.of(board);
+
+        assertSameBoard(board, compact.toBoard());
+        assertEquals(3, compact.columnCount());
+        assertEquals(3, compact.cardCount());
+        assertEquals(0, compact.cardCount(1));
+        assertEquals(1, compact.cardCount(2));
+    }
+
+    @Test
+    @DisplayName("every toBoard() call returns an independent aggregate")
+    void toBoard_isIndependent() {
+        CompactBoard compact = CompactBoard.of(board);
+        Board first = compact.toBoard();
+        first.removeColumn(first.getColumns().get(1).getId());
+
+        assertEquals(3, compact.toBoard().getColumns().size());
+    }
+
+    @Test
+    @DisplayName("deduplicated strings come back as one shared instance")
+    void strings_areDeduplicated() {
+        Board copy = CompactBoard.of(board).toBoard();
+
+        Card review = copy.getColumns().get(0).getCards().get(1);
+        Card reviewAgain = copy.getColumns().get(2).getCards().get(0);
+        assertSame(review.getTitle(), reviewAgain.getTitle());
+        assertSame(review.getDescription(), reviewAgain.getDescription());
+    }
+
+    @Test
+    @DisplayName("writeTo/readFrom round-trips the snapshot")
+    void serialization_roundTrips() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompactBoard.of(board).writeTo(new DataOutputStream(bytes));
+
+        CompactBoard read = CompactBoard.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertSameBoard(board, read.toBoard());
+    }
+
+    @Test
+    @DisplayName("timestamps keep microsecond precision, also before the epoch")
+    void timestamps_keepMicroseconds() {
+        Instant beforeEpoch = Instant.parse("1969-12-31T23:59:59.999999Z");
+        Board old = Board.reconstitute(BoardId.generate(), WorkspaceId.generate(), "Old", "d",
+                List.of(), beforeEpoch, CREATED.plusNanos(999), 0);
+
+        Board copy = CompactBoard.of(old).toBoard();
+
+        assertEquals(beforeEpoch, copy.getCreatedAt());
+        assertEquals(CREATED, copy.getUpdatedAt(), "sub-microsecond digits are dropped");
+    }
+}
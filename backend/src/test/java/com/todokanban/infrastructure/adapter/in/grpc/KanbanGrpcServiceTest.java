@@ -0,0 +1,266 @@
+package com.todokanban.infrastructure.adapter.in.grpc;
+
+import com.todokanban.application.ports.input.*;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.ApplyCommandsResponse;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.CardCommand;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.GetBoardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.KanbanServiceGrpc;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.MoveCardRequest;
+import com.todokanban.infrastructure.adapter.in.grpc.proto.UpdateCardRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for {@link KanbanGrpcService} behind {@link JwtAuthenticationInterceptor},
+ * served by an in-process gRPC server.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KanbanGrpcService")
+class KanbanGrpcServiceTest {
+
+    @Mock GetWorkspacesUseCase   getWorkspacesUseCase;
+    @Mock CreateWorkspaceUseCase createWorkspaceUseCase;
+    @Mock GetBoardUseCase        getBoardUseCase;
+    @Mock CreateBoardUseCase     createBoardUseCase;
+    @Mock CreateColumnUseCase    createColumnUseCase;
+    @Mock CreateCardUseCase      createCardUseCase;
+    @Mock UpdateCardUseCase      updateCardUseCase;
+    @Mock MoveCardUseCase        moveCardUseCase;
+    @Mock DeleteCardUseCase      deleteCardUseCase;
+    @Mock JwtDecoder             jwtDecoder;
+
+    private static final UUID WORKSPACE_ID = UUID.randomUUID();
+    private static final UUID BOARD_ID     = UUID.randomUUID();
+    private static final UUID CARD_ID      = UUID.randomUUID();
+    private static final UUID COL_TODO     = UUID.randomUUID();
+    private static final UUID COL_DONE     = UUID.randomUUID();
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(jwtDecoder.decode("good-token")).thenReturn(Jwt.withTokenValue("good-token")
+                .header("alg", "RS256").subject("sync-bot").build());
+        lenient().when(jwtDecoder.decode("bad-token")).thenThrow(new BadJwtException("expired"));
+
+        KanbanGrpcService service = new KanbanGrpcService(getWorkspacesUseCase, createWorkspaceUseCase,
+                getBoardUseCase, createBoardUseCase, createColumnUseCase, createCardUseCase,
+                updateCardUseCase, moveCardUseCase, deleteCardUseCase);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(service, new JwtAuthenticationInterceptor(jwtDecoder)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private Board stubBoard(long version) {
+        return Board.reconstitute(
+                new BoardId(BOARD_ID), new WorkspaceId(WORKSPACE_ID),
+                "Sprint Board", null, List.of(),
+                Instant.now(), Instant.now(), version);
+    }
+
+    private static Metadata bearer(String token) {
+        Metadata headers = new Metadata();
+        headers.put(JwtAuthenticationInterceptor.AUTHORIZATION, "Bearer " + token);
+        return headers;
+    }
+
+    private KanbanServiceGrpc.KanbanServiceBlockingStub blockingStub(String token) {
+        return KanbanServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer(token)));
+    }
+
+    private static CardCommand move(UUID cardId) {
+        return CardCommand.newBuilder().setMove(MoveCardRequest.newBuilder()
+                .setBoardId(BOARD_ID.toString())
+                .setCardId(cardId.toString())
+                .setSourceColumnId(COL_TODO.toString())
+                .setTargetColumnId(COL_DONE.toString())).build();
+    }
+
+    /** Streams {@code commands} to ApplyCommands and waits for the single response. */
+    private ApplyCommandsResponse applyCommands(CardCommand... commands) throws Exception {
+        CompletableFuture<ApplyCommandsResponse> result = new CompletableFuture<>();
+        StreamObserver<CardCommand> requests = KanbanServiceGrpc.newStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(bearer("good-token")))
+                .applyCommands(new StreamObserver<>() {
+                    @Override public void onNext(ApplyCommandsResponse response) { result.complete(response); }
+                    @Override public void onError(Throwable t)                   { result.completeExceptionally(t); }
+                    @Override public void onCompleted()                          { }
+                });
+        for (CardCommand command : commands) {
+            requests.onNext(command);
+        }
+        requests.onCompleted();
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    // ── Unary ─────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("GetBoard → board with columns, version and empty text for null fields")
+    void getBoard_returnsBoard() {
+        given(getBoardUseCase.getBoard(new BoardId(BOARD_ID))).willReturn(stubBoard(4));
+
+        var board = blockingStub("good-token")
+                .getBoard(GetBoardRequest.newBuilder().setBoardId(BOARD_ID.toString()).build());
+
+        assertEquals(BOARD_ID.toString(), board.getId());
+        assertEquals("Sprint Board", board.getName());
+        assertEquals("", board.getDescription());
+        assertEquals(4, board.getVersion());
+    }
+
+    @Test
+    @DisplayName("GetBoard when not found → NOT_FOUND")
+    void getBoard_notFound_returnsNotFound() {
+        given(getBoardUseCase.getBoard(any())).willThrow(new NoSuchElementException("Board not found"));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blockingStub("good-token")
+                .getBoard(GetBoardRequest.newBuilder().setBoardId(BOARD_ID.toString()).build()));
+
+        assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+        assertEquals("Board not found", e.getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("MoveCard with a malformed id → INVALID_ARGUMENT without calling the use case")
+    void moveCard_malformedId_returnsInvalidArgument() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blockingStub("good-token")
+                .moveCard(MoveCardRequest.newBuilder().setBoardId("not-a-uuid").build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+        verifyNoInteractions(moveCardUseCase);
+    }
+
+    // ── Authentication ────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("authenticated call → the JWT subject is the SecurityContext principal inside the handler")
+    void validToken_setsSecurityContext() {
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        given(getBoardUseCase.getBoard(new BoardId(BOARD_ID))).willAnswer(invocation -> {
+            seen.set(SecurityContextHolder.getContext().getAuthentication());
+            return stubBoard(1);
+        });
+
+        blockingStub("good-token").getBoard(GetBoardRequest.newBuilder().setBoardId(BOARD_ID.toString()).build());
+
+        assertNotNull(seen.get());
+        assertTrue(seen.get().isAuthenticated());
+        assertEquals("sync-bot", seen.get().getName());
+    }
+
+    @Test
+    @DisplayName("call without a token → UNAUTHENTICATED")
+    void missingToken_returnsUnauthenticated() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> KanbanServiceGrpc
+                .newBlockingStub(channel)
+                .getBoard(GetBoardRequest.newBuilder().setBoardId(BOARD_ID.toString()).build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, e.getStatus().getCode());
+        verifyNoInteractions(getBoardUseCase);
+    }
+
+    @Test
+    @DisplayName("call with an invalid token → UNAUTHENTICATED")
+    void invalidToken_returnsUnauthenticated() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blockingStub("bad-token")
+                .getBoard(GetBoardRequest.newBuilder().setBoardId(BOARD_ID.toString()).build()));
+
+        assertEquals(Status.Code.UNAUTHENTICATED, e.getStatus().getCode());
+        verifyNoInteractions(getBoardUseCase);
+    }
+
+    // ── ApplyCommands ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("ApplyCommands applies in order, reports rejected commands and continues")
+    void applyCommands_reportsFailuresAndContinues() throws Exception {
+        UUID secondCard = UUID.randomUUID();
+        given(moveCardUseCase.moveCard(any()))
+                .willReturn(stubBoard(1))
+                .willReturn(stubBoard(3));
+        given(updateCardUseCase.updateCard(any()))
+                .willThrow(new IllegalArgumentException("Card not found in column"));
+
+        CardCommand update = CardCommand.newBuilder().setUpdate(UpdateCardRequest.newBuilder()
+                .setBoardId(BOARD_ID.toString())
+                .setColumnId(COL_TODO.toString())
+                .setCardId(CARD_ID.toString())
+                .setTitle("Renamed")).build();
+
+        ApplyCommandsResponse response = applyCommands(move(CARD_ID), update, move(secondCard));
+
+        assertEquals(2, response.getApplied());
+        assertEquals(1, response.getFailed());
+        assertEquals(1, response.getFailures(0).getIndex());
+        assertEquals("INVALID_ARGUMENT", response.getFailures(0).getCode());
+        assertEquals(3, response.getBoardVersionsOrThrow(BOARD_ID.toString()));
+    }
+
+    @Test
+    @DisplayName("ApplyCommands with a command that sets nothing → reported as INVALID_ARGUMENT")
+    void applyCommands_emptyCommand_isReported() throws Exception {
+        ApplyCommandsResponse response = applyCommands(CardCommand.getDefaultInstance());
+
+        assertEquals(0, response.getApplied());
+        assertEquals(1, response.getFailed());
+        assertEquals("INVALID_ARGUMENT", response.getFailures(0).getCode());
+    }
+
+    @Test
+    @DisplayName("ApplyCommands aborts with INTERNAL on an unexpected failure")
+    void applyCommands_unexpectedFailure_abortsStream() {
+        given(moveCardUseCase.moveCard(any())).willThrow(new IllegalStateException("db down"));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> applyCommands(move(CARD_ID)));
+
+        assertEquals(Status.Code.INTERNAL, Status.fromThrowable(e.getCause()).getCode());
+    }
+}
@@ -0,0 +1,130 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetArchivedCardsQuery;
+import com.todokanban.application.ports.input.GetArchivedCardsUseCase;
+import com.todokanban.application.ports.input.RestoreArchivedCardCommand;
+import com.todokanban.application.ports.input.RestoreArchivedCardUseCase;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link ArchivedCardController} using standalone MockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchivedCardController")
+class ArchivedCardControllerTest {
+
+    MockMvc mockMvc;
+    @Mock GetArchivedCardsUseCase    getArchivedCardsUseCase;
+    @Mock RestoreArchivedCardUseCase restoreArchivedCardUseCase;
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+    private static final UUID CARD_ID  = UUID.randomUUID();
+    private static final UUID COL_ID   = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ArchivedCardController(getArchivedCardsUseCase, restoreArchivedCardUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(TestJsonConverter.create())
+                .build();
+    }
+
+    private ArchivedCard stubArchivedCard() {
+        return new ArchivedCard(new CardId(CARD_ID), new BoardId(BOARD_ID), new ColumnId(COL_ID),
+                "Old task", "Finished long ago", Instant.now(), Instant.now(), Instant.now());
+    }
+
+    // ── GET ───────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET /api/v1/boards/{boardId}/archived-cards?q= → 200 OK")
+    void getArchivedCards_returns200() throws Exception {
+        given(getArchivedCardsUseCase.getArchivedCards(any())).willReturn(List.of(stubArchivedCard()));
+
+        mockMvc.perform(get("/api/v1/boards/{bid}/archived-cards", BOARD_ID).param("q", "task"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(CARD_ID.toString()))
+                .andExpect(jsonPath("$[0].title").value("Old task"));
+
+        ArgumentCaptor<GetArchivedCardsQuery> query = ArgumentCaptor.forClass(GetArchivedCardsQuery.class);
+        verify(getArchivedCardsUseCase).getArchivedCards(query.capture());
+        assertEquals("task", query.getValue().search());
+        assertEquals(50, query.getValue().limit());
+    }
+
+    @Test
+    @DisplayName("GET archived-cards with limit over the maximum → 400 Bad Request")
+    void getArchivedCards_limitTooLarge_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/boards/{bid}/archived-cards", BOARD_ID).param("limit", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET archived-cards of an unknown board → 404")
+    void getArchivedCards_notFound_returns404() throws Exception {
+        given(getArchivedCardsUseCase.getArchivedCards(any()))
+                .willThrow(new NoSuchElementException("Board not found"));
+
+        mockMvc.perform(get("/api/v1/boards/{bid}/archived-cards", BOARD_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    // ── POST ──────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("POST /{cardId}/restore without body → 200 OK, original column")
+    void restoreCard_returns200() throws Exception {
+        given(restoreArchivedCardUseCase.restoreCard(any())).willReturn(Board.reconstitute(
+                new BoardId(BOARD_ID), WorkspaceId.generate(), "Sprint Board", null, List.of(),
+                Instant.now(), Instant.now()));
+
+        mockMvc.perform(post("/api/v1/boards/{bid}/archived-cards/{cid}/restore", BOARD_ID, CARD_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(BOARD_ID.toString()));
+
+        ArgumentCaptor<RestoreArchivedCardCommand> command =
+                ArgumentCaptor.forClass(RestoreArchivedCardCommand.class);
+        verify(restoreArchivedCardUseCase).restoreCard(command.capture());
+        assertNull(command.getValue().targetColumnId());
+    }
+
+    @Test
+    @DisplayName("POST /{cardId}/restore of a card not in the archive → 404")
+    void restoreCard_notArchived_returns404() throws Exception {
+        given(restoreArchivedCardUseCase.restoreCard(any()))
+                .willThrow(new NoSuchElementException("Archived card not found"));
+
+        mockMvc.perform(post("/api/v1/boards/{bid}/archived-cards/{cid}/restore", BOARD_ID, CARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"columnId":"%s"}
+                            """.formatted(COL_ID)))
+                .andExpect(status().isNotFound());
+    }
+}
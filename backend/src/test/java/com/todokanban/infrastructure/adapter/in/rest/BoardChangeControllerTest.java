@@ -0,0 +1,100 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetBoardChangesUseCase;
+import com.todokanban.domain.model.BoardChange;
+import com.todokanban.domain.model.BoardChangeFeed;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link BoardChangeController} using standalone MockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardChangeController")
+class BoardChangeControllerTest {
+
+    MockMvc mockMvc;
+    @Mock GetBoardChangesUseCase getBoardChangesUseCase;
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+    private static final UUID CARD_ID  = UUID.randomUUID();
+    private static final UUID COL_ID   = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new BoardChangeController(getBoardChangesUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(TestJsonConverter.create())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/boards/{boardId}/changes?since=N → 200 OK with changes")
+    void getChanges_returns200() throws Exception {
+        BoardChange moved = new BoardChange(8, BoardChange.Entity.CARD, BoardChange.Type.MOVED,
+                CARD_ID, COL_ID, "Task", null, 0, Instant.now());
+        given(getBoardChangesUseCase.getChanges(any(), eq(7L))).willReturn(
+                new BoardChangeFeed(new BoardId(BOARD_ID), 7, 8, false, false, List.of(moved)));
+
+        mockMvc.perform(get("/api/v1/boards/{bid}/changes", BOARD_ID).param("since", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(8))
+                .andExpect(jsonPath("$.reloadRequired").value(false))
+                .andExpect(jsonPath("$.changes[0].type").value("MOVED"))
+                .andExpect(jsonPath("$.changes[0].entity").value("CARD"))
+                .andExpect(jsonPath("$.changes[0].columnId").value(COL_ID.toString()));
+    }
+
+    @Test
+    @DisplayName("GET changes behind the compaction floor → 200 OK with reloadRequired")
+    void getChanges_compacted_signalsReload() throws Exception {
+        given(getBoardChangesUseCase.getChanges(any(), anyLong())).willReturn(
+                BoardChangeFeed.reloadRequired(new BoardId(BOARD_ID), 1, 500));
+
+        mockMvc.perform(get("/api/v1/boards/{bid}/changes", BOARD_ID).param("since", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reloadRequired").value(true))
+                .andExpect(jsonPath("$.changes").isEmpty());
+    }
+
+    @Test
+    @DisplayName("GET changes with negative since → 400 Bad Request")
+    void getChanges_negativeSince_returns400() throws Exception {
+        given(getBoardChangesUseCase.getChanges(any(), anyLong()))
+                .willThrow(new IllegalArgumentException("'since' must not be negative"));
+
+        mockMvc.perform(get("/api/v1/boards/{bid}/changes", BOARD_ID).param("since", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET changes of an unknown board → 404")
+    void getChanges_notFound_returns404() throws Exception {
+        given(getBoardChangesUseCase.getChanges(any(), anyLong()))
+                .willThrow(new NoSuchElementException("Board not found"));
+
+        mockMvc.perform(get("/api/v1/boards/{bid}/changes", BOARD_ID).param("since", "0"))
+                .andExpect(status().isNotFound());
+    }
+}
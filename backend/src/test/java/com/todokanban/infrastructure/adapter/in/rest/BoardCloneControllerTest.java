@@ -0,0 +1,120 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.CloneBoardCommand;
+import com.todokanban.application.ports.input.CloneBoardUseCase;
+import com.todokanban.application.ports.input.GetBoardTemplatesUseCase;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link BoardCloneController} using standalone MockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardCloneController")
+class BoardCloneControllerTest {
+
+    MockMvc mockMvc;
+    @Mock CloneBoardUseCase        cloneBoardUseCase;
+    @Mock GetBoardTemplatesUseCase getBoardTemplatesUseCase;
+
+    private static final UUID WORKSPACE_ID = UUID.randomUUID();
+    private static final UUID SOURCE_ID    = UUID.randomUUID();
+    private static final UUID CLONE_ID     = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new BoardCloneController(cloneBoardUseCase, getBoardTemplatesUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(TestJsonConverter.create())
+                .build();
+    }
+
+    private Board stubClone() {
+        return Board.reconstitute(
+                new BoardId(CLONE_ID), new WorkspaceId(WORKSPACE_ID),
+                "Sprint 42", null, List.of(),
+                Instant.now(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/boards/{boardId}/clone → 201 Created with the new board")
+    void cloneBoard_returns201() throws Exception {
+        given(cloneBoardUseCase.cloneBoard(any())).willReturn(stubClone());
+
+        mockMvc.perform(post("/api/v1/boards/{bid}/clone", SOURCE_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"name":"Sprint 42","includeCards":false}
+                            """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(CLONE_ID.toString()))
+                .andExpect(jsonPath("$.name").value("Sprint 42"));
+
+        ArgumentCaptor<CloneBoardCommand> command = ArgumentCaptor.forClass(CloneBoardCommand.class);
+        verify(cloneBoardUseCase).cloneBoard(command.capture());
+        assertEquals(new BoardId(SOURCE_ID), command.getValue().sourceBoardId());
+        assertNull(command.getValue().workspaceId());
+        assertFalse(command.getValue().includeCards());
+        assertFalse(command.getValue().template());
+    }
+
+    @Test
+    @DisplayName("POST clone without a body copies cards and keeps name and workspace")
+    void cloneBoard_withoutBody_usesDefaults() throws Exception {
+        given(cloneBoardUseCase.cloneBoard(any())).willReturn(stubClone());
+
+        mockMvc.perform(post("/api/v1/boards/{bid}/clone", SOURCE_ID))
+                .andExpect(status().isCreated());
+
+        ArgumentCaptor<CloneBoardCommand> command = ArgumentCaptor.forClass(CloneBoardCommand.class);
+        verify(cloneBoardUseCase).cloneBoard(command.capture());
+        assertNull(command.getValue().name());
+        assertTrue(command.getValue().includeCards());
+    }
+
+    @Test
+    @DisplayName("POST clone of an unknown board → 404")
+    void cloneBoard_notFound_returns404() throws Exception {
+        given(cloneBoardUseCase.cloneBoard(any())).willThrow(new NoSuchElementException("Board not found"));
+
+        mockMvc.perform(post("/api/v1/boards/{bid}/clone", SOURCE_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/workspaces/{id}/templates → 200 OK")
+    void getTemplates_returns200() throws Exception {
+        given(getBoardTemplatesUseCase.getTemplates(new WorkspaceId(WORKSPACE_ID))).willReturn(List.of(
+                new BoardTemplate(new BoardId(SOURCE_ID), new WorkspaceId(WORKSPACE_ID),
+                        "Sprint template", "Standard columns", Instant.now())));
+
+        mockMvc.perform(get("/api/v1/workspaces/{wid}/templates", WORKSPACE_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(SOURCE_ID.toString()))
+                .andExpect(jsonPath("$[0].name").value("Sprint template"));
+    }
+}
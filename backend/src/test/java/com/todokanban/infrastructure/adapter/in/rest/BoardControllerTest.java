@@ -1,9 +1,11 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
 import com.todokanban.application.ports.input.CreateBoardUseCase;
+import com.todokanban.application.ports.input.DeleteBoardUseCase;
 import com.todokanban.application.ports.input.GetBoardUseCase;
 import com.todokanban.application.ports.input.MoveCardUseCase;
 import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.BoardHttpMessageConverter;
 import com.todokanban.infrastructure.config.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,16 +14,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,6 +48,7 @@ class BoardControllerTest {
     @Mock CreateBoardUseCase createBoardUseCase;
     @Mock GetBoardUseCase    getBoardUseCase;
     @Mock MoveCardUseCase    moveCardUseCase;
+    @Mock DeleteBoardUseCase deleteBoardUseCase;
 
     private static final UUID WORKSPACE_ID = UUID.randomUUID();
     private static final UUID BOARD_ID     = UUID.randomUUID();
@@ -47,7 +59,8 @@ class BoardControllerTest {
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders
-                .standaloneSetup(new BoardController(createBoardUseCase, getBoardUseCase, moveCardUseCase))
+                .standaloneSetup(new BoardController(createBoardUseCase, getBoardUseCase, moveCardUseCase,
+                        deleteBoardUseCase))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(TestJsonConverter.create())
                 .build();
@@ -111,6 +124,27 @@ class BoardControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    // ── DELETE ────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("DELETE /api/v1/boards/{boardId} → 204 No Content")
+    void deleteBoard_returns204() throws Exception {
+        mockMvc.perform(delete("/api/v1/boards/{bid}", BOARD_ID))
+                .andExpect(status().isNoContent());
+
+        verify(deleteBoardUseCase).deleteBoard(new BoardId(BOARD_ID));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/boards/{boardId} when not found → 404")
+    void deleteBoard_notFound_returns404() throws Exception {
+        willThrow(new NoSuchElementException("Board not found"))
+                .given(deleteBoardUseCase).deleteBoard(any());
+
+        mockMvc.perform(delete("/api/v1/boards/{bid}", BOARD_ID))
+                .andExpect(status().isNotFound());
+    }
+
     // ── PATCH ─────────────────────────────────────────────────────────────────
 
     @Test
@@ -137,4 +171,60 @@ class BoardControllerTest {
                             """.formatted(COL_TODO, COL_TODO)))
                 .andExpect(status().isBadRequest());
     }
+
+    // ── Content negotiation ───────────────────────────────────────────────────
+
+    private MockMvc negotiatingMockMvc() {
+        return MockMvcBuilders
+                .standaloneSetup(new BoardController(createBoardUseCase, getBoardUseCase, moveCardUseCase,
+                        deleteBoardUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(
+                        BoardHttpMessageConverter.json(), BoardHttpMessageConverter.cbor(),
+                        BoardHttpMessageConverter.smile(), new JacksonJsonHttpMessageConverter(),
+                        new JacksonCborHttpMessageConverter(), new JacksonSmileHttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/boards/{boardId} with Accept: application/cbor → CBOR body")
+    void getBoard_acceptCbor_returnsCbor() throws Exception {
+        given(getBoardUseCase.getBoard(any())).willReturn(stubBoard());
+
+        byte[] body = negotiatingMockMvc().perform(get("/api/v1/boards/{bid}", BOARD_ID)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode board = new CBORMapper().readTree(body);
+        assertEquals(BOARD_ID.toString(), board.get("id").asString());
+        assertEquals("Sprint Board", board.get("name").asString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/boards/{boardId} with Accept: application/x-jackson-smile → Smile body")
+    void getBoard_acceptSmile_returnsSmile() throws Exception {
+        given(getBoardUseCase.getBoard(any())).willReturn(stubBoard());
+
+        byte[] body = negotiatingMockMvc().perform(get("/api/v1/boards/{bid}", BOARD_ID)
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode board = new SmileMapper().readTree(body);
+        assertEquals(BOARD_ID.toString(), board.get("id").asString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/boards/{boardId} without Accept → JSON stays the default")
+    void getBoard_noAccept_defaultsToJson() throws Exception {
+        given(getBoardUseCase.getBoard(any())).willReturn(stubBoard());
+
+        negotiatingMockMvc().perform(get("/api/v1/boards/{bid}", BOARD_ID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.name").value("Sprint Board"));
+    }
 }
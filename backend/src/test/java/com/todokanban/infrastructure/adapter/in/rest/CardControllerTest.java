@@ -1,6 +1,7 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
 import com.todokanban.application.ports.input.*;
+import com.todokanban.application.usecase.MutationTimeoutException;
 import com.todokanban.domain.model.*;
 import com.todokanban.infrastructure.config.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -79,6 +81,21 @@ class CardControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("POST when the board's mutation queue times out → 503 with Retry-After")
+    void createCard_mutationTimeout_returns503() throws Exception {
+        given(createCardUseCase.createCard(any()))
+                .willThrow(new MutationTimeoutException(new BoardId(BOARD_ID), Duration.ofSeconds(10)));
+
+        mockMvc.perform(post("/api/v1/boards/{bid}/columns/{cid}/cards", BOARD_ID, COL_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"title":"New Feature"}
+                            """))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
     @Test
     @DisplayName("PATCH /boards/{bid}/columns/{cid}/cards/{card} → 200 OK")
     void updateCard_returns200() throws Exception {
@@ -1,6 +1,9 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
+import com.todokanban.application.ports.input.ClearColumnUseCase;
 import com.todokanban.application.ports.input.CreateColumnUseCase;
+import com.todokanban.application.ports.input.DeleteColumnUseCase;
+import com.todokanban.application.ports.input.MoveAllCardsUseCase;
 import com.todokanban.domain.model.*;
 import com.todokanban.infrastructure.config.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +19,14 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,14 +36,19 @@ class ColumnControllerTest {
 
     MockMvc mockMvc;
     @Mock CreateColumnUseCase createColumnUseCase;
+    @Mock DeleteColumnUseCase deleteColumnUseCase;
+    @Mock ClearColumnUseCase  clearColumnUseCase;
+    @Mock MoveAllCardsUseCase moveAllCardsUseCase;
 
     private static final UUID WORKSPACE_ID = UUID.randomUUID();
     private static final UUID BOARD_ID     = UUID.randomUUID();
+    private static final UUID COLUMN_ID    = UUID.randomUUID();
 
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders
-                .standaloneSetup(new ColumnController(createColumnUseCase))
+                .standaloneSetup(new ColumnController(createColumnUseCase, deleteColumnUseCase,
+                        clearColumnUseCase, moveAllCardsUseCase))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(TestJsonConverter.create())
                 .build();
@@ -73,4 +85,60 @@ class ColumnControllerTest {
                             """))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("DELETE /api/v1/boards/{boardId}/columns/{columnId} → 204 No Content")
+    void deleteColumn_returns204() throws Exception {
+        mockMvc.perform(delete("/api/v1/boards/{boardId}/columns/{columnId}", BOARD_ID, COLUMN_ID))
+                .andExpect(status().isNoContent());
+
+        verify(deleteColumnUseCase).deleteColumn(any());
+    }
+
+    @Test
+    @DisplayName("DELETE on an unknown board → 404 Not Found")
+    void deleteColumn_unknownBoard_returns404() throws Exception {
+        willThrow(new NoSuchElementException("Board not found"))
+                .given(deleteColumnUseCase).deleteColumn(any());
+
+        mockMvc.perform(delete("/api/v1/boards/{boardId}/columns/{columnId}", BOARD_ID, COLUMN_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("DELETE /{columnId}/cards → 200 OK with the number of deleted cards")
+    void clearColumn_returns200() throws Exception {
+        given(clearColumnUseCase.clearColumn(any()))
+                .willReturn(new ColumnBulkResult(new BoardId(BOARD_ID), 7L, 12));
+
+        mockMvc.perform(delete("/api/v1/boards/{boardId}/columns/{columnId}/cards", BOARD_ID, COLUMN_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.boardId").value(BOARD_ID.toString()))
+                .andExpect(jsonPath("$.version").value(7))
+                .andExpect(jsonPath("$.affectedCards").value(12));
+    }
+
+    @Test
+    @DisplayName("POST /{columnId}/cards/move → 200 OK with the number of moved cards")
+    void moveAllCards_returns200() throws Exception {
+        given(moveAllCardsUseCase.moveAllCards(any()))
+                .willReturn(new ColumnBulkResult(new BoardId(BOARD_ID), 8L, 3));
+
+        mockMvc.perform(post("/api/v1/boards/{boardId}/columns/{columnId}/cards/move", BOARD_ID, COLUMN_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"targetColumnId":"%s"}
+                            """.formatted(UUID.randomUUID())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedCards").value(3));
+    }
+
+    @Test
+    @DisplayName("POST /{columnId}/cards/move without a target column → 400 Bad Request")
+    void moveAllCards_missingTarget_returns400() throws Exception {
+        mockMvc.perform(post("/api/v1/boards/{boardId}/columns/{columnId}/cards/move", BOARD_ID, COLUMN_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
 }
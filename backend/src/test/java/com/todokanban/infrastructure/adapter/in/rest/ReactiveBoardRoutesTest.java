@@ -0,0 +1,183 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetBoardAsyncUseCase;
+import com.todokanban.application.ports.input.GetWorkspacesAsyncUseCase;
+import com.todokanban.application.ports.input.MoveCardAsyncUseCase;
+import com.todokanban.application.ports.input.MoveCardCommand;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link ReactiveBoardRoutes} and {@link ReactiveBoardHandler} using
+ * MockMvc over the router function; every response is produced on the async dispatch.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveBoardRoutes")
+class ReactiveBoardRoutesTest {
+
+    MockMvc mockMvc;
+    @Mock GetBoardAsyncUseCase      getBoardUseCase;
+    @Mock MoveCardAsyncUseCase      moveCardUseCase;
+    @Mock GetWorkspacesAsyncUseCase getWorkspacesUseCase;
+
+    private static final UUID WORKSPACE_ID = UUID.randomUUID();
+    private static final UUID BOARD_ID     = UUID.randomUUID();
+    private static final UUID CARD_ID      = UUID.randomUUID();
+    private static final UUID COL_TODO     = UUID.randomUUID();
+    private static final UUID COL_DONE     = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReactiveBoardHandler handler = new ReactiveBoardHandler(
+                getBoardUseCase, moveCardUseCase, getWorkspacesUseCase, new GlobalExceptionHandler());
+        mockMvc = MockMvcBuilders
+                .routerFunctions(new ReactiveBoardRoutes().reactiveBoardRouter(handler))
+                .setMessageConverters(TestJsonConverter.create())
+                .build();
+    }
+
+    private Board stubBoard() {
+        return Board.reconstitute(
+                new BoardId(BOARD_ID), new WorkspaceId(WORKSPACE_ID),
+                "Sprint Board", "desc", List.of(),
+                Instant.now(), Instant.now(), 7);
+    }
+
+    /** Performs the request and the async dispatch that writes the response. */
+    private ResultActions performAsync(RequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    // ── GET board ─────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET /api/v1/reactive/boards/{boardId} → 200 OK")
+    void getBoard_returns200() throws Exception {
+        given(getBoardUseCase.getBoard(new BoardId(BOARD_ID)))
+                .willReturn(CompletableFuture.completedFuture(stubBoard()));
+
+        performAsync(get("/api/v1/reactive/boards/{bid}", BOARD_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(BOARD_ID.toString()))
+                .andExpect(jsonPath("$.version").value(7));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/reactive/boards/{boardId} when not found → 404 problem")
+    void getBoard_notFound_returns404() throws Exception {
+        given(getBoardUseCase.getBoard(any()))
+                .willReturn(CompletableFuture.failedFuture(new NoSuchElementException("Board not found")));
+
+        performAsync(get("/api/v1/reactive/boards/{bid}", BOARD_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("https://api.todokanban.com/errors/not-found"))
+                .andExpect(jsonPath("$.detail").value("Board not found"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/reactive/boards/{boardId} with a malformed id → 400")
+    void getBoard_malformedId_returns400() throws Exception {
+        performAsync(get("/api/v1/reactive/boards/{bid}", "not-a-uuid"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getBoardUseCase);
+    }
+
+    // ── PATCH move ────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("PATCH /api/v1/reactive/boards/{boardId}/cards/{cardId}/move → 200 OK")
+    void moveCard_returns200() throws Exception {
+        given(moveCardUseCase.moveCard(any()))
+                .willReturn(CompletableFuture.completedFuture(stubBoard()));
+
+        performAsync(patch("/api/v1/reactive/boards/{bid}/cards/{cid}/move", BOARD_ID, CARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"sourceColumnId":"%s","targetColumnId":"%s"}
+                            """.formatted(COL_TODO, COL_DONE)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(BOARD_ID.toString()));
+
+        ArgumentCaptor<MoveCardCommand> command = ArgumentCaptor.forClass(MoveCardCommand.class);
+        verify(moveCardUseCase).moveCard(command.capture());
+        assertEquals(new CardId(CARD_ID), command.getValue().cardId());
+        assertEquals(new ColumnId(COL_DONE), command.getValue().targetColumnId());
+    }
+
+    @Test
+    @DisplayName("PATCH …/move to the same column → 400 without calling the use case")
+    void moveCard_sameColumn_returns400() throws Exception {
+        performAsync(patch("/api/v1/reactive/boards/{bid}/cards/{cid}/move", BOARD_ID, CARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"sourceColumnId":"%s","targetColumnId":"%s"}
+                            """.formatted(COL_TODO, COL_TODO)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Bad Request"));
+
+        verifyNoInteractions(moveCardUseCase);
+    }
+
+    @Test
+    @DisplayName("PATCH …/move rejected by the aggregate → 400")
+    void moveCard_domainRejects_returns400() throws Exception {
+        given(moveCardUseCase.moveCard(any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalArgumentException("Card not in column")));
+
+        performAsync(patch("/api/v1/reactive/boards/{bid}/cards/{cid}/move", BOARD_ID, CARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {"sourceColumnId":"%s","targetColumnId":"%s"}
+                            """.formatted(COL_TODO, COL_DONE)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Card not in column"));
+    }
+
+    // ── GET workspaces ────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET /api/v1/reactive/workspaces → 200 OK")
+    void getWorkspaces_returns200() throws Exception {
+        Workspace workspace = Workspace.reconstitute(new WorkspaceId(WORKSPACE_ID), "Engineering", "desc",
+                List.of(), Instant.now(), Instant.now());
+        given(getWorkspacesUseCase.getWorkspaces())
+                .willReturn(CompletableFuture.completedFuture(List.of(workspace)));
+
+        performAsync(get("/api/v1/reactive/workspaces"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(WORKSPACE_ID.toString()))
+                .andExpect(jsonPath("$[0].name").value("Engineering"));
+    }
+}
@@ -1,17 +1,23 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
+import com.todokanban.infrastructure.adapter.in.rest.mapper.BoardHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 
 /**
- * Shared test utility: creates a Jackson 3 / Spring 7 JSON message converter
- * using the default JacksonJsonHttpMessageConverter which auto-configures an
+ * Shared test utility: creates the JSON message converters used in production –
+ * the streaming {@link BoardHttpMessageConverter} for {@code Board} bodies, then
+ * the default JacksonJsonHttpMessageConverter which auto-configures an
  * ObjectMapper with java.time support built in (Jackson 3.x standard).
  */
 final class TestJsonConverter {
 
     private TestJsonConverter() {}
 
-    static JacksonJsonHttpMessageConverter create() {
-        return new JacksonJsonHttpMessageConverter();
+    static HttpMessageConverter<?>[] create() {
+        return new HttpMessageConverter<?>[] {
+                BoardHttpMessageConverter.json(),
+                new JacksonJsonHttpMessageConverter()
+        };
     }
 }
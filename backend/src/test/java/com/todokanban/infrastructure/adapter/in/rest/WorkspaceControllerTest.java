@@ -1,6 +1,7 @@
 package com.todokanban.infrastructure.adapter.in.rest;
 
 import com.todokanban.application.ports.input.CreateWorkspaceUseCase;
+import com.todokanban.application.ports.input.DeleteWorkspaceUseCase;
 import com.todokanban.application.ports.input.GetWorkspacesUseCase;
 import com.todokanban.domain.model.Workspace;
 import com.todokanban.domain.model.WorkspaceId;
@@ -17,10 +18,14 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,13 +41,15 @@ class WorkspaceControllerTest {
     MockMvc mockMvc;
     @Mock CreateWorkspaceUseCase createWorkspaceUseCase;
     @Mock GetWorkspacesUseCase   getWorkspacesUseCase;
+    @Mock DeleteWorkspaceUseCase deleteWorkspaceUseCase;
 
     private static final UUID WORKSPACE_ID = UUID.randomUUID();
 
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders
-                .standaloneSetup(new WorkspaceController(createWorkspaceUseCase, getWorkspacesUseCase))
+                .standaloneSetup(new WorkspaceController(createWorkspaceUseCase, getWorkspacesUseCase,
+                        deleteWorkspaceUseCase))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(TestJsonConverter.create())
                 .build();
@@ -105,4 +112,25 @@ class WorkspaceControllerTest {
                             """))
                 .andExpect(status().isBadRequest());
     }
+
+    // ── DELETE ────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("DELETE /api/v1/workspaces/{workspaceId} → 204 No Content")
+    void deleteWorkspace_returns204() throws Exception {
+        mockMvc.perform(delete("/api/v1/workspaces/{id}", WORKSPACE_ID))
+                .andExpect(status().isNoContent());
+
+        verify(deleteWorkspaceUseCase).deleteWorkspace(new WorkspaceId(WORKSPACE_ID));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/workspaces/{workspaceId} when not found → 404")
+    void deleteWorkspace_notFound_returns404() throws Exception {
+        willThrow(new NoSuchElementException("Workspace not found"))
+                .given(deleteWorkspaceUseCase).deleteWorkspace(any());
+
+        mockMvc.perform(delete("/api/v1/workspaces/{id}", WORKSPACE_ID))
+                .andExpect(status().isNotFound());
+    }
 }
@@ -0,0 +1,79 @@
+package com.todokanban.infrastructure.adapter.in.rest;
+
+import com.todokanban.application.ports.input.GetWorkspaceDashboardUseCase;
+import com.todokanban.domain.model.*;
+import com.todokanban.domain.model.WorkspaceDashboard.BoardSummary;
+import com.todokanban.domain.model.WorkspaceDashboard.ColumnCount;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link WorkspaceDashboardController} using standalone MockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkspaceDashboardController")
+class WorkspaceDashboardControllerTest {
+
+    MockMvc mockMvc;
+    @Mock GetWorkspaceDashboardUseCase getWorkspaceDashboardUseCase;
+
+    private static final UUID WORKSPACE_ID = UUID.randomUUID();
+    private static final UUID BOARD_ID     = UUID.randomUUID();
+    private static final UUID TODO_ID      = UUID.randomUUID();
+    private static final UUID DONE_ID      = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new WorkspaceDashboardController(getWorkspaceDashboardUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(TestJsonConverter.create())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/workspaces/{id}/dashboard → 200 OK with counts per column")
+    void getDashboard_returns200() throws Exception {
+        given(getWorkspaceDashboardUseCase.getDashboard(new WorkspaceId(WORKSPACE_ID))).willReturn(
+                new WorkspaceDashboard(new WorkspaceId(WORKSPACE_ID), List.of(
+                        new BoardSummary(new BoardId(BOARD_ID), "Sprint", List.of(
+                                new ColumnCount(new ColumnId(TODO_ID), "To Do", 0, 12),
+                                new ColumnCount(new ColumnId(DONE_ID), "Done", 1, 30))))));
+
+        mockMvc.perform(get("/api/v1/workspaces/{wid}/dashboard", WORKSPACE_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workspaceId").value(WORKSPACE_ID.toString()))
+                .andExpect(jsonPath("$.boards[0].id").value(BOARD_ID.toString()))
+                .andExpect(jsonPath("$.boards[0].totalCards").value(42))
+                .andExpect(jsonPath("$.boards[0].columns[0].name").value("To Do"))
+                .andExpect(jsonPath("$.boards[0].columns[0].cardCount").value(12))
+                .andExpect(jsonPath("$.boards[0].columns[1].id").value(DONE_ID.toString()))
+                .andExpect(jsonPath("$.boards[0].columns[1].cardCount").value(30));
+    }
+
+    @Test
+    @DisplayName("GET dashboard of an unknown workspace → 404")
+    void getDashboard_notFound_returns404() throws Exception {
+        given(getWorkspaceDashboardUseCase.getDashboard(any()))
+                .willThrow(new NoSuchElementException("Workspace not found"));
+
+        mockMvc.perform(get("/api/v1/workspaces/{wid}/dashboard", WORKSPACE_ID))
+                .andExpect(status().isNotFound());
+    }
+}
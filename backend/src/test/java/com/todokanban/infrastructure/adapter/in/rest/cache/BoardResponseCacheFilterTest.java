@@ -0,0 +1,127 @@
+package com.todokanban.infrastructure.adapter.in.rest.cache;
+
+import com.todokanban.application.ports.input.CreateBoardUseCase;
+import com.todokanban.application.ports.input.DeleteBoardUseCase;
+import com.todokanban.application.ports.input.GetBoardUseCase;
+import com.todokanban.application.ports.input.MoveCardUseCase;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.in.rest.BoardController;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.BoardHttpMessageConverter;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link BoardResponseCacheFilter} wrapped around a standalone {@link BoardController}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardResponseCacheFilter")
+class BoardResponseCacheFilterTest {
+
+    MockMvc mockMvc;
+    BoardResponseCache cache;
+    @Mock CreateBoardUseCase createBoardUseCase;
+    @Mock GetBoardUseCase    getBoardUseCase;
+    @Mock MoveCardUseCase    moveCardUseCase;
+    @Mock DeleteBoardUseCase deleteBoardUseCase;
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        cache = new BoardResponseCache(1024 * 1024, 16);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new BoardController(createBoardUseCase, getBoardUseCase, moveCardUseCase,
+                        deleteBoardUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(BoardHttpMessageConverter.json(), new JacksonJsonHttpMessageConverter())
+                .addFilters(new BoardResponseCacheFilter(cache))
+                .build();
+    }
+
+    private Board stubBoard() {
+        return Board.reconstitute(
+                new BoardId(BOARD_ID), new WorkspaceId(UUID.randomUUID()),
+                "Sprint Board", "desc", List.of(),
+                Instant.now(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("second GET is served from the cache without loading the board")
+    void repeatedGet_loadsOnce() throws Exception {
+        given(getBoardUseCase.getBoard(any())).willReturn(stubBoard());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Sprint Board"));
+        }
+
+        verify(getBoardUseCase, times(1)).getBoard(any());
+    }
+
+    @Test
+    @DisplayName("hit with Accept-Encoding: gzip is served pre-compressed")
+    void gzipHit_returnsCompressedBody() throws Exception {
+        given(getBoardUseCase.getBoard(any())).willReturn(stubBoard());
+        mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID)).andExpect(status().isOk());
+
+        byte[] body = mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"name\":\"Sprint Board\""));
+    }
+
+    @Test
+    @DisplayName("invalidation forces the next GET to load the board again")
+    void invalidate_reloads() throws Exception {
+        given(getBoardUseCase.getBoard(any())).willReturn(stubBoard());
+        mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID)).andExpect(status().isOk());
+
+        cache.invalidate(BOARD_ID);
+        mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID)).andExpect(status().isOk());
+
+        verify(getBoardUseCase, times(2)).getBoard(any());
+    }
+
+    @Test
+    @DisplayName("errors are not cached")
+    void notFound_isNotCached() throws Exception {
+        given(getBoardUseCase.getBoard(any())).willThrow(new NoSuchElementException("Board not found"));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID)).andExpect(status().isNotFound());
+        }
+
+        verify(getBoardUseCase, times(2)).getBoard(any());
+    }
+}
@@ -0,0 +1,110 @@
+package com.todokanban.infrastructure.adapter.in.rest.cache;
+
+import com.todokanban.domain.event.BoardChangedEvent;
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.infrastructure.adapter.in.rest.cache.BoardResponseCache.Encoding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BoardResponseCache}. Pure JUnit 5 – no Spring context.
+ */
+@DisplayName("BoardResponseCache")
+class BoardResponseCacheTest {
+
+    private static final String JSON = "application/json";
+    private static final byte[] BODY = "{\"name\":\"Sprint Board\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    private final BoardResponseCache cache = new BoardResponseCache(64 * 1024, 1024);
+
+    @Test
+    @DisplayName("returns the cached identity bytes for the same board and Accept header")
+    void put_thenGet_returnsBody() {
+        UUID boardId = UUID.randomUUID();
+        assertTrue(cache.put(boardId, cache.generation(boardId), JSON, JSON, BODY));
+
+        BoardResponseCache.Hit hit = cache.get(boardId, JSON, Encoding.IDENTITY);
+
+        assertNotNull(hit);
+        assertTrue(hit.body().isDirect());
+        assertArrayEquals(BODY, bytes(hit.body()));
+        assertNull(cache.get(boardId, "application/cbor", Encoding.IDENTITY));
+    }
+
+    @Test
+    @DisplayName("builds gzip and deflate variants that decode to the identity bytes")
+    void compressedVariants_roundTrip() throws IOException {
+        UUID boardId = UUID.randomUUID();
+        cache.put(boardId, cache.generation(boardId), JSON, JSON, BODY);
+
+        BoardResponseCache.Hit gzip = cache.get(boardId, JSON, Encoding.GZIP);
+        BoardResponseCache.Hit deflate = cache.get(boardId, JSON, Encoding.DEFLATE);
+
+        assertEquals(Encoding.GZIP, gzip.encoding());
+        assertArrayEquals(BODY, readAll(new GZIPInputStream(new ByteArrayInputStream(bytes(gzip.body())))));
+        assertArrayEquals(BODY, readAll(new InflaterInputStream(new ByteArrayInputStream(bytes(deflate.body())))));
+        assertTrue(cache.usedBytes() > BODY.length, "compressed variants are cached too");
+    }
+
+    @Test
+    @DisplayName("board change event drops entries and rejects puts started before it")
+    void invalidate_fencesStalePut() {
+        UUID boardId = UUID.randomUUID();
+        long before = cache.generation(boardId);
+        cache.put(boardId, before, JSON, JSON, BODY);
+
+        cache.onBoardChanged(BoardChangedEvent.updated(new BoardId(boardId)));
+
+        assertNull(cache.get(boardId, JSON, Encoding.IDENTITY));
+        assertFalse(cache.put(boardId, before, JSON, JSON, BODY), "stale generation must be rejected");
+        assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    @DisplayName("evicts least recently used boards to stay under the byte ceiling")
+    void overCeiling_evictsLeastRecentlyUsed() {
+        BoardResponseCache small = new BoardResponseCache(BODY.length * 8L, 1024);
+        UUID[] ids = new UUID[9];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+            small.put(ids[i], small.generation(ids[i]), JSON, JSON, BODY);
+            small.get(ids[0], JSON, Encoding.IDENTITY); // keep the first board hot
+        }
+
+        assertNotNull(small.get(ids[0], JSON, Encoding.IDENTITY));
+        assertNull(small.get(ids[1], JSON, Encoding.IDENTITY));
+        assertTrue(small.usedBytes() <= BODY.length * 8L);
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding negotiation prefers gzip and honours q=0")
+    void negotiate() {
+        assertEquals(Encoding.GZIP, Encoding.negotiate("gzip, deflate, br"));
+        assertEquals(Encoding.DEFLATE, Encoding.negotiate("gzip;q=0, deflate"));
+        assertEquals(Encoding.IDENTITY, Encoding.negotiate(null));
+        assertEquals(Encoding.IDENTITY, Encoding.negotiate("br"));
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] out = new byte[buffer.remaining()];
+        buffer.duplicate().get(out);
+        return out;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.todokanban.infrastructure.adapter.in.rest.idempotency;
+
+import com.todokanban.application.ports.input.CreateCardUseCase;
+import com.todokanban.application.ports.input.DeleteCardUseCase;
+import com.todokanban.application.ports.input.UpdateCardUseCase;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.in.rest.CardController;
+import com.todokanban.infrastructure.adapter.in.rest.mapper.BoardHttpMessageConverter;
+import com.todokanban.infrastructure.config.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link IdempotencyFilter} wrapped around a standalone {@link CardController}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyFilter")
+class IdempotencyFilterTest {
+
+    MockMvc mockMvc;
+    @Mock CreateCardUseCase createCardUseCase;
+    @Mock UpdateCardUseCase updateCardUseCase;
+    @Mock DeleteCardUseCase deleteCardUseCase;
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+    private static final UUID COL_ID   = UUID.randomUUID();
+    private static final UUID WS_ID    = UUID.randomUUID();
+
+    /** Opened once a duplicate finds its key already claimed. */
+    private final CountDownLatch duplicateClaimed = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100, 1 << 20, 1 << 16, System::nanoTime) {
+            @Override
+            public synchronized Claim claim(String key, byte[] fingerprint) {
+                Claim claim = super.claim(key, fingerprint);
+                if (claim != null && !claim.owner()) {
+                    duplicateClaimed.countDown();
+                }
+                return claim;
+            }
+        };
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new CardController(createCardUseCase, updateCardUseCase, deleteCardUseCase))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(BoardHttpMessageConverter.json(), new JacksonJsonHttpMessageConverter())
+                .addFilters(new IdempotencyFilter(store, Duration.ofSeconds(5)))
+                .build();
+    }
+
+    private Board stubBoard() {
+        return Board.reconstitute(
+                new BoardId(BOARD_ID), new WorkspaceId(WS_ID),
+                "Sprint Board", "desc", List.of(),
+                Instant.now(), Instant.now());
+    }
+
+    private MockHttpServletRequestBuilder createCard(String key) {
+        return createCard(key, "New Feature");
+    }
+
+    private MockHttpServletRequestBuilder createCard(String key, String title) {
+        return post("/api/v1/boards/{bid}/columns/{cid}/cards", BOARD_ID, COL_ID)
+                .header(IdempotencyFilter.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"title":"%s","description":"Build it"}
+                    """.formatted(title));
+    }
+
+    @Test
+    @DisplayName("retry with the same key replays the first response without executing again")
+    void sameKey_executesOnce() throws Exception {
+        given(createCardUseCase.createCard(any())).willReturn(stubBoard());
+
+        mockMvc.perform(createCard("retry-1"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        mockMvc.perform(createCard("retry-1"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.id").value(BOARD_ID.toString()));
+
+        verify(createCardUseCase, times(1)).createCard(any());
+    }
+
+    @Test
+    @DisplayName("concurrent requests with the same key execute the handler once")
+    void concurrentSameKey_executesOnce() throws Exception {
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(createCardUseCase.createCard(any())).willAnswer(invocation -> {
+            executing.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return stubBoard();
+        });
+
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<MvcResult> first = threads.submit(() -> mockMvc.perform(createCard("race-1")).andReturn());
+            assertTrue(executing.await(5, TimeUnit.SECONDS));
+            Future<MvcResult> second = threads.submit(() -> mockMvc.perform(createCard("race-1")).andReturn());
+            assertTrue(duplicateClaimed.await(5, TimeUnit.SECONDS));
+            release.countDown();
+
+            assertEquals(201, first.get(5, TimeUnit.SECONDS).getResponse().getStatus());
+            MockHttpServletResponse replayed = second.get(5, TimeUnit.SECONDS).getResponse();
+            assertEquals(201, replayed.getStatus());
+            assertEquals("true", replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        } finally {
+            release.countDown();
+            threads.shutdownNow();
+        }
+        verify(createCardUseCase, times(1)).createCard(any());
+    }
+
+    @Test
+    @DisplayName("different keys execute independently")
+    void differentKeys_executeTwice() throws Exception {
+        given(createCardUseCase.createCard(any())).willReturn(stubBoard());
+
+        mockMvc.perform(createCard("key-a")).andExpect(status().isCreated());
+        mockMvc.perform(createCard("key-b")).andExpect(status().isCreated());
+
+        verify(createCardUseCase, times(2)).createCard(any());
+    }
+
+    @Test
+    @DisplayName("5xx responses are not stored, so a retry executes again")
+    void serverError_isNotReplayed() throws Exception {
+        given(createCardUseCase.createCard(any()))
+                .willThrow(new IllegalStateException("db down"))
+                .willReturn(stubBoard());
+
+        mockMvc.perform(createCard("flaky")).andExpect(status().isInternalServerError());
+        mockMvc.perform(createCard("flaky"))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        verify(createCardUseCase, times(2)).createCard(any());
+    }
+
+    @Test
+    @DisplayName("same key with a different body → 422 without executing again")
+    void sameKeyDifferentBody_returns422() throws Exception {
+        given(createCardUseCase.createCard(any())).willReturn(stubBoard());
+
+        mockMvc.perform(createCard("reused", "New Feature")).andExpect(status().isCreated());
+        mockMvc.perform(createCard("reused", "Other Feature"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(createCardUseCase, times(1)).createCard(any());
+    }
+
+    @Test
+    @DisplayName("oversized key → 400 Bad Request")
+    void oversizedKey_returns400() throws Exception {
+        mockMvc.perform(createCard("k".repeat(256)))
+                .andExpect(status().isBadRequest());
+    }
+}
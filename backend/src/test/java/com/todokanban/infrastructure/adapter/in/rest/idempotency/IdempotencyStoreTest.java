@@ -0,0 +1,143 @@
+package com.todokanban.infrastructure.adapter.in.rest.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link IdempotencyStore}. Pure JUnit 5 – a fake clock drives expiry.
+ */
+@DisplayName("IdempotencyStore")
+class IdempotencyStoreTest {
+
+    private static final IdempotencyStore.StoredResponse STORED =
+            new IdempotencyStore.StoredResponse(201, "application/json", new byte[0]);
+
+    private static final byte[] FINGERPRINT = {1, 2, 3};
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private IdempotencyStore store(Duration ttl, int maxEntries) {
+        return new IdempotencyStore(ttl, maxEntries, 1024, 256, clock::get);
+    }
+
+    private static void complete(IdempotencyStore store, String key, IdempotencyStore.StoredResponse stored) {
+        store.complete(key, store.claim(key, FINGERPRINT).response(), stored);
+    }
+
+    private static IdempotencyStore.StoredResponse ofSize(int bytes) {
+        return new IdempotencyStore.StoredResponse(201, "application/json", new byte[bytes]);
+    }
+
+    @Test
+    @DisplayName("second claim shares the owner's future")
+    void duplicateClaim_sharesFuture() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 10);
+
+        IdempotencyStore.Claim first  = store.claim("k", FINGERPRINT);
+        IdempotencyStore.Claim second = store.claim("k", FINGERPRINT);
+
+        assertTrue(first.owner());
+        assertFalse(second.owner());
+        assertSame(first.response(), second.response());
+        assertArrayEquals(FINGERPRINT, second.fingerprint());
+    }
+
+    @Test
+    @DisplayName("expired keys can be claimed again")
+    void expiredKey_isReclaimable() {
+        IdempotencyStore store = store(Duration.ofSeconds(1), 10);
+        store.claim("k", FINGERPRINT);
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        assertTrue(store.claim("k", FINGERPRINT).owner());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("oldest completed entries are evicted beyond max-entries")
+    void overflow_evictsOldestCompleted() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 2);
+        complete(store, "a", STORED);
+        complete(store, "b", STORED);
+        store.claim("c", FINGERPRINT);
+
+        assertEquals(2, store.size());
+        assertTrue(store.claim("a", FINGERPRINT).owner(), "'a' should have been evicted");
+    }
+
+    @Test
+    @DisplayName("in-flight entries are never evicted; a store full of them refuses new keys")
+    void overflow_keepsInFlight() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 2);
+        IdempotencyStore.Claim a = store.claim("a", FINGERPRINT);
+        complete(store, "b", STORED);
+
+        assertNotNull(store.claim("c", FINGERPRINT), "completed 'b' makes room");
+        assertNull(store.claim("d", FINGERPRINT));
+        assertFalse(store.claim("a", FINGERPRINT).owner(), "'a' is still in flight");
+        assertSame(a.response(), store.claim("a", FINGERPRINT).response());
+    }
+
+    @Test
+    @DisplayName("release wakes waiters with an error and frees the key")
+    void release_failsWaitersAndFreesKey() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 10);
+        IdempotencyStore.Claim owner = store.claim("k", FINGERPRINT);
+        IdempotencyStore.Claim waiter = store.claim("k", FINGERPRINT);
+
+        store.release("k", owner.response());
+
+        assertTrue(waiter.response().isCompletedExceptionally());
+        assertTrue(store.claim("k", FINGERPRINT).owner());
+    }
+
+    // ── Byte budget ──────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("oldest completed entries are evicted beyond max-bytes")
+    void byteBudget_evictsOldestCompleted() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 100);
+        complete(store, "a", ofSize(250));
+        complete(store, "b", ofSize(250));
+        complete(store, "c", ofSize(250));
+        complete(store, "d", ofSize(250));
+        complete(store, "e", ofSize(250));
+
+        assertEquals(4, store.size());
+        assertEquals(1000, store.bytes());
+        assertTrue(store.claim("a", FINGERPRINT).owner(), "'a' should have been evicted");
+    }
+
+    @Test
+    @DisplayName("a body over max-entry-size reaches waiters but is not kept")
+    void oversizedBody_isNotStored() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 100);
+        IdempotencyStore.Claim owner = store.claim("k", FINGERPRINT);
+        IdempotencyStore.Claim waiter = store.claim("k", FINGERPRINT);
+
+        store.complete("k", owner.response(), ofSize(257));
+
+        assertEquals(257, waiter.response().join().body().length);
+        assertEquals(0, store.bytes());
+        assertTrue(store.claim("k", FINGERPRINT).owner());
+    }
+
+    @Test
+    @DisplayName("expired entries give their bytes back")
+    void expiry_releasesBytes() {
+        IdempotencyStore store = new IdempotencyStore(Duration.ofSeconds(1), 100, 1024, 256, clock::get);
+        complete(store, "a", ofSize(100));
+        assertEquals(100, store.bytes());
+
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        store.claim("b", FINGERPRINT);
+
+        assertEquals(0, store.bytes());
+    }
+}
@@ -0,0 +1,84 @@
+package com.todokanban.infrastructure.adapter.in.rest.mapper;
+
+import com.todokanban.domain.model.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that {@link BoardHttpMessageConverter} writes byte-for-byte the same
+ * payload as {@link RestMapper#toResponse(Board)} serialized by Jackson.
+ */
+@DisplayName("BoardHttpMessageConverter")
+class BoardHttpMessageConverterTest {
+
+    private static Board board() {
+        Instant created = Instant.parse("2025-01-02T03:04:05Z");
+        Instant updated = Instant.parse("2025-06-07T08:09:10.123456789Z");
+        Card withDescription = Card.reconstitute(CardId.generate(), "Write \"docs\" ✓",
+                "Line 1\nLine 2", 0, created, updated);
+        Card withoutDescription = Card.reconstitute(CardId.generate(), "Ship it", null, 1, created, created);
+        Column todo = Column.reconstitute(ColumnId.generate(), "To Do", 0,
+                List.of(withDescription, withoutDescription), created, updated);
+        Column done = Column.reconstitute(ColumnId.generate(), "Done", 1, List.of(), created, created);
+        return Board.reconstitute(BoardId.generate(), WorkspaceId.generate(), "Sprint Board", null,
+                List.of(todo, done), created, Instant.now(), 42);
+    }
+
+    private static byte[] viaDto(ObjectMapper mapper, Board board) {
+        return mapper.writeValueAsBytes(RestMapper.toResponse(board));
+    }
+
+    private static byte[] direct(BoardHttpMessageConverter converter, Board board) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        converter.writeTo(board, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("JSON output is identical to the BoardResponse DTO")
+    void json_matchesDto() {
+        Board board = board();
+
+        assertEquals(new String(viaDto(JsonMapper.builder().build(), board), StandardCharsets.UTF_8),
+                new String(direct(BoardHttpMessageConverter.json(), board), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CBOR output is identical to the BoardResponse DTO")
+    void cbor_matchesDto() {
+        Board board = board();
+
+        assertArrayEquals(viaDto(CBORMapper.builder().build(), board),
+                direct(BoardHttpMessageConverter.cbor(), board));
+    }
+
+    @Test
+    @DisplayName("Smile output is identical to the BoardResponse DTO")
+    void smile_matchesDto() {
+        Board board = board();
+
+        assertArrayEquals(viaDto(SmileMapper.builder().build(), board),
+                direct(BoardHttpMessageConverter.smile(), board));
+    }
+
+    @Test
+    @DisplayName("empty board matches as well")
+    void emptyBoard_matchesDto() {
+        Board board = Board.create(WorkspaceId.generate(), "Empty", "nothing yet");
+
+        assertEquals(new String(viaDto(JsonMapper.builder().build(), board), StandardCharsets.UTF_8),
+                new String(direct(BoardHttpMessageConverter.json(), board), StandardCharsets.UTF_8));
+    }
+}
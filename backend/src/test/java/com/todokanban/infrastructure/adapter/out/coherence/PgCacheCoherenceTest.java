@@ -0,0 +1,114 @@
+package com.todokanban.infrastructure.adapter.out.coherence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for the payload format and dispatch of {@link PgCacheCoherence}.
+ * No database – the sender and listener threads are not started.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PgCacheCoherence")
+class PgCacheCoherenceTest {
+
+    @Mock CoherentCache boardCache;
+    @Mock CoherentCache workspaceCache;
+    @Mock JdbcTemplate  jdbcTemplate;
+
+    private static final String OTHER_NODE = UUID.randomUUID().toString();
+
+    private PgCacheCoherence coherence;
+
+    @BeforeEach
+    void setUp() {
+        coherence = new PgCacheCoherence(List.of(boardCache, workspaceCache), jdbcTemplate,
+                "jdbc:postgresql://localhost/kanban", "kanban", "secret", "kanban_cache",
+                Duration.ZERO, 100, Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+    // ── Encoding ──────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("entries are packed into payloads under the NOTIFY size limit")
+    void encode_splitsAtPayloadLimit() {
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entries.add(PgCacheCoherence.BOARD_CHANGED + UUID.randomUUID().toString());
+        }
+
+        List<String> payloads = PgCacheCoherence.encode(OTHER_NODE, entries);
+
+        assertTrue(payloads.size() > 1);
+        int decoded = 0;
+        for (String payload : payloads) {
+            assertTrue(payload.length() <= PgCacheCoherence.MAX_PAYLOAD_BYTES);
+            assertTrue(payload.startsWith(OTHER_NODE + "|"));
+            decoded += payload.substring(OTHER_NODE.length() + 1).split(" ").length;
+        }
+        assertEquals(500, decoded);
+    }
+
+    @Test
+    @DisplayName("no entries → no payload")
+    void encode_empty() {
+        assertTrue(PgCacheCoherence.encode(OTHER_NODE, List.of()).isEmpty());
+    }
+
+    // ── Dispatch ──────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("another node's changes are evicted from every cache")
+    void handle_evictsFromEveryCache() {
+        UUID board = UUID.randomUUID();
+        UUID deletedBoard = UUID.randomUUID();
+        UUID workspace = UUID.randomUUID();
+
+        coherence.handle(OTHER_NODE + "|b" + board + " d" + deletedBoard + " w" + workspace);
+
+        for (CoherentCache cache : List.of(boardCache, workspaceCache)) {
+            verify(cache).evictBoard(board, false);
+            verify(cache).evictBoard(deletedBoard, true);
+            verify(cache).evictWorkspace(workspace);
+        }
+    }
+
+    @Test
+    @DisplayName("own notifications are ignored")
+    void handle_ignoresOwnNode() {
+        coherence.handle(coherence.nodeId() + "|b" + UUID.randomUUID());
+
+        verifyNoInteractions(boardCache, workspaceCache);
+    }
+
+    @Test
+    @DisplayName("resync request → every cache is dropped")
+    void handle_resync() {
+        coherence.handle(OTHER_NODE + "|" + PgCacheCoherence.RESYNC);
+
+        verify(boardCache).evictAll();
+        verify(workspaceCache).evictAll();
+    }
+
+    @Test
+    @DisplayName("unreadable entry → resync rather than skip a change")
+    void handle_unreadableEntry_resyncs() {
+        coherence.handle(OTHER_NODE + "|bnot-a-uuid");
+
+        verify(boardCache).evictAll();
+        verify(workspaceCache).evictAll();
+    }
+}
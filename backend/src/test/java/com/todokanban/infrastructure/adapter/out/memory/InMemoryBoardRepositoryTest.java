@@ -0,0 +1,257 @@
+package com.todokanban.infrastructure.adapter.out.memory;
+
+import com.todokanban.domain.event.WorkspaceDeletedEvent;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardPersistenceAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link InMemoryBoardRepository}. Pure JUnit 5 – the database adapter
+ * is mocked and the journal lives in a temporary directory.
+ */
+@DisplayName("InMemoryBoardRepository")
+class InMemoryBoardRepositoryTest {
+
+    @TempDir
+    Path journalDir;
+
+    private final BoardPersistenceAdapter database = mock(BoardPersistenceAdapter.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private BoardJournal journal;
+    private InMemoryBoardRepository repository;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        repository = open();
+        board = Board.create(WorkspaceId.generate(), "Sprint", null);
+        board.addColumn(Column.create("To Do", 0));
+        board.addCardToColumn(board.getColumns().get(0).getId(), Card.create("Task", "desc", 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.destroy();
+    }
+
+    private InMemoryBoardRepository open() {
+        journal = new BoardJournal(journalDir, 64 * 1024, BoardJournal.FsyncPolicy.ALWAYS);
+        return new InMemoryBoardRepository(database, TransactionOperations.withoutTransaction(), event -> {},
+                journal, BoardJournal.FsyncPolicy.ALWAYS, 100, Duration.ofMinutes(10), nanos::get);
+    }
+
+    @Test
+    @DisplayName("a saved board is read back from memory as an independent copy")
+    void save_thenFind_servedFromMemory() {
+        repository.save(board);
+
+        Board first = repository.findById(board.getId()).orElseThrow();
+        Board second = repository.findById(board.getId()).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals("Task", first.getColumns().get(0).getCards().get(0).getTitle());
+        assertTrue(repository.existsById(board.getId()));
+        verify(database, never()).findById(any());
+        verify(database, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("dirty boards are written to the database by the flusher, once")
+    void flush_writesDirtyBoardsBehind() {
+        repository.save(board);
+        verify(database, never()).save(any());
+
+        repository.flush();
+        repository.flush();
+
+        ArgumentCaptor<Board> written = ArgumentCaptor.forClass(Board.class);
+        verify(database, times(1)).save(written.capture());
+        assertEquals(board.getId(), written.getValue().getId());
+        assertEquals(1, written.getValue().getColumns().get(0).getCards().size());
+    }
+
+    @Test
+    @DisplayName("unflushed writes are replayed from the journal after a crash; deletes are too")
+    void restart_replaysJournal() {
+        Board deleted = Board.create(board.getWorkspaceId(), "Gone", null);
+        repository.save(board);
+        repository.save(deleted);
+        repository.deleteById(deleted.getId());
+        // Crash: the journal is closed, nothing was flushed
+        journal.close();
+
+        repository = open();
+
+        assertEquals(1, repository.residentCount());
+        assertTrue(repository.findById(board.getId()).isPresent());
+        verify(database, never()).save(any());
+        repository.flush();
+        verify(database).save(any());
+    }
+
+    @Test
+    @DisplayName("clean boards idle past the timeout are evicted; dirty ones stay")
+    void evictIdle_dropsOnlyCleanBoards() {
+        repository.save(board);
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        repository.evictIdle();
+        assertEquals(1, repository.residentCount(), "dirty board is kept");
+
+        repository.flush();
+        repository.evictIdle();
+        assertEquals(0, repository.residentCount());
+
+        when(database.findById(board.getId())).thenReturn(Optional.of(board));
+        assertTrue(repository.findById(board.getId()).isPresent());
+        verify(database).findById(board.getId());
+        assertEquals(1, repository.residentCount(), "a miss makes the board resident again");
+    }
+
+    @Test
+    @DisplayName("a board deleted while being flushed is deleted again after the flush")
+    void flush_concurrentDelete_doesNotResurrect() {
+        repository.save(board);
+        doAnswer(invocation -> {
+            repository.deleteById(board.getId());
+            return invocation.getArgument(0);
+        }).when(database).save(any());
+
+        repository.flush();
+
+        verify(database, times(2)).deleteById(board.getId());
+    }
+
+    @Test
+    @DisplayName("a board the database rejects is quarantined with its writes; the rest of its batch is flushed")
+    void flush_rejectedBoard_isQuarantinedAndBatchContinues() {
+        Board orphan = Board.create(WorkspaceId.generate(), "Orphan", null);
+        repository.save(board);
+        repository.save(orphan);
+        doThrow(new DataIntegrityViolationException("fk_boards_workspace"))
+                .when(database).save(argThat(b -> b.getId().equals(orphan.getId())));
+
+        repository.flush();
+
+        verify(database, atLeastOnce()).save(argThat(b -> b.getId().equals(board.getId())));
+        assertEquals(1, repository.quarantinedCount());
+        assertTrue(repository.findById(orphan.getId()).isPresent(), "acknowledged writes are still served");
+        clearInvocations(database);
+        repository.flush();
+        verify(database, never()).save(any());
+
+        // Its journal records survive: a restart retries it
+        journal.close();
+        repository = open();
+        repository.flush();
+        verify(database).save(argThat(b -> b.getId().equals(orphan.getId())));
+    }
+
+    @Test
+    @DisplayName("a new save takes a board out of quarantine")
+    void save_retriesQuarantinedBoard() {
+        repository.save(board);
+        // Rejected as a batch and on its own
+        doThrow(new DataIntegrityViolationException("too long"))
+                .doThrow(new DataIntegrityViolationException("too long"))
+                .doAnswer(invocation -> invocation.getArgument(0))
+                .when(database).save(any());
+        repository.flush();
+        assertEquals(1, repository.quarantinedCount());
+
+        repository.save(board);
+        repository.flush();
+
+        assertEquals(0, repository.quarantinedCount());
+        verify(database, times(3)).save(any());
+    }
+
+    // ── Flush and evict ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("flushAndEvict commits unflushed writes and drops the resident copy")
+    void flushAndEvict_writesAndEvicts() {
+        repository.save(board);
+
+        repository.flushAndEvict(board.getId());
+
+        verify(database).save(argThat(b -> b.getId().equals(board.getId())));
+        assertEquals(0, repository.residentCount());
+        repository.flush();
+        verify(database, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("flushAndEvict that fails keeps the board resident and dirty")
+    void flushAndEvict_failure_keepsWrites() {
+        repository.save(board);
+        doThrow(new QueryTimeoutException("timeout"))
+                .doAnswer(invocation -> invocation.getArgument(0))
+                .when(database).save(any());
+
+        assertThrows(QueryTimeoutException.class, () -> repository.flushAndEvict(board.getId()));
+
+        assertEquals(1, repository.residentCount());
+        repository.flush();
+        verify(database, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("flushAndEvict of a clean board only drops it from memory")
+    void flushAndEvict_cleanBoard_evictsWithoutWriting() {
+        when(database.findById(board.getId())).thenReturn(Optional.of(board));
+        repository.findById(board.getId());
+
+        repository.flushAndEvict(board.getId());
+
+        assertEquals(0, repository.residentCount());
+        verify(database, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("a transient failure keeps the batch dirty for the next run")
+    void flush_transientFailure_keepsBoardsDirty() {
+        repository.save(board);
+        // Fails as a batch and again on its own, then the database is back
+        doThrow(new QueryTimeoutException("timeout"))
+                .doThrow(new QueryTimeoutException("timeout"))
+                .doAnswer(invocation -> invocation.getArgument(0))
+                .when(database).save(any());
+
+        repository.flush();
+        verify(database, times(2)).save(any());
+        repository.flush();
+        verify(database, times(3)).save(any());
+        repository.flush();
+        verify(database, times(3)).save(any());
+    }
+
+    @Test
+    @DisplayName("a deleted workspace drops its resident boards, flushed or not")
+    void workspaceDeleted_dropsResidents() {
+        repository.save(board);
+
+        repository.onWorkspaceDeleted(new WorkspaceDeletedEvent(board.getWorkspaceId()));
+        repository.flush();
+
+        assertEquals(0, repository.residentCount());
+        verify(database, never()).save(any());
+    }
+}
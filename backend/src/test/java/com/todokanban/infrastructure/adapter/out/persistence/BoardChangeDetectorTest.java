@@ -0,0 +1,103 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.out.persistence.BoardChangeDetector.DetectedChange;
+import com.todokanban.infrastructure.adapter.out.persistence.entity.BoardEntity;
+import com.todokanban.infrastructure.adapter.out.persistence.entity.WorkspaceEntity;
+import com.todokanban.infrastructure.adapter.out.persistence.mapper.BoardMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BoardChangeDetector}. Pure JUnit 5 – no database.
+ */
+@DisplayName("BoardChangeDetector")
+class BoardChangeDetectorTest {
+
+    private Board board;
+    private Column todo;
+    private Column done;
+    private Card card;
+
+    @BeforeEach
+    void setUp() {
+        board = Board.create(WorkspaceId.generate(), "Sprint Board", "desc");
+        todo = Column.create("To Do", 0);
+        done = Column.create("Done", 1);
+        board.addColumn(todo);
+        board.addColumn(done);
+        card = Card.create("Task", "desc", 0);
+        board.addCardToColumn(todo.getId(), card);
+    }
+
+    /** Snapshot as it would be read back from the database. */
+    private BoardChangeDetector.Snapshot stored(Board b) {
+        WorkspaceEntity workspace = new WorkspaceEntity(b.getWorkspaceId().value(), "WS", null,
+                Instant.now(), Instant.now());
+        BoardEntity entity = BoardMapper.toEntity(b, workspace);
+        return BoardChangeDetector.snapshot(entity);
+    }
+
+    @Test
+    @DisplayName("new board: board, columns and cards are CREATED, columns before cards")
+    void newBoard_allCreated() {
+        List<DetectedChange> changes = BoardChangeDetector.diff(
+                BoardChangeDetector.Snapshot.EMPTY, BoardChangeDetector.snapshot(board));
+
+        assertEquals(4, changes.size());
+        assertTrue(changes.stream().allMatch(c -> c.type() == BoardChange.Type.CREATED));
+        assertEquals(BoardChange.Entity.BOARD, changes.get(0).state().entity());
+        assertEquals(BoardChange.Entity.CARD, changes.get(3).state().entity());
+    }
+
+    @Test
+    @DisplayName("unchanged board yields no changes")
+    void unchanged_noChanges() {
+        assertTrue(BoardChangeDetector.diff(stored(board), BoardChangeDetector.snapshot(board)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("moving a card yields a single MOVED change with the new column")
+    void moveCard_movedChange() {
+        BoardChangeDetector.Snapshot before = stored(board);
+        board.moveCard(card.getId(), todo.getId(), done.getId());
+
+        List<DetectedChange> changes = BoardChangeDetector.diff(before, BoardChangeDetector.snapshot(board));
+
+        assertEquals(1, changes.size());
+        assertEquals(BoardChange.Type.MOVED, changes.get(0).type());
+        assertEquals(done.getId().value(), changes.get(0).state().columnId());
+    }
+
+    @Test
+    @DisplayName("editing a card title yields UPDATED")
+    void updateCard_updatedChange() {
+        BoardChangeDetector.Snapshot before = stored(board);
+        board.updateCard(todo.getId(), card.getId(), "Renamed", null);
+
+        List<DetectedChange> changes = BoardChangeDetector.diff(before, BoardChangeDetector.snapshot(board));
+
+        assertEquals(1, changes.size());
+        assertEquals(BoardChange.Type.UPDATED, changes.get(0).type());
+        assertEquals("Renamed", changes.get(0).state().name());
+    }
+
+    @Test
+    @DisplayName("removing a column deletes its cards before the column itself")
+    void removeColumn_cardsDeletedFirst() {
+        BoardChangeDetector.Snapshot before = stored(board);
+        board.removeColumn(todo.getId());
+
+        List<DetectedChange> changes = BoardChangeDetector.diff(before, BoardChangeDetector.snapshot(board));
+
+        assertEquals(List.of(BoardChange.Entity.CARD, BoardChange.Entity.COLUMN),
+                changes.stream().map(c -> c.state().entity()).toList());
+        assertTrue(changes.stream().allMatch(c -> c.type() == BoardChange.Type.DELETED));
+    }
+}
@@ -0,0 +1,206 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.BoardTemplate;
+import com.todokanban.domain.model.WorkspaceId;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL tests for {@link BoardClonePersistenceAdapter} against Postgres with the Flyway
+ * schema. Needs Docker – skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("BoardClonePersistenceAdapter")
+class BoardClonePersistenceAdapterTest {
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private BoardClonePersistenceAdapter adapter;
+    private UUID workspace;
+    private UUID source;
+    private UUID todo;
+    private UUID done;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+        dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        adapter = new BoardClonePersistenceAdapter(jdbcTemplate);
+        workspace = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO workspaces (id, name) VALUES (?, 'WS')", workspace);
+        source = board("Source", false);
+        todo = column(source, "To Do", 0);
+        done = column(source, "Done", 1);
+        card(todo, "a", 0);
+        card(todo, "b", 1);
+        card(done, "c", 0);
+    }
+
+    private UUID board(String name, boolean template) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO boards (id, workspace_id, name, template) VALUES (?, ?, ?, ?)",
+                id, workspace, name, template);
+        return id;
+    }
+
+    private UUID column(UUID boardId, String name, int position) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO columns (id, board_id, name, position) VALUES (?, ?, ?, ?)",
+                id, boardId, name, position);
+        return id;
+    }
+
+    private void card(UUID columnId, String title, int position) {
+        jdbcTemplate.update("INSERT INTO cards (id, column_id, title, position) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), columnId, title, position);
+    }
+
+    /** Cards of a board as {@code column:title@position}, in board order. */
+    private List<String> cards(UUID boardId) {
+        return jdbcTemplate.queryForList("""
+                SELECT col.name || ':' || c.title || '@' || c.position
+                  FROM cards c
+                  JOIN columns col ON col.id = c.column_id
+                 WHERE col.board_id = ?
+                 ORDER BY col.position, c.position
+                """, String.class, boardId);
+    }
+
+    private List<String> columns(UUID boardId) {
+        return jdbcTemplate.queryForList(
+                "SELECT name || '@' || position FROM columns WHERE board_id = ? ORDER BY position",
+                String.class, boardId);
+    }
+
+    private boolean clone(UUID target, boolean includeCards, boolean template) {
+        return adapter.cloneBoard(new BoardId(source), new BoardId(target), null, null, includeCards, template);
+    }
+
+    // ── Clone ─────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("clone → new ids, every card lands in the copy of its own column")
+    void clone_mapsColumnAndCardIds() {
+        UUID target = UUID.randomUUID();
+
+        assertTrue(clone(target, true, false));
+
+        assertEquals(columns(source), columns(target));
+        assertEquals(List.of("To Do:a@0", "To Do:b@1", "Done:c@0"), cards(target));
+        assertEquals(0, jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM columns c1 JOIN columns c2 ON c1.id = c2.id
+                 WHERE c1.board_id = ? AND c2.board_id = ?
+                """, Integer.class, source, target));
+        assertEquals(List.of("To Do:a@0", "To Do:b@1", "Done:c@0"), cards(source), "source untouched");
+    }
+
+    @Test
+    @DisplayName("two clones of one source never collide")
+    void clone_twice_distinctIds() {
+        assertTrue(clone(UUID.randomUUID(), true, false));
+        assertTrue(clone(UUID.randomUUID(), true, false));
+
+        assertEquals(9, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM cards c JOIN columns col ON col.id = c.column_id WHERE col.board_id IN "
+                        + "(SELECT id FROM boards WHERE workspace_id = ?)", Integer.class, workspace));
+    }
+
+    @Test
+    @DisplayName("includeCards=false → columns copied, no cards")
+    void clone_withoutCards() {
+        UUID target = UUID.randomUUID();
+
+        assertTrue(clone(target, false, false));
+
+        assertEquals(List.of("To Do@0", "Done@1"), columns(target));
+        assertTrue(cards(target).isEmpty());
+    }
+
+    @Test
+    @DisplayName("unknown source → false, nothing inserted")
+    void clone_unknownSource() {
+        UUID target = UUID.randomUUID();
+
+        assertFalse(adapter.cloneBoard(new BoardId(UUID.randomUUID()), new BoardId(target),
+                null, null, true, false));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM boards WHERE id = ?", Integer.class, target));
+    }
+
+    @Test
+    @DisplayName("REPEATABLE READ → a column and card added mid-clone are left out, not a FK failure")
+    void clone_repeatableRead_ignoresConcurrentInsert() {
+        TransactionTemplate repeatableRead = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        JdbcTemplate concurrent = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        UUID target = UUID.randomUUID();
+
+        repeatableRead.executeWithoutResult(status -> {
+            // The first statement takes the snapshot
+            jdbcTemplate.queryForObject("SELECT count(*) FROM columns WHERE board_id = ?", Integer.class, source);
+            UUID later = UUID.randomUUID();
+            concurrent.update("INSERT INTO columns (id, board_id, name, position) VALUES (?, ?, 'Later', 2)",
+                    later, source);
+            concurrent.update("INSERT INTO cards (id, column_id, title, position) VALUES (?, ?, 'd', 0)",
+                    UUID.randomUUID(), later);
+
+            assertTrue(clone(target, true, false));
+        });
+
+        assertEquals(List.of("To Do@0", "Done@1"), columns(target));
+        assertEquals(List.of("To Do:a@0", "To Do:b@1", "Done:c@0"), cards(target));
+    }
+
+    // ── Templates ─────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("templates → only the template boards of the workspace")
+    void findTemplates_listsOnlyTemplates() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        assertTrue(clone(first, false, true));
+        assertTrue(clone(second, false, true));
+        UUID otherWorkspace = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO workspaces (id, name) VALUES (?, 'Other')", otherWorkspace);
+        assertTrue(adapter.cloneBoard(new BoardId(source), new BoardId(UUID.randomUUID()),
+                new WorkspaceId(otherWorkspace), "Elsewhere", false, true));
+
+        List<BoardTemplate> templates = adapter.findTemplates(new WorkspaceId(workspace));
+
+        assertEquals(2, templates.size());
+        assertTrue(templates.stream().map(t -> t.id().value()).toList().containsAll(List.of(first, second)));
+        assertTrue(templates.stream().allMatch(t -> t.name().equals("Source")));
+        assertTrue(templates.stream().noneMatch(t -> t.id().value().equals(source)));
+    }
+}
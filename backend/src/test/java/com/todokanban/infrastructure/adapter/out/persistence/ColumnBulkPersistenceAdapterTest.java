@@ -0,0 +1,162 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import com.todokanban.domain.model.BoardId;
+import com.todokanban.domain.model.ColumnBulkResult;
+import com.todokanban.domain.model.ColumnId;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SQL tests for {@link ColumnBulkPersistenceAdapter} against Postgres with the Flyway
+ * schema. Needs Docker – skipped without it.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ColumnBulkPersistenceAdapter")
+class ColumnBulkPersistenceAdapterTest {
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private ColumnBulkPersistenceAdapter adapter;
+    private UUID board;
+    private UUID todo;
+    private UUID doing;
+    private UUID done;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ColumnBulkPersistenceAdapter(jdbcTemplate, new BoardChangeLog(jdbcTemplate),
+                mock(ApplicationEventPublisher.class));
+        board = board();
+        todo = column(board, "To Do", 0);
+        doing = column(board, "Doing", 1);
+        done = column(board, "Done", 2);
+    }
+
+    private UUID board() {
+        UUID workspace = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO workspaces (id, name) VALUES (?, 'WS')", workspace);
+        jdbcTemplate.update("INSERT INTO boards (id, workspace_id, name) VALUES (?, ?, 'Board')", id, workspace);
+        return id;
+    }
+
+    private UUID column(UUID boardId, String name, int position) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO columns (id, board_id, name, position) VALUES (?, ?, ?, ?)",
+                id, boardId, name, position);
+        return id;
+    }
+
+    private void card(UUID columnId, String title, int position) {
+        jdbcTemplate.update("INSERT INTO cards (id, column_id, title, position) VALUES (?, ?, ?, ?)",
+                UUID.randomUUID(), columnId, title, position);
+    }
+
+    private List<String> titles(UUID columnId) {
+        return jdbcTemplate.queryForList(
+                "SELECT title || '@' || position FROM cards WHERE column_id = ? ORDER BY position",
+                String.class, columnId);
+    }
+
+    private List<String> columns(UUID boardId) {
+        return jdbcTemplate.queryForList(
+                "SELECT name || '@' || position FROM columns WHERE board_id = ? ORDER BY position",
+                String.class, boardId);
+    }
+
+    // ── Move all cards ────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("move all → source cards appended after the target's last card, in order")
+    void moveAllCards_appendsInOrder() {
+        card(todo, "a", 0);
+        card(todo, "b", 3);
+        card(todo, "c", 7);
+        card(doing, "x", 0);
+        card(doing, "y", 4);
+
+        Optional<ColumnBulkResult> result =
+                adapter.moveAllCards(new BoardId(board), new ColumnId(todo), new ColumnId(doing));
+
+        assertEquals(3, result.orElseThrow().affectedCards());
+        assertTrue(titles(todo).isEmpty());
+        assertEquals(List.of("x@0", "y@4", "a@5", "b@6", "c@7"), titles(doing));
+    }
+
+    @Test
+    @DisplayName("move all into an empty column → positions start at 0")
+    void moveAllCards_intoEmptyColumn() {
+        card(todo, "a", 2);
+        card(todo, "b", 5);
+
+        adapter.moveAllCards(new BoardId(board), new ColumnId(todo), new ColumnId(done));
+
+        assertEquals(List.of("a@0", "b@1"), titles(done));
+    }
+
+    @Test
+    @DisplayName("move all from another board's column → nothing moves")
+    void moveAllCards_otherBoard_untouched() {
+        UUID other = column(board(), "Elsewhere", 0);
+        card(other, "z", 0);
+
+        assertTrue(adapter.moveAllCards(new BoardId(board), new ColumnId(other), new ColumnId(todo)).isEmpty());
+        assertEquals(List.of("z@0"), titles(other));
+    }
+
+    // ── Delete and clear ──────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("delete column → its cards counted and the later columns close the gap")
+    void deleteColumn_closesGap() {
+        card(doing, "x", 0);
+        card(doing, "y", 1);
+
+        Optional<ColumnBulkResult> result = adapter.deleteColumn(new BoardId(board), new ColumnId(doing));
+
+        assertEquals(2, result.orElseThrow().affectedCards());
+        assertEquals(List.of("To Do@0", "Done@1"), columns(board));
+    }
+
+    @Test
+    @DisplayName("clear column → only that column's cards are deleted")
+    void clearColumn_deletesOnlyItsCards() {
+        card(todo, "a", 0);
+        card(doing, "x", 0);
+
+        Optional<ColumnBulkResult> result = adapter.clearColumn(new BoardId(board), new ColumnId(todo));
+
+        assertEquals(1, result.orElseThrow().affectedCards());
+        assertTrue(titles(todo).isEmpty());
+        assertEquals(List.of("x@0"), titles(doing));
+    }
+}
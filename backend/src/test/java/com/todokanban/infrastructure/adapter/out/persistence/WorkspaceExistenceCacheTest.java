@@ -0,0 +1,115 @@
+package com.todokanban.infrastructure.adapter.out.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link WorkspaceExistenceCache}. Pure JUnit 5 – no database.
+ */
+@DisplayName("WorkspaceExistenceCache")
+class WorkspaceExistenceCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger queries = new AtomicInteger();
+    private WorkspaceExistenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WorkspaceExistenceCache(Duration.ofMinutes(5), 3, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Predicate<UUID> database(boolean exists) {
+        return id -> {
+            queries.incrementAndGet();
+            return exists;
+        };
+    }
+
+    @Test
+    @DisplayName("positive answer is served from the cache until the TTL expires")
+    void exists_cachesPositiveAnswer() {
+        UUID id = UUID.randomUUID();
+
+        assertTrue(cache.exists(id, database(true)));
+        assertTrue(cache.exists(id, database(true)));
+        assertEquals(1, queries.get());
+
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        assertTrue(cache.exists(id, database(true)));
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    @DisplayName("negative answer is not cached")
+    void exists_doesNotCacheNegativeAnswer() {
+        UUID id = UUID.randomUUID();
+
+        assertFalse(cache.exists(id, database(false)));
+        assertFalse(cache.exists(id, database(false)));
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    @DisplayName("created workspace is known without a query once the transaction commits")
+    void created_addsAfterCommit() {
+        UUID id = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.created(id);
+        assertFalse(cache.exists(id, database(false)), "not visible before commit");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        assertTrue(cache.exists(id, database(false)));
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    @DisplayName("deleted workspace is dropped now and again after completion")
+    void deleted_evictsNowAndAfterCompletion() {
+        UUID id = UUID.randomUUID();
+        cache.created(id);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.deleted(id);
+        // A concurrent check still sees the uncommitted delete's row
+        assertTrue(cache.exists(id, database(true)));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        assertFalse(cache.exists(id, database(false)));
+    }
+
+    @Test
+    @DisplayName("full cache is cleared instead of growing past max-entries")
+    void put_boundedByMaxEntries() {
+        UUID first = UUID.randomUUID();
+        cache.created(first);
+        cache.created(UUID.randomUUID());
+        cache.created(UUID.randomUUID());
+        cache.created(UUID.randomUUID());
+
+        assertTrue(cache.exists(first, database(true)));
+        assertEquals(1, queries.get());
+    }
+}
@@ -0,0 +1,103 @@
+package com.todokanban.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}. Pure JUnit 5 – a fake clock drives RTTs.
+ */
+@DisplayName("AdaptiveConcurrencyLimiter")
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, double fairnessThreshold) {
+        return new AdaptiveConcurrencyLimiter(initial, 1, 100, 1.0,
+                Duration.ofSeconds(1), 1, fairnessThreshold, clock::get);
+    }
+
+    @Test
+    @DisplayName("sheds requests once the limit is reached")
+    void rejectsAboveLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1.0);
+
+        assertNotNull(limiter.tryAcquire("alice"));
+        assertNotNull(limiter.tryAcquire("bob"));
+        assertNull(limiter.tryAcquire("carol"));
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("a busy subject is capped at its fair share while others still get in")
+    void fairShare_capsHeavySubject() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0.5);
+        assertNotNull(limiter.tryAcquire("alice"));
+        assertNotNull(limiter.tryAcquire("bob"));
+
+        assertNotNull(limiter.tryAcquire("alice"), "alice is still within limit / 2 subjects");
+        assertNull(limiter.tryAcquire("alice"), "alice exceeded her fair share");
+        assertNotNull(limiter.tryAcquire("bob"), "bob still has room");
+    }
+
+    @Test
+    @DisplayName("released permits free their slot")
+    void release_freesSlot() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1.0);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire("alice");
+
+        permit.release();
+        permit.release(); // second release is a no-op
+
+        assertEquals(0, limiter.getInFlight());
+        assertNotNull(limiter.tryAcquire("alice"));
+    }
+
+    @Test
+    @DisplayName("a subject that released every permit no longer dilutes the fair share")
+    void release_dropsIdleSubject() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0.5);
+        limiter.tryAcquire("bob").release();
+        assertNotNull(limiter.tryAcquire("alice"));
+        assertNotNull(limiter.tryAcquire("alice"));
+
+        assertNotNull(limiter.tryAcquire("alice"), "alice is the only active subject");
+        assertEquals(3, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("limit shrinks when latency rises above the baseline")
+    void risingLatency_shrinksLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 1.0);
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter, 12, 10);
+        }
+        int beforeSpike = limiter.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            runWindow(limiter, 12, 200);
+        }
+
+        assertTrue(limiter.getLimit() < beforeSpike,
+                "limit should drop from %d, was %d".formatted(beforeSpike, limiter.getLimit()));
+    }
+
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long rttMillis) {
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire("user-" + i);
+            if (permit != null) {
+                permits.add(permit);
+            }
+        }
+        clock.addAndGet(Duration.ofMillis(rttMillis).toNanos());
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::release);
+    }
+}
@@ -0,0 +1,174 @@
+package com.todokanban.infrastructure.config;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PersistentJwkSource} against a local stand-in issuer
+ * ({@link HttpServer} serving discovery metadata and a JWKS).
+ */
+@DisplayName("PersistentJwkSource")
+class PersistentJwkSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private String issuer;
+    private final AtomicReference<JWKSet> published = new AtomicReference<>(new JWKSet());
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private volatile CountDownLatch jwksGate = new CountDownLatch(0);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void startIssuer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        issuer = "http://127.0.0.1:%d/realms/test".formatted(server.getAddress().getPort());
+        server.createContext("/realms/test/.well-known/openid-configuration", exchange -> respond(exchange,
+                "{\"issuer\":\"%s\",\"jwks_uri\":\"%s/certs\"}".formatted(issuer, issuer)));
+        server.createContext("/realms/test/certs", exchange -> {
+            jwksRequests.incrementAndGet();
+            try {
+                jwksGate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, published.get().toString(true));
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stopIssuer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private PersistentJwkSource source(Duration minRefreshInterval) {
+        return new PersistentJwkSource(issuer, tempDir.resolve("jwks.json"), Duration.ofSeconds(2),
+                minRefreshInterval, executor, System::nanoTime);
+    }
+
+    private static List<JWK> select(PersistentJwkSource source, String kid) {
+        return source.get(new JWKSelector(new JWKMatcher.Builder().keyID(kid).build()), null);
+    }
+
+    private static RSAKey rsaKey(String kid) throws Exception {
+        return new RSAKeyGenerator(2048).keyID(kid).generate();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    @Test
+    @DisplayName("an unknown kid answers immediately and triggers a background refresh that persists the keys")
+    void unknownKid_refreshesInBackgroundAndPersists() throws Exception {
+        published.set(new JWKSet(rsaKey("k1")));
+        PersistentJwkSource source = source(Duration.ZERO);
+
+        assertTrue(select(source, "k1").isEmpty(), "request thread does not wait for the fetch");
+        source.refresh().get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, select(source, "k1").size());
+        JWKSet snapshot = JWKSet.parse(Files.readString(tempDir.resolve("jwks.json")));
+        assertNotNull(snapshot.getKeyByKeyId("k1"));
+        assertFalse(snapshot.getKeyByKeyId("k1").isPrivate(), "snapshot holds public keys only");
+    }
+
+    @Test
+    @DisplayName("starts from the on-disk snapshot while the issuer is down")
+    void snapshot_servesKeysWithoutIssuer() throws Exception {
+        Files.writeString(tempDir.resolve("jwks.json"), new JWKSet(rsaKey("cached")).toString(true));
+        server.stop(0);
+
+        PersistentJwkSource source = source(Duration.ofMinutes(1));
+
+        assertEquals(1, select(source, "cached").size());
+        assertThrows(Exception.class, () -> source.refresh().get(5, TimeUnit.SECONDS));
+        assertEquals(1, select(source, "cached").size(), "failed refresh keeps the cached keys");
+    }
+
+    @Test
+    @DisplayName("concurrent unknown-kid lookups share a single fetch")
+    void unknownKidStorm_isSingleFlight() throws Exception {
+        published.set(new JWKSet(rsaKey("k1")));
+        jwksGate = new CountDownLatch(1);
+        PersistentJwkSource source = source(Duration.ZERO);
+
+        CompletableFuture<Void> first = source.refresh();
+        for (int i = 0; i < 50; i++) {
+            select(source, "k1");
+            assertSame(first, source.refresh());
+        }
+        jwksGate.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    @DisplayName("unknown kids within min-refresh-interval do not hammer the issuer")
+    void unknownKid_isRateLimited() throws Exception {
+        published.set(new JWKSet(rsaKey("k1")));
+        PersistentJwkSource source = source(Duration.ofMinutes(1));
+        source.refresh().get(5, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(select(source, "unknown").isEmpty());
+        }
+
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    @DisplayName("a rotated key becomes available after the refresh it triggered")
+    void rotatedKey_isPickedUp() throws Exception {
+        published.set(new JWKSet(rsaKey("old")));
+        PersistentJwkSource source = source(Duration.ZERO);
+        source.refresh().get(5, TimeUnit.SECONDS);
+
+        published.set(new JWKSet(List.of(rsaKey("old"), rsaKey("new"))));
+        jwksGate = new CountDownLatch(1);
+        assertTrue(select(source, "new").isEmpty());
+        CompletableFuture<Void> triggered = source.refresh();
+        jwksGate.countDown();
+        triggered.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, select(source, "new").size());
+        assertEquals(2, jwksRequests.get());
+    }
+}
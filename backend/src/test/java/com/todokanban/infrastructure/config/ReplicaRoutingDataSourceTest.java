@@ -0,0 +1,167 @@
+package com.todokanban.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReplicaRoutingDataSource}. Pure JUnit 5 – mocked pools,
+ * a fake clock and a scripted lag probe; transactions are simulated through
+ * {@link TransactionSynchronizationManager}.
+ */
+@DisplayName("ReplicaRoutingDataSource")
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<DataSource, Duration> lags = new HashMap<>();
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    private Connection primaryConnection;
+    private Connection replica1Connection;
+    private Connection replica2Connection;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replica1Connection = mock(Connection.class);
+        replica2Connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+        lags.put(replica1, Duration.ZERO);
+        lags.put(replica2, Duration.ZERO);
+
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2),
+                Duration.ofSeconds(5), Duration.ofSeconds(5), this::lag, clock::get);
+        routing.checkReplicas();
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private Duration lag(DataSource replica) throws SQLException {
+        Duration lag = lags.get(replica);
+        if (lag == null) {
+            throw new SQLException("connection refused");
+        }
+        return lag;
+    }
+
+    private Connection readOnly() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return routing.getConnection();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    /** Simulates a committed read-write transaction of the current user. */
+    private void commitWrite() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        assertSame(primaryConnection, routing.getConnection());
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            sync.afterCommit();
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("read-only transactions go to the replicas round-robin, writes to the primary")
+    void routesByReadOnlyFlag() throws SQLException {
+        assertSame(primaryConnection, routing.getConnection());
+
+        Connection first = readOnly();
+        Connection second = readOnly();
+
+        assertNotSame(first, second);
+        assertTrue(List.of(replica1Connection, replica2Connection).containsAll(List.of(first, second)));
+    }
+
+    @Test
+    @DisplayName("a replica behind max-lag or failing its check is skipped")
+    void skipsLaggingAndDownReplicas() throws SQLException {
+        lags.put(replica1, Duration.ofSeconds(30));
+        lags.remove(replica2);
+        routing.checkReplicas();
+
+        assertSame(primaryConnection, readOnly());
+
+        lags.put(replica2, Duration.ofMillis(200));
+        routing.checkReplicas();
+
+        assertSame(replica2Connection, readOnly());
+        assertSame(replica2Connection, readOnly());
+    }
+
+    @Test
+    @DisplayName("read-only transactions inside readFromPrimary go to the primary, until it is closed")
+    void readFromPrimary_forcesPrimary() throws SQLException {
+        try (ReplicaRoutingDataSource.PrimaryScope scope = ReplicaRoutingDataSource.readFromPrimary()) {
+            assertSame(primaryConnection, readOnly());
+            assertTrue(routing.requiresPrimary());
+        }
+
+        assertNotSame(primaryConnection, readOnly());
+        assertFalse(routing.requiresPrimary());
+    }
+
+    @Test
+    @DisplayName("after a committed write the same user reads from the primary for the window")
+    void readYourWrites_isStickyForWindow() throws SQLException {
+        commitWrite();
+
+        assertSame(primaryConnection, readOnly());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("bob", null, "ROLE_USER"));
+        assertNotSame(primaryConnection, readOnly(), "other users are not affected");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("alice", null, "ROLE_USER"));
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertNotSame(primaryConnection, readOnly(), "window expired");
+    }
+
+    @Test
+    @DisplayName("a write transaction that does not commit leaves reads on the replicas")
+    void rolledBackWrite_isNotSticky() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        routing.getConnection();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertNotSame(primaryConnection, readOnly());
+    }
+}
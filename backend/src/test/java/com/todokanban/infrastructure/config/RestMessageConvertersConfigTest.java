@@ -0,0 +1,148 @@
+package com.todokanban.infrastructure.config;
+
+import com.todokanban.application.ports.input.CreateBoardUseCase;
+import com.todokanban.application.ports.input.CreateWorkspaceUseCase;
+import com.todokanban.application.ports.input.DeleteBoardUseCase;
+import com.todokanban.application.ports.input.DeleteWorkspaceUseCase;
+import com.todokanban.application.ports.input.GetBoardUseCase;
+import com.todokanban.application.ports.input.GetWorkspacesUseCase;
+import com.todokanban.application.ports.input.MoveCardUseCase;
+import com.todokanban.domain.model.*;
+import com.todokanban.infrastructure.adapter.in.rest.BoardController;
+import com.todokanban.infrastructure.adapter.in.rest.WorkspaceController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Content negotiation through the real Spring MVC setup: {@link RestMessageConvertersConfig}
+ * applied to the auto-configured converters, in front of the actual controllers.
+ * Only the two controllers are loaded; the servlet filters (security, idempotency,
+ * caching) are not.
+ */
+@WebMvcTest(controllers = {BoardController.class, WorkspaceController.class}, useDefaultFilters = false)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({RestMessageConvertersConfig.class, GlobalExceptionHandler.class})
+@DisplayName("RestMessageConvertersConfig")
+class RestMessageConvertersConfigTest {
+
+    private static final UUID WORKSPACE_ID = UUID.randomUUID();
+    private static final UUID BOARD_ID     = UUID.randomUUID();
+    private static final MediaType SMILE   = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired MockMvc mockMvc;
+    @MockitoBean CreateBoardUseCase     createBoardUseCase;
+    @MockitoBean GetBoardUseCase        getBoardUseCase;
+    @MockitoBean MoveCardUseCase        moveCardUseCase;
+    @MockitoBean DeleteBoardUseCase     deleteBoardUseCase;
+    @MockitoBean CreateWorkspaceUseCase createWorkspaceUseCase;
+    @MockitoBean GetWorkspacesUseCase   getWorkspacesUseCase;
+    @MockitoBean DeleteWorkspaceUseCase deleteWorkspaceUseCase;
+
+    @BeforeEach
+    void setUp() {
+        given(getBoardUseCase.getBoard(new BoardId(BOARD_ID))).willReturn(Board.reconstitute(
+                new BoardId(BOARD_ID), new WorkspaceId(WORKSPACE_ID),
+                "Sprint Board", "desc", List.of(), Instant.now(), Instant.now()));
+        given(getWorkspacesUseCase.getWorkspaces()).willReturn(List.of(Workspace.reconstitute(
+                new WorkspaceId(WORKSPACE_ID), "Team", null, List.of(), Instant.now(), Instant.now())));
+    }
+
+    private byte[] getBoard(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID).accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private byte[] getWorkspaces(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/api/v1/workspaces").accept(accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(accept))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    // ── Board (streaming converters) ──────────────────────────────────────────
+
+    @Test
+    @DisplayName("GET board with Accept: application/json → JSON")
+    void board_json() throws Exception {
+        mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(BOARD_ID.toString()))
+                .andExpect(jsonPath("$.name").value("Sprint Board"));
+    }
+
+    @Test
+    @DisplayName("GET board with Accept: application/cbor → CBOR")
+    void board_cbor() throws Exception {
+        JsonNode board = new CBORMapper().readTree(getBoard(MediaType.APPLICATION_CBOR));
+
+        assertEquals(BOARD_ID.toString(), board.get("id").asString());
+        assertEquals("Sprint Board", board.get("name").asString());
+    }
+
+    @Test
+    @DisplayName("GET board with Accept: application/x-jackson-smile → Smile")
+    void board_smile() throws Exception {
+        JsonNode board = new SmileMapper().readTree(getBoard(SMILE));
+
+        assertEquals(BOARD_ID.toString(), board.get("id").asString());
+        assertEquals("Sprint Board", board.get("name").asString());
+    }
+
+    @Test
+    @DisplayName("GET board with Accept: */* → JSON stays the default")
+    void board_anyAccept_defaultsToJson() throws Exception {
+        mockMvc.perform(get("/api/v1/boards/{bid}", BOARD_ID).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    // ── Workspaces (generic Jackson converters) ───────────────────────────────
+
+    @Test
+    @DisplayName("GET workspaces with Accept: application/json → JSON")
+    void workspaces_json() throws Exception {
+        mockMvc.perform(get("/api/v1/workspaces").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].name").value("Team"));
+    }
+
+    @Test
+    @DisplayName("GET workspaces with Accept: application/cbor → CBOR")
+    void workspaces_cbor() throws Exception {
+        JsonNode workspaces = new CBORMapper().readTree(getWorkspaces(MediaType.APPLICATION_CBOR));
+
+        assertEquals("Team", workspaces.get(0).get("name").asString());
+    }
+
+    @Test
+    @DisplayName("GET workspaces with Accept: application/x-jackson-smile → Smile")
+    void workspaces_smile() throws Exception {
+        JsonNode workspaces = new SmileMapper().readTree(getWorkspaces(SMILE));
+
+        assertEquals("Team", workspaces.get(0).get("name").asString());
+    }
+}